@@ -15,6 +15,9 @@ import java.util.function.Consumer;
 public class IdentifiableProviderEntity extends AbstractClassEntity<IdentifiableProviderEntity> {
 
 	private final List<IdentifiableProviderEntity> children = new ArrayList<>();
+	private boolean conditional = false;
+	private boolean qualified = false;
+	private boolean scoped = false;
 
 	public IdentifiableProviderEntity(TypeElement typeElement, Annotations annotations) {
 		this(typeElement, typeElement.asType(), typeElement.getSimpleName().toString() + "IdentifiableProvider", annotations);
@@ -35,6 +38,55 @@ public class IdentifiableProviderEntity extends AbstractClassEntity<Identifiable
 		});
 	}
 
+	/**
+	 * Marks the provider as conditional, meaning that it will only be registered if its condition is met.
+	 * <p>
+	 * This has to be called by everyone adding a condition to the provider, as other parts of the processor
+	 * (like the provider index) rely on this information instead of inspecting the generated methods.
+	 *
+	 * @return this
+	 */
+	public IdentifiableProviderEntity markConditional() {
+		this.conditional = true;
+		return this;
+	}
+
+	public boolean isConditional() {
+		return conditional;
+	}
+
+	/**
+	 * Marks the provider as qualified, meaning that it declares qualifiers that are respected at runtime.
+	 * <p>
+	 * Like {@link #markConditional()}, this has to be called by everyone adding qualifiers to the provider.
+	 *
+	 * @return this
+	 */
+	public IdentifiableProviderEntity markQualified() {
+		this.qualified = true;
+		return this;
+	}
+
+	public boolean isQualified() {
+		return qualified;
+	}
+
+	/**
+	 * Marks the provider as scoped, meaning that it declares the scope it is registered in at runtime.
+	 * <p>
+	 * Like {@link #markConditional()}, this has to be called by everyone adding a scope to the provider.
+	 *
+	 * @return this
+	 */
+	public IdentifiableProviderEntity markScoped() {
+		this.scoped = true;
+		return this;
+	}
+
+	public boolean isScoped() {
+		return scoped;
+	}
+
 	@Override
 	protected TypeSpec.Builder createBuilder(TypeMirror type) {
 		return TypeSpec.classBuilder(className())
@@ -53,6 +53,23 @@ public class MetaInf {
         }
     }
 
+    /**
+     * Reads the lines of a file that has been written to the class output before, for example by a previous
+     * (incremental) compilation.
+     *
+     * @param fileName the name of the file, relative to the META-INF folder
+     * @return the lines of the file, or an empty list if the file does not exist
+     */
+    public Collection<String> readExistingFile(String fileName) {
+        String path = join(META_INF_PATH, fileName);
+        try (InputStream inputStream = filer.getResource(StandardLocation.CLASS_OUTPUT, "", path).openInputStream()) {
+            return readFile(inputStream);
+        } catch (Exception e) {
+            // The file does not yet exist
+            return List.of();
+        }
+    }
+
     public void writeFile(
             Collection<String> lines,
             String fileName
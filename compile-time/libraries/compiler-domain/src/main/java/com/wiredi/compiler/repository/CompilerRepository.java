@@ -90,16 +90,18 @@ public class CompilerRepository {
                         PackageElement packageElement = (PackageElement) entry.packageElement().orElseGet(() -> elements.getPackageOf(rootType));
 
                         logger.debug("Writing the file {}", entry.className());
+                        JavaFile javaFile = JavaFile.builder(packageElement.getQualifiedName().toString(), typeSpec)
+                                .indent("    ")
+                                .build();
                         try {
-                            JavaFile.builder(packageElement.getQualifiedName().toString(), typeSpec)
-                                    .indent("    ")
-                                    .build()
-                                    .writeTo(filer);
+                            javaFile.writeTo(filer);
                         } catch (Exception e) {
                             throw new ProcessingException(rootType, "Failed to write the java file " + entry.className(), e);
                         }
+                        repositoryCallbacks.forEach(it -> it.written(entry, javaFile));
                     });
             classEntries.clear();
+            repositoryCallbacks.forEach(CompilerRepositoryCallback::flushed);
         }
     }
 
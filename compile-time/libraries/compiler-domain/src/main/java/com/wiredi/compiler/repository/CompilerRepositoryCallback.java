@@ -1,5 +1,6 @@
 package com.wiredi.compiler.repository;
 
+import com.squareup.javapoet.JavaFile;
 import com.wiredi.compiler.domain.ClassEntity;
 
 public interface CompilerRepositoryCallback {
@@ -8,4 +9,8 @@ public interface CompilerRepositoryCallback {
 
     default void saved(ClassEntity<?> classEntity) {}
 
+    default void written(ClassEntity<?> classEntity, JavaFile javaFile) {}
+
+    default void flushed() {}
+
 }
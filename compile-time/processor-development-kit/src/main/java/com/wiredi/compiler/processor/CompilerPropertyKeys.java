@@ -18,6 +18,24 @@ public enum CompilerPropertyKeys {
     INJECT_ANNOTATIONS("processor.injections.annotations", "Inject"),
     ENABLE_GENERATED_SOURCES("processor.enable-generated-sources", true),
 
+    /**
+     * Determines if an index of all generated IdentifiableProviders will be generated.
+     * <p>
+     * The index allows to load all providers of a module by loading one service, instead of loading every provider
+     * through the ServiceLoader.
+     */
+    ENABLE_PROVIDER_INDEX("processor.enable-provider-index", true),
+
+    /**
+     * Determines if a static wiring graph will be generated for the current compilation ("strict" mode).
+     * <p>
+     * The static wiring constructs all beans of the compilation through constructor calls determined at compile time and
+     * allows the WireContainer to resolve them without consulting its scopes.
+     * It is only generated if every provider of the compilation can be wired statically.
+     * Otherwise, the reason is reported and the providers are used as usual.
+     */
+    ENABLE_STRICT_MODE("processor.enable-strict-mode", false),
+
     /**
      * Determines if additional wire types will contain inherited super types.
      * <p>
@@ -51,4 +69,28 @@ public enum CompilerPropertyKeys {
     public Object getDefaultValue() {
         return defaultValue;
     }
+
+    /**
+     * The name of the annotation processor option ({@code -A}) that sets this property.
+     * <p>
+     * Options have to be dot separated identifiers, so the kebab-case words of the key are written in camelCase.
+     * For example, the option of {@code processor.enable-provider-index} is {@code processor.enableProviderIndex}.
+     *
+     * @return the name of the option
+     */
+    public String getOptionName() {
+        String key = rawKey.value();
+        StringBuilder result = new StringBuilder(key.length());
+        boolean upperCase = false;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c == '-') {
+                upperCase = true;
+            } else {
+                result.append(upperCase ? Character.toUpperCase(c) : c);
+                upperCase = false;
+            }
+        }
+        return result.toString();
+    }
 }
@@ -0,0 +1,56 @@
+package com.wiredi.compiler.processor.business;
+
+import com.wiredi.compiler.domain.ClassEntity;
+import com.wiredi.compiler.domain.entities.IdentifiableProviderEntity;
+import com.wiredi.compiler.domain.injection.InjectionPoints;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the providers that are candidates for a static wiring ("strict" mode).
+ * <p>
+ * Only providers of classes that are constructed through their injection points are candidates.
+ * Providers created through factory methods, property bindings or aspect aware proxies are never registered, which
+ * makes a compilation containing them ineligible for a static wiring.
+ */
+public class StaticWiringService {
+
+    private final Map<ClassEntity<?>, Candidate> candidates = new ConcurrentHashMap<>();
+
+    public void registerCandidate(
+            @NotNull IdentifiableProviderEntity entity,
+            @NotNull TypeElement typeElement,
+            @NotNull InjectionPoints injectionPoints,
+            @NotNull List<TypeMirror> wireTypes,
+            boolean primary
+    ) {
+        candidates.put(entity, new Candidate(typeElement, injectionPoints, List.copyOf(wireTypes), primary));
+    }
+
+    @Nullable
+    public Candidate candidateOf(@NotNull ClassEntity<?> entity) {
+        return candidates.get(entity);
+    }
+
+    /**
+     * A class that might be constructed by a static wiring.
+     *
+     * @param typeElement     the class constructed by the provider
+     * @param injectionPoints all injection points of the class
+     * @param wireTypes       the types the provider is wired to, which are its type and its additional wire types
+     * @param primary         whether the provider is primary for its wire types
+     */
+    public record Candidate(
+            @NotNull TypeElement typeElement,
+            @NotNull InjectionPoints injectionPoints,
+            @NotNull List<TypeMirror> wireTypes,
+            boolean primary
+    ) {
+    }
+}
@@ -14,6 +14,7 @@ import com.wiredi.compiler.domain.entities.IdentifiableProviderEntity;
 import com.wiredi.compiler.domain.entities.methods.aspecthandler.AppliesToMethod;
 import com.wiredi.compiler.domain.entities.methods.aspecthandler.ProcessMethod;
 import com.wiredi.compiler.domain.entities.methods.identifiableprovider.*;
+import com.wiredi.compiler.domain.injection.InjectionPoints;
 import com.wiredi.compiler.domain.properties.PropertyContext;
 import com.wiredi.compiler.domain.values.AspectHandlerMethod;
 import com.wiredi.compiler.domain.values.FactoryMethod;
@@ -21,14 +22,18 @@ import com.wiredi.runtime.lang.Ordered;
 import org.slf4j.Logger;import com.wiredi.compiler.processor.TypeExtractor;
 import com.wiredi.compiler.processor.business.IdentifiableProviderService;
 import com.wiredi.compiler.processor.business.InjectionPointService;
+import com.wiredi.compiler.processor.business.StaticWiringService;
 import com.wiredi.compiler.repository.CompilerRepository;
 import com.wiredi.runtime.Environment;
 import jakarta.inject.Inject;
 import org.jetbrains.annotations.Nullable;
 
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 public class IdentifiableProviderFactory implements Factory<IdentifiableProviderEntity> {
@@ -44,6 +49,9 @@ public class IdentifiableProviderFactory implements Factory<IdentifiableProvider
     @Inject
     private InjectionPointService injectionPointService;
 
+    @Inject
+    private StaticWiringService staticWiringService;
+
     @Inject
     private TypeExtractor typeExtractor;
 
@@ -82,10 +90,19 @@ public class IdentifiableProviderFactory implements Factory<IdentifiableProvider
     }
 
     public IdentifiableProviderEntity create(TypeElement typeElement, @Nullable Wire annotation) {
-        IdentifiableProviderEntity identifiableProviderEntity = createIdentifiableProvider(typeElement)
-                .addMethod(new PrimaryMethod(Optional.ofNullable(annotation).map(Wire::primary).orElse(false) || primaryAnnotationSearch.isPresentIn(typeElement)))
+        InjectionPoints injectionPoints = injectionPointService.injectionPoints(typeElement);
+        TypeMirror primaryWireType = identifiableProviderService.getPrimaryWireType(typeElement.asType());
+        List<TypeMirror> additionalWireTypes = typeExtractor.getAdditionalWireTypesOf(typeElement);
+        boolean primary = Optional.ofNullable(annotation).map(Wire::primary).orElse(false) || primaryAnnotationSearch.isPresentIn(typeElement);
+        IdentifiableProviderEntity identifiableProviderEntity = createIdentifiableProvider(typeElement, primaryWireType, additionalWireTypes)
+                .addMethod(new PrimaryMethod(primary))
                 .addMethod(new GetMethod(typeElement.asType()))
-                .addMethod(new CreateInstanceForWireMethod(injectionPointService.injectionPoints(typeElement), wireRepositories, compilerRepository));
+                .addMethod(new CreateInstanceForWireMethod(injectionPoints, wireRepositories, compilerRepository));
+
+        List<TypeMirror> wireTypes = new ArrayList<>();
+        wireTypes.add(primaryWireType);
+        wireTypes.addAll(additionalWireTypes);
+        staticWiringService.registerCandidate(identifiableProviderEntity, typeElement, injectionPoints, wireTypes, primary);
 
         identifiableProviderService.findAllFactoryMethodsIn(typeElement)
                 .forEach(factoryMethod -> {
@@ -141,9 +158,17 @@ public class IdentifiableProviderFactory implements Factory<IdentifiableProvider
     }
 
     private IdentifiableProviderEntity createIdentifiableProvider(TypeElement typeElement) {
+        return createIdentifiableProvider(typeElement, identifiableProviderService.getPrimaryWireType(typeElement.asType()), typeExtractor.getAdditionalWireTypesOf(typeElement));
+    }
+
+    private IdentifiableProviderEntity createIdentifiableProvider(
+            TypeElement typeElement,
+            TypeMirror primaryWireType,
+            List<TypeMirror> additionalWireTypes
+    ) {
         IdentifiableProviderEntity entity = compilerRepository.newIdentifiableProvider(typeElement)
-                .addMethod(new TypeMethod(typeIdentifiers, identifiableProviderService.getPrimaryWireType(typeElement.asType())))
-                .addMethod(new AdditionalWireTypesMethod(typeExtractor.getAdditionalWireTypesOf(typeElement), typeIdentifiers));
+                .addMethod(new TypeMethod(typeIdentifiers, primaryWireType))
+                .addMethod(new AdditionalWireTypesMethod(additionalWireTypes, typeIdentifiers));
 
         orderAnnotationSearch.findFirstIn(typeElement)
                 .ifPresent(order -> entity.addMethod(new OrderMethod(order, types)));
@@ -10,6 +10,7 @@ import com.wiredi.compiler.errors.ProcessingException;
 import com.wiredi.compiler.logger.CompilerServiceFileProviderFactory;
 import com.wiredi.compiler.logger.slf4j.MessagerContext;
 import com.wiredi.compiler.logger.slf4j.Slf4jHijacker;
+import com.wiredi.compiler.processor.CompilerPropertyKeys;
 import com.wiredi.compiler.processor.ProcessorProperties;
 import com.wiredi.compiler.processor.lang.concurrent.ContextRunnable;
 import com.wiredi.compiler.processor.lang.concurrent.ExecutorServiceThreadBarrier;
@@ -74,6 +75,13 @@ public class WireDiRootAnnotationProcessor extends AbstractProcessor {
                 .collect(Collectors.toSet());
     }
 
+    @Override
+    public final Set<String> getSupportedOptions() {
+        return Arrays.stream(CompilerPropertyKeys.values())
+                .map(CompilerPropertyKeys::getOptionName)
+                .collect(Collectors.toSet());
+    }
+
     @Override
     public final SourceVersion getSupportedSourceVersion() {
         return SourceVersion.latestSupported();
@@ -46,10 +46,18 @@ public class ProcessorPluginContext implements CompilerRepositoryCallback {
         wireProcessorPlugins.forEach(it -> it.initialize(injector));
     }
 
-    private static final Map<Class<?>, List<?>> LOADED_CLASSES = new HashMap<>();
+    /**
+     * The loaded plugins, per injector.
+     * <p>
+     * Plugins hold state of the compilation they are injected into (like the {@link javax.lang.model.util.Elements}).
+     * Sharing them between the processors of multiple compilations (in a build daemon, or in tests) would let later
+     * compilations use the closed state of the first one.
+     */
+    private static final Map<Injector, Map<Class<?>, List<?>>> LOADED_CLASSES = new WeakHashMap<>();
 
     public synchronized static <T extends Ordered> List<T> load(Injector injector, Class<T> type) {
-        return (List<T>) LOADED_CLASSES.computeIfAbsent(type, t -> doLoad(injector, type));
+        return (List<T>) LOADED_CLASSES.computeIfAbsent(injector, i -> new HashMap<>())
+                .computeIfAbsent(type, t -> doLoad(injector, type));
     }
 
     private static <T extends Ordered> List<T> doLoad(Injector injector, Class<T> type) {
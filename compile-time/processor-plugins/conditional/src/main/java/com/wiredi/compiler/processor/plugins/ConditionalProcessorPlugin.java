@@ -75,6 +75,7 @@ public class ConditionalProcessorPlugin implements CompilerEntityPlugin {
         }
 
         logger.debug(() -> "Conditional detected for: " + entity);
+        entity.markConditional();
         if (conditionEntries.size() == 1) {
             ConditionEntry first = conditionEntries.getFirst();
             entity.addMethod(new SingleConditionMethodFactory(first));
@@ -27,7 +27,8 @@ public class QualifierProcessorPlugin implements CompilerEntityPlugin {
 
         if (!qualifiers.isEmpty()) {
             logger.debug(() -> "The entity " + entity.className() + " defined by " + entity.getSource() + " has the qualifiers " + qualifiers);
-            entity.addMethod(new QualifiersMethod(qualifiers));
+            entity.markQualified()
+                    .addMethod(new QualifiersMethod(qualifiers));
         }
     }
 }
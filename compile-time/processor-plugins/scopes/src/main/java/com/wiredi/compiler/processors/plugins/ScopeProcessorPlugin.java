@@ -36,7 +36,8 @@ public class ScopeProcessorPlugin implements CompilerEntityPlugin {
         List<ScopeType> scopes = this.scopes.allScopesOf(entity.getSource());
         if (!scopes.isEmpty()) {
             logger.info(() -> "The entity " + entity.className() + " defined by " + entity.getSource() + " has the scopes " + scopes);
-            entity.addMethod(new ScopeMethod(scopes, types));
+            entity.markScoped()
+                    .addMethod(new ScopeMethod(scopes, types));
         }
     }
 }
@@ -0,0 +1,184 @@
+package com.wiredi.compiler.processors;
+
+import com.google.auto.service.AutoService;
+import com.squareup.javapoet.*;
+import com.wiredi.compiler.domain.ClassEntity;
+import com.wiredi.compiler.domain.entities.IdentifiableProviderEntity;
+import com.wiredi.compiler.logger.slf4j.CompileTimeLogger;
+import com.wiredi.compiler.logger.slf4j.CompileTimeLoggerFactory;
+import com.wiredi.compiler.metainf.FileOperations;
+import com.wiredi.compiler.metainf.MetaInf;
+import com.wiredi.compiler.processor.ProcessorProperties;
+import com.wiredi.compiler.processor.lang.AnnotationProcessorSubroutine;
+import com.wiredi.compiler.processor.lang.ProcessingElement;
+import com.wiredi.compiler.repository.CompilerRepository;
+import com.wiredi.compiler.repository.CompilerRepositoryCallback;
+import com.wiredi.runtime.domain.provider.index.IdentifiableProviderIndex;
+import jakarta.annotation.Generated;
+import jakarta.inject.Inject;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.*;
+
+import static com.wiredi.compiler.processor.CompilerPropertyKeys.ENABLE_PROVIDER_INDEX;
+
+/**
+ * Generates the {@link IdentifiableProviderIndex} instances of the current compilation.
+ * <p>
+ * Every IdentifiableProvider written by the {@link CompilerRepository} is collected.
+ * Once the repository is flushed, an index listing all providers written in the round is generated.
+ * Generating the index within the round (instead of the last round) keeps the index subject to compilation
+ * without compiler warnings.
+ * Once processing is over, all indexes are registered as a service at once.
+ * <p>
+ * Incremental builds only process the changed sources.
+ * The indexes registered by a previous compilation are therefore kept, as long as their classes still exist.
+ */
+@AutoService(AnnotationProcessorSubroutine.class)
+public class ProviderIndexSubroutine implements AnnotationProcessorSubroutine, CompilerRepositoryCallback {
+
+    private static final String INDEX_NAME = "WireDiProviderIndex";
+    private static final CompileTimeLogger logger = CompileTimeLoggerFactory.getLogger(ProviderIndexSubroutine.class);
+    private final Map<ClassName, IndexedProvider> providers = new HashMap<>();
+    private final List<String> indexes = new ArrayList<>();
+    @Inject
+    private CompilerRepository compilerRepository;
+    @Inject
+    private ProcessorProperties properties;
+    @Inject
+    private ProcessingEnvironment processingEnvironment;
+    @Inject
+    private Types types;
+    @Inject
+    private Elements elements;
+
+    @Override
+    public List<Class<? extends Annotation>> targetAnnotations() {
+        return List.of();
+    }
+
+    @Override
+    public void doInitialization() {
+        if (properties.isEnabled(ENABLE_PROVIDER_INDEX)) {
+            compilerRepository.registerCallback(this);
+        }
+    }
+
+    @Override
+    public void handle(ProcessingElement processingElement) {
+        // NoOp, the providers are collected once they are written
+    }
+
+    @Override
+    public void written(ClassEntity<?> classEntity, JavaFile javaFile) {
+        if (!(classEntity instanceof IdentifiableProviderEntity identifiableProviderEntity)) {
+            return;
+        }
+
+        ClassName className = ClassName.get(javaFile.packageName, javaFile.typeSpec.name);
+        providers.put(className, new IndexedProvider(className, typeName(classEntity.rootType()), identifiableProviderEntity.isConditional()));
+    }
+
+    @Override
+    public void flushed() {
+        if (!providers.isEmpty()) {
+            writeIndex();
+            providers.clear();
+        }
+    }
+
+    @Override
+    public void processingOver() {
+        if (indexes.isEmpty()) {
+            return;
+        }
+
+        MetaInf metaInf = new MetaInf(processingEnvironment.getFiler());
+        String fileName = "services/" + IdentifiableProviderIndex.class.getName();
+        Set<String> allIndexes = new LinkedHashSet<>();
+        for (String existingIndex : metaInf.readExistingFile(fileName)) {
+            if (elements.getTypeElement(existingIndex) != null) {
+                allIndexes.add(existingIndex);
+            } else {
+                logger.debug(() -> "Dropping the provider index " + existingIndex + ", which no longer exists");
+            }
+        }
+        allIndexes.addAll(indexes);
+
+        try {
+            metaInf.writeFile(allIndexes, fileName, FileOperations.OVERWRITE_CONTENT);
+        } catch (IOException e) {
+            logger.error(() -> "Error while registering the provider indexes " + allIndexes, e);
+        }
+    }
+
+    private String typeName(TypeMirror typeMirror) {
+        TypeMirror erasure = types.erasure(typeMirror);
+        if (types.asElement(erasure) instanceof TypeElement typeElement) {
+            return elements.getBinaryName(typeElement).toString();
+        }
+        return erasure.toString();
+    }
+
+    private void writeIndex() {
+        List<IndexedProvider> indexedProviders = providers.values()
+                .stream()
+                .sorted(Comparator.comparing(provider -> provider.className().canonicalName()))
+                .toList();
+        String packageName = indexedProviders.getFirst().className().packageName();
+        // Multiple modules and rounds may share a package, so the name is derived from the content of the index
+        String indexName = INDEX_NAME + "$" + Integer.toHexString(indexedProviders.stream().map(it -> it.className().canonicalName()).toList().hashCode());
+        ClassName indexClassName = ClassName.get(packageName, indexName);
+        logger.info(() -> "Writing provider index " + indexClassName + " with " + indexedProviders.size() + " providers");
+
+        CodeBlock entries = CodeBlock.join(
+                indexedProviders.stream()
+                        .map(provider -> CodeBlock.of("new $T($T::new, $S, $L)", IdentifiableProviderIndex.Entry.class, provider.className(), provider.typeName(), provider.conditional()))
+                        .toList(),
+                ",\n"
+        );
+
+        TypeSpec index = TypeSpec.classBuilder(indexClassName)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addSuperinterface(IdentifiableProviderIndex.class)
+                .addAnnotation(AnnotationSpec.builder(Generated.class)
+                        .addMember("value", "$S", getClass().getName())
+                        .build())
+                .addField(FieldSpec.builder(ParameterizedTypeName.get(List.class, IdentifiableProviderIndex.Entry.class), "ENTRIES", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer(CodeBlock.builder()
+                                .add("$T.of(\n", List.class)
+                                .indent()
+                                .add(entries)
+                                .unindent()
+                                .add("\n)")
+                                .build())
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("entries")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(ParameterizedTypeName.get(List.class, IdentifiableProviderIndex.Entry.class))
+                        .addStatement("return ENTRIES")
+                        .build())
+                .build();
+
+        try {
+            JavaFile.builder(packageName, index)
+                    .indent("    ")
+                    .build()
+                    .writeTo(processingEnvironment.getFiler());
+            indexes.add(indexClassName.reflectionName());
+        } catch (IOException e) {
+            logger.error(() -> "Error while writing the provider index " + indexClassName, e);
+        }
+    }
+
+    private record IndexedProvider(ClassName className, String typeName, boolean conditional) {
+    }
+}
@@ -0,0 +1,411 @@
+package com.wiredi.compiler.processors;
+
+import com.google.auto.service.AutoService;
+import com.squareup.javapoet.*;
+import com.wiredi.compiler.domain.ClassEntity;
+import com.wiredi.compiler.domain.entities.IdentifiableProviderEntity;
+import com.wiredi.compiler.domain.injection.InjectionPoints;
+import com.wiredi.compiler.domain.injection.constructor.ConstructorInjectionParameter;
+import com.wiredi.compiler.domain.injection.constructor.ConstructorInjectionPoint;
+import com.wiredi.compiler.logger.slf4j.CompileTimeLogger;
+import com.wiredi.compiler.logger.slf4j.CompileTimeLoggerFactory;
+import com.wiredi.compiler.metainf.MetaInf;
+import com.wiredi.compiler.processor.ProcessorProperties;
+import com.wiredi.compiler.processor.business.StaticWiringService;
+import com.wiredi.compiler.processor.lang.AnnotationProcessorSubroutine;
+import com.wiredi.compiler.processor.lang.ProcessingElement;
+import com.wiredi.compiler.repository.CompilerRepository;
+import com.wiredi.compiler.repository.CompilerRepositoryCallback;
+import com.wiredi.runtime.domain.provider.wiring.StaticWiring;
+import com.wiredi.runtime.domain.provider.wiring.StaticallyWiredProvider;
+import jakarta.annotation.Generated;
+import jakarta.inject.Inject;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.*;
+
+import static com.wiredi.compiler.processor.CompilerPropertyKeys.ENABLE_STRICT_MODE;
+
+/**
+ * Generates the {@link StaticWiring} of the current compilation ("strict" mode).
+ * <p>
+ * Every IdentifiableProvider written by the {@link CompilerRepository} is collected.
+ * Once processing is over, all beans are resolved at compile time.
+ * If every provider can be wired statically, a static wiring is generated that holds one final field per bean and
+ * constructs all beans through direct constructor calls in dependency order.
+ * The static wiring is registered as a service.
+ * <p>
+ * A provider can be wired statically, if:
+ * <ul>
+ *     <li>It constructs a public, non generic class through its public constructor</li>
+ *     <li>It has no field injection, method injection or post construct methods</li>
+ *     <li>It has no condition, qualifiers or scope, which are evaluated at runtime</li>
+ *     <li>Every constructor parameter is a non generic type, to which exactly one provider, or exactly one primary
+ *     provider, of the compilation is wired</li>
+ * </ul>
+ * The wired types and the types of the constructor parameters are exposed through {@link StaticWiring#wiredTypes()} and
+ * {@link StaticWiring#dependencies()}, so that the WireContainer can reject providers of other sources that would
+ * have changed the resolution at runtime.
+ * Providers of factory methods, property bindings and aspect aware proxies can not be wired statically.
+ * If any provider can not be wired statically, the reason is reported and no static wiring is generated.
+ * As the providers of all rounds are required, the static wiring is generated in the last round.
+ */
+@AutoService(AnnotationProcessorSubroutine.class)
+public class StaticWiringSubroutine implements AnnotationProcessorSubroutine, CompilerRepositoryCallback {
+
+    private static final String WIRING_NAME = "WireDiStaticWiring";
+    private static final CompileTimeLogger logger = CompileTimeLoggerFactory.getLogger(StaticWiringSubroutine.class);
+    private final Map<ClassName, WrittenProvider> providers = new HashMap<>();
+    @Inject
+    private CompilerRepository compilerRepository;
+    @Inject
+    private StaticWiringService staticWiringService;
+    @Inject
+    private ProcessorProperties properties;
+    @Inject
+    private ProcessingEnvironment processingEnvironment;
+    @Inject
+    private Types types;
+    @Inject
+    private Elements elements;
+
+    @Override
+    public List<Class<? extends Annotation>> targetAnnotations() {
+        return List.of();
+    }
+
+    @Override
+    public void doInitialization() {
+        if (properties.isEnabled(ENABLE_STRICT_MODE)) {
+            compilerRepository.registerCallback(this);
+        }
+    }
+
+    @Override
+    public void handle(ProcessingElement processingElement) {
+        // NoOp, the providers are collected once they are written
+    }
+
+    @Override
+    public void written(ClassEntity<?> classEntity, JavaFile javaFile) {
+        if (!(classEntity instanceof IdentifiableProviderEntity provider)) {
+            return;
+        }
+
+        ClassName className = ClassName.get(javaFile.packageName, javaFile.typeSpec.name);
+        providers.put(className, new WrittenProvider(className, provider, staticWiringService.candidateOf(provider)));
+    }
+
+    @Override
+    public void processingOver() {
+        if (providers.isEmpty()) {
+            return;
+        }
+
+        List<WrittenProvider> writtenProviders = providers.values()
+                .stream()
+                .sorted(Comparator.comparing(provider -> provider.className().canonicalName()))
+                .toList();
+        try {
+            writeWiring(writtenProviders, resolve(writtenProviders));
+        } catch (NotStaticallyWireableException e) {
+            logger.warn(e.element, "No static wiring is generated: " + e.getMessage());
+        }
+    }
+
+    private List<WiredBean> resolve(List<WrittenProvider> writtenProviders) {
+        // All providers are verified first, so that the dependencies are only matched against wireable providers
+        for (WrittenProvider provider : writtenProviders) {
+            verify(provider);
+        }
+
+        Map<WrittenProvider, List<WrittenProvider>> dependencies = new LinkedHashMap<>();
+        for (WrittenProvider provider : writtenProviders) {
+            dependencies.put(provider, dependenciesOf(provider, writtenProviders));
+        }
+
+        List<WiredBean> beans = new ArrayList<>();
+        Map<WrittenProvider, WiredBean> wired = new HashMap<>();
+        Set<String> fieldNames = new HashSet<>();
+        for (WrittenProvider provider : writtenProviders) {
+            wire(provider, dependencies, new LinkedHashSet<>(), wired, fieldNames, beans);
+        }
+        return beans;
+    }
+
+    /**
+     * Wires the provider after all of its dependencies, so that the beans are ordered by their dependencies.
+     */
+    private WiredBean wire(
+            WrittenProvider provider,
+            Map<WrittenProvider, List<WrittenProvider>> dependencies,
+            Set<WrittenProvider> path,
+            Map<WrittenProvider, WiredBean> wired,
+            Set<String> fieldNames,
+            List<WiredBean> beans
+    ) {
+        WiredBean existing = wired.get(provider);
+        if (existing != null) {
+            return existing;
+        }
+        if (!path.add(provider)) {
+            throw new NotStaticallyWireableException(
+                    provider.typeElement(),
+                    "Circular dependency between " + path.stream().map(it -> it.typeElement().getSimpleName()).toList()
+            );
+        }
+
+        List<WiredBean> parameters = new ArrayList<>();
+        for (WrittenProvider dependency : dependencies.get(provider)) {
+            parameters.add(wire(dependency, dependencies, path, wired, fieldNames, beans));
+        }
+        path.remove(provider);
+
+        WiredBean bean = new WiredBean(provider, fieldName(provider.typeElement(), fieldNames), parameters);
+        wired.put(provider, bean);
+        beans.add(bean);
+        return bean;
+    }
+
+    private void verify(WrittenProvider provider) {
+        StaticWiringService.Candidate candidate = provider.candidate();
+        if (candidate == null) {
+            throw new NotStaticallyWireableException(
+                    types.asElement(provider.entity().rootType()),
+                    "The provider " + provider.className() + " does not construct its bean through the injection points of the bean"
+            );
+        }
+        TypeElement typeElement = candidate.typeElement();
+        String runtimeDeclaration = runtimeDeclarationOf(provider.entity());
+        if (runtimeDeclaration != null) {
+            throw new NotStaticallyWireableException(typeElement, "The " + runtimeDeclaration + " of the bean is determined at runtime");
+        }
+        InjectionPoints injectionPoints = candidate.injectionPoints();
+        if (!injectionPoints.fieldInjections().isEmpty() || !injectionPoints.methodInjections().isEmpty() || !injectionPoints.postConstructInjectionPoints().isEmpty()) {
+            throw new NotStaticallyWireableException(typeElement, "Only beans using constructor injection can be wired statically");
+        }
+        if (!typeElement.getTypeParameters().isEmpty()) {
+            throw new NotStaticallyWireableException(typeElement, "Generic beans can not be wired statically");
+        }
+        ConstructorInjectionPoint constructorInjectionPoint = injectionPoints.constructorInjectionPoint();
+        if (!isAccessible(typeElement) || (constructorInjectionPoint != null && !constructorInjectionPoint.constructor().getModifiers().contains(Modifier.PUBLIC))) {
+            throw new NotStaticallyWireableException(typeElement, "The bean and its constructor have to be public to be constructed by the static wiring");
+        }
+    }
+
+    @Nullable
+    private String runtimeDeclarationOf(IdentifiableProviderEntity entity) {
+        if (entity.isConditional()) {
+            return "condition";
+        }
+        if (entity.isQualified()) {
+            return "qualifiers";
+        }
+        if (entity.isScoped()) {
+            return "scope";
+        }
+        return null;
+    }
+
+    private List<WrittenProvider> dependenciesOf(WrittenProvider provider, List<WrittenProvider> writtenProviders) {
+        ConstructorInjectionPoint constructorInjectionPoint = provider.candidate().injectionPoints().constructorInjectionPoint();
+        if (constructorInjectionPoint == null) {
+            return List.of();
+        }
+
+        List<WrittenProvider> dependencies = new ArrayList<>();
+        for (ConstructorInjectionParameter injectionParameter : constructorInjectionPoint.parameters()) {
+            dependencies.add(dependencyOf(injectionParameter.parameter(), writtenProviders));
+        }
+        return dependencies;
+    }
+
+    private WrittenProvider dependencyOf(VariableElement parameter, List<WrittenProvider> writtenProviders) {
+        TypeMirror type = parameter.asType();
+        if (!parameter.getAnnotationMirrors().isEmpty()) {
+            throw new NotStaticallyWireableException(parameter, "Annotated constructor parameters can not be wired statically");
+        }
+        if (type.getKind() != TypeKind.DECLARED || !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            throw new NotStaticallyWireableException(parameter, "Only non generic classes and interfaces can be wired statically, but the parameter is of type " + type);
+        }
+
+        // Matched like the WireContainer would: Through the wire types of the providers, preferring a primary provider
+        List<WrittenProvider> matches = writtenProviders.stream()
+                .filter(provider -> isWiredTo(provider, type))
+                .toList();
+        if (matches.isEmpty()) {
+            throw new NotStaticallyWireableException(parameter, "No bean of type " + type + " is provided by this compilation");
+        }
+        if (matches.size() == 1) {
+            return matches.getFirst();
+        }
+
+        List<WrittenProvider> primaryMatches = matches.stream()
+                .filter(provider -> provider.candidate().primary())
+                .toList();
+        if (primaryMatches.size() != 1) {
+            throw new NotStaticallyWireableException(parameter, "Multiple beans of type " + type + " are provided by this compilation: " + matches.stream().map(WrittenProvider::className).toList());
+        }
+        return primaryMatches.getFirst();
+    }
+
+    private boolean isWiredTo(WrittenProvider provider, TypeMirror type) {
+        return provider.candidate()
+                .wireTypes()
+                .stream()
+                .anyMatch(wireType -> types.isSameType(types.erasure(wireType), types.erasure(type)));
+    }
+
+    private boolean isAccessible(TypeElement typeElement) {
+        if (typeElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        Element current = typeElement;
+        while (current instanceof TypeElement type) {
+            if (!type.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+            current = type.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private String fieldName(TypeElement typeElement, Set<String> fieldNames) {
+        String simpleName = typeElement.getSimpleName().toString();
+        String fieldName = Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+        String uniqueName = fieldName;
+        for (int i = 1; !fieldNames.add(uniqueName); i++) {
+            uniqueName = fieldName + i;
+        }
+        return uniqueName;
+    }
+
+    private void writeWiring(List<WrittenProvider> writtenProviders, List<WiredBean> beans) {
+        String packageName = writtenProviders.getFirst().className().packageName();
+        // Multiple modules may share a package, so the name is derived from the content of the wiring
+        String wiringName = WIRING_NAME + "$" + Integer.toHexString(writtenProviders.stream().map(it -> it.className().canonicalName()).toList().hashCode());
+        ClassName wiringClassName = ClassName.get(packageName, wiringName);
+        logger.info(() -> "Writing static wiring " + wiringClassName + " with " + beans.size() + " beans");
+
+        TypeName classesType = ParameterizedTypeName.get(ClassName.get(List.class), ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class)));
+        TypeName providersType = ParameterizedTypeName.get(ClassName.get(List.class), ParameterizedTypeName.get(ClassName.get(StaticallyWiredProvider.class), WildcardTypeName.subtypeOf(Object.class)));
+        TypeSpec.Builder wiring = TypeSpec.classBuilder(wiringClassName)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addSuperinterface(StaticWiring.class)
+                .addAnnotation(AnnotationSpec.builder(Generated.class)
+                        .addMember("value", "$S", getClass().getName())
+                        .build());
+
+        MethodSpec.Builder constructor = MethodSpec.constructorBuilder().addModifiers(Modifier.PUBLIC);
+        CodeBlock.Builder get = CodeBlock.builder()
+                .add("return switch (type.getName()) {\n")
+                .indent();
+        List<CodeBlock> providerInstances = new ArrayList<>();
+        List<CodeBlock> wiredTypes = new ArrayList<>();
+        Set<TypeName> dependencies = new LinkedHashSet<>();
+        for (WiredBean bean : beans) {
+            TypeElement typeElement = bean.provider().typeElement();
+            ClassName beanType = ClassName.get(typeElement);
+            wiring.addField(FieldSpec.builder(beanType, bean.fieldName(), Modifier.PRIVATE, Modifier.FINAL).build());
+            constructor.addStatement("this.$N = new $T($L)", bean.fieldName(), beanType, CodeBlock.join(bean.parameters().stream().map(it -> CodeBlock.of("this.$N", it.fieldName())).toList(), ", "));
+            get.add("case $S -> type == $T.class ? type.cast(this.$N) : null;\n", elements.getBinaryName(typeElement).toString(), beanType, bean.fieldName());
+            providerInstances.add(CodeBlock.of("new $T<>(new $T(), this.$N)", StaticallyWiredProvider.class, bean.provider().className(), bean.fieldName()));
+            wiredTypes.add(CodeBlock.of("$T.class", beanType));
+            ConstructorInjectionPoint constructorInjectionPoint = bean.provider().candidate().injectionPoints().constructorInjectionPoint();
+            if (constructorInjectionPoint != null) {
+                constructorInjectionPoint.parameters().forEach(parameter -> dependencies.add(TypeName.get(types.erasure(parameter.parameter().asType()))));
+            }
+        }
+        get.add("default -> null;\n")
+                .unindent()
+                .add("};\n");
+        constructor.addCode(CodeBlock.builder()
+                .add("this.providers = $T.of(\n", List.class)
+                .indent()
+                .add(CodeBlock.join(providerInstances, ",\n"))
+                .unindent()
+                .add("\n);\n")
+                .build());
+
+        TypeVariableName typeVariable = TypeVariableName.get("T");
+        wiring.addField(FieldSpec.builder(providersType, "providers", Modifier.PRIVATE, Modifier.FINAL).build())
+                .addMethod(constructor.build())
+                .addMethod(MethodSpec.methodBuilder("get")
+                        .addAnnotation(Override.class)
+                        .addAnnotation(Nullable.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addTypeVariable(typeVariable)
+                        .returns(typeVariable)
+                        .addParameter(ParameterSpec.builder(ParameterizedTypeName.get(ClassName.get(Class.class), typeVariable), "type")
+                                .addAnnotation(NotNull.class)
+                                .build())
+                        .addCode(get.build())
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("providers")
+                        .addAnnotation(Override.class)
+                        .addAnnotation(NotNull.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(providersType)
+                        .addStatement("return providers")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("wiredTypes")
+                        .addAnnotation(Override.class)
+                        .addAnnotation(NotNull.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(classesType)
+                        .addStatement("return $T.of($L)", List.class, CodeBlock.join(wiredTypes, ", "))
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("dependencies")
+                        .addAnnotation(Override.class)
+                        .addAnnotation(NotNull.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(classesType)
+                        .addStatement("return $T.of($L)", List.class, CodeBlock.join(dependencies.stream().map(it -> CodeBlock.of("$T.class", it)).toList(), ", "))
+                        .build());
+
+        try {
+            JavaFile.builder(packageName, wiring.build())
+                    .indent("    ")
+                    .build()
+                    .writeTo(processingEnvironment.getFiler());
+            new MetaInf(processingEnvironment.getFiler()).writeFile(List.of(wiringClassName.reflectionName()), "services/" + StaticWiring.class.getName());
+        } catch (IOException e) {
+            logger.error(() -> "Error while writing the static wiring " + wiringClassName, e);
+        }
+    }
+
+    private record WrittenProvider(
+            ClassName className,
+            IdentifiableProviderEntity entity,
+            @Nullable StaticWiringService.Candidate candidate
+    ) {
+        public TypeElement typeElement() {
+            return Objects.requireNonNull(candidate).typeElement();
+        }
+    }
+
+    private record WiredBean(WrittenProvider provider, String fieldName, List<WiredBean> parameters) {
+    }
+
+    private static final class NotStaticallyWireableException extends RuntimeException {
+        private final Element element;
+
+        private NotStaticallyWireableException(Element element, String message) {
+            super(message);
+            this.element = element;
+        }
+    }
+}
@@ -2,7 +2,8 @@ package com.wiredi.processor.integration;
 
 import com.wiredi.compiler.tests.junit.CompilerTest;
 
-@CompilerTest(options = "-implicit:class")
+// The provider index is verified by the ProviderIndexProcessorTest and the TCK, these tests only compare the generated providers
+@CompilerTest(options = {"-implicit:class", "-Aprocessor.enableProviderIndex=false"})
 public abstract class AbstractProcessorTest {
 
     static {
@@ -0,0 +1,59 @@
+package com.wiredi.processor.integration;
+
+import com.wiredi.compiler.processor.lang.WireDiRootAnnotationProcessor;
+import com.wiredi.compiler.tests.files.FileManagerState;
+import com.wiredi.compiler.tests.junit.CompilerSetup;
+import com.wiredi.compiler.tests.junit.CompilerTest;
+import com.wiredi.compiler.tests.result.Compilation;
+
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+
+import static com.wiredi.compiler.tests.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the generated provider index.
+ * <p>
+ * Contrary to the other processor tests, this test does not extend the {@link AbstractProcessorTest}, which disables
+ * the provider index.
+ */
+@CompilerSetup(processors = WireDiRootAnnotationProcessor.class, rootFolder = "com.wiredi.index")
+@CompilerTest(options = "-implicit:class")
+class ProviderIndexProcessorTest {
+
+    @CompilerTest(classes = "Engine")
+    public void unconditionalProvidersAreNotMarkedAsConditional(
+            Compilation compilation,
+            FileManagerState fileManagerState
+    ) throws IOException {
+        assertThat(compilation)
+                .wasSuccessful()
+                .hasNoErrors();
+
+        assertThat(providerIndexOf(fileManagerState))
+                .contains("new IdentifiableProviderIndex.Entry(EngineIdentifiableProvider::new, \"com.wiredi.index.Engine\", false)");
+    }
+
+    @CompilerTest(classes = "Turbo")
+    public void conditionalProvidersAreMarkedAsConditional(
+            Compilation compilation,
+            FileManagerState fileManagerState
+    ) throws IOException {
+        assertThat(compilation)
+                .wasSuccessful()
+                .hasNoErrors();
+
+        assertThat(providerIndexOf(fileManagerState))
+                .contains("new IdentifiableProviderIndex.Entry(TurboIdentifiableProvider::new, \"com.wiredi.index.Turbo\", true)");
+    }
+
+    private String providerIndexOf(FileManagerState fileManagerState) throws IOException {
+        JavaFileObject index = fileManagerState.generatedSources()
+                .stream()
+                .filter(file -> file.getName().contains("WireDiProviderIndex"))
+                .findFirst()
+                .orElseThrow();
+        return index.getCharContent(true).toString();
+    }
+}
@@ -0,0 +1,63 @@
+package com.wiredi.processor.integration;
+
+import com.wiredi.compiler.processor.lang.WireDiRootAnnotationProcessor;
+import com.wiredi.compiler.tests.files.FileManagerState;
+import com.wiredi.compiler.tests.files.utils.JavaFileObjectFactory;
+import com.wiredi.compiler.tests.junit.CompilerSetup;
+import com.wiredi.compiler.tests.junit.CompilerTest;
+import com.wiredi.compiler.tests.result.Compilation;
+
+import javax.tools.JavaFileObject;
+import java.util.regex.Pattern;
+
+import static com.wiredi.compiler.tests.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@CompilerSetup(processors = WireDiRootAnnotationProcessor.class, rootFolder = "com.wiredi.strict")
+class StrictModeProcessorTest extends AbstractProcessorTest {
+
+    @CompilerTest(classes = {"Vehicle", "Engine", "Car"}, options = "-Aprocessor.enableStrictMode=true")
+    public void constructorInjectedBeansAreWiredStatically(
+            Compilation compilation,
+            FileManagerState fileManagerState,
+            JavaFileObjectFactory factory
+    ) {
+        assertThat(compilation)
+                .wasSuccessful()
+                .hasNoErrors();
+
+        assertThat(fileManagerState).containsExactlyAllGeneratedFiles(
+                factory.load("EngineIdentifiableProvider"),
+                factory.load("WireDiStaticWiring$f651b82b"),
+                factory.load("CarIdentifiableProvider")
+        );
+    }
+
+    @CompilerTest(classes = {"Vehicle", "Engine", "Car", "Wheel", "WheelConfiguration"}, options = "-Aprocessor.enableStrictMode=true")
+    public void factoryMethodsPreventTheStaticWiring(
+            Compilation compilation,
+            FileManagerState fileManagerState
+    ) {
+        assertThat(compilation)
+                .wasSuccessful()
+                .hasNoErrors()
+                .hasDiagnosticsMatching(diagnostics -> diagnostics.containsWarning(Pattern.compile(".*" + Pattern.quote("No static wiring is generated: The provider com.wiredi.strict.WheelProvider$wheel$WheelConfiguration does not construct its bean through the injection points of the bean"))));
+
+        assertThat(fileManagerState.generatedSources().stream().map(JavaFileObject::getName).toList())
+                .noneMatch(name -> name.contains("WireDiStaticWiring"));
+    }
+
+    @CompilerTest(classes = {"Vehicle", "Engine", "Car", "Garage"}, options = "-Aprocessor.enableStrictMode=true")
+    public void qualifiersPreventTheStaticWiring(
+            Compilation compilation,
+            FileManagerState fileManagerState
+    ) {
+        assertThat(compilation)
+                .wasSuccessful()
+                .hasNoErrors()
+                .hasDiagnosticsMatching(diagnostics -> diagnostics.containsWarning(Pattern.compile(".*" + Pattern.quote("No static wiring is generated: The qualifiers of the bean is determined at runtime"))));
+
+        assertThat(fileManagerState.generatedSources().stream().map(JavaFileObject::getName).toList())
+                .noneMatch(name -> name.contains("WireDiStaticWiring"));
+    }
+}
@@ -14,6 +14,9 @@ import com.wiredi.processor.tck.domain.transactional.TransactionalTestController
 import com.wiredi.processor.tck.infrastructure.TckTestCase;
 import com.wiredi.runtime.Environment;
 import com.wiredi.runtime.WireContainer;
+import com.wiredi.runtime.WireContainerInitializer;
+import com.wiredi.runtime.domain.provider.IdentifiableProvider;
+import com.wiredi.runtime.domain.provider.IdentifiableProviderSource;
 import com.wiredi.runtime.domain.provider.TypeIdentifier;
 import com.wiredi.runtime.services.ServiceFiles;
 import com.wiredi.runtime.time.Timed;
@@ -24,6 +27,7 @@ import org.junit.jupiter.api.TestFactory;
 
 import java.util.Collection;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -46,6 +50,35 @@ public class WireDiTck {
         }
     }
 
+    @Test
+    public void theProviderIndexContainsAllProviders() {
+        // Arrange
+        IdentifiableProviderSource serviceLoader = IdentifiableProviderSource.serviceLoader();
+        IdentifiableProviderSource index = IdentifiableProviderSource.index();
+
+        // Act
+        Collection<IdentifiableProvider<?>> serviceLoaderProviders = serviceLoader.load();
+        Collection<IdentifiableProvider<?>> indexedProviders = index.load();
+
+        // Assert
+        assertThat(indexedProviders.stream().map(Object::getClass).collect(Collectors.toSet()))
+                .isEqualTo(serviceLoaderProviders.stream().map(Object::getClass).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void theProviderIndexCanBeUsedToLoadTheWireContainer() {
+        // Arrange
+        WireContainer wireContainer = WireContainer.builder()
+                .withInitializer(new WireContainerInitializer(IdentifiableProviderSource.index()))
+                .load();
+
+        // Act
+        Car car = wireContainer.get(Car.class);
+
+        // Assert
+        assertThat(car.getEngine()).isInstanceOf(V1Engine.class);
+    }
+
     @Test
     public void testLoadTimeOfObjects() {
         WireContainer wireContainer = WireContainer.open();
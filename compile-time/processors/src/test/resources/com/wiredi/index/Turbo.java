@@ -0,0 +1,9 @@
+package com.wiredi.index;
+
+import com.wiredi.annotations.Wire;
+import com.wiredi.runtime.domain.conditional.builtin.ConditionalOnProperty;
+
+@Wire(proxy = false)
+@ConditionalOnProperty(key = "engine.turbo", havingValue = "true")
+public class Turbo {
+}
@@ -0,0 +1,17 @@
+package com.wiredi.strict;
+
+import com.wiredi.annotations.Wire;
+
+@Wire(proxy = false)
+public class Car implements Vehicle {
+
+    private final Engine engine;
+
+    public Car(Engine engine) {
+        this.engine = engine;
+    }
+
+    public Engine getEngine() {
+        return engine;
+    }
+}
@@ -0,0 +1,49 @@
+package com.wiredi.strict;
+
+import com.google.auto.service.AutoService;
+import com.wiredi.runtime.WireContainer;
+import com.wiredi.runtime.domain.provider.IdentifiableProvider;
+import com.wiredi.runtime.domain.provider.TypeIdentifier;
+import jakarta.annotation.Generated;
+import java.lang.Override;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+@Generated(
+        value = "com.wiredi.compiler.domain.entities.IdentifiableProviderEntity",
+        date = "2023-01-01T00:00Z"
+)
+@AutoService({IdentifiableProvider.class})
+public final class CarIdentifiableProvider implements IdentifiableProvider<Car> {
+    private static final TypeIdentifier<Car> PRIMARY_WIRE_TYPE = TypeIdentifier.of(Car.class);
+
+    private static final List<TypeIdentifier<?>> ADDITIONAL_WIRE_TYPES = List.of(
+            TypeIdentifier.of(Vehicle.class)
+    );
+
+    private Car createInstance(final WireContainer wireContainer,
+                               final TypeIdentifier<Car> concreteType) {
+        // We will start by Fetching all 1 constructor parameters
+        Engine variable = wireContainer.get(TypeIdentifier.of(Engine.class));
+        Car instance = new Car(variable);
+        return instance;
+    }
+
+    @Override
+    @NotNull
+    public final List<TypeIdentifier<?>> additionalWireTypes() {
+        return ADDITIONAL_WIRE_TYPES;
+    }
+
+    @Override
+    public final Car get(@NotNull final WireContainer wireContainer,
+                         @NotNull final TypeIdentifier<Car> concreteType) {
+        return createInstance(wireContainer, concreteType);
+    }
+
+    @Override
+    @NotNull
+    public final TypeIdentifier<Car> type() {
+        return PRIMARY_WIRE_TYPE;
+    }
+}
@@ -0,0 +1,7 @@
+package com.wiredi.strict;
+
+import com.wiredi.annotations.Wire;
+
+@Wire(proxy = false)
+public class Engine {
+}
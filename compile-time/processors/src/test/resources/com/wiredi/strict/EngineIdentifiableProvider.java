@@ -0,0 +1,36 @@
+package com.wiredi.strict;
+
+import com.google.auto.service.AutoService;
+import com.wiredi.runtime.WireContainer;
+import com.wiredi.runtime.domain.provider.IdentifiableProvider;
+import com.wiredi.runtime.domain.provider.TypeIdentifier;
+import jakarta.annotation.Generated;
+import java.lang.Override;
+import org.jetbrains.annotations.NotNull;
+
+@Generated(
+        value = "com.wiredi.compiler.domain.entities.IdentifiableProviderEntity",
+        date = "2023-01-01T00:00Z"
+)
+@AutoService({IdentifiableProvider.class})
+public final class EngineIdentifiableProvider implements IdentifiableProvider<Engine> {
+    private static final TypeIdentifier<Engine> PRIMARY_WIRE_TYPE = TypeIdentifier.of(Engine.class);
+
+    private Engine createInstance(final WireContainer wireContainer,
+                                  final TypeIdentifier<Engine> concreteType) {
+        Engine instance = new Engine();
+        return instance;
+    }
+
+    @Override
+    public final Engine get(@NotNull final WireContainer wireContainer,
+                            @NotNull final TypeIdentifier<Engine> concreteType) {
+        return createInstance(wireContainer, concreteType);
+    }
+
+    @Override
+    @NotNull
+    public final TypeIdentifier<Engine> type() {
+        return PRIMARY_WIRE_TYPE;
+    }
+}
@@ -0,0 +1,9 @@
+package com.wiredi.strict;
+
+import com.wiredi.annotations.Wire;
+import jakarta.inject.Named;
+
+@Wire(proxy = false)
+@Named("garage")
+public class Garage {
+}
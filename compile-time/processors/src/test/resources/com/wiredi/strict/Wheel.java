@@ -0,0 +1,4 @@
+package com.wiredi.strict;
+
+public class Wheel {
+}
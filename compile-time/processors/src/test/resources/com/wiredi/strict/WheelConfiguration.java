@@ -0,0 +1,12 @@
+package com.wiredi.strict;
+
+import com.wiredi.annotations.Provider;
+import com.wiredi.annotations.Wire;
+
+@Wire(proxy = false)
+public class WheelConfiguration {
+    @Provider
+    public Wheel wheel() {
+        return new Wheel();
+    }
+}
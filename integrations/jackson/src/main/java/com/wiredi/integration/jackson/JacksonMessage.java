@@ -0,0 +1,84 @@
+package com.wiredi.integration.jackson;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.wiredi.integration.jackson.exceptions.SerializationFailedException;
+import com.wiredi.runtime.messaging.MessageDetails;
+import com.wiredi.runtime.messaging.MessageHeaders;
+import com.wiredi.runtime.messaging.messages.AbstractMessage;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+
+/**
+ * A message whose body is the JSON representation of a payload, which is generated lazily while it is written.
+ * <p>
+ * {@link #writeBodyTo(OutputStream)} streams the JSON generated by the {@link ObjectWriter} directly into the target
+ * stream, without buffering the document in memory.
+ * Only {@link #body()} and {@link #inputStream()} materialize the document, which is then retained for repeated reads.
+ *
+ * @param <D> the subtype of the {@link MessageDetails}
+ */
+final class JacksonMessage<D extends MessageDetails> extends AbstractMessage<D> {
+
+    @NotNull
+    private final Object payload;
+    @NotNull
+    private final ObjectWriter writer;
+    private volatile byte[] body;
+
+    JacksonMessage(
+            @NotNull Object payload,
+            @NotNull ObjectWriter writer,
+            @NotNull MessageHeaders headers,
+            @NotNull D messageDetails
+    ) {
+        super(headers, messageDetails, true);
+        this.payload = payload;
+        this.writer = writer;
+    }
+
+    @Override
+    public byte[] body() {
+        byte[] result = body;
+        if (result == null) {
+            try {
+                result = writer.writeValueAsBytes(payload);
+            } catch (IOException e) {
+                throw new SerializationFailedException(payload, e);
+            }
+            body = result;
+        }
+        return result;
+    }
+
+    @Override
+    public long bodySize() {
+        byte[] result = body;
+        // Unknown, until the payload is serialized
+        return result == null ? -1 : result.length;
+    }
+
+    @Override
+    public void writeBodyTo(OutputStream outputStream) throws IOException {
+        byte[] result = body;
+        if (result != null) {
+            outputStream.write(result);
+        } else {
+            writer.writeValue(outputStream, payload);
+        }
+    }
+
+    @Override
+    public @NotNull InputStream inputStream() {
+        return new ByteArrayInputStream(body());
+    }
+
+    @Override
+    public String toString() {
+        return "JacksonMessage{" +
+                "payload=" + payload +
+                ", headers=" + headers() +
+                ", messageDetails=" + details() +
+                '}';
+    }
+}
@@ -1,5 +1,6 @@
 package com.wiredi.integration.jackson;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
@@ -11,21 +12,60 @@ import com.wiredi.runtime.messaging.MessageHeaders;
 import com.wiredi.runtime.messaging.Message;
 import com.wiredi.runtime.messaging.MessageConverter;
 import com.wiredi.runtime.messaging.MessageDetails;
+import com.wiredi.runtime.messaging.messages.SimpleMessage;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.InputStream;
 
+/**
+ * A {@link MessageConverter} (de)serializing JSON through an {@link ObjectMapper}.
+ * <p>
+ * Messages are deserialized by streaming the {@link Message#inputStream()} into Jackson's parser.
+ * Only messages that already hold their body as a byte array are parsed from that array directly.
+ * <p>
+ * By default, payloads are serialized eagerly into a byte array.
+ * Serialization errors surface in {@link #serialize(Object, MessageHeaders, MessageDetails)} and later changes of
+ * the payload do not change the message, at the cost of buffering every JSON document in memory.
+ * <p>
+ * With streaming serialization enabled, the JSON is instead generated lazily and streamed directly into the target of
+ * {@link Message#writeBodyTo(java.io.OutputStream)}, so that large documents are never fully buffered.
+ * In this mode, serialization errors surface when the body is written and the payload must not be changed until the
+ * message is written.
+ * <p>
+ * The {@link ObjectReader ObjectReaders} and {@link ObjectWriter ObjectWriters} of each type are cached in a
+ * {@link ClassValue}, which is safe for concurrent use and releases the cached instances together with their type.
+ */
 public class JacksonMessageConverter implements MessageConverter<Object, MessageDetails> {
 
     private final ObjectMapper objectMapper;
-    private final Map<Class<?>, ObjectWriter> writerCache = new HashMap<>();
-    private final Map<Class<?>, ObjectReader> readerCache = new HashMap<>();
+    private final boolean streamSerialization;
+    private final ClassValue<ObjectWriter> writerCache = new ClassValue<>() {
+        @Override
+        protected ObjectWriter computeValue(@NotNull Class<?> type) {
+            return objectMapper.writerFor(type).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+    };
+    private final ClassValue<ObjectReader> readerCache = new ClassValue<>() {
+        @Override
+        protected ObjectReader computeValue(@NotNull Class<?> type) {
+            return objectMapper.readerFor(type);
+        }
+    };
 
     public JacksonMessageConverter(ObjectMapper objectMapper) {
+        this(objectMapper, false);
+    }
+
+    /**
+     * @param objectMapper        the mapper to (de)serialize JSON with
+     * @param streamSerialization whether serialized messages stream their JSON into {@link Message#writeBodyTo}
+     *                            instead of buffering it eagerly
+     */
+    public JacksonMessageConverter(ObjectMapper objectMapper, boolean streamSerialization) {
         this.objectMapper = objectMapper;
+        this.streamSerialization = streamSerialization;
     }
 
     @Override
@@ -35,9 +75,14 @@ public class JacksonMessageConverter implements MessageConverter<Object, Message
 
     @Override
     public Object deserialize(@NotNull Message<MessageDetails> message, @NotNull Class<Object> targetType) {
-        ObjectReader reader = getReader(targetType);
+        ObjectReader reader = readerCache.get(targetType);
         try {
-            return reader.readValue(message.body());
+            if (message instanceof SimpleMessage<MessageDetails>) {
+                return reader.readValue(message.body());
+            }
+            try (InputStream inputStream = message.inputStream()) {
+                return reader.readValue(inputStream);
+            }
         } catch (IOException e) {
             throw new DeserializationFailedException(message, targetType, e);
         }
@@ -50,8 +95,13 @@ public class JacksonMessageConverter implements MessageConverter<Object, Message
 
     @Override
     public @Nullable Message<MessageDetails> serialize(@NotNull Object payload, @NotNull MessageHeaders headers, @NotNull MessageDetails messageDetails) {
+        ObjectWriter writer = writerCache.get(payload.getClass());
+        if (streamSerialization) {
+            return new JacksonMessage<>(payload, writer, headers, messageDetails);
+        }
+
         try {
-            byte[] serialized = getWriter(payload.getClass()).writeValueAsBytes(payload);
+            byte[] serialized = writer.writeValueAsBytes(payload);
             return Message.builder(serialized)
                     .withDetails(messageDetails)
                     .addHeaders(headers)
@@ -60,12 +110,4 @@ public class JacksonMessageConverter implements MessageConverter<Object, Message
             throw new SerializationFailedException(payload, e);
         }
     }
-
-    private ObjectWriter getWriter(Class<?> type) {
-        return writerCache.computeIfAbsent(type, objectMapper::writerFor);
-    }
-
-    private ObjectReader getReader(Class<?> type) {
-        return readerCache.computeIfAbsent(type, objectMapper::readerFor);
-    }
 }
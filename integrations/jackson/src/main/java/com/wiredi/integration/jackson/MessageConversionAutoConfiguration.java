@@ -5,8 +5,10 @@ import com.wiredi.annotations.Order;
 import com.wiredi.annotations.Provider;
 import com.wiredi.annotations.stereotypes.AutoConfiguration;
 import com.wiredi.logging.Logging;
+import com.wiredi.runtime.Environment;
 import com.wiredi.runtime.domain.conditional.builtin.ConditionalOnBean;
 import com.wiredi.runtime.domain.conditional.builtin.ConditionalOnEnabled;
+import com.wiredi.runtime.properties.Key;
 
 @AutoConfiguration
 @ConditionalOnBean(type = ObjectMapper.class)
@@ -14,11 +16,13 @@ import com.wiredi.runtime.domain.conditional.builtin.ConditionalOnEnabled;
 public class MessageConversionAutoConfiguration {
 
     private static final Logging logger = Logging.getInstance(MessageConversionAutoConfiguration.class);
+    private static final Key STREAM_SERIALIZATION = Key.just("wiredi.jackson.stream-serialization");
 
     @Provider
     @Order(Order.LAST - 10)
-    public JacksonMessageConverter jacksonMessageConverter(ObjectMapper objectMapper) {
+    public JacksonMessageConverter jacksonMessageConverter(ObjectMapper objectMapper, Environment environment) {
         logger.debug("Setting up jackson MessageConverter");
-        return new JacksonMessageConverter(objectMapper);
+        boolean streamSerialization = environment.getProperty(STREAM_SERIALIZATION, Boolean.class, false);
+        return new JacksonMessageConverter(objectMapper, streamSerialization);
     }
 }
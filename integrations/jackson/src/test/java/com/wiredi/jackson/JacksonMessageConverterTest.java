@@ -0,0 +1,146 @@
+package com.wiredi.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wiredi.integration.jackson.JacksonMessageConverter;
+import com.wiredi.integration.jackson.exceptions.SerializationFailedException;
+import com.wiredi.runtime.messaging.Message;
+import com.wiredi.runtime.messaging.MessageDetails;
+import com.wiredi.runtime.messaging.MessageHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JacksonMessageConverterTest {
+
+    private final JacksonMessageConverter converter = new JacksonMessageConverter(new ObjectMapper());
+
+    @Test
+    public void serializedPayloadsAreWrittenIntoTheTargetWithoutClosingIt() throws IOException {
+        // Arrange
+        Message<MessageDetails> message = converter.serialize(new Item("test", 1), MessageHeaders.EMPTY, MessageDetails.NONE);
+        ClosingAwareOutputStream outputStream = new ClosingAwareOutputStream();
+
+        // Act
+        message.writeBodyTo(outputStream);
+
+        // Assert
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"test\",\"amount\":1}");
+        assertThat(outputStream.closed).isFalse();
+        assertThat(message.body()).isEqualTo(outputStream.toByteArray());
+    }
+
+    @Test
+    public void payloadsAreSerializedEagerly() {
+        // Arrange
+        MutableItem payload = new MutableItem();
+        payload.name = "before";
+
+        // Act
+        Message<MessageDetails> message = converter.serialize(payload, MessageHeaders.EMPTY, MessageDetails.NONE);
+        payload.name = "after";
+
+        // Assert
+        assertThat(new String(message.body(), StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"before\"}");
+    }
+
+    @Test
+    public void serializationErrorsSurfaceWhenSerializing() {
+        // Arrange
+        FailingItem payload = new FailingItem();
+
+        // Act
+        // Assert
+        assertThatThrownBy(() -> converter.serialize(payload, MessageHeaders.EMPTY, MessageDetails.NONE))
+                .isInstanceOf(SerializationFailedException.class);
+    }
+
+    @Test
+    public void streamedPayloadsAreWrittenIntoTheTargetWithoutClosingIt() throws IOException {
+        // Arrange
+        JacksonMessageConverter streamingConverter = new JacksonMessageConverter(new ObjectMapper(), true);
+        Message<MessageDetails> message = streamingConverter.serialize(new Item("test", 1), MessageHeaders.EMPTY, MessageDetails.NONE);
+        ClosingAwareOutputStream outputStream = new ClosingAwareOutputStream();
+
+        // Act
+        message.writeBodyTo(outputStream);
+
+        // Assert
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"test\",\"amount\":1}");
+        assertThat(outputStream.closed).isFalse();
+        assertThat(message.bodySize()).isEqualTo(-1);
+    }
+
+    @Test
+    public void streamedSerializationErrorsSurfaceWhenWritingTheBody() {
+        // Arrange
+        JacksonMessageConverter streamingConverter = new JacksonMessageConverter(new ObjectMapper(), true);
+        Message<MessageDetails> message = streamingConverter.serialize(new FailingItem(), MessageHeaders.EMPTY, MessageDetails.NONE);
+
+        // Act
+        // Assert
+        assertThatThrownBy(() -> message.writeBodyTo(new ByteArrayOutputStream()))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void messagesAreDeserializedFromTheirInputStream() {
+        // Arrange
+        byte[] json = "{\"name\":\"test\",\"amount\":1}".getBytes(StandardCharsets.UTF_8);
+        Message<MessageDetails> streamed = Message.just(new ByteArrayInputStream(json));
+        Message<MessageDetails> buffered = Message.just(json);
+
+        // Act
+        Object fromStream = converter.deserialize(streamed, (Class) Item.class);
+        Object fromBytes = converter.deserialize(buffered, (Class) Item.class);
+
+        // Assert
+        assertThat(fromStream).isEqualTo(new Item("test", 1));
+        assertThat(fromBytes).isEqualTo(new Item("test", 1));
+    }
+
+    @Test
+    public void theConverterCanBeUsedConcurrently() {
+        // Arrange
+        List<Object> payloads = List.of(new Item("test", 1), List.of(1, 2, 3), "text", 42);
+
+        // Act
+        List<byte[]> bodies = IntStream.range(0, 1_000)
+                .parallel()
+                .mapToObj(i -> converter.serialize(payloads.get(i % payloads.size()), MessageHeaders.EMPTY, MessageDetails.NONE).body())
+                .toList();
+
+        // Assert
+        assertThat(bodies).hasSize(1_000);
+        assertThat(new String(bodies.getFirst(), StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"test\",\"amount\":1}");
+    }
+
+    public record Item(String name, int amount) {
+    }
+
+    public static final class MutableItem {
+        public String name;
+    }
+
+    public static final class FailingItem {
+        public String getName() {
+            throw new IllegalStateException("Not serializable");
+        }
+    }
+
+    private static final class ClosingAwareOutputStream extends ByteArrayOutputStream {
+        private boolean closed = false;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.wiredi.runtime.benchmarks;
+
+import com.wiredi.runtime.WireContainer;
+import com.wiredi.runtime.benchmarks.domain.aspects.ProxiedService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the invocation of a method through a generated {@code $$AspectAwareProxy}.
+ * <p>
+ * The proxied method has exactly one pass-through aspect, which means that the difference between
+ * {@link #proxied()} and {@link #direct()} is the cost of the {@link com.wiredi.runtime.aspects.ExecutionChain}
+ * dispatch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public abstract class AspectDispatchBenchmark {
+
+    private WireContainer wireContainer;
+    private ProxiedService proxy;
+    private ProxiedService target;
+    private Integer input = 42;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        wireContainer = WireContainer.open();
+        proxy = wireContainer.get(ProxiedService.class);
+        target = new ProxiedService();
+        proxy.compute(input);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        wireContainer.clear();
+    }
+
+    @Benchmark
+    public Integer direct() {
+        return target.compute(input);
+    }
+
+    @Benchmark
+    public Integer proxied() {
+        return proxy.compute(input);
+    }
+
+    @Threads(1)
+    public static class SingleThreaded extends AspectDispatchBenchmark {
+    }
+
+    @Threads(Threads.MAX)
+    public static class Contended extends AspectDispatchBenchmark {
+    }
+}
@@ -0,0 +1,32 @@
+package com.wiredi.runtime.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point to run the benchmarks from within an IDE.
+ * <p>
+ * All benchmarks are run with the {@link GCProfiler}, so that allocation rates are reported next to the timings.
+ * The first argument, if present, is used as the regular expression selecting the benchmarks to run.
+ * <p>
+ * On the command line, prefer the packaged {@code benchmarks.jar}, which uses the JMH default main class
+ * and supports all JMH options.
+ */
+public final class Benchmarks {
+
+    private Benchmarks() {
+        // Utility class, prevent instantiation
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : Benchmarks.class.getPackageName())
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,62 @@
+package com.wiredi.runtime.benchmarks;
+
+import com.wiredi.runtime.aspects.AspectHandler;
+import com.wiredi.runtime.aspects.ExecutionChain;
+import com.wiredi.runtime.aspects.ExecutionContext;
+import com.wiredi.runtime.aspects.RootMethod;
+import com.wiredi.runtime.domain.provider.TypeIdentifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code ExecutionChain.execute().andReturn()} in isolation, with a varying number of
+ * pass-through {@link AspectHandler handlers}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public abstract class ExecutionChainBenchmark {
+
+    @Param({"0", "1", "4"})
+    private int handlers;
+
+    private ExecutionChain executionChain;
+    private Integer input = 42;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        RootMethod rootMethod = RootMethod.builder("compute")
+                .withParameter("input", TypeIdentifier.of(Integer.class))
+                .build(context -> context.<Integer>requireParameter("input") + 1);
+
+        List<AspectHandler> aspectHandlers = new ArrayList<>();
+        for (int i = 0; i < handlers; i++) {
+            aspectHandlers.add(ExecutionContext::proceed);
+        }
+
+        executionChain = ExecutionChain.builder(rootMethod)
+                .withProcessors(aspectHandlers)
+                .build();
+    }
+
+    @Benchmark
+    public Integer execute() {
+        return executionChain.execute()
+                .withParameter("input", input)
+                .andReturn();
+    }
+
+    @Threads(1)
+    public static class SingleThreaded extends ExecutionChainBenchmark {
+    }
+
+    @Threads(Threads.MAX)
+    public static class Contended extends ExecutionChainBenchmark {
+    }
+}
@@ -0,0 +1,78 @@
+package com.wiredi.runtime.benchmarks;
+
+import com.wiredi.runtime.WireContainer;
+import com.wiredi.runtime.benchmarks.domain.BenchmarkPlugin;
+import com.wiredi.runtime.benchmarks.domain.BenchmarkService;
+import com.wiredi.runtime.domain.provider.TypeIdentifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookup path of an already loaded {@link WireContainer}.
+ * <p>
+ * All beans are created during the setup, so the benchmarks only measure the resolution of existing singletons
+ * and not their construction.
+ * The {@link SingleThreaded} variant measures the raw cost of a lookup, whereas the {@link Contended} variant
+ * uses as many threads as there are cores, all resolving from the same container.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public abstract class WireContainerLookupBenchmark {
+
+    private static final TypeIdentifier<BenchmarkService> SERVICE_TYPE = TypeIdentifier.of(BenchmarkService.class);
+    private static final TypeIdentifier<BenchmarkPlugin> PLUGIN_TYPE = TypeIdentifier.of(BenchmarkPlugin.class);
+
+    private WireContainer wireContainer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        wireContainer = WireContainer.open();
+        wireContainer.get(SERVICE_TYPE);
+        wireContainer.getAll(PLUGIN_TYPE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        wireContainer.clear();
+    }
+
+    @Benchmark
+    public BenchmarkService getByClass() {
+        return wireContainer.get(BenchmarkService.class);
+    }
+
+    @Benchmark
+    public BenchmarkService getByTypeIdentifier() {
+        return wireContainer.get(SERVICE_TYPE);
+    }
+
+    @Benchmark
+    public Optional<BenchmarkService> tryGet() {
+        return wireContainer.tryGet(SERVICE_TYPE);
+    }
+
+    @Benchmark
+    public Optional<Runnable> tryGetMissing() {
+        return wireContainer.tryGet(Runnable.class);
+    }
+
+    @Benchmark
+    public List<BenchmarkPlugin> getAll() {
+        return wireContainer.getAll(PLUGIN_TYPE);
+    }
+
+    @Threads(1)
+    public static class SingleThreaded extends WireContainerLookupBenchmark {
+    }
+
+    @Threads(Threads.MAX)
+    public static class Contended extends WireContainerLookupBenchmark {
+    }
+}
@@ -0,0 +1,10 @@
+package com.wiredi.runtime.benchmarks.domain;
+
+/**
+ * A plugin style interface with multiple implementations, used to measure {@code getAll} lookups.
+ */
+public interface BenchmarkPlugin {
+
+    int apply(int input);
+
+}
@@ -0,0 +1,11 @@
+package com.wiredi.runtime.benchmarks.domain;
+
+import com.wiredi.annotations.Wire;
+
+@Wire
+public class BenchmarkRepository {
+
+    public int lookup(int key) {
+        return key * 31;
+    }
+}
@@ -0,0 +1,17 @@
+package com.wiredi.runtime.benchmarks.domain;
+
+import com.wiredi.annotations.Wire;
+
+@Wire
+public class BenchmarkService {
+
+    private final BenchmarkRepository repository;
+
+    public BenchmarkService(BenchmarkRepository repository) {
+        this.repository = repository;
+    }
+
+    public int compute(int input) {
+        return repository.lookup(input) + 1;
+    }
+}
@@ -0,0 +1,14 @@
+package com.wiredi.runtime.benchmarks.domain;
+
+import com.wiredi.annotations.Order;
+import com.wiredi.annotations.Wire;
+
+@Wire
+@Order(2)
+public class SecondBenchmarkPlugin implements BenchmarkPlugin {
+
+    @Override
+    public int apply(int input) {
+        return input + 2;
+    }
+}
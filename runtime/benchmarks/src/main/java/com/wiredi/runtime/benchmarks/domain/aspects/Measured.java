@@ -0,0 +1,13 @@
+package com.wiredi.runtime.benchmarks.domain.aspects;
+
+import com.wiredi.annotations.aspects.AspectTarget;
+
+import java.lang.annotation.*;
+
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+@Inherited
+@Documented
+@AspectTarget
+public @interface Measured {
+}
@@ -0,0 +1,17 @@
+package com.wiredi.runtime.benchmarks.domain.aspects;
+
+import com.wiredi.annotations.Wire;
+import com.wiredi.annotations.aspects.Aspect;
+import com.wiredi.runtime.aspects.ExecutionContext;
+
+/**
+ * A pass-through aspect, so that the benchmarks only measure the cost of the aspect dispatch itself.
+ */
+@Wire
+public class MeasuredAspect {
+
+    @Aspect(around = Measured.class)
+    public Object measure(ExecutionContext context) {
+        return context.proceed();
+    }
+}
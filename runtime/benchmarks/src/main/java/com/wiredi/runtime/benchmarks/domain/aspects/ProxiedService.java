@@ -0,0 +1,12 @@
+package com.wiredi.runtime.benchmarks.domain.aspects;
+
+import com.wiredi.annotations.Wire;
+
+@Wire(proxy = true)
+public class ProxiedService {
+
+    @Measured
+    public Integer compute(Integer input) {
+        return input + 1;
+    }
+}
@@ -0,0 +1,224 @@
+package com.wiredi.runtime;
+
+import com.wiredi.runtime.domain.conditional.ConditionEvaluation;
+import com.wiredi.runtime.domain.provider.IdentifiableProvider;
+import com.wiredi.runtime.domain.provider.TypeIdentifier;
+import com.wiredi.runtime.domain.provider.condition.LoadCondition;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * The dependencies between conditional providers, grouped into levels of independent components.
+ * <p>
+ * A conditional provider depends on another conditional provider, if its {@link LoadCondition} announces a type
+ * (see {@link LoadCondition#collectDependencies}) that the other provider wires.
+ * Types are matched by their raw type, including all generic arguments.
+ * This may result in more dependencies than strictly required, but never in fewer than announced.
+ * <p>
+ * Providers that depend on each other, directly or transitively, form one component.
+ * Every component only depends on components of previous levels.
+ * Once all previous levels are applied, the components of a level can be evaluated independently of each other.
+ * Components, and the providers within a component, maintain the order of the providers the graph was built from.
+ */
+final class ConditionalProviderGraph {
+
+    @NotNull
+    private final List<List<Component>> levels;
+
+    private ConditionalProviderGraph(@NotNull List<List<Component>> levels) {
+        this.levels = levels;
+    }
+
+    /**
+     * Builds the graph for the conditional providers.
+     * <p>
+     * The evaluation is used to resolve the {@link ConditionEvaluation.Context} of each provider, which means that
+     * all contexts are created while building the graph.
+     *
+     * @param providers           the ordered conditional providers
+     * @param conditionEvaluation the evaluation the conditions will be tested with
+     * @return the graph of the providers
+     */
+    @NotNull
+    static ConditionalProviderGraph build(
+            @NotNull List<ProviderCatalog.ProviderScope> providers,
+            @NotNull ConditionEvaluation conditionEvaluation
+    ) {
+        Map<Class<?>, BitSet> providersByType = new HashMap<>();
+        for (int i = 0; i < providers.size(); i++) {
+            IdentifiableProvider<?> provider = providers.get(i).provider();
+            int index = i;
+            providersByType.computeIfAbsent(provider.type().getRootType(), type -> new BitSet()).set(index);
+            for (TypeIdentifier<?> wireType : provider.additionalWireTypes()) {
+                providersByType.computeIfAbsent(wireType.getRootType(), type -> new BitSet()).set(index);
+            }
+        }
+
+        int[][] dependencies = new int[providers.size()][];
+        for (int i = 0; i < providers.size(); i++) {
+            IdentifiableProvider<?> provider = providers.get(i).provider();
+            LoadCondition condition = Objects.requireNonNull(provider.condition());
+            BitSet providerDependencies = new BitSet();
+            condition.collectDependencies(
+                    conditionEvaluation.access(provider),
+                    type -> collectProviders(type, providersByType, providerDependencies)
+            );
+            // A provider may depend on the types it wires itself, like with @ConditionalOnMissingBean
+            providerDependencies.clear(i);
+            dependencies[i] = providerDependencies.stream().toArray();
+        }
+
+        return new ConditionalProviderGraph(new ComponentResolver(providers, dependencies).resolveLevels());
+    }
+
+    private static void collectProviders(
+            @NotNull TypeIdentifier<?> type,
+            @NotNull Map<Class<?>, BitSet> providersByType,
+            @NotNull BitSet result
+    ) {
+        BitSet providers = providersByType.get(type.getRootType());
+        if (providers != null) {
+            result.or(providers);
+        }
+        for (TypeIdentifier<?> genericType : type.getGenericTypes()) {
+            collectProviders(genericType, providersByType, result);
+        }
+    }
+
+    /**
+     * @return the levels of components, in the order in which they have to be applied
+     */
+    @NotNull
+    public List<List<Component>> levels() {
+        return levels;
+    }
+
+    /**
+     * Providers that have to be evaluated together, as they depend on each other.
+     *
+     * @param providers the ordered providers of the component
+     */
+    record Component(@NotNull List<ProviderCatalog.ProviderScope> providers) {
+
+        /**
+         * @return true, if the component consists of multiple providers depending on each other
+         */
+        public boolean isCyclic() {
+            return providers.size() > 1;
+        }
+    }
+
+    /**
+     * Resolves the strongly connected components of the graph using Tarjan's algorithm.
+     * <p>
+     * Tarjan's algorithm completes every component after all components it depends on, which allows to determine the
+     * level of a component once it is completed.
+     */
+    private static final class ComponentResolver {
+
+        @NotNull
+        private final List<ProviderCatalog.ProviderScope> providers;
+        private final int[][] dependencies;
+        private final int[] index;
+        private final int[] lowLink;
+        private final int[] componentOf;
+        private final boolean[] onStack;
+        private final Deque<Integer> stack = new ArrayDeque<>();
+        private final List<int[]> components = new ArrayList<>();
+        private final List<Integer> componentLevels = new ArrayList<>();
+        private int nextIndex = 0;
+
+        private ComponentResolver(
+                @NotNull List<ProviderCatalog.ProviderScope> providers,
+                int[][] dependencies
+        ) {
+            this.providers = providers;
+            this.dependencies = dependencies;
+            this.index = new int[providers.size()];
+            this.lowLink = new int[providers.size()];
+            this.componentOf = new int[providers.size()];
+            this.onStack = new boolean[providers.size()];
+            Arrays.fill(index, -1);
+        }
+
+        @NotNull
+        private List<List<Component>> resolveLevels() {
+            for (int node = 0; node < providers.size(); node++) {
+                if (index[node] == -1) {
+                    connect(node);
+                }
+            }
+
+            List<List<int[]>> levelNodes = new ArrayList<>();
+            for (int component = 0; component < components.size(); component++) {
+                int level = componentLevels.get(component);
+                while (levelNodes.size() <= level) {
+                    levelNodes.add(new ArrayList<>());
+                }
+                levelNodes.get(level).add(components.get(component));
+            }
+
+            List<List<Component>> result = new ArrayList<>(levelNodes.size());
+            for (List<int[]> level : levelNodes) {
+                level.sort(Comparator.comparingInt(nodes -> nodes[0]));
+                List<Component> levelComponents = new ArrayList<>(level.size());
+                for (int[] nodes : level) {
+                    List<ProviderCatalog.ProviderScope> componentProviders = new ArrayList<>(nodes.length);
+                    for (int node : nodes) {
+                        componentProviders.add(providers.get(node));
+                    }
+                    levelComponents.add(new Component(componentProviders));
+                }
+                result.add(levelComponents);
+            }
+            return result;
+        }
+
+        private void connect(int node) {
+            index[node] = nextIndex;
+            lowLink[node] = nextIndex;
+            nextIndex++;
+            stack.push(node);
+            onStack[node] = true;
+
+            for (int dependency : dependencies[node]) {
+                if (index[dependency] == -1) {
+                    connect(dependency);
+                    lowLink[node] = Math.min(lowLink[node], lowLink[dependency]);
+                } else if (onStack[dependency]) {
+                    lowLink[node] = Math.min(lowLink[node], index[dependency]);
+                }
+            }
+
+            if (lowLink[node] == index[node]) {
+                completeComponent(node);
+            }
+        }
+
+        private void completeComponent(int root) {
+            int componentIndex = components.size();
+            List<Integer> nodes = new ArrayList<>();
+            int member;
+            do {
+                member = stack.pop();
+                onStack[member] = false;
+                componentOf[member] = componentIndex;
+                nodes.add(member);
+            } while (member != root);
+
+            int level = 0;
+            for (int node : nodes) {
+                for (int dependency : dependencies[node]) {
+                    int dependencyComponent = componentOf[dependency];
+                    if (dependencyComponent != componentIndex) {
+                        level = Math.max(level, componentLevels.get(dependencyComponent) + 1);
+                    }
+                }
+            }
+
+            components.add(nodes.stream().mapToInt(Integer::intValue).sorted().toArray());
+            componentLevels.add(level);
+        }
+    }
+}
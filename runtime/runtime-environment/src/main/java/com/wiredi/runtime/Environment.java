@@ -20,7 +20,6 @@ import com.wiredi.runtime.time.Timed;
 import com.wiredi.runtime.types.TypeConverter;
 import com.wiredi.runtime.types.TypeMapper;
 import com.wiredi.runtime.types.exceptions.InvalidPropertyTypeException;
-import com.wiredi.runtime.values.SafeReference;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -375,7 +374,7 @@ public class Environment {
 
     @NotNull
     public <T> List<T> getAllProperties(Key key, Class<T> type) {
-        return properties.getAll(key, raw -> typeMapper.convert(raw, type));
+        return properties.getAll(key, type);
     }
 
     /**
@@ -415,16 +414,14 @@ public class Environment {
      */
     @NotNull
     public String resolve(String content) {
-        List<Placeholder> placeholders = placeholderResolver.resolveAllIn(content);
-        SafeReference<String> target = new SafeReference<>(content);
-        placeholders.forEach(placeholder -> resolvePlaceholder(placeholder, target));
-        return target.getOrThrow(() -> new IllegalStateException("Could not resolve the key " + content));
+        return placeholderResolver.template(content).resolve(this::resolvePlaceholder);
     }
 
-    private void resolvePlaceholder(Placeholder placeholder, SafeReference<String> target) {
-        getExpressionResolverFor(placeholder)
+    @Nullable
+    private String resolvePlaceholder(Placeholder placeholder) {
+        return getExpressionResolverFor(placeholder)
                 .flatMap(resolver -> resolver.resolve(placeholder, this))
-                .ifPresent(resolved -> target.update(value -> placeholder.replaceIn(value, resolved)));
+                .orElse(null);
     }
 
     @NotNull
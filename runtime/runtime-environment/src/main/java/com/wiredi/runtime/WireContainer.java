@@ -12,6 +12,8 @@ import com.wiredi.runtime.domain.provider.QualifiedTypeIdentifier;
 import com.wiredi.runtime.domain.provider.TypeIdentifier;
 import com.wiredi.runtime.domain.provider.WrappingProvider;
 import com.wiredi.runtime.domain.provider.condition.LoadCondition;
+import com.wiredi.runtime.domain.provider.sources.StaticWiringIdentifiableProviderSource;
+import com.wiredi.runtime.domain.provider.wiring.StaticWiring;
 import com.wiredi.runtime.properties.PropertyLoader;
 import com.wiredi.runtime.qualifier.QualifierType;
 import com.wiredi.runtime.resources.ResourceLoader;
@@ -56,6 +58,7 @@ public class WireContainer {
 
     @NotNull
     private static final Logging logger = Logging.getInstance(WireContainer.class);
+    private static final StaticWiring[] NO_STATIC_WIRINGS = new StaticWiring[0];
     @NotNull
     private final Value<OnDemandInjector> onDemandInjector = Value.lazy(() -> new OnDemandInjector(this));
     @NotNull
@@ -68,6 +71,10 @@ public class WireContainer {
     private final ScopeRegistry scopeRegistry = new ScopeRegistry();
     @NotNull
     private final WireContainerInitializer initializer;
+    @NotNull
+    private final List<Supplier<? extends StaticWiring>> staticWiringFactories;
+    @NotNull
+    private volatile StaticWiring[] staticWirings = NO_STATIC_WIRINGS;
 
     /**
      * Creates a new WireContext with the specified environment.
@@ -79,6 +86,7 @@ public class WireContainer {
         this.environment = environment;
         this.startupDiagnostics = new StartupDiagnostics();
         this.initializer = WireContainerInitializer.preconfigured();
+        this.staticWiringFactories = List.of();
         this.exceptionHandler.setWireContext(this);
         this.scopeRegistry.link(this);
     }
@@ -97,11 +105,39 @@ public class WireContainer {
             @NotNull Environment environment,
             @NotNull StartupDiagnostics startupDiagnostics,
             @NotNull WireContainerInitializer initializer
+    ) {
+        this(environment, startupDiagnostics, initializer, List.of());
+    }
+
+    /**
+     * Creates a new WireContext with the specified components and static wirings.
+     * <p>
+     * The static wirings are constructed through their factories once the WireContainer is loaded and dropped once it
+     * is cleared.
+     * While loaded, types that are statically wired are resolved through the static wirings, before consulting the
+     * scopes.
+     * It is package private and used by the {@link WireContainerBuilder}
+     *
+     * @param environment           the environment to use
+     * @param startupDiagnostics    the startup diagnostics to use
+     * @param initializer           the container initializer to use
+     * @param staticWiringFactories the factories of the static wirings to resolve types through
+     */
+    WireContainer(
+            @NotNull Environment environment,
+            @NotNull StartupDiagnostics startupDiagnostics,
+            @NotNull WireContainerInitializer initializer,
+            @NotNull List<Supplier<? extends StaticWiring>> staticWiringFactories
     ) {
         this.environment = environment;
         this.exceptionHandler.setWireContext(this);
         this.startupDiagnostics = startupDiagnostics;
-        this.initializer = initializer;
+        this.staticWiringFactories = List.copyOf(staticWiringFactories);
+        if (this.staticWiringFactories.isEmpty()) {
+            this.initializer = initializer;
+        } else {
+            this.initializer = new WireContainerInitializer(new StaticWiringIdentifiableProviderSource(() -> List.of(staticWirings), initializer.getSources()));
+        }
         this.scopeRegistry.link(this);
     }
 
@@ -371,6 +407,7 @@ public class WireContainer {
         is(isNotLoaded(), () -> "The WireContainer is already loaded");
         logger.debug(() -> "Loading WireContainer");
         return startupDiagnostics.measure("WireContainer.load", () -> {
+                    staticWirings = constructStaticWirings();
                     announce(IdentifiableProvider.singleton(environment, TypeIdentifier.just(Environment.class)));
                     announce(IdentifiableProvider.singleton(environment.typeMapper(), TypeIdentifier.just(TypeMapper.class)));
                     announce(IdentifiableProvider.singleton(environment.resourceLoader(), TypeIdentifier.just(ResourceLoader.class)));
@@ -392,11 +429,25 @@ public class WireContainer {
                 .then(startupDiagnostics::seal);
     }
 
+    @NotNull
+    private StaticWiring[] constructStaticWirings() {
+        if (staticWiringFactories.isEmpty()) {
+            return NO_STATIC_WIRINGS;
+        }
+
+        StaticWiring[] result = new StaticWiring[staticWiringFactories.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = staticWiringFactories.get(i).get();
+        }
+        return result;
+    }
+
     public Timed clear() {
         is(isLoaded(), () -> "The WiredContainer is not loaded");
         logger.debug(() -> "Clearing the WireContainer");
         return Timed.of(() -> {
             scopeRegistry.tearDown();
+            staticWirings = NO_STATIC_WIRINGS;
             onDemandInjector.ifPresent(OnDemandInjector::clear);
         }).then(time -> logger.debug(() -> "The WireContainer has been cleared in " + time));
     }
@@ -429,11 +480,15 @@ public class WireContainer {
 
     /* ############ Try Get methods ############ */
     public <T> Optional<T> tryGet(@NotNull final Class<T> type) {
+        T instance = staticallyWired(type);
+        if (instance != null) {
+            return Optional.of(instance);
+        }
         return tryGet(TypeIdentifier.of(type));
     }
 
     public <T> Optional<T> tryGet(@NotNull final TypeIdentifier<T> type) {
-        return scopeRegistry.determineScopeOf(type).tryGet(type);
+        return scopeRegistry.tryGetInstance(type);
     }
 
     public <T> Optional<T> tryGet(@NotNull final QualifiedTypeIdentifier<T> qualifiedTypeIdentifier) {
@@ -442,17 +497,32 @@ public class WireContainer {
 
     /* ############ Get methods ############ */
     public <T> T get(@NotNull final Class<T> type) {
+        T instance = staticallyWired(type);
+        if (instance != null) {
+            return instance;
+        }
         return get(TypeIdentifier.of(type));
     }
 
     public <T> T get(@NotNull final TypeIdentifier<T> type) {
-        return scopeRegistry.determineScopeOf(type).get(type);
+        return scopeRegistry.getInstance(type);
     }
 
     public <T> T get(@NotNull final QualifiedTypeIdentifier<T> type) {
         return scopeRegistry.determineScopeOf(type).get(type);
     }
 
+    @Nullable
+    private <T> T staticallyWired(@NotNull final Class<T> type) {
+        for (StaticWiring staticWiring : staticWirings) {
+            T instance = staticWiring.get(type);
+            if (instance != null) {
+                return instance;
+            }
+        }
+        return null;
+    }
+
     /* ############ Get all methods ############ */
     public <T> List<T> getAll(Class<T> type) {
         return getAll(TypeIdentifier.of(type));
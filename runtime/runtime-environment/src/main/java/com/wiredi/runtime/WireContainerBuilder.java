@@ -2,6 +2,7 @@ package com.wiredi.runtime;
 
 import com.wiredi.runtime.domain.ScopeRegistry;
 import com.wiredi.runtime.domain.provider.IdentifiableProvider;
+import com.wiredi.runtime.domain.provider.wiring.StaticWiring;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -10,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Builder for creating and configuring {@link WireContainer} instances.
@@ -37,6 +39,7 @@ public class WireContainerBuilder {
     private WireContainerInitializer initializer = WireContainerInitializer.preconfigured();
 
     private final List<IdentifiableProvider<?>> providers = new ArrayList<>();
+    private final List<Supplier<? extends StaticWiring>> staticWirings = new ArrayList<>();
 
     private WireContainerBuilder(@NotNull Environment environment) {
         this.environment = environment;
@@ -135,6 +138,38 @@ public class WireContainerBuilder {
         return this;
     }
 
+    /**
+     * Adds all {@link StaticWiring} implementations registered as a service, generated by the annotation processor in
+     * strict mode.
+     * <p>
+     * The statically wired beans are constructed when the WireContainer is loaded.
+     *
+     * @return this builder instance
+     * @see #withStaticWiring(Supplier)
+     */
+    @NotNull
+    public WireContainerBuilder withStaticWiring() {
+        this.staticWirings.addAll(StaticWiring.factories());
+        return this;
+    }
+
+    /**
+     * Adds a {@link StaticWiring} to the WireContainer.
+     * <p>
+     * The WireContainer constructs a new static wiring through the {@code staticWiring} factory every time it is loaded
+     * and drops it once it is cleared.
+     * While loaded, all statically wired types are resolved through the static wiring, without consulting the scopes.
+     * The generated providers of statically wired beans are replaced by the providers of the static wiring.
+     *
+     * @param staticWiring the factory of the static wiring to add
+     * @return this builder instance
+     */
+    @NotNull
+    public WireContainerBuilder withStaticWiring(@NotNull Supplier<? extends StaticWiring> staticWiring) {
+        this.staticWirings.add(staticWiring);
+        return this;
+    }
+
     /**
      * Builds a new WireContext with the configured options.
      * The WireContext is not loaded.
@@ -146,7 +181,8 @@ public class WireContainerBuilder {
         return new WireContainer(
                 environment,
                 startupDiagnostics,
-                initializer
+                initializer,
+                staticWirings
         );
     }
 
@@ -44,6 +44,10 @@ public class WireContainerInitializer {
     private static final String ROUND_LOGGING_PREFIX = "Applied %s conditional providers in %s rounds.";
     @NotNull
     private static final String ROUND_WARNING_SUFFIX = " Consider to optimize the condition orders to reduce the rounds required for conditional checks.";
+    /**
+     * The number of independent conditional providers from which on the conditions of a level are evaluated in parallel.
+     */
+    private static final int PARALLEL_EVALUATION_THRESHOLD = 32;
     @NotNull
     private final List<@NotNull IdentifiableProviderSource> sources = new ArrayList<>();
 
@@ -131,6 +135,16 @@ public class WireContainerInitializer {
         this.sources.addAll(sources);
     }
 
+    /**
+     * Returns the current provider sources of the initializer.
+     *
+     * @return an unmodifiable copy of the provider sources
+     */
+    @NotNull
+    public List<@NotNull IdentifiableProviderSource> getSources() {
+        return List.copyOf(this.sources);
+    }
+
     /**
      * Loads all available {@link IdentifiableProvider}.
      *
@@ -256,12 +270,13 @@ public class WireContainerInitializer {
      * This method processes all conditional providers in the catalog by:
      * <ol>
      *   <li>Sorting them based on their order</li>
-     *   <li>Evaluating their conditions</li>
+     *   <li>Building a {@link ConditionalProviderGraph} of the dependencies between their conditions</li>
+     *   <li>Evaluating their conditions, level by level of the graph</li>
      *   <li>Registering those whose conditions are met</li>
      * </ol>
      * <p>
-     * The method may perform multiple rounds of condition evaluation as some conditions
-     * may depend on beans that are registered by other conditional providers.
+     * Every level of the graph is counted as one round. Providers depending on each other and conditions depending on
+     * types they did not announce require additional rounds.
      *
      * @param wireContainer   the wire container to register providers with
      * @param providerCatalog the catalog containing conditional providers
@@ -283,8 +298,9 @@ public class WireContainerInitializer {
 
         // Sort once upfront for better condition resolution order
         List<ProviderCatalog.ProviderScope> sortedProviders = new ArrayList<>(OrderedComparator.sorted(conditionalProviders));
+        ConditionalProviderGraph graph = ConditionalProviderGraph.build(sortedProviders, conditionEvaluation);
         Counter appliedConditionalProviders = applyConditionals(
-                sortedProviders,
+                graph,
                 additionalRounds,
                 conditionEvaluation,
                 providerCatalog
@@ -320,6 +336,72 @@ public class WireContainerInitializer {
         }
     }
 
+    /**
+     * Applies conditional providers level by level of the dependency graph.
+     * <p>
+     * The conditions of all components of a level, which do not depend on each other, are evaluated once and
+     * in parallel.
+     * Afterward, the providers whose conditions are met are registered in their original order.
+     * Components of providers depending on each other are applied in multiple rounds.
+     * <p>
+     * Conditions might depend on types they did not announce.
+     * If any provider has been applied, the providers that did not match are therefore applied in multiple rounds
+     * once more.
+     *
+     * @param graph               the graph of the conditional providers
+     * @param round               a counter tracking the number of rounds
+     * @param conditionEvaluation the evaluation context for conditions
+     * @param providerCatalog     the catalog to register successful providers with
+     * @return a counter indicating how many providers were successfully applied
+     */
+    private Counter applyConditionals(
+            @NotNull ConditionalProviderGraph graph,
+            @NotNull Counter round,
+            @NotNull ConditionEvaluation conditionEvaluation,
+            @NotNull ProviderCatalog providerCatalog
+    ) {
+        Counter applied = new Counter();
+        List<ProviderCatalog.ProviderScope> notMatched = new ArrayList<>();
+
+        for (List<ConditionalProviderGraph.Component> level : graph.levels()) {
+            round.increment();
+            logger.trace(() -> "Applying conditional providers; Round " + round.get());
+            List<ProviderCatalog.ProviderScope> independentProviders = new ArrayList<>(level.size());
+            for (ConditionalProviderGraph.Component component : level) {
+                if (!component.isCyclic()) {
+                    independentProviders.add(component.providers().getFirst());
+                }
+            }
+
+            Stream<ProviderCatalog.ProviderScope> evaluations = independentProviders.size() >= PARALLEL_EVALUATION_THRESHOLD
+                    ? independentProviders.parallelStream()
+                    : independentProviders.stream();
+            evaluations.forEach(providerScope -> evaluate(providerScope, conditionEvaluation));
+
+            for (ProviderCatalog.ProviderScope providerScope : independentProviders) {
+                if (conditionEvaluation.access(providerScope.provider()).isMatched()) {
+                    register(providerScope, providerCatalog, applied);
+                } else {
+                    notMatched.add(providerScope);
+                }
+            }
+
+            for (ConditionalProviderGraph.Component component : level) {
+                if (component.isCyclic()) {
+                    notMatched.addAll(applyInRounds(component.providers(), round, conditionEvaluation, providerCatalog, applied));
+                }
+            }
+        }
+
+        if (applied.get() > 0 && !notMatched.isEmpty()) {
+            OrderedComparator.sort(notMatched);
+            applyInRounds(notMatched, round, conditionEvaluation, providerCatalog, applied);
+        }
+
+        logger.trace(() -> "Applied " + applied.get() + " conditions in round " + round.get());
+        return applied;
+    }
+
     /**
      * Applies conditional providers in multiple rounds.
      * <p>
@@ -333,46 +415,33 @@ public class WireContainerInitializer {
      * This multi-round approach allows for dependencies between conditional providers,
      * where one provider's registration might satisfy the condition for another provider.
      *
-     * @param identifiableProviders the list of providers with their scopes to process
+     * @param identifiableProviders the ordered list of providers with their scopes to process
      * @param round                 a counter tracking the number of rounds
      * @param conditionEvaluation   the evaluation context for conditions
      * @param providerCatalog       the catalog to register successful providers with
-     * @return a counter indicating how many providers were successfully applied
+     * @param applied               a counter of how many providers were successfully applied
+     * @return the providers whose conditions were not met
      */
-    private Counter applyConditionals(
+    private List<ProviderCatalog.ProviderScope> applyInRounds(
             @NotNull List<ProviderCatalog.ProviderScope> identifiableProviders,
             @NotNull Counter round,
             @NotNull ConditionEvaluation conditionEvaluation,
-            @NotNull ProviderCatalog providerCatalog
+            @NotNull ProviderCatalog providerCatalog,
+            @NotNull Counter applied
     ) {
-        Counter applied = new Counter();
-        List<ProviderCatalog.ProviderScope> leftoverProviders = new ArrayList<>(OrderedComparator.sorted(identifiableProviders));
+        List<ProviderCatalog.ProviderScope> leftoverProviders = new ArrayList<>(identifiableProviders);
         List<ProviderCatalog.ProviderScope> currentNotMatched = new ArrayList<>(leftoverProviders.size());
         boolean anyApplied;
-        logger.trace(() -> "Applying conditional providers; Round " + round.get());
 
         do {
             anyApplied = false;
             round.increment();
+            logger.trace(() -> "Applying conditional providers; Round " + round.get());
             currentNotMatched.clear(); // Reuse the list instead of creating new ones
 
             for (ProviderCatalog.ProviderScope providerScope : leftoverProviders) {
-                IdentifiableProvider<?> provider = providerScope.provider();
-                LoadCondition condition = Objects.requireNonNull(provider.condition());
-                ConditionEvaluation.Context context = conditionEvaluation.access(provider);
-                context.reset();
-                condition.test(context);
-
-                if (context.isMatched()) {
-                    try {
-                        providerScope.register();
-                        providerCatalog.addSuccessfullyRegisteredProvider(provider);
-                        applied.increment();
-                        anyApplied = true;
-                        logger.trace(() -> "Applied conditional provider " + provider.getClass().getSimpleName());
-                    } catch (Throwable throwable) {
-                        providerCatalog.noteError(provider, throwable);
-                    }
+                if (evaluate(providerScope, conditionEvaluation)) {
+                    anyApplied |= register(providerScope, providerCatalog, applied);
                 } else {
                     currentNotMatched.add(providerScope);
                 }
@@ -385,7 +454,36 @@ public class WireContainerInitializer {
             currentNotMatched = temp;
         } while (anyApplied && !leftoverProviders.isEmpty());
 
-        logger.trace(() -> "Applied " + applied.get() + " conditions in round " + round.get());
-        return applied;
+        return leftoverProviders;
+    }
+
+    private boolean evaluate(
+            @NotNull ProviderCatalog.ProviderScope providerScope,
+            @NotNull ConditionEvaluation conditionEvaluation
+    ) {
+        IdentifiableProvider<?> provider = providerScope.provider();
+        LoadCondition condition = Objects.requireNonNull(provider.condition());
+        ConditionEvaluation.Context context = conditionEvaluation.access(provider);
+        context.reset();
+        condition.test(context);
+        return context.isMatched();
+    }
+
+    private boolean register(
+            @NotNull ProviderCatalog.ProviderScope providerScope,
+            @NotNull ProviderCatalog providerCatalog,
+            @NotNull Counter applied
+    ) {
+        IdentifiableProvider<?> provider = providerScope.provider();
+        try {
+            providerScope.register();
+            providerCatalog.addSuccessfullyRegisteredProvider(provider);
+            applied.increment();
+            logger.trace(() -> "Applied conditional provider " + provider.getClass().getSimpleName());
+            return true;
+        } catch (Throwable throwable) {
+            providerCatalog.noteError(provider, throwable);
+            return false;
+        }
     }
 }
@@ -5,8 +5,9 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.LinkedBlockingDeque;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 
 /**
  * An ExecutionChain is a chain of responsibility pattern implementation.
@@ -23,6 +24,11 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * the {@link #execute()} method must be called. This will construct a new {@link ExecutionStage}
  * in which the context of a concrete execution can be modified.
  * <p>
+ * Internally, the chain is held in a compiled form: an immutable array of all handlers, followed by the root method.
+ * This array is only rebuilt if handlers are added or replaced. An execution walks the array by index and stores
+ * the parameters of the root method in positional slots, so executing the chain does not require any locks and
+ * only allocates the per-execution context.
+ * <p>
  * Though this class is meant to be used for aspect executions, it can be used standalone.
  *
  * @see RootMethod
@@ -33,21 +39,35 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 public class ExecutionChain {
 
     /**
-     * The original method which will be invoked after the chain elements in the {@link #queue}
+     * The original method which will be invoked after the chain elements in the {@link #handlers}
      */
     @NotNull
     private final RootMethod rootMethod;
 
+    /**
+     * The names of the parameters declared by the {@link #rootMethod}, which determine the parameter slots.
+     */
+    @NotNull
+    private final String[] parameterNames;
+
+    /**
+     * The compiled chain: all aspect handlers, followed by the {@link #rootMethod}.
+     * <p>
+     * The array is never modified after it has been published. Any modification of the chain builds a new array,
+     * so executions only need a volatile read and are not affected by concurrent modifications.
+     */
     @NotNull
-    private final Deque<AspectHandler> queue = new LinkedBlockingDeque<>();
+    private volatile AspectHandler[] handlers;
 
     @NotNull
-    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock writeLock = new ReentrantLock();
 
     public ExecutionChain(
             @NotNull RootMethod rootFunction
     ) {
         this.rootMethod = rootFunction;
+        this.parameterNames = rootFunction.parameterTypes().keySet().toArray(String[]::new);
+        this.handlers = new AspectHandler[]{rootFunction};
     }
 
     @NotNull
@@ -57,13 +77,22 @@ public class ExecutionChain {
 
     @NotNull
     public ExecutionChain prepend(@NotNull AspectHandler handler) {
-        write(() -> this.queue.addFirst(handler));
+        write(current -> {
+            List<AspectHandler> result = new ArrayList<>(current.size() + 1);
+            result.add(handler);
+            result.addAll(current);
+            return result;
+        });
         return this;
     }
 
     @NotNull
     public ExecutionChain append(@NotNull AspectHandler handler) {
-        write(() -> this.queue.addLast(handler));
+        write(current -> {
+            List<AspectHandler> result = new ArrayList<>(current);
+            result.add(handler);
+            return result;
+        });
         return this;
     }
 
@@ -72,10 +101,7 @@ public class ExecutionChain {
                 .filter(it -> it.appliesTo(this.rootMethod))
                 .toList();
 
-        write(() -> {
-            this.queue.clear();
-            this.queue.addAll(applicableHandlers);
-        });
+        write(current -> applicableHandlers);
         return this;
     }
 
@@ -86,17 +112,25 @@ public class ExecutionChain {
 
     @NotNull
     public AspectHandler tail() {
-        return this.queue.getLast();
+        AspectHandler[] current = this.handlers;
+        if (current.length == 1) {
+            throw new NoSuchElementException();
+        }
+        return current[current.length - 2];
     }
 
     @NotNull
     public AspectHandler head() {
-        return this.queue.getFirst();
+        AspectHandler[] current = this.handlers;
+        if (current.length == 1) {
+            throw new NoSuchElementException();
+        }
+        return current[0];
     }
 
     @Nullable
     public <S> S execute(@NotNull Map<String, Object> parameters) {
-        Object result = doExecute(parameters);
+        Object result = doExecute(new ExecutionChainParameters(parameterNames, parameters));
         if (result == null) {
             return null;
         } else {
@@ -106,7 +140,7 @@ public class ExecutionChain {
 
     @Nullable
     public <S> S execute(@NotNull Map<String, Object> parameters, @NotNull Class<S> type) {
-        Object result = doExecute(parameters);
+        Object result = doExecute(new ExecutionChainParameters(parameterNames, parameters));
         if (result == null) {
             return null;
         } else {
@@ -120,18 +154,8 @@ public class ExecutionChain {
     }
 
     @Nullable
-    private Object doExecute(@NotNull Map<String, Object> parameters) {
-        ArrayDeque<AspectHandler> handlers;
-        try {
-            lock.readLock().lock();
-            handlers = new ArrayDeque<>(this.queue.size() + 1);
-            handlers.addAll(this.queue);
-            handlers.addLast(this.rootMethod);
-        } finally {
-            lock.readLock().unlock();
-        }
-
-        ExecutionContext executionContext = new ExecutionContext(rootMethod, new ExecutionChainParameters(parameters), handlers);
+    private Object doExecute(@NotNull ExecutionChainParameters parameters) {
+        ExecutionContext executionContext = new ExecutionContext(rootMethod, parameters, this.handlers);
         try {
             return executionContext.proceed();
         } finally {
@@ -139,12 +163,21 @@ public class ExecutionChain {
         }
     }
 
-    private void write(Runnable runnable) {
-        lock.writeLock().lock();
+    /**
+     * Modifies the aspect handlers of this chain and compiles the result into a new {@link #handlers} array.
+     *
+     * @param modification a function receiving the current aspect handlers (without the root method) and returning the new ones
+     */
+    private void write(@NotNull Function<List<AspectHandler>, List<AspectHandler>> modification) {
+        writeLock.lock();
         try {
-            runnable.run();
+            AspectHandler[] current = this.handlers;
+            List<AspectHandler> aspectHandlers = modification.apply(Arrays.asList(current).subList(0, current.length - 1));
+            AspectHandler[] compiled = aspectHandlers.toArray(new AspectHandler[aspectHandlers.size() + 1]);
+            compiled[compiled.length - 1] = rootMethod;
+            this.handlers = compiled;
         } finally {
-            lock.writeLock().unlock();
+            writeLock.unlock();
         }
     }
 
@@ -208,18 +241,30 @@ public class ExecutionChain {
     }
 
     public class ExecutionStage {
+        /**
+         * The parameters staged for the executions.
+         * <p>
+         * Every execution works on a copy, so that handlers changing parameters do not affect later executions.
+         */
         @NotNull
-        private final Map<String, Object> content = new HashMap<>();
+        private final ExecutionChainParameters parameters = new ExecutionChainParameters(parameterNames);
+        private int nextSlot = 0;
 
         @NotNull
         public ExecutionStage withParameter(@NotNull String name, @Nullable Object value) {
-            content.put(name, value);
+            // Parameters are usually provided in the order in which the root method declares them.
+            // In this case, the slot is known without looking up the name.
+            if (nextSlot < parameterNames.length && parameterNames[nextSlot] == name) {
+                parameters.put(nextSlot++, value);
+            } else {
+                parameters.put(name, value);
+            }
             return this;
         }
 
         @Nullable
         public <S> S andReturn() {
-            return ExecutionChain.this.execute(content);
+            return (S) doExecute(parameters.copy());
         }
     }
 }
@@ -1,37 +1,141 @@
 package com.wiredi.runtime.aspects;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import static com.wiredi.runtime.lang.Preconditions.isNotNull;
 
+/**
+ * The parameters of a single execution of an {@link ExecutionChain}.
+ * <p>
+ * Parameters declared by the {@link RootMethod} are stored in positional slots, in the order in which they are
+ * declared. Looking up such a parameter scans the (typically very small) array of declared names and does not
+ * allocate. Parameters that are not declared by the root method are stored in an additional map that is only
+ * created once such a parameter is set.
+ */
 public class ExecutionChainParameters {
 
-    private final Map<String, Object> parameters;
+    private static final String[] NO_NAMES = new String[0];
+
+    @NotNull
+    private final String[] names;
+    @NotNull
+    private final Object[] values;
+    @Nullable
+    private Map<String, Object> additionalParameters;
 
     public ExecutionChainParameters(Map<String, Object> parameters) {
-        this.parameters = parameters;
+        this(NO_NAMES, new Object[0], new HashMap<>(parameters));
+    }
+
+    ExecutionChainParameters(@NotNull String[] names) {
+        this(names, new Object[names.length], null);
+    }
+
+    ExecutionChainParameters(@NotNull String[] names, @NotNull Map<String, Object> parameters) {
+        this(names);
+        parameters.forEach(this::put);
+    }
+
+    private ExecutionChainParameters(
+            @NotNull String[] names,
+            @NotNull Object[] values,
+            @Nullable Map<String, Object> additionalParameters
+    ) {
+        this.names = names;
+        this.values = values;
+        this.additionalParameters = additionalParameters;
+    }
+
+    /**
+     * Creates an independent copy of these parameters.
+     * <p>
+     * Changes made to the copy, for example by {@link AspectHandler AspectHandlers}, are not visible in this instance.
+     *
+     * @return a copy of the parameters
+     */
+    @NotNull
+    ExecutionChainParameters copy() {
+        return new ExecutionChainParameters(
+                names,
+                values.clone(),
+                additionalParameters == null ? null : new HashMap<>(additionalParameters)
+        );
     }
 
     public Set<String> keySet() {
-        return parameters.keySet();
+        if (names.length == 0 && additionalParameters != null) {
+            return additionalParameters.keySet();
+        }
+
+        Set<String> result = new LinkedHashSet<>(Set.of(names));
+        if (additionalParameters != null) {
+            result.addAll(additionalParameters.keySet());
+        }
+        return result;
     }
 
     private Object getParam(String name) {
-        return parameters.get(name);
+        int index = indexOf(name);
+        if (index >= 0) {
+            return values[index];
+        }
+        if (additionalParameters == null) {
+            return null;
+        }
+        return additionalParameters.get(name);
     }
 
     public void put(String name, Object value) {
-        parameters.put(name, value);
+        int index = indexOf(name);
+        if (index >= 0) {
+            values[index] = value;
+        } else {
+            if (additionalParameters == null) {
+                additionalParameters = new HashMap<>();
+            }
+            additionalParameters.put(name, value);
+        }
+    }
+
+    /**
+     * Sets the parameter at the slot with the given index, without looking up the name.
+     *
+     * @param index the index of the parameter, as declared by the {@link RootMethod}
+     * @param value the value of the parameter
+     */
+    void put(int index, Object value) {
+        values[index] = value;
+    }
+
+    /**
+     * Returns the slot index of the declared parameter, or -1 if the root method does not declare it.
+     */
+    int indexOf(@NotNull String name) {
+        for (int i = 0; i < names.length; i++) {
+            // Parameter names are usually compile time constants, so the identity check is mostly sufficient
+            if (names[i] == name || names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     public <T> Optional<T> get(String name) {
         return Optional.ofNullable(getParam(name)).map(it -> (T) it);
     }
 
+    @Nullable
+    public <T> T tryGet(String name) {
+        return (T) getParam(name);
+    }
+
     @NotNull
     public <T> T require(String name) {
         return (T) isNotNull(getParam(name), () -> "No parameter with the name " + name + " set");
@@ -24,16 +24,31 @@ public class ExecutionContext {
     @NotNull
     private final ExecutionChainParameters parameters;
 
+    /**
+     * The handlers of the chain, with the {@link RootMethod} as the last element.
+     * <p>
+     * This array is shared between all executions of an {@link ExecutionChain} and must never be modified.
+     */
     @NotNull
-    private final Deque<AspectHandler> aspectHandlers;
+    private final AspectHandler[] aspectHandlers;
 
-    @NotNull
-    private final ThreadLocalTypedProperties typedProperties = new ThreadLocalTypedProperties();
+    private int nextHandler = 0;
+
+    @Nullable
+    private ThreadLocalTypedProperties typedProperties;
 
     public ExecutionContext(
             @NotNull RootMethod rootMethod,
             @NotNull ExecutionChainParameters parameters,
             @NotNull Deque<AspectHandler> aspectHandlers
+    ) {
+        this(rootMethod, parameters, aspectHandlers.toArray(AspectHandler[]::new));
+    }
+
+    ExecutionContext(
+            @NotNull RootMethod rootMethod,
+            @NotNull ExecutionChainParameters parameters,
+            @NotNull AspectHandler[] aspectHandlers
     ) {
         this.rootMethod = rootMethod;
         this.parameters = parameters;
@@ -41,7 +56,7 @@ public class ExecutionContext {
     }
 
     public void clear() {
-        aspectHandlers.clear();
+        nextHandler = aspectHandlers.length;
     }
 
     @NotNull
@@ -51,11 +66,11 @@ public class ExecutionContext {
 
     @Nullable
     public <S> S proceed() {
-        if (aspectHandlers.isEmpty()) {
+        if (nextHandler >= aspectHandlers.length) {
             throw new IllegalStateException("No further aspect handlers available. This should normally not happen, as the last element always should be the RootMethod!");
         }
 
-        return (S) aspectHandlers.pop().process(this);
+        return (S) aspectHandlers[nextHandler++].process(this);
     }
 
     @NotNull
@@ -65,12 +80,16 @@ public class ExecutionContext {
 
     @Nullable
     public <S> S tryGetParameter(@NotNull final String name) {
-        return this.<S>getParameter(name).orElse(null);
+        return parameters.tryGet(name);
     }
 
     @NotNull
     public <S> S requireParameter(@NotNull final String name) {
-        return this.<S>getParameter(name).orElseThrow(() -> new IllegalArgumentException("Unknown parameter with name " + name));
+        S value = parameters.tryGet(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Unknown parameter with name " + name);
+        }
+        return value;
     }
 
     public void setParameter(
@@ -107,6 +126,9 @@ public class ExecutionContext {
 
     @NotNull
     public TypedProperties properties() {
+        if (typedProperties == null) {
+            typedProperties = new ThreadLocalTypedProperties();
+        }
         return typedProperties.get();
     }
 
@@ -123,7 +123,7 @@ public class RootMethod implements AspectHandler {
         @NotNull
         private final String methodName;
         @NotNull
-        private final Map<@NotNull String, @NotNull TypeIdentifier<?>> parameters = new HashMap<>();
+        private final Map<@NotNull String, @NotNull TypeIdentifier<?>> parameters = new LinkedHashMap<>();
         @NotNull
         private final List<@NotNull AnnotationMetadata> annotations = new ArrayList<>();
 
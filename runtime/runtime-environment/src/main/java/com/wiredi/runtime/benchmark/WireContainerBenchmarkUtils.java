@@ -23,6 +23,9 @@ import java.util.function.Supplier;
  * This class provides methods for timing container operations and generating performance reports.
  * It's designed to be used during application startup or during runtime to collect performance
  * metrics that can guide optimization efforts.
+ * <p>
+ * The measurements of this class are not protected against dead code elimination or JIT effects.
+ * To compare changes to the hot paths of WireDI, use the JMH benchmarks in the {@code runtime/benchmarks} module instead.
  */
 public final class WireContainerBenchmarkUtils {
 
@@ -180,6 +180,23 @@ public interface Scope extends Ordered {
      */
     void reset();
 
+    /**
+     * Whether this scope holds singletons.
+     * <p>
+     * A scope holding singletons returns the same instance for a type on every lookup, until it is {@link #reset()}.
+     * The {@link ScopeRegistry} relies on this to keep the instances resolved from such a scope and to skip the scope
+     * for subsequent lookups of the same type.
+     * Scopes that report true have to notify the registries they are {@link #registered(ScopeRegistry) registered at}
+     * through {@link ScopeRegistry#scopeReset(Scope)} whenever they are reset.
+     * <p>
+     * By default, this method returns false.
+     *
+     * @return true, if this scope returns the same instance for a type until it is reset
+     */
+    default boolean holdsSingletons() {
+        return false;
+    }
+
     /**
      * Notifies that this scope was registered at a ScopeRegistry.
      * <p>
@@ -11,6 +11,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -37,6 +38,16 @@ public class ScopeRegistry {
     private final Scope defaultScope;
     @NotNull
     private final UnionScope unionScope = new UnionScope();
+    /**
+     * Instances of unqualified lookups, which have been resolved from a scope that {@link Scope#holdsSingletons() holds
+     * singletons}.
+     * <p>
+     * A resolved instance stays the same until a provider or scope is registered, or the scope is reset.
+     * In these cases, the table is replaced instead of cleared, so that a lookup that was running concurrently can
+     * only ever add its instance to the discarded table.
+     */
+    @NotNull
+    private volatile Map<TypeIdentifier<?>, Object> resolvedInstances = new ConcurrentHashMap<>();
     @Nullable
     private WireContainer context;
     private boolean initialized = false;
@@ -100,6 +111,7 @@ public class ScopeRegistry {
         }
 
         this.scopeRegistryCache.clear();
+        invalidateResolvedInstances();
         this.scopes.clear();
         this.unionScope.clearScopes();
         this.context = null;
@@ -138,6 +150,7 @@ public class ScopeRegistry {
      */
     public void registerProvider(@NotNull IdentifiableProvider<?> provider, Scope targetScope) {
         targetScope.register(provider);
+        invalidateResolvedInstances();
 
         if (provider.primary()) {
             scopeRegistryCache.registerPrimaryScope(provider, targetScope);
@@ -193,6 +206,7 @@ public class ScopeRegistry {
     }
 
     private void tryToLink(Scope scope) {
+        invalidateResolvedInstances();
         scope.registered(this);
         if (context != null) {
             scope.link(context);
@@ -206,6 +220,78 @@ public class ScopeRegistry {
         return unionScope.getAll(type);
     }
 
+    /**
+     * Resolves the instance of an unqualified type from the scope responsible for it.
+     * <p>
+     * Instances resolved from a scope that {@link Scope#holdsSingletons() holds singletons} are kept in a table, so
+     * that subsequent lookups of the same type only cost a single hash lookup.
+     * The table is invalidated whenever a provider or a scope is registered, and when such a scope is reset.
+     *
+     * @param typeIdentifier the type to resolve
+     * @param <T>            the generic type of the instance
+     * @return the resolved instance
+     * @throws com.wiredi.runtime.exceptions.MissingBeanException if no instance could be resolved
+     */
+    @NotNull
+    public <T> T getInstance(@NotNull TypeIdentifier<T> typeIdentifier) {
+        Map<TypeIdentifier<?>, Object> table = resolvedInstances;
+        Object resolved = table.get(typeIdentifier);
+        if (resolved != null) {
+            return (T) resolved;
+        }
+
+        Scope scope = determineScopeOf(typeIdentifier);
+        T instance = scope.get(typeIdentifier);
+        if (scope.holdsSingletons()) {
+            table.put(typeIdentifier, instance);
+        }
+        return instance;
+    }
+
+    /**
+     * Tries to resolve the instance of an unqualified type from the scope responsible for it.
+     * <p>
+     * Like {@link #getInstance(TypeIdentifier)}, instances resolved from a scope holding singletons are kept in a table.
+     *
+     * @param typeIdentifier the type to resolve
+     * @param <T>            the generic type of the instance
+     * @return the resolved instance, or an empty Optional if no instance could be resolved
+     */
+    @NotNull
+    public <T> Optional<T> tryGetInstance(@NotNull TypeIdentifier<T> typeIdentifier) {
+        Map<TypeIdentifier<?>, Object> table = resolvedInstances;
+        Object resolved = table.get(typeIdentifier);
+        if (resolved != null) {
+            return Optional.of((T) resolved);
+        }
+
+        Scope scope = determineScopeOf(typeIdentifier);
+        Optional<T> instance = scope.tryGet(typeIdentifier);
+        if (scope.holdsSingletons()) {
+            instance.ifPresent(it -> table.put(typeIdentifier, it));
+        }
+        return instance;
+    }
+
+    /**
+     * Notifies this registry that a registered scope was reset.
+     * <p>
+     * If the scope {@link Scope#holdsSingletons() holds singletons}, all instances resolved through
+     * {@link #getInstance(TypeIdentifier)} and {@link #tryGetInstance(TypeIdentifier)} are discarded, as the scope will
+     * create new instances.
+     *
+     * @param scope the scope that was reset
+     */
+    public void scopeReset(@NotNull Scope scope) {
+        if (scope.holdsSingletons()) {
+            invalidateResolvedInstances();
+        }
+    }
+
+    private void invalidateResolvedInstances() {
+        resolvedInstances = new ConcurrentHashMap<>();
+    }
+
     public <T> Scope determineScopeOf(TypeIdentifier<T> typeIdentifier) {
         return scopeRegistryCache.determineScopeOf(typeIdentifier, unionScope);
     }
@@ -11,14 +11,18 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Collections;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Cache for storing and retrieving scope information for types.
- * This class encapsulates the logic for managing the scopedCache map and primary provider cache.
+ * <p>
+ * All scope resolutions are kept in a single map, so that determining the scope of a type is a single hash lookup.
+ * Unqualified types are only ever stored under their erasure, which every {@link TypeIdentifier} holds already, so no
+ * erasure has to be computed during lookups.
+ * For an erased type, the map holds the scope of its primary provider if one is registered.
+ * Otherwise, it holds the scope the type has been registered at, or a {@link UnionScope} of all these scopes if the
+ * type has been registered at multiple scopes.
  */
 public class ScopeRegistryCache {
 
@@ -28,17 +32,18 @@ public class ScopeRegistryCache {
      * <p>
      * If you have a class {@code Foo} and Foo is registered as a Prototype, this cache allows you to resolve the Scope for the TypeIdentifier.
      * <p>
-     * The key is an object to support qualified Type references
+     * The key is either an erased {@link TypeIdentifier} or a {@link QualifiedTypeIdentifier}.
      */
     @NotNull
     private final Map<Object, Scope> scopedCache = new ConcurrentHashMap<>();
     /**
-     * Cache for primary providers across all scopes.
-     * Maps TypeIdentifier to the primary provider for that type.
+     * The scopes of primary providers, keyed by the erased type.
+     * <p>
+     * This map is only used to detect multiple primary providers on registration.
+     * Lookups are served from the {@link #scopedCache}, which holds the primary scope as well.
      */
     @NotNull
     private final Map<TypeIdentifier<?>, Scope> primaryScopeCache = new ConcurrentHashMap<>();
-    private final Set<TypeIdentifier<?>> conflictingTypes = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
     public ScopeRegistryCache() {
     }
@@ -49,7 +54,6 @@ public class ScopeRegistryCache {
     public void clear() {
         this.scopedCache.clear();
         this.primaryScopeCache.clear();
-        this.conflictingTypes.clear();
     }
 
     /**
@@ -73,13 +77,13 @@ public class ScopeRegistryCache {
 
     private void setPrimaryScope(@NotNull TypeIdentifier<?> type, Scope targetScope) {
         TypeIdentifier<?> mainType = type.erasure();
-        Scope existingPrimary = primaryScopeCache.get(mainType);
+        Scope existingPrimary = primaryScopeCache.putIfAbsent(mainType, targetScope);
         if (existingPrimary != null) {
             throw new MultiplePrimaryScopesRegisteredException(mainType, existingPrimary, targetScope);
         }
 
-        primaryScopeCache.put(mainType, targetScope);
-        scopedCache.put(type, targetScope);
+        // The primary scope takes precedence over all other scopes the type is registered at
+        scopedCache.put(mainType, targetScope);
     }
 
     public Scope getPrimaryScopeFor(TypeIdentifier<?> type) {
@@ -124,9 +128,13 @@ public class ScopeRegistryCache {
         }
     }
 
-    private void updateScopedCache(TypeIdentifier<?> type, Scope newScope) {
-        scopedCache.merge(type, newScope, (existing, added) -> {
+    private void updateScopedCache(TypeIdentifier<?> erasedType, Scope newScope) {
+        scopedCache.merge(erasedType, newScope, (existing, added) -> {
             if (existing == added) return existing;
+            if (primaryScopeCache.get(erasedType) == existing) {
+                // The primary scope is resolved, regardless of other scopes the type is registered at
+                return existing;
+            }
             if (existing instanceof UnionScope union) {
                 union.addScope(added);
                 return union;
@@ -156,15 +164,7 @@ public class ScopeRegistryCache {
      * @return The scope for the type
      */
     public <T> Scope determineScopeOf(TypeIdentifier<T> typeIdentifier, @NotNull Scope defaultScope) {
-        // First check if there's a primary provider for this type
-        Scope primaryScope = getPrimaryScopeFor(typeIdentifier);
-        if (primaryScope != null) {
-            return primaryScope;
-        }
-
-        // Fall back to cached scope resolution
-        TypeIdentifier<?> erasedType = typeIdentifier.erasure();
-        Scope cachedScope = scopedCache.get(erasedType);
+        Scope cachedScope = scopedCache.get(typeIdentifier.erasure());
         return cachedScope != null ? cachedScope : defaultScope;
     }
 
@@ -182,13 +182,7 @@ public class ScopeRegistryCache {
             return cachedScope;
         }
 
-        // Then check if there's a primary provider for the unqualified type
-        Scope primaryScope = getPrimaryScopeFor(typeIdentifier.type());
-        if (primaryScope != null) {
-            return primaryScope;
-        }
-
-        // Fall back to unqualified type resolution
+        // Fall back to unqualified type resolution, which includes the primary scope
         return determineScopeOf(typeIdentifier.type(), defaultScope);
     }
 
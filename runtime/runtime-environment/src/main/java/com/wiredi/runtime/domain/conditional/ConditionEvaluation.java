@@ -1,18 +1,32 @@
 package com.wiredi.runtime.domain.conditional;
 
 import com.wiredi.runtime.Environment;
+import com.wiredi.runtime.OnDemandInjector;
 import com.wiredi.runtime.WireContainer;
 import com.wiredi.runtime.domain.annotations.AnnotationMetadata;
 import com.wiredi.runtime.domain.provider.IdentifiableProvider;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
+/**
+ * The evaluation of the conditions of all conditional providers.
+ * <p>
+ * Conditions of independent providers might be evaluated in parallel.
+ * The beans that conditions resolve through {@link Context#get(Class)}, typically their {@link ConditionEvaluator},
+ * are resolved once per evaluation and shared by all contexts.
+ * Beans that are announced by {@link com.wiredi.runtime.domain.provider.condition.LoadCondition#collectDependencies}
+ * are therefore resolved before conditions are evaluated in parallel.
+ * All other beans are resolved under a lock, as the {@link OnDemandInjector} is not thread safe.
+ */
 public class ConditionEvaluation implements Iterable<ConditionEvaluation.Context> {
 
-    private final Map<IdentifiableProvider<?>, Context> evaluations = new HashMap<>();
+    private final Map<IdentifiableProvider<?>, Context> evaluations = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Object> resolvedBeans = new ConcurrentHashMap<>();
+    private final Object resolutionLock = new Object();
     private final WireContainer wireContainer;
 
     public ConditionEvaluation(WireContainer wireContainer) {
@@ -20,7 +34,25 @@ public class ConditionEvaluation implements Iterable<ConditionEvaluation.Context
     }
 
     public Context access(IdentifiableProvider<?> provider) {
-        return evaluations.computeIfAbsent(provider, p -> new Context(wireContainer, p));
+        return evaluations.computeIfAbsent(provider, p -> new Context(this, p));
+    }
+
+    private <T> T resolve(Class<T> type) {
+        Object resolved = resolvedBeans.get(type);
+        if (resolved != null) {
+            return type.cast(resolved);
+        }
+
+        synchronized (resolutionLock) {
+            resolved = resolvedBeans.get(type);
+            if (resolved == null) {
+                resolved = wireContainer.onDemandInjector().get(type);
+                if (resolved != null) {
+                    resolvedBeans.put(type, resolved);
+                }
+            }
+            return type.cast(resolved);
+        }
     }
 
     public Stream<Context> stream() {
@@ -46,6 +78,7 @@ public class ConditionEvaluation implements Iterable<ConditionEvaluation.Context
 
     public static class Context {
 
+        private final ConditionEvaluation evaluation;
         private final WireContainer wireContainer;
         private final IdentifiableProvider<?> provider;
         private AnnotationMetadata annotationMetadata;
@@ -57,7 +90,15 @@ public class ConditionEvaluation implements Iterable<ConditionEvaluation.Context
                 WireContainer wireContainer,
                 IdentifiableProvider<?> provider
         ) {
-            this.wireContainer = wireContainer;
+            this(new ConditionEvaluation(wireContainer), provider);
+        }
+
+        private Context(
+                ConditionEvaluation evaluation,
+                IdentifiableProvider<?> provider
+        ) {
+            this.evaluation = evaluation;
+            this.wireContainer = evaluation.wireContainer;
             this.provider = provider;
         }
 
@@ -89,7 +130,7 @@ public class ConditionEvaluation implements Iterable<ConditionEvaluation.Context
         }
 
         public <T> T get(Class<T> type) {
-            return wireContainer.onDemandInjector().get(type);
+            return evaluation.resolve(type);
         }
 
         public void noteDependency(String dependency) {
@@ -1,8 +1,12 @@
 package com.wiredi.runtime.domain.conditional;
 
 import com.wiredi.runtime.WireContainer;
+import com.wiredi.runtime.domain.annotations.AnnotationMetadata;
+import com.wiredi.runtime.domain.provider.TypeIdentifier;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Consumer;
+
 /**
  * A ConditionEvaluator is used to determine if certain conditions have been achieved.
  * <p>
@@ -29,4 +33,21 @@ public interface ConditionEvaluator {
      * @see ConditionEvaluation
      */
     void test(@NotNull final ConditionEvaluation.Context context);
+
+    /**
+     * Announces the types of beans that the outcome of this evaluator depends on.
+     * <p>
+     * The {@link com.wiredi.runtime.WireContainerInitializer} evaluates a condition only after all conditional
+     * providers that wire one of these types have been applied.
+     * Evaluators that check the presence of beans in the {@link WireContainer} should announce the checked types.
+     * Conditions depending on types that are not announced are still evaluated correctly, but less efficiently.
+     *
+     * @param annotationMetadata the metadata of the annotation the evaluator is used for
+     * @param dependencies       the consumer to announce the types to
+     */
+    default void collectDependencies(
+            @NotNull final AnnotationMetadata annotationMetadata,
+            @NotNull final Consumer<TypeIdentifier<?>> dependencies
+    ) {
+    }
 }
@@ -1,10 +1,13 @@
 package com.wiredi.runtime.domain.conditional.builtin;
 
+import com.wiredi.runtime.domain.annotations.AnnotationMetadata;
 import com.wiredi.runtime.domain.conditional.ConditionEvaluation;
 import com.wiredi.runtime.domain.conditional.ConditionEvaluator;
 import com.wiredi.runtime.domain.provider.TypeIdentifier;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Consumer;
+
 public class ConditionalOnBeanEvaluator implements ConditionEvaluator {
 
     public static ConditionalOnBeanEvaluator INSTANCE = new ConditionalOnBeanEvaluator();
@@ -19,4 +22,12 @@ public class ConditionalOnBeanEvaluator implements ConditionEvaluator {
             context.positiveMatch("Bean of type " + beanType + " is present");
         }
     }
+
+    @Override
+    public void collectDependencies(
+            @NotNull AnnotationMetadata annotationMetadata,
+            @NotNull Consumer<TypeIdentifier<?>> dependencies
+    ) {
+        annotationMetadata.getType("type").ifPresent(dependencies);
+    }
 }
@@ -1,10 +1,13 @@
 package com.wiredi.runtime.domain.conditional.builtin;
 
+import com.wiredi.runtime.domain.annotations.AnnotationMetadata;
 import com.wiredi.runtime.domain.conditional.ConditionEvaluation;
 import com.wiredi.runtime.domain.conditional.ConditionEvaluator;
 import com.wiredi.runtime.domain.provider.TypeIdentifier;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Consumer;
+
 public class ConditionalOnMissingBeanEvaluator implements ConditionEvaluator {
 
     @Override
@@ -17,4 +20,12 @@ public class ConditionalOnMissingBeanEvaluator implements ConditionEvaluator {
             context.positiveMatch("Bean of type " + beanType + " is missing");
         }
     }
+
+    @Override
+    public void collectDependencies(
+            @NotNull AnnotationMetadata annotationMetadata,
+            @NotNull Consumer<TypeIdentifier<?>> dependencies
+    ) {
+        annotationMetadata.getType("type").ifPresent(dependencies);
+    }
 }
@@ -17,6 +17,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
 import java.util.function.Supplier;
 
 /**
@@ -26,16 +27,21 @@ import java.util.function.Supplier;
  * It behaves differently for qualified and unqualified injection points.
  * <p>
  * The following order resolves unqualified injection points:
- * <p>
- * 1) If the requested injection point is a generic type, the factory will try to find a provider that matches the requested type exactly.
+ * <ol>
+ *     <li>If the requested injection point is a generic type, the factory will try to find a provider that matches the requested type exactly.</li>
+ * </ol>
+ * Lookups never read the registered providers directly.
+ * Instead, they read an immutable {@link Index}, which is built once from the registered providers when the first
+ * lookup happens, so all lookups are read-only hash probes that can run concurrently.
+ * Registering a provider after the index was built discards the index, so that the next lookup atomically builds a
+ * new one, instead of modifying the index while it is read.
  *
  * @param <T>
  */
 public class SimpleBeanFactory<T> implements BeanFactory<T> {
 
-    // Cache resolved providers to avoid repeated conflict resolution
-    private final ConcurrentHashMap<QualifierType, IdentifiableProvider<T>> resolvedCache = new ConcurrentHashMap<>();
     private static final Logging logger = Logging.getInstance(SimpleBeanFactory.class);
+    private static final Object UNRESOLVED = new Object();
 
     @NotNull
     private final Map<QualifierType, IdentifiableProvider<T>> qualifiedProviders;
@@ -47,25 +53,55 @@ public class SimpleBeanFactory<T> implements BeanFactory<T> {
     protected IdentifiableProvider<T> primary;
     @NotNull
     private Supplier<@NotNull WireConflictResolver> conflictResolver = () -> StandardWireConflictResolver.DEFAULT;
+    @NotNull
+    private final Object registrationLock = new Object();
+    @Nullable
+    private volatile Index<T> index;
 
     public SimpleBeanFactory(@NotNull TypeIdentifier<T> rootType) {
         this.qualifiedProviders = new HashMap<>();
-        this.typedUnqualifiedProviders = new HashMap<>();
+        this.typedUnqualifiedProviders = new LinkedHashMap<>();
         this.rootType = rootType;
     }
 
     protected SimpleBeanFactory(@NotNull SimpleBeanFactory<T> simpleBeanFactory) {
-        this.primary = simpleBeanFactory.primary;
-        this.qualifiedProviders = new HashMap<>(simpleBeanFactory.qualifiedProviders);
-        this.typedUnqualifiedProviders = new HashMap<>(simpleBeanFactory.typedUnqualifiedProviders);
-        this.rootType = simpleBeanFactory.rootType;
+        synchronized (simpleBeanFactory.registrationLock) {
+            this.primary = simpleBeanFactory.primary;
+            this.qualifiedProviders = new HashMap<>(simpleBeanFactory.qualifiedProviders);
+            this.typedUnqualifiedProviders = new LinkedHashMap<>();
+            simpleBeanFactory.typedUnqualifiedProviders.forEach((type, state) -> typedUnqualifiedProviders.put(type, new TypedProviderState<>(state)));
+            this.rootType = simpleBeanFactory.rootType;
+        }
     }
 
     public SimpleBeanFactory<T> withConflictResolver(@NotNull Supplier<@NotNull WireConflictResolver> conflictResolver) {
-        this.conflictResolver = conflictResolver;
+        synchronized (registrationLock) {
+            this.conflictResolver = conflictResolver;
+            this.index = null;
+        }
         return this;
     }
 
+    /**
+     * Returns the current index of all registered providers, building it if it was discarded by a registration.
+     *
+     * @return the current index
+     */
+    @NotNull
+    private Index<T> index() {
+        Index<T> current = index;
+        if (current == null) {
+            synchronized (registrationLock) {
+                current = index;
+                if (current == null) {
+                    current = new Index<>(primary, qualifiedProviders, typedUnqualifiedProviders, conflictResolver);
+                    index = current;
+                }
+            }
+        }
+        return current;
+    }
+
     @Override
     public @NotNull TypeIdentifier<T> rootType() {
         return rootType;
@@ -78,30 +114,16 @@ public class SimpleBeanFactory<T> implements BeanFactory<T> {
 
     @Override
     public @NotNull Collection<Bean<T>> getAll(@NotNull WireContainer wireContainer, @NotNull TypeIdentifier<T> requestedType) {
-        Set<IdentifiableProvider<T>> allProviders = new HashSet<>();
-        if (primary != null) {
-            allProviders.add(primary);
-        }
-
-        // Get all qualified providers
-        allProviders.addAll(getAllQualified());
-
-        // Get all unqualified providers
-        allProviders.addAll(getAllUnqualified());
-
-        return allProviders.stream()
-                .filter(provider -> canProviderSatisfyRequest(provider, requestedType))
-                .sorted(OrderedComparator.INSTANCE)
-                .map(it -> {
-                    T instance = it.get(wireContainer, requestedType);
-                    if (instance == null) {
-                        return null;
-                    } else {
-                        return new Bean<>(instance, it);
-                    }
-                })
-                .filter(Objects::nonNull)
-                .toList();
+        // The index holds the ordered providers of each requested type already
+        List<IdentifiableProvider<T>> providers = index().allOf(requestedType, this::canProviderSatisfyRequest);
+        List<Bean<T>> result = new ArrayList<>(providers.size());
+        for (IdentifiableProvider<T> provider : providers) {
+            T instance = provider.get(wireContainer, requestedType);
+            if (instance != null) {
+                result.add(new Bean<>(instance, provider));
+            }
+        }
+        return Collections.unmodifiableList(result);
     }
 
     /**
@@ -227,8 +249,9 @@ public class SimpleBeanFactory<T> implements BeanFactory<T> {
             @NotNull TypeIdentifier<T> concreteType
     ) {
         logger.trace(() -> "Getting bean for type " + concreteType);
+        Index<T> index = index();
         // Check for primary bean first
-        Bean<T> bean = createBean(primary, wireContainer, concreteType);
+        Bean<T> bean = createBean(index.primary, wireContainer, concreteType);
         if (bean != null) {
             logger.trace(() -> "[" + concreteType + "]: Found existing bean instance. Returning.");
             return bean;
@@ -237,56 +260,33 @@ public class SimpleBeanFactory<T> implements BeanFactory<T> {
         // Check if we have a specific match for this exact type (including generics)
         if (concreteType.willErase()) {
             logger.trace(() -> "[" + concreteType + "]: Bean is erasable. Determining matching provider.");
-            TypedProviderState<T> state = typedUnqualifiedProviders.get(concreteType);
+            TypedProviderState<T> state = index.stateOf(concreteType);
             if (state != null) {
-                logger.trace(() -> "[" + concreteType + "]: Found directly matching provider. Returning.");
-                return createBean(state.determine(this.conflictResolver), wireContainer, concreteType);
-            }
-
-            // Fallback: No direct match, let's try to find a matching key
-            logger.trace(() -> "[" + concreteType + "]: No directly matching provider found. Trying to find best matching key.");
-            for (TypeIdentifier<T> matchingType : typedUnqualifiedProviders.keySet()) {
-                if (concreteType.isInstanceOf(matchingType)) {
-                    TypedProviderState<T> resolvedProvider = typedUnqualifiedProviders.get(matchingType);
-                    typedUnqualifiedProviders.put(concreteType, resolvedProvider);
-                    logger.trace(() -> "[" + concreteType + "]: Found best matching provider of type " + matchingType + ". Returning.");
-                    return createBean(resolvedProvider.determine(this.conflictResolver), wireContainer, concreteType);
-                }
+                logger.trace(() -> "[" + concreteType + "]: Found matching provider. Returning.");
+                return createBean(state.determine(index.conflictResolver), wireContainer, concreteType);
             }
 
             logger.trace(() -> "[" + concreteType + "]: Could not find matching resolver.");
         }
 
         // Fallback to single provider if available
-        if (this.typedUnqualifiedProviders.size() == 1) {
+        if (index.singleType != null && index.singleState != null) {
             logger.trace(() -> "[" + concreteType + "]: Only one provider available. Attempting to use this provider.");
-            Map.Entry<TypeIdentifier<T>, TypedProviderState<T>> next = this.typedUnqualifiedProviders.entrySet().iterator().next();
-            TypeIdentifier<T> key = next.getKey();
-            TypedProviderState<T> value = next.getValue();
-            if (concreteType.isInstanceOf(key)) {
+            if (concreteType.isInstanceOf(index.singleType)) {
                 logger.trace(() -> "[" + concreteType + "]: Provider matches. Attempting to instantiate identifiable provider.");
 
-                return createBean(value.determine(this.conflictResolver), wireContainer, concreteType);
+                return createBean(index.singleState.determine(index.conflictResolver), wireContainer, concreteType);
             }
         }
 
-        return fallback(wireContainer, concreteType, conflictResolver);
+        return fallback(wireContainer, concreteType, index.conflictResolver);
     }
 
     public @Nullable Bean<T> getQualifiedBean(
             @NotNull WireContainer wireContainer,
             @NotNull QualifiedTypeIdentifier<T> qualifiedTypeIdentifier
     ) {
-        // Fast path for cached resolution
-        QualifierType qualifierType = qualifiedTypeIdentifier.qualifier();
-        IdentifiableProvider<T> provider = resolvedCache.get(qualifierType);
-        if (provider == null) {
-            provider = resolveProvider(qualifierType);
-            if (provider != null) {
-                resolvedCache.put(qualifierType, provider);
-            }
-        }
-
+        IdentifiableProvider<T> provider = index().qualified.get(qualifiedTypeIdentifier.qualifier());
         if (provider != null) {
             T instance = provider.get(wireContainer, qualifiedTypeIdentifier.type());
             if (instance != null) {
@@ -302,14 +302,14 @@ public class SimpleBeanFactory<T> implements BeanFactory<T> {
             @NotNull TypeIdentifier<T> concreteType,
             @NotNull Supplier<WireConflictResolver> conflictResolver
     ) {
-        Set<IdentifiableProvider<T>> all = join(getAllUnqualified(), getAllQualified());
+        List<IdentifiableProvider<T>> all = index().fallbackCandidates;
         if (all.isEmpty()) {
             return null;
         }
 
         IdentifiableProvider<T> provider;
         if (all.size() == 1) {
-            provider = all.iterator().next();
+            provider = all.getFirst();
         } else {
             provider = conflictResolver.get().find(all, concreteType);
         }
@@ -326,38 +326,28 @@ public class SimpleBeanFactory<T> implements BeanFactory<T> {
     @Override
     public void register(@NotNull IdentifiableProvider<T> identifiableProvider) {
         TypeIdentifier type = identifiableProvider.type();
-        if (identifiableProvider.qualifiers().isEmpty()) {
-            if (!identifiableProvider.primary()) {
-                addUnqualifiedProvider(type, identifiableProvider);
+        synchronized (registrationLock) {
+            if (identifiableProvider.qualifiers().isEmpty()) {
+                if (!identifiableProvider.primary()) {
+                    addUnqualifiedProvider(type, identifiableProvider);
+                }
+            } else {
+                addQualifiedProvider(identifiableProvider, identifiableProvider.qualifiers());
             }
-        } else {
-            addQualifiedProvider(identifiableProvider, identifiableProvider.qualifiers());
-        }
 
-        if (identifiableProvider.primary()) {
-            registerPrimaryProvider(type, identifiableProvider);
+            if (identifiableProvider.primary()) {
+                registerPrimaryProvider(type, identifiableProvider);
+            }
         }
     }
 
     @Override
     public IdentifiableProvider<T> resolveProvider(@Nullable QualifierType qualifier) {
         if (qualifier != null) {
-            return qualifiedProviders.get(qualifier);
+            return index().qualified.get(qualifier);
         }
 
-        if (primary != null) {
-            return primary;
-        }
-
-        if (typedUnqualifiedProviders.size() == 1) {
-            return typedUnqualifiedProviders.values().iterator().next().determine(this.conflictResolver);
-        }
-
-        if (qualifiedProviders.size() == 1) {
-            return qualifiedProviders.values().iterator().next();
-        }
-
-        return null;
+        return index().unqualifiedProvider();
     }
 
     /**
@@ -371,15 +361,18 @@ public class SimpleBeanFactory<T> implements BeanFactory<T> {
      * @throws DiLoadingException if the Bean already has a primary {@link IdentifiableProvider}
      */
     public void registerPrimaryProvider(TypeIdentifier<T> concreteType, IdentifiableProvider<T> identifiableProvider) {
-        if (concreteType.willErase()) {
-            typedUnqualifiedProviders.computeIfAbsent(concreteType, t -> new TypedProviderState<>(concreteType))
-                    .add(identifiableProvider);
-        } else {
-            if (primary != null) {
-                throw new MultiplePrimaryProviderRegisteredException(concreteType, primary, identifiableProvider);
-            }
+        synchronized (registrationLock) {
+            if (concreteType.willErase()) {
+                typedUnqualifiedProviders.computeIfAbsent(concreteType, t -> new TypedProviderState<>(concreteType))
+                        .add(identifiableProvider);
+            } else {
+                if (primary != null) {
+                    throw new MultiplePrimaryProviderRegisteredException(concreteType, primary, identifiableProvider);
+                }
 
-            primary = identifiableProvider;
+                primary = identifiableProvider;
+            }
+            index = null;
         }
     }
 
@@ -391,7 +384,10 @@ public class SimpleBeanFactory<T> implements BeanFactory<T> {
      * @param identifiableProvider the provider to set as the primary
      */
     public void addUnqualifiedProvider(TypeIdentifier<T> concreteType, IdentifiableProvider<T> identifiableProvider) {
-        typedUnqualifiedProviders.computeIfAbsent(concreteType, t -> new TypedProviderState<>(concreteType)).add(identifiableProvider);
+        synchronized (registrationLock) {
+            typedUnqualifiedProviders.computeIfAbsent(concreteType, t -> new TypedProviderState<>(concreteType)).add(identifiableProvider);
+            index = null;
+        }
     }
 
     /**
@@ -406,29 +402,32 @@ public class SimpleBeanFactory<T> implements BeanFactory<T> {
      * @throws DiLoadingException if the Bean already has a primary {@link IdentifiableProvider}
      */
     public void addQualifiedProvider(IdentifiableProvider<T> newProvider, List<QualifierType> qualifiers) {
-        for (QualifierType qualifier : qualifiers) {
-            IdentifiableProvider<T> existingProvider = qualifiedProviders.get(qualifier);
-            if (existingProvider != null) {
-                throw new MultipleSameQualifierProviderRegisteredExceptions(qualifier, newProvider, existingProvider);
-            }
+        synchronized (registrationLock) {
+            for (QualifierType qualifier : qualifiers) {
+                IdentifiableProvider<T> existingProvider = qualifiedProviders.get(qualifier);
+                if (existingProvider != null) {
+                    throw new MultipleSameQualifierProviderRegisteredExceptions(qualifier, newProvider, existingProvider);
+                }
 
-            qualifiedProviders.put(qualifier, newProvider);
+                qualifiedProviders.put(qualifier, newProvider);
+            }
+            index = null;
         }
     }
 
     protected @NotNull List<IdentifiableProvider<T>> getAllQualified(TypeIdentifier<T> typeIdentifier) {
-        return qualifiedProviders.values()
+        return index().qualified.values()
                 .stream()
                 .filter(it -> typeIdentifier.isInstanceOf(it.type()))
                 .toList();
     }
 
     protected @NotNull List<IdentifiableProvider<T>> getAllQualified() {
-        return List.copyOf(new HashSet<>(qualifiedProviders.values()));
+        return index().qualifiedProviders;
     }
 
     protected @NotNull List<IdentifiableProvider<T>> getAllUnqualified(TypeIdentifier<T> concreteType) {
-        return typedUnqualifiedProviders.entrySet()
+        return index().exactTypes.entrySet()
                 .stream()
                 .filter(entry -> entry.getKey().isInstanceOf(concreteType))
                 .flatMap(it -> it.getValue().all().stream())
@@ -436,17 +435,7 @@ public class SimpleBeanFactory<T> implements BeanFactory<T> {
     }
 
     protected @NotNull List<IdentifiableProvider<T>> getAllUnqualified() {
-        return typedUnqualifiedProviders.values()
-                .stream()
-                .flatMap(it -> it.all().stream())
-                .toList();
-    }
-
-    private <S> Set<S> join(Collection<S> a, Collection<S> b) {
-        HashSet<S> result = new HashSet<>();
-        result.addAll(a);
-        result.addAll(b);
-        return result;
+        return index().unqualifiedProviders;
     }
 
     /**
@@ -465,16 +454,11 @@ public class SimpleBeanFactory<T> implements BeanFactory<T> {
     }
 
     protected @NotNull List<IdentifiableProvider<T>> getAllQualifiedCompatible(TypeIdentifier<T> typeIdentifier) {
-        return qualifiedProviders.values()
-                .stream()
-                .toList();
+        return List.copyOf(index().qualified.values());
     }
 
     protected @NotNull List<IdentifiableProvider<T>> getAllUnqualifiedCompatible(TypeIdentifier<T> concreteType) {
-        return typedUnqualifiedProviders.entrySet()
-                .stream()
-                .flatMap(it -> it.getValue().all().stream())
-                .toList();
+        return index().unqualifiedProviders;
     }
 
     protected @NotNull List<IdentifiableProvider<T>> getAllUnqualifiedForType(TypeIdentifier<T> concreteType) {
@@ -482,7 +466,7 @@ public class SimpleBeanFactory<T> implements BeanFactory<T> {
 
         // Since all providers under this factory can handle the erased type,
         // we return all of them and let each provider handle the specific generics
-        for (TypedProviderState<T> state : typedUnqualifiedProviders.values()) {
+        for (TypedProviderState<T> state : index().exactTypes.values()) {
             result.addAll(state.all());
         }
 
@@ -491,8 +475,161 @@ public class SimpleBeanFactory<T> implements BeanFactory<T> {
 
     @Override
     public String toString() {
+        Index<T> current = index();
         return "SimpleBeanFactory{" +
-                rootType + ", size=" + (typedUnqualifiedProviders.size() + qualifiedProviders.size() + (primary != null ? 1 : 0)) + '}';
+                rootType + ", size=" + (current.exactTypes.size() + current.qualified.size() + (current.primary != null ? 1 : 0)) + '}';
+    }
+
+    /**
+     * An immutable snapshot of all registered providers, with all lookups computed ahead of time.
+     * <p>
+     * The only lazily computed parts are the resolution of types that are not registered exactly, which is remembered
+     * per requested type, and the conflict resolution of the unqualified provider.
+     * Both are computed from the immutable snapshot and therefore safe to compute concurrently.
+     *
+     * @param <T> the root type of the factory
+     */
+    private static final class Index<T> {
+
+        @Nullable
+        private final IdentifiableProvider<T> primary;
+        @NotNull
+        private final Map<QualifierType, IdentifiableProvider<T>> qualified;
+        @NotNull
+        private final Map<TypeIdentifier<T>, TypedProviderState<T>> exactTypes;
+        @NotNull
+        private final Map<TypeIdentifier<T>, Optional<TypedProviderState<T>>> compatibleTypes = new ConcurrentHashMap<>();
+        @NotNull
+        private final List<IdentifiableProvider<T>> qualifiedProviders;
+        @NotNull
+        private final List<IdentifiableProvider<T>> unqualifiedProviders;
+        @NotNull
+        private final List<IdentifiableProvider<T>> fallbackCandidates;
+        @NotNull
+        private final List<IdentifiableProvider<T>> all;
+        @NotNull
+        private final Map<TypeIdentifier<T>, List<IdentifiableProvider<T>>> allOfType = new ConcurrentHashMap<>();
+        @Nullable
+        private final TypeIdentifier<T> singleType;
+        @Nullable
+        private final TypedProviderState<T> singleState;
+        @NotNull
+        private final Supplier<@NotNull WireConflictResolver> conflictResolver;
+        private volatile Object unqualifiedProvider = UNRESOLVED;
+
+        private Index(
+                @Nullable IdentifiableProvider<T> primary,
+                @NotNull Map<QualifierType, IdentifiableProvider<T>> qualified,
+                @NotNull Map<TypeIdentifier<T>, TypedProviderState<T>> typedUnqualifiedProviders,
+                @NotNull Supplier<@NotNull WireConflictResolver> conflictResolver
+        ) {
+            this.primary = primary;
+            this.conflictResolver = conflictResolver;
+            this.qualified = Map.copyOf(qualified);
+
+            Map<TypeIdentifier<T>, TypedProviderState<T>> exactTypes = new LinkedHashMap<>();
+            typedUnqualifiedProviders.forEach((type, state) -> exactTypes.put(type, new TypedProviderState<>(state)));
+            this.exactTypes = Collections.unmodifiableMap(exactTypes);
+            if (exactTypes.size() == 1) {
+                Map.Entry<TypeIdentifier<T>, TypedProviderState<T>> entry = exactTypes.entrySet().iterator().next();
+                this.singleType = entry.getKey();
+                this.singleState = entry.getValue();
+            } else {
+                this.singleType = null;
+                this.singleState = null;
+            }
+
+            this.qualifiedProviders = List.copyOf(new LinkedHashSet<>(qualified.values()));
+            List<IdentifiableProvider<T>> unqualifiedProviders = new ArrayList<>();
+            for (TypedProviderState<T> state : exactTypes.values()) {
+                unqualifiedProviders.addAll(state.all());
+            }
+            this.unqualifiedProviders = List.copyOf(unqualifiedProviders);
+
+            Set<IdentifiableProvider<T>> fallbackCandidates = new LinkedHashSet<>(this.unqualifiedProviders);
+            fallbackCandidates.addAll(this.qualifiedProviders);
+            this.fallbackCandidates = List.copyOf(fallbackCandidates);
+
+            Set<IdentifiableProvider<T>> all = new LinkedHashSet<>();
+            if (primary != null) {
+                all.add(primary);
+            }
+            all.addAll(this.qualifiedProviders);
+            all.addAll(this.unqualifiedProviders);
+            List<IdentifiableProvider<T>> sorted = new ArrayList<>(all);
+            sorted.sort(OrderedComparator.INSTANCE);
+            this.all = List.copyOf(sorted);
+        }
+
+        /**
+         * Returns the providers registered for the type, or for the first registered type the type is an instance of.
+         */
+        @Nullable
+        private TypedProviderState<T> stateOf(@NotNull TypeIdentifier<T> type) {
+            TypedProviderState<T> state = exactTypes.get(type);
+            if (state != null) {
+                return state;
+            }
+
+            return compatibleTypes.computeIfAbsent(type, this::findCompatibleState).orElse(null);
+        }
+
+        /**
+         * Returns all providers that can satisfy the requested type, in the order of {@link #all}.
+         * <p>
+         * The result is computed once per requested type and shared by all subsequent lookups of this index.
+         */
+        @NotNull
+        private List<IdentifiableProvider<T>> allOf(
+                @NotNull TypeIdentifier<T> type,
+                @NotNull BiPredicate<IdentifiableProvider<T>, TypeIdentifier<T>> canSatisfy
+        ) {
+            List<IdentifiableProvider<T>> cached = allOfType.get(type);
+            if (cached != null) {
+                return cached;
+            }
+
+            return allOfType.computeIfAbsent(type, it -> all.stream()
+                    .filter(provider -> canSatisfy.test(provider, it))
+                    .toList());
+        }
+
+        private Optional<TypedProviderState<T>> findCompatibleState(@NotNull TypeIdentifier<T> type) {
+            for (Map.Entry<TypeIdentifier<T>, TypedProviderState<T>> entry : exactTypes.entrySet()) {
+                if (type.isInstanceOf(entry.getKey())) {
+                    logger.trace(() -> "[" + type + "]: Found best matching provider of type " + entry.getKey() + ".");
+                    return Optional.of(entry.getValue());
+                }
+            }
+            return Optional.empty();
+        }
+
+        @Nullable
+        private IdentifiableProvider<T> unqualifiedProvider() {
+            Object resolved = unqualifiedProvider;
+            if (resolved == UNRESOLVED) {
+                resolved = resolveUnqualifiedProvider();
+                unqualifiedProvider = resolved;
+            }
+            return (IdentifiableProvider<T>) resolved;
+        }
+
+        @Nullable
+        private IdentifiableProvider<T> resolveUnqualifiedProvider() {
+            if (primary != null) {
+                return primary;
+            }
+
+            if (singleState != null) {
+                return singleState.determine(conflictResolver);
+            }
+
+            if (qualified.size() == 1) {
+                return qualified.values().iterator().next();
+            }
+
+            return null;
+        }
     }
 
     public static class TypedProviderState<T> {
@@ -509,6 +646,12 @@ public class SimpleBeanFactory<T> implements BeanFactory<T> {
             this.concreteType = concreteType;
         }
 
+        private TypedProviderState(@NotNull TypedProviderState<T> state) {
+            this.concreteType = state.concreteType;
+            this.providers.addAll(state.providers);
+            this.primary = state.primary;
+        }
+
         @Nullable
         public IdentifiableProvider<T> determine(Supplier<WireConflictResolver> conflictResolver) {
             if (primary != null) {
@@ -1,11 +1,14 @@
 package com.wiredi.runtime.domain.provider;
 
+import com.wiredi.runtime.domain.provider.index.IdentifiableProviderIndex;
 import com.wiredi.runtime.domain.provider.sources.FixedIdentifiableProviderSource;
+import com.wiredi.runtime.domain.provider.sources.IndexedIdentifiableProviderSource;
 import com.wiredi.runtime.domain.provider.sources.ServiceLoaderIdentifiableProviderSource;
 import com.wiredi.runtime.services.ServiceFileSource;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.function.Predicate;
 
 /**
  * This interface abstracts how {@link IdentifiableProvider} instances are loaded.
@@ -30,6 +33,14 @@ public interface IdentifiableProviderSource {
         return new ServiceLoaderIdentifiableProviderSource();
     }
 
+    static IdentifiableProviderSource index() {
+        return new IndexedIdentifiableProviderSource();
+    }
+
+    static IdentifiableProviderSource index(Predicate<IdentifiableProviderIndex.Entry> filter) {
+        return new IndexedIdentifiableProviderSource(filter);
+    }
+
     static IdentifiableProviderSource just(IdentifiableProvider<?>... providers) {
         return new FixedIdentifiableProviderSource(Arrays.asList(providers));
     }
@@ -4,13 +4,29 @@ import com.wiredi.runtime.WireContainer;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
+/**
+ * An {@link IdentifiableProvider} that lazily creates its instance exactly once.
+ * <p>
+ * The instance is created using double-checked publication.
+ * Once it is created, every call to {@link #get(WireContainer, TypeIdentifier)} is a single volatile read,
+ * so concurrent readers never contend on a lock.
+ * The creation itself is guarded by a {@link ReentrantLock} instead of a monitor, so that a virtual thread
+ * creating the instance does not pin its carrier thread.
+ *
+ * @param <T> the type of the instance
+ */
 public class LazySingletonIdentifiableProvider<T> extends AbstractIdentifiableProvider<T> {
 
 	@NotNull
 	private final Function<WireContainer, T> creationFunction;
 
+	@NotNull
+	private final Lock creationLock = new ReentrantLock();
+
 	private volatile T instance;
 
 	public LazySingletonIdentifiableProvider(
@@ -29,14 +45,25 @@ public class LazySingletonIdentifiableProvider<T> extends AbstractIdentifiablePr
 
 	@Override
 	@NotNull
-	public synchronized T get(
+	public T get(
 			@NotNull final WireContainer wireContainer,
 			@NotNull final TypeIdentifier<T> concreteType
 	) {
-		if(instance == null) {
-			instance = creationFunction.apply(wireContainer);
+		T current = instance;
+		if (current != null) {
+			return current;
 		}
 
-		return instance;
+		creationLock.lock();
+		try {
+			current = instance;
+			if (current == null) {
+				current = creationFunction.apply(wireContainer);
+				instance = current;
+			}
+			return current;
+		} finally {
+			creationLock.unlock();
+		}
 	}
 }
\ No newline at end of file
@@ -19,6 +19,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
 /**
@@ -198,10 +200,16 @@ public class SimpleProvider<T> implements IdentifiableProvider<T> {
         Buildable<T> withCondition(Class<? extends ConditionEvaluator> conditionType, Consumer<LoadCondition.Builder> builderConsumer);
     }
 
+    /**
+     * Creates the singleton instance exactly once, using double-checked publication.
+     * <p>
+     * Once created, the instance is served with a single volatile read.
+     */
     private class CachingFunction<E extends Throwable> implements ThrowingBiFunction<WireContainer, TypeIdentifier<T>, T, E> {
 
         private final ThrowingBiFunction<WireContainer, TypeIdentifier<T>, T, E> delegate;
-        private T instance;
+        private final Lock creationLock = new ReentrantLock();
+        private volatile T instance;
 
         private CachingFunction(ThrowingBiFunction<WireContainer, TypeIdentifier<T>, T, E> delegate) {
             this.delegate = delegate;
@@ -209,10 +217,22 @@ public class SimpleProvider<T> implements IdentifiableProvider<T> {
 
         @Override
         public T apply(WireContainer wireContainer, TypeIdentifier<T> s) throws E {
-            if (instance == null) {
-                instance = delegate.apply(wireContainer, s);
+            T current = instance;
+            if (current != null) {
+                return current;
+            }
+
+            creationLock.lock();
+            try {
+                current = instance;
+                if (current == null) {
+                    current = delegate.apply(wireContainer, s);
+                    instance = current;
+                }
+                return current;
+            } finally {
+                creationLock.unlock();
             }
-            return instance;
         }
     }
 
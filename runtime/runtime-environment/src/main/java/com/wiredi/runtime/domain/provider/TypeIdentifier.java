@@ -1,5 +1,6 @@
 package com.wiredi.runtime.domain.provider;
 
+import com.google.common.collect.MapMaker;
 import com.google.common.primitives.Primitives;
 import com.wiredi.runtime.qualifier.QualifierType;
 import org.jetbrains.annotations.NotNull;
@@ -14,6 +15,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 import static com.wiredi.runtime.lang.Preconditions.isNotNull;
@@ -65,60 +67,114 @@ import static com.wiredi.runtime.lang.Preconditions.isNotNull;
  * <p>
  * This classes uses the class name for type comparisons instead of the class directly. This ensures, that the same
  * class can be combined across different class loaders.
+ * <p>
+ * <h2>Identity</h2>
+ * <p>
+ * TypeIdentifiers are immutable and canonical. All factory methods ({@link #of(Class)}, {@link #just(Class)},
+ * {@link #of(Type)} and {@link #withGeneric(TypeIdentifier)}) return the interned instance for the requested type,
+ * meaning that two TypeIdentifiers of the exact same type are always the same instance.
+ * Raw types are interned in a {@link ClassValue}, parameterized types in a table of the TypeIdentifier they are
+ * derived from.
+ * Neither of them pins a class or its class loader, which is why a parameterized type that is no longer referenced
+ * might be reconstructed as a new instance later on.
+ * <p>
+ * Combined with the precomputed hash code, this means that looking up a TypeIdentifier in a hash based structure
+ * never has to compare class names, as long as the exact same type is used as key.
+ * Note that {@link #withGeneric(TypeIdentifier)} does not modify the instance it is called on, but returns
+ * the (interned) TypeIdentifier with the additional generic.
  *
  * @param <T> The generic that this TypeIdentifier represents
  */
 public class TypeIdentifier<T> {
 
-    public static final TypeIdentifier<Object> OBJECT = new TypeIdentifier<>(Object.class);
-    public static final TypeIdentifier<Integer> INTEGER = new TypeIdentifier<>(Integer.class);
-    public static final TypeIdentifier<Long> LONG = new TypeIdentifier<>(Long.class);
-    public static final TypeIdentifier<Float> FLOAT = new TypeIdentifier<>(Float.class);
-    public static final TypeIdentifier<Double> DOUBLE = new TypeIdentifier<>(Double.class);
-    public static final TypeIdentifier<Character> CHAR = new TypeIdentifier<>(Character.class);
-    public static final TypeIdentifier<String> STRING = new TypeIdentifier<>(String.class);
-    public static final TypeIdentifier<UUID> UUID = new TypeIdentifier<>(UUID.class);
-    public static final TypeIdentifier<BigDecimal> BIG_DECIMAL = new TypeIdentifier<>(BigDecimal.class);
-    public static final TypeIdentifier<BigInteger> BIG_INTEGER = new TypeIdentifier<>(BigInteger.class);
-    public static final TypeIdentifier<LocalDate> LOCAL_DATE = new TypeIdentifier<>(LocalDate.class);
-    public static final TypeIdentifier<LocalDateTime> LOCAL_DATE_TIME = new TypeIdentifier<>(LocalDateTime.class);
-    public static final TypeIdentifier<ZonedDateTime> ZONED_DATE_TIME = new TypeIdentifier<>(ZonedDateTime.class);
-    public static final TypeIdentifier<OffsetDateTime> OFFSET_DATE_TIME = new TypeIdentifier<>(OffsetDateTime.class);
-    public static final TypeIdentifier<ZoneOffset> ZONE_OFFSET = new TypeIdentifier<>(ZoneOffset.class);
-    public static final TypeIdentifier<Void> VOID = new TypeIdentifier<>(Void.class);
+    /**
+     * The intern table of all raw types, i.e. types without generics.
+     */
+    private static final ClassValue<TypeIdentifier<?>> RAW_TYPES = new ClassValue<>() {
+        @Override
+        protected TypeIdentifier<?> computeValue(@NotNull Class<?> type) {
+            return new TypeIdentifier<>(type, List.of(), null);
+        }
+    };
+
+    public static final TypeIdentifier<Object> OBJECT = just(Object.class);
+    public static final TypeIdentifier<Integer> INTEGER = just(Integer.class);
+    public static final TypeIdentifier<Long> LONG = just(Long.class);
+    public static final TypeIdentifier<Float> FLOAT = just(Float.class);
+    public static final TypeIdentifier<Double> DOUBLE = just(Double.class);
+    public static final TypeIdentifier<Character> CHAR = just(Character.class);
+    public static final TypeIdentifier<String> STRING = just(String.class);
+    public static final TypeIdentifier<UUID> UUID = just(UUID.class);
+    public static final TypeIdentifier<BigDecimal> BIG_DECIMAL = just(BigDecimal.class);
+    public static final TypeIdentifier<BigInteger> BIG_INTEGER = just(BigInteger.class);
+    public static final TypeIdentifier<LocalDate> LOCAL_DATE = just(LocalDate.class);
+    public static final TypeIdentifier<LocalDateTime> LOCAL_DATE_TIME = just(LocalDateTime.class);
+    public static final TypeIdentifier<ZonedDateTime> ZONED_DATE_TIME = just(ZonedDateTime.class);
+    public static final TypeIdentifier<OffsetDateTime> OFFSET_DATE_TIME = just(OffsetDateTime.class);
+    public static final TypeIdentifier<ZoneOffset> ZONE_OFFSET = just(ZoneOffset.class);
+    public static final TypeIdentifier<Void> VOID = just(Void.class);
 
     @NotNull
     private final Class<T> rootType;
     @NotNull
-    private final List<TypeIdentifier<?>> genericTypes = new ArrayList<>();
-
+    private final List<TypeIdentifier<?>> genericTypes;
+    @NotNull
+    private final TypeIdentifier<T> erasure;
+    /**
+     * The TypeIdentifier this type was derived from, by adding the last generic.
+     * <p>
+     * Holding it keeps the intern table, this type is registered in, alive for as long as this type is reachable.
+     */
     @Nullable
-    private TypeIdentifier<T> cachedErasure; // Cache the erasure result
+    private final TypeIdentifier<T> parent;
+    /**
+     * The intern table of all parameterized types that are derived from this type by adding a generic.
+     * <p>
+     * As all generics are canonical themselves, the keys are compared by reference.
+     * Keys and values are only weakly referenced, so that the table does not pin any class or class loader.
+     */
+    @NotNull
+    private final ConcurrentMap<TypeIdentifier<?>, TypeIdentifier<?>> parameterizedTypes = new MapMaker()
+            .concurrencyLevel(1)
+            .weakKeys()
+            .weakValues()
+            .makeMap();
+    private final int hash;
 
-    private TypeIdentifier(@NotNull Class<T> rootType) {
+    @SuppressWarnings("unchecked")
+    private TypeIdentifier(
+            @NotNull Class<T> rootType,
+            @NotNull List<TypeIdentifier<?>> genericTypes,
+            @Nullable TypeIdentifier<T> parent
+    ) {
         this.rootType = rootType;
+        this.genericTypes = genericTypes;
+        this.parent = parent;
+        this.hash = Objects.hash(rootType, genericTypes);
+        this.erasure = genericTypes.isEmpty() ? this : (TypeIdentifier<T>) RAW_TYPES.get(rootType);
     }
 
     /**
-     * Creates a new TypeIdentifier for the given type.
+     * Returns the interned TypeIdentifier for the given type.
      * <p>
-     * This method behaves like {@link #of(Class)}, but
+     * This method behaves like {@link #of(Class)}, but does not wrap primitive types.
      *
-     * @param type
-     * @param <T>
-     * @return
+     * @param type the raw type
+     * @param <T>  the generic of the type
+     * @return the canonical TypeIdentifier of the type
      */
     @NotNull
+    @SuppressWarnings("unchecked")
     public static <T> TypeIdentifier<T> just(@NotNull Class<T> type) {
-        return new TypeIdentifier<>(type);
+        return (TypeIdentifier<T>) RAW_TYPES.get(type);
     }
 
     @NotNull
     public static <T> TypeIdentifier<T> of(@NotNull Class<T> type) {
         if (type.isPrimitive()) {
-            return new TypeIdentifier<>(Primitives.wrap(type));
+            return just(Primitives.wrap(type));
         }
-        return new TypeIdentifier<>(type);
+        return just(type);
     }
 
     /**
@@ -134,9 +190,9 @@ public class TypeIdentifier<T> {
     @NotNull
     public static <T> TypeIdentifier<T> of(@NotNull Type type) {
         if (type instanceof ParameterizedType parameterizedType) {
-            TypeIdentifier<T> result = new TypeIdentifier<>((Class<T>) parameterizedType.getRawType());
+            TypeIdentifier<T> result = just((Class<T>) parameterizedType.getRawType());
             for (Type argument : parameterizedType.getActualTypeArguments()) {
-                result.withGeneric(TypeIdentifier.of(argument));
+                result = result.withGeneric(TypeIdentifier.of(argument));
             }
 
             return result;
@@ -156,14 +212,7 @@ public class TypeIdentifier<T> {
 
     @NotNull
     public TypeIdentifier<T> erasure() {
-        if (cachedErasure == null) {
-            if (genericTypes.isEmpty()) {
-                cachedErasure = this;
-            } else {
-                cachedErasure = TypeIdentifier.of(rootType);
-            }
-        }
-        return cachedErasure;
+        return erasure;
     }
 
     public boolean willErase() {
@@ -187,10 +236,19 @@ public class TypeIdentifier<T> {
 
 
     @NotNull
+    @SuppressWarnings("unchecked")
     public <S extends T> TypeIdentifier<S> withGeneric(@NotNull TypeIdentifier<?> type) {
-        genericTypes.add(type);
+        TypeIdentifier<?> existing = parameterizedTypes.get(type);
+        if (existing != null) {
+            return (TypeIdentifier<S>) existing;
+        }
 
-        return (TypeIdentifier<S>) this;
+        List<TypeIdentifier<?>> generics = new ArrayList<>(genericTypes.size() + 1);
+        generics.addAll(genericTypes);
+        generics.add(type);
+        TypeIdentifier<T> created = new TypeIdentifier<>(rootType, List.copyOf(generics), this);
+        existing = parameterizedTypes.putIfAbsent(type, created);
+        return (TypeIdentifier<S>) (existing != null ? existing : created);
     }
 
     public boolean isAssignableFrom(TypeIdentifier<?> typeIdentifier) {
@@ -283,11 +341,12 @@ public class TypeIdentifier<T> {
         if (o == null || getClass() != o.getClass()) return false;
         TypeIdentifier<?> that = (TypeIdentifier<?>) o;
 
-        if (!Objects.equals(rootType.getName(), that.rootType.getName())) {
+        if (genericTypes.size() > that.genericTypes.size()) {
             return false;
         }
 
-        if (genericTypes.size() > that.genericTypes.size()) {
+        // The names only have to be compared if the same class is loaded by different class loaders
+        if (rootType != that.rootType && !rootType.getName().equals(that.rootType.getName())) {
             return false;
         }
 
@@ -304,7 +363,7 @@ public class TypeIdentifier<T> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(rootType, genericTypes);
+        return hash;
     }
 
     @Override
@@ -315,4 +374,4 @@ public class TypeIdentifier<T> {
 
         return rootType.getName() + "<" + genericTypes.stream().map(TypeIdentifier::toString).collect(Collectors.joining(", ")) + ">";
     }
-}
\ No newline at end of file
+}
@@ -3,11 +3,13 @@ package com.wiredi.runtime.domain.provider.condition;
 import com.wiredi.runtime.domain.annotations.AnnotationMetadata;
 import com.wiredi.runtime.domain.conditional.ConditionEvaluation;
 import com.wiredi.runtime.domain.conditional.ConditionEvaluator;
+import com.wiredi.runtime.domain.provider.TypeIdentifier;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class AnyLoadCondition implements LoadCondition {
 
@@ -31,6 +33,13 @@ public class AnyLoadCondition implements LoadCondition {
         }
     }
 
+    @Override
+    public void collectDependencies(@NotNull ConditionEvaluation.Context context, @NotNull Consumer<TypeIdentifier<?>> dependencies) {
+        for (LoadCondition child : children) {
+            child.collectDependencies(context, dependencies);
+        }
+    }
+
     @Override
     public @NotNull LoadCondition or(@NotNull LoadCondition other) {
         children.add(other);
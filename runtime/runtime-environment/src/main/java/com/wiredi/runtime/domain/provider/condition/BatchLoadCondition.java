@@ -3,10 +3,12 @@ package com.wiredi.runtime.domain.provider.condition;
 import com.wiredi.runtime.domain.annotations.AnnotationMetadata;
 import com.wiredi.runtime.domain.conditional.ConditionEvaluation;
 import com.wiredi.runtime.domain.conditional.ConditionEvaluator;
+import com.wiredi.runtime.domain.provider.TypeIdentifier;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class BatchLoadCondition implements LoadCondition {
 
@@ -32,6 +34,13 @@ public class BatchLoadCondition implements LoadCondition {
         }
     }
 
+    @Override
+    public void collectDependencies(@NotNull ConditionEvaluation.Context context, @NotNull Consumer<TypeIdentifier<?>> dependencies) {
+        for (LoadConditionEvaluationStage loadConditionEvaluationStage : evaluators) {
+            context.get(loadConditionEvaluationStage.type()).collectDependencies(loadConditionEvaluationStage.annotationMetaData(), dependencies);
+        }
+    }
+
     @Override
     public @NotNull LoadCondition add(@NotNull Class<? extends ConditionEvaluator> evaluatorType, @NotNull AnnotationMetadata annotationMetaData) {
         evaluators.add(new LoadConditionEvaluationStage(evaluatorType, annotationMetaData));
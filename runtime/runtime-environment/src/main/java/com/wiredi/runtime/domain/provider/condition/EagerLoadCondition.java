@@ -4,9 +4,11 @@ import com.wiredi.runtime.domain.annotations.AnnotationMetadata;
 import com.wiredi.runtime.domain.conditional.ConditionEvaluation;
 import com.wiredi.runtime.domain.conditional.ConditionEvaluator;
 import com.wiredi.runtime.domain.conditional.Conditional;
+import com.wiredi.runtime.domain.provider.TypeIdentifier;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public class EagerLoadCondition implements LoadCondition {
 
@@ -29,6 +31,11 @@ public class EagerLoadCondition implements LoadCondition {
         context.withAnnotationMetadata(annotationMetaData, conditionEvaluator::test);
     }
 
+    @Override
+    public void collectDependencies(@NotNull ConditionEvaluation.Context context, @NotNull Consumer<TypeIdentifier<?>> dependencies) {
+        conditionEvaluator.collectDependencies(annotationMetaData, dependencies);
+    }
+
     @Override
     public @NotNull LoadCondition add(@NotNull Class<? extends ConditionEvaluator> evaluatorType, @NotNull AnnotationMetadata annotationMetaData) {
         return new BatchLoadCondition(
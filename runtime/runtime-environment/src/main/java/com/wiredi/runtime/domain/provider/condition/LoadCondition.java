@@ -4,9 +4,12 @@ import com.wiredi.runtime.domain.annotations.AnnotationMetadata;
 import com.wiredi.runtime.domain.conditional.ConditionEvaluation;
 import com.wiredi.runtime.domain.conditional.ConditionEvaluator;
 import com.wiredi.runtime.domain.conditional.Conditional;
+import com.wiredi.runtime.domain.provider.TypeIdentifier;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.function.Consumer;
+
 public interface LoadCondition {
 
     LoadCondition TRUE = new ConstantLoadCondition(true);
@@ -66,6 +69,20 @@ public interface LoadCondition {
 
     void test(ConditionEvaluation.Context context);
 
+    /**
+     * Announces the types of beans that the outcome of this condition depends on.
+     * <p>
+     * Conditions delegate this to their {@link ConditionEvaluator#collectDependencies(AnnotationMetadata, Consumer)}.
+     *
+     * @param context      the context the condition will be tested with
+     * @param dependencies the consumer to announce the types to
+     */
+    default void collectDependencies(
+            @NotNull ConditionEvaluation.Context context,
+            @NotNull Consumer<TypeIdentifier<?>> dependencies
+    ) {
+    }
+
     @NotNull
     default LoadCondition add(@NotNull Class<? extends ConditionEvaluator> evaluatorType) {
         return add(evaluatorType, AnnotationMetadata.builder(Conditional.class.getSimpleName())
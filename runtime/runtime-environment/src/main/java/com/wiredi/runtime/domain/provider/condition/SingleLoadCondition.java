@@ -4,9 +4,11 @@ import com.wiredi.runtime.domain.annotations.AnnotationMetadata;
 import com.wiredi.runtime.domain.conditional.ConditionEvaluation;
 import com.wiredi.runtime.domain.conditional.ConditionEvaluator;
 import com.wiredi.runtime.domain.conditional.Conditional;
+import com.wiredi.runtime.domain.provider.TypeIdentifier;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public class SingleLoadCondition implements LoadCondition {
 
@@ -30,6 +32,11 @@ public class SingleLoadCondition implements LoadCondition {
         context.withAnnotationMetadata(annotationMetaData, evaluator::test);
     }
 
+    @Override
+    public void collectDependencies(@NotNull ConditionEvaluation.Context context, @NotNull Consumer<TypeIdentifier<?>> dependencies) {
+        context.get(evaluatorType).collectDependencies(annotationMetaData, dependencies);
+    }
+
     @Override
     public @NotNull LoadCondition add(@NotNull Class<? extends ConditionEvaluator> evaluatorType, @NotNull AnnotationMetadata annotationMetaData) {
         return new BatchLoadCondition(
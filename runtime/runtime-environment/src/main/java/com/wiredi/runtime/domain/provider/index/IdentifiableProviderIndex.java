@@ -0,0 +1,52 @@
+package com.wiredi.runtime.domain.provider.index;
+
+import com.wiredi.runtime.domain.provider.IdentifiableProvider;
+import com.wiredi.runtime.domain.provider.sources.IndexedIdentifiableProviderSource;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * An index of all {@link IdentifiableProvider} instances of a module.
+ * <p>
+ * The annotation processor generates one index per compilation, listing every generated provider together with its
+ * constructor, the name of its primary wire type and whether it is conditional.
+ * Indexes are registered as services, so that the providers of a module can be loaded by loading one service instead
+ * of every provider.
+ * Providers are constructed through the referenced constructors, without reflection.
+ * <p>
+ * Modules that do not use the annotation processor can provide a handwritten index.
+ *
+ * @see IndexedIdentifiableProviderSource
+ */
+public interface IdentifiableProviderIndex {
+
+    /**
+     * @return all providers of this index
+     */
+    @NotNull
+    List<Entry> entries();
+
+    /**
+     * A single provider of an index.
+     *
+     * @param constructor the constructor of the provider
+     * @param typeName    the binary name of the primary wire type of the provider
+     * @param conditional whether the provider has a {@link IdentifiableProvider#condition()}
+     */
+    record Entry(
+            @NotNull Supplier<IdentifiableProvider<?>> constructor,
+            @NotNull String typeName,
+            boolean conditional
+    ) {
+
+        /**
+         * @return a new instance of the provider
+         */
+        @NotNull
+        public IdentifiableProvider<?> create() {
+            return constructor.get();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.wiredi.runtime.domain.provider.index;
+
+import com.google.auto.service.AutoService;
+import com.wiredi.runtime.aspects.ExecutionChainRegistry;
+import com.wiredi.runtime.aspects.ExecutionChainRegistryProvider;
+import com.wiredi.runtime.converter.InstantTypeConverter;
+import com.wiredi.runtime.converter.InstantTypeConverterProvider;
+import com.wiredi.runtime.environment.builtin.TypedPropertiesEnvironmentConfiguration;
+import com.wiredi.runtime.environment.builtin.TypedPropertiesEnvironmentConfigurationIdentifiableProvider;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * The {@link IdentifiableProviderIndex} of the handwritten providers of the runtime environment.
+ * <p>
+ * This module is not processed by the annotation processor, so this index has to be maintained by hand.
+ */
+@AutoService(IdentifiableProviderIndex.class)
+public final class RuntimeEnvironmentProviderIndex implements IdentifiableProviderIndex {
+
+    private static final List<Entry> ENTRIES = List.of(
+            new Entry(InstantTypeConverterProvider::new, InstantTypeConverter.class.getName(), false),
+            new Entry(ExecutionChainRegistryProvider::new, ExecutionChainRegistry.class.getName(), false),
+            new Entry(TypedPropertiesEnvironmentConfigurationIdentifiableProvider::new, TypedPropertiesEnvironmentConfiguration.class.getName(), true)
+    );
+
+    @Override
+    public @NotNull List<Entry> entries() {
+        return ENTRIES;
+    }
+}
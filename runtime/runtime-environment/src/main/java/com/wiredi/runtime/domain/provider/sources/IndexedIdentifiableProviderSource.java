@@ -0,0 +1,81 @@
+package com.wiredi.runtime.domain.provider.sources;
+
+import com.wiredi.logging.Logging;
+import com.wiredi.runtime.domain.provider.IdentifiableProvider;
+import com.wiredi.runtime.domain.provider.IdentifiableProviderSource;
+import com.wiredi.runtime.domain.provider.index.IdentifiableProviderIndex;
+import com.wiredi.runtime.lang.OrderedComparator;
+import com.wiredi.runtime.services.DefaultServiceFileSource;
+import com.wiredi.runtime.services.ServiceFileSource;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A source for {@link IdentifiableProvider} using the {@link IdentifiableProviderIndex} of each module.
+ * <p>
+ * Contrary to the {@link ServiceLoaderIdentifiableProviderSource}, this source only loads one service per module.
+ * All providers are constructed through the constructors referenced in the indexes, without reflection.
+ * Entries can be filtered before the providers are constructed.
+ * <p>
+ * After incremental builds, a provider might be listed in more than one index of a module.
+ * Each provider class is only loaded once.
+ * <p>
+ * Only providers listed in an index are loaded.
+ * Providers registered only as a service of {@link IdentifiableProvider}, for example handwritten providers of
+ * modules that do not use the annotation processor, are not loaded by this source.
+ *
+ * @see IdentifiableProviderSource
+ * @see IdentifiableProviderIndex
+ */
+public class IndexedIdentifiableProviderSource implements IdentifiableProviderSource {
+
+    private static final Logging logger = Logging.getInstance(IndexedIdentifiableProviderSource.class);
+    @NotNull
+    private final ServiceFileSource source;
+    @NotNull
+    private final Predicate<IdentifiableProviderIndex.Entry> filter;
+
+    public IndexedIdentifiableProviderSource(
+            @NotNull ServiceFileSource source,
+            @NotNull Predicate<IdentifiableProviderIndex.Entry> filter
+    ) {
+        this.source = source;
+        this.filter = filter;
+    }
+
+    public IndexedIdentifiableProviderSource(@NotNull ServiceFileSource source) {
+        this(source, entry -> true);
+    }
+
+    public IndexedIdentifiableProviderSource(@NotNull Predicate<IdentifiableProviderIndex.Entry> filter) {
+        this(DefaultServiceFileSource.INSTANCE, filter);
+    }
+
+    public IndexedIdentifiableProviderSource() {
+        this(DefaultServiceFileSource.INSTANCE);
+    }
+
+    @Override
+    public Collection<IdentifiableProvider<?>> load() {
+        logger.trace(() -> "Starting to load IdentifiableProviders from indexes");
+        final List<IdentifiableProvider<?>> content = new ArrayList<>();
+        final Set<Class<?>> loadedProviders = new HashSet<>();
+        for (IdentifiableProviderIndex index : this.source.loadServiceFiles(IdentifiableProviderIndex.class)) {
+            for (IdentifiableProviderIndex.Entry entry : index.entries()) {
+                if (filter.test(entry)) {
+                    IdentifiableProvider<?> provider = entry.create();
+                    if (loadedProviders.add(provider.getClass())) {
+                        content.add(provider);
+                    }
+                }
+            }
+        }
+        return OrderedComparator.sorted(content);
+    }
+}
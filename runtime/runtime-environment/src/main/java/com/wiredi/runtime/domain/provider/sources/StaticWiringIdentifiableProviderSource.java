@@ -0,0 +1,101 @@
+package com.wiredi.runtime.domain.provider.sources;
+
+import com.wiredi.logging.Logging;
+import com.wiredi.runtime.domain.provider.IdentifiableProvider;
+import com.wiredi.runtime.domain.provider.IdentifiableProviderSource;
+import com.wiredi.runtime.domain.provider.TypeIdentifier;
+import com.wiredi.runtime.domain.provider.wiring.StaticWiring;
+import com.wiredi.runtime.domain.provider.wiring.StaticallyWiredProvider;
+import com.wiredi.runtime.exceptions.DiLoadingException;
+import com.wiredi.runtime.lang.OrderedComparator;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * A source for {@link IdentifiableProvider} that replaces generated providers with the providers of {@link StaticWiring}
+ * instances.
+ * <p>
+ * The static wirings are requested every time the providers are loaded, as they are constructed when the
+ * WireContainer is loaded.
+ * All providers are loaded from the delegate sources.
+ * Providers that are statically wired are dropped and the {@link StaticallyWiredProvider} of the wiring is used
+ * instead, so that every bean is only registered once.
+ * <p>
+ * If any other provider is wired to a statically wired type, or to a type that a statically wired bean depends on,
+ * loading fails with a {@link DiLoadingException}.
+ * Otherwise, the WireContainer would resolve these types differently than the static wiring, depending on whether
+ * they are requested through the static wiring or through the scopes.
+ *
+ * @see StaticWiring
+ */
+public class StaticWiringIdentifiableProviderSource implements IdentifiableProviderSource {
+
+    private static final Logging logger = Logging.getInstance(StaticWiringIdentifiableProviderSource.class);
+    @NotNull
+    private final Supplier<? extends List<StaticWiring>> staticWirings;
+    @NotNull
+    private final List<IdentifiableProviderSource> delegates;
+
+    public StaticWiringIdentifiableProviderSource(
+            @NotNull Supplier<? extends List<StaticWiring>> staticWirings,
+            @NotNull List<? extends IdentifiableProviderSource> delegates
+    ) {
+        this.staticWirings = staticWirings;
+        this.delegates = List.copyOf(delegates);
+    }
+
+    @Override
+    public Collection<IdentifiableProvider<?>> load() {
+        final List<IdentifiableProvider<?>> content = new ArrayList<>();
+        final Set<Class<?>> replacedProviders = new HashSet<>();
+        final List<StaticWiring> staticWirings = this.staticWirings.get();
+        for (StaticWiring staticWiring : staticWirings) {
+            for (StaticallyWiredProvider<?> provider : staticWiring.providers()) {
+                replacedProviders.add(provider.delegate().getClass());
+                content.add(provider);
+            }
+        }
+
+        logger.trace(() -> "Replacing " + replacedProviders.size() + " providers with statically wired providers");
+        for (IdentifiableProviderSource delegate : delegates) {
+            for (IdentifiableProvider<?> provider : delegate.load()) {
+                if (!replacedProviders.contains(provider.getClass())) {
+                    verifyNotWiredToStaticWirings(provider, staticWirings);
+                    content.add(provider);
+                }
+            }
+        }
+
+        return OrderedComparator.sorted(content);
+    }
+
+    private void verifyNotWiredToStaticWirings(
+            @NotNull IdentifiableProvider<?> provider,
+            @NotNull List<StaticWiring> staticWirings
+    ) {
+        for (StaticWiring staticWiring : staticWirings) {
+            List<Class<?>> wiredTypes = staticWiring.wiredTypes();
+            if (isWiredTo(provider, wiredTypes)) {
+                throw new DiLoadingException("The provider " + provider + " is wired to a type, which is statically wired by " + staticWiring.getClass().getName() + ". The static wiring resolves " + wiredTypes);
+            }
+            List<Class<?>> dependencies = staticWiring.dependencies();
+            if (isWiredTo(provider, dependencies)) {
+                throw new DiLoadingException("The provider " + provider + " is wired to a type, which the static wiring " + staticWiring.getClass().getName() + " resolved at compile time. The static wiring depends on " + dependencies);
+            }
+        }
+    }
+
+    private boolean isWiredTo(@NotNull IdentifiableProvider<?> provider, @NotNull List<Class<?>> types) {
+        if (types.contains(provider.type().getRootType())) {
+            return true;
+        }
+        for (TypeIdentifier<?> additionalWireType : provider.additionalWireTypes()) {
+            if (types.contains(additionalWireType.getRootType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,95 @@
+package com.wiredi.runtime.domain.provider.wiring;
+
+import com.wiredi.runtime.WireContainer;
+import com.wiredi.runtime.WireContainerBuilder;
+import com.wiredi.runtime.domain.provider.IdentifiableProvider;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
+
+/**
+ * A wiring graph of singletons, which was resolved completely at compile time ("strict" mode).
+ * <p>
+ * If strict mode is enabled, the annotation processor generates one implementation of this interface per compilation,
+ * given that every provider of the compilation can be wired statically.
+ * The implementation holds one final field per singleton and constructs all of them in its constructor, through
+ * direct constructor calls in dependency order.
+ * Implementations are registered as services and are constructed every time a {@link WireContainer} is loaded.
+ * Clearing the WireContainer drops the wiring with all of its beans.
+ * <p>
+ * A {@link WireContainer} built with static wirings resolves the statically wired types through {@link #get(Class)}
+ * before consulting the scopes.
+ * The {@link #providers()} replace the generated providers of the same beans, so that the beans are still available
+ * through their additional wire types, for example when requesting all instances of an interface.
+ * <p>
+ * Statically wired beans can not be customized at runtime.
+ * If a type is statically wired, {@link WireContainer#get(Class)} will always return the statically wired instance,
+ * even if other providers of the same type are registered.
+ *
+ * @see WireContainerBuilder#withStaticWiring()
+ * @see StaticallyWiredProvider
+ */
+public interface StaticWiring {
+
+    /**
+     * Returns factories for all static wirings registered as a service.
+     * <p>
+     * The wirings are not constructed by this method.
+     * Every call to {@link Supplier#get()} of a factory constructs a new wiring, and with it new instances of all
+     * statically wired beans.
+     *
+     * @return factories of all registered static wirings
+     */
+    @NotNull
+    static List<Supplier<StaticWiring>> factories() {
+        // The ServiceFiles cache the service instances, which would share the beans between containers
+        return ServiceLoader.load(StaticWiring.class)
+                .stream()
+                .<Supplier<StaticWiring>>map(provider -> provider)
+                .toList();
+    }
+
+    /**
+     * Returns the statically wired instance of the exact {@code type}.
+     * <p>
+     * Only the concrete types of the statically wired beans are resolved by this method.
+     *
+     * @param type the concrete type of the bean
+     * @param <T>  the generic type of the bean
+     * @return the statically wired instance, or null if the type is not statically wired
+     */
+    @Nullable
+    <T> T get(@NotNull Class<T> type);
+
+    /**
+     * @return providers for all statically wired beans
+     */
+    @NotNull
+    List<StaticallyWiredProvider<?>> providers();
+
+    /**
+     * Returns the concrete types of all statically wired beans, which are resolved by {@link #get(Class)}.
+     * <p>
+     * If any other provider is wired to one of these types at runtime, the WireContainer would hold two instances of
+     * the type and loading the WireContainer fails.
+     *
+     * @return the types that are statically wired
+     */
+    @NotNull
+    List<Class<?>> wiredTypes();
+
+    /**
+     * Returns the types of all constructor parameters of the statically wired beans.
+     * <p>
+     * These types were resolved at compile time against the providers of the compilation.
+     * If any other provider is wired to one of these types at runtime, the static wiring is no longer equal to the
+     * wiring of the WireContainer and loading the WireContainer fails.
+     *
+     * @return the types the statically wired beans depend on
+     */
+    @NotNull
+    List<Class<?>> dependencies();
+}
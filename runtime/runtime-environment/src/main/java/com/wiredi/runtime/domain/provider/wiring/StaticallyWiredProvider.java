@@ -0,0 +1,75 @@
+package com.wiredi.runtime.domain.provider.wiring;
+
+import com.wiredi.runtime.WireContainer;
+import com.wiredi.runtime.domain.provider.IdentifiableProvider;
+import com.wiredi.runtime.domain.provider.TypeIdentifier;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * An {@link IdentifiableProvider} for a bean constructed by a {@link StaticWiring}.
+ * <p>
+ * All metadata is taken from the provider that was generated for the bean, which is replaced by this provider.
+ * Instead of constructing the bean, the statically wired instance is returned.
+ *
+ * @param <T> the type of the bean
+ */
+public final class StaticallyWiredProvider<T> implements IdentifiableProvider<T> {
+
+    @NotNull
+    private final IdentifiableProvider<T> delegate;
+    @NotNull
+    private final T instance;
+
+    public StaticallyWiredProvider(
+            @NotNull IdentifiableProvider<T> delegate,
+            @NotNull T instance
+    ) {
+        this.delegate = delegate;
+        this.instance = instance;
+    }
+
+    /**
+     * @return the generated provider, replaced by this provider
+     */
+    @NotNull
+    public IdentifiableProvider<T> delegate() {
+        return delegate;
+    }
+
+    @Override
+    public @NotNull TypeIdentifier<? super T> type() {
+        return delegate.type();
+    }
+
+    @Override
+    public @NotNull List<TypeIdentifier<?>> additionalWireTypes() {
+        return delegate.additionalWireTypes();
+    }
+
+    @Override
+    public boolean primary() {
+        return delegate.primary();
+    }
+
+    @Override
+    public int getOrder() {
+        return delegate.getOrder();
+    }
+
+    @Override
+    public @NotNull T get(@NotNull WireContainer wireContainer, @NotNull TypeIdentifier<T> concreteType) {
+        return instance;
+    }
+
+    @Override
+    public void tearDown(@NotNull T t) {
+        delegate.tearDown(t);
+    }
+
+    @Override
+    public String toString() {
+        return "StaticallyWiredProvider{" + instance + '}';
+    }
+}
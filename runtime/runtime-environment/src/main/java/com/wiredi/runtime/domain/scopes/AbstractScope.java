@@ -4,6 +4,7 @@ import com.wiredi.runtime.WireContainer;
 import com.wiredi.runtime.domain.BeanFactory;
 import com.wiredi.runtime.domain.Scope;
 import com.wiredi.runtime.domain.ScopeCallback;
+import com.wiredi.runtime.domain.ScopeRegistry;
 import com.wiredi.runtime.domain.factories.Bean;
 import com.wiredi.runtime.exceptions.MissingBeanException;
 import com.wiredi.runtime.domain.provider.IdentifiableProvider;
@@ -15,6 +16,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.stream.Stream;
 
 public abstract class AbstractScope implements Scope {
@@ -25,6 +28,10 @@ public abstract class AbstractScope implements Scope {
     private WireContainer wireContainer;
     @NotNull
     private ScopeCallback scopeCallback = ScopeCallback.NOOP;
+    @NotNull
+    private final Map<@NotNull TypeIdentifier<?>, @NotNull OrderedBeans<?>> orderedBeans = new ConcurrentHashMap<>();
+    @NotNull
+    private final Set<@NotNull ScopeRegistry> registries = new CopyOnWriteArraySet<>();
 
     public AbstractScope(@NotNull Map<@NotNull TypeIdentifier, @NotNull BeanFactory> factories) {
         this.factories = factories;
@@ -82,6 +89,9 @@ public abstract class AbstractScope implements Scope {
         for (TypeIdentifier<?> wireType : provider.additionalWireTypes()) {
             this.factories.computeIfAbsent(wireType.erasure(), BeanFactory::of).register(provider);
         }
+
+        // The new provider may be part of any previously ordered result
+        this.orderedBeans.clear();
     }
 
     @Override
@@ -180,28 +190,66 @@ public abstract class AbstractScope implements Scope {
 
     @Override
     public <T> @NotNull Stream<Bean<T>> getAllBeans(@NotNull TypeIdentifier<T> type) {
+        return orderedBeans(type).beans().stream();
+    }
+
+    @Override
+    public <T> @NotNull List<T> getAll(@NotNull TypeIdentifier<T> type) {
+        return orderedBeans(type).instances();
+    }
+
+    /**
+     * Resolves all beans of the type in their order.
+     * <p>
+     * As long as the {@link ScopeStore} returns the same collection for the type, like it does for singletons, the
+     * ordered beans and their instances are reused as they are.
+     * Otherwise, for example for prototypes, the beans are created in the order of their providers, which the
+     * {@link BeanFactory} caches per type, so they only have to be sorted if a {@link ScopeCallback} or an
+     * {@link com.wiredi.runtime.lang.Ordered} instance changed the order.
+     */
+    @NotNull
+    private <T> OrderedBeans<T> orderedBeans(@NotNull TypeIdentifier<T> type) {
         WireContainer wireContainer = requireWireContainer();
+        Collection<Bean<T>> beans = scopeStore().getAll(type, () -> createAllBeans(wireContainer, type));
+
+        OrderedBeans<T> cached = (OrderedBeans<T>) orderedBeans.get(type);
+        if (cached != null && cached.isSnapshotOf(beans)) {
+            return cached;
+        }
 
-        return scopeStore().getAll(type, () -> {
-                    Set<Bean<T>> result = new HashSet<>();
+        OrderedBeans<T> result = OrderedBeans.of(beans);
+        orderedBeans.put(type, result);
+        return result;
+    }
 
-                    // Always lookup by erasure, but pass original type to factory
-                    BeanFactory<T> factory = factories.get(type.erasure());
-                    if (factory != null) {
-                        result.addAll(factory.getAll(wireContainer, type));
-                    }
+    @NotNull
+    private <T> Collection<Bean<T>> createAllBeans(@NotNull WireContainer wireContainer, @NotNull TypeIdentifier<T> type) {
+        // Always lookup by erasure, but pass original type to factory
+        BeanFactory<T> factory = factories.get(type.erasure());
+        if (factory == null) {
+            return new ArrayList<>();
+        }
 
-                    return result;
-                }).stream()
-                .map(scopeCallback::newBeanCreated)
-                .sorted(OrderedComparator.INSTANCE);
+        Collection<Bean<T>> beans = factory.getAll(wireContainer, type);
+        // The result has to stay modifiable, as the ScopeStore may add beans created later on
+        List<Bean<T>> result = new ArrayList<>(beans.size());
+        for (Bean<T> bean : beans) {
+            result.add(scopeCallback.newBeanCreated(bean));
+        }
+        if (!isOrdered(result)) {
+            OrderedComparator.sort(result);
+        }
+
+        return result;
     }
 
-    @Override
-    public <T> @NotNull List<T> getAll(@NotNull TypeIdentifier<T> type) {
-        return getAllBeans(type)
-                .map(Bean::instance)
-                .toList();
+    private static <T> boolean isOrdered(@NotNull List<Bean<T>> beans) {
+        for (int i = 1; i < beans.size(); i++) {
+            if (OrderedComparator.INSTANCE.compare(beans.get(i - 1), beans.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -228,13 +276,25 @@ public abstract class AbstractScope implements Scope {
     public final void reset() {
         scopeCallback.scopeResetting(this);
         this.scopeStore().tearDown();
+        this.orderedBeans.clear();
         doReset();
+        registries.forEach(registry -> registry.scopeReset(this));
         scopeCallback.scopeReset(this);
     }
 
     protected void doReset() {
     }
 
+    @Override
+    public void registered(@NotNull ScopeRegistry registry) {
+        registries.add(registry);
+    }
+
+    @Override
+    public void unregistered(@NotNull ScopeRegistry registry) {
+        registries.remove(registry);
+    }
+
     @Override
     public void link(@NotNull WireContainer wireContainer) {
         this.wireContainer = wireContainer;
@@ -256,4 +316,43 @@ public abstract class AbstractScope implements Scope {
     public String toString() {
         return this.getClass().getSimpleName() + "{}";
     }
+
+    /**
+     * An immutable, ordered snapshot of a collection of beans held by the {@link ScopeStore}.
+     *
+     * @param source    the collection of the ScopeStore this snapshot was taken of
+     * @param size      the size of the source when the snapshot was taken
+     * @param beans     the ordered beans
+     * @param instances the instances of the ordered beans
+     * @param <T>       the type of the beans
+     */
+    private record OrderedBeans<T>(
+            @NotNull Collection<Bean<T>> source,
+            int size,
+            @NotNull List<Bean<T>> beans,
+            @NotNull List<T> instances
+    ) {
+        private static <T> OrderedBeans<T> of(@NotNull Collection<Bean<T>> source) {
+            List<Bean<T>> beans = new ArrayList<>(source);
+            if (!isOrdered(beans)) {
+                OrderedComparator.sort(beans);
+            }
+
+            List<T> instances = new ArrayList<>(beans.size());
+            for (Bean<T> bean : beans) {
+                instances.add(bean.instance());
+            }
+
+            return new OrderedBeans<>(source, source.size(), Collections.unmodifiableList(beans), Collections.unmodifiableList(instances));
+        }
+
+        /**
+         * Whether this snapshot still represents the collection.
+         * <p>
+         * ScopeStores only ever add beans to a collection they hold, so an unchanged size means unchanged content.
+         */
+        private boolean isSnapshotOf(@NotNull Collection<Bean<T>> collection) {
+            return source == collection && size == collection.size();
+        }
+    }
 }
\ No newline at end of file
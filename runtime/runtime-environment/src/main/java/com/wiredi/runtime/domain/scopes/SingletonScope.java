@@ -38,4 +38,9 @@ public class SingletonScope extends AbstractScope {
     protected @NotNull ScopeStore scopeStore() {
         return scopeStore;
     }
+
+    @Override
+    public boolean holdsSingletons() {
+        return true;
+    }
 }
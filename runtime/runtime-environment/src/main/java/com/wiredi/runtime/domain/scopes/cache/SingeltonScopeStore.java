@@ -9,14 +9,18 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 @SuppressWarnings({"unchecked", "rawtypes"})
 public class SingeltonScopeStore implements ScopeStore {
 
-    // Thread-local for tracking loading state to prevent circular dependencies
-    private static final ThreadLocal<Set<Object>> LOADING_TRACKER = ThreadLocal.withInitial(HashSet::new);
+    // Creations currently in progress and the creation each thread is waiting for, used to detect circular dependencies
+    private final Map<Object, Creation> inFlight = new ConcurrentHashMap<>();
+    private final Map<Thread, Creation> waiting = new ConcurrentHashMap<>();
     private final Map<IdentifiableProvider<?>, Bean<?>> providerCache;
     private final Map<TypeIdentifier<?>, Collection<Bean<?>>> allInstances;
 
@@ -50,8 +54,8 @@ public class SingeltonScopeStore implements ScopeStore {
         }
 
         return runCycleFree(provider, () -> {
-            // After adding the current provider, recheck the bean from the provider cache.
-            // Theoretically, this could be because another thread has already created the bean before we added it to currently loading.
+            // After becoming the owner of the creation, recheck the bean from the provider cache.
+            // Theoretically, another thread could have created the bean between the fast path and becoming the owner.
             Bean<T> cached = (Bean<T>) providerCache.get(provider);
             if (cached != null) {
                 return cached;
@@ -77,7 +81,7 @@ public class SingeltonScopeStore implements ScopeStore {
         }
 
         return runCycleFree(provider, () -> {
-            // Double-check after acquiring the lock
+            // Double-check after becoming the owner of the creation
             Bean<T> cachedInstance = (Bean<T>) providerCache.get(provider);
             if (cachedInstance != null) {
                 return Optional.of(cachedInstance);
@@ -101,7 +105,7 @@ public class SingeltonScopeStore implements ScopeStore {
         }
 
         return runCycleFree(type, () -> {
-            // Double-check after acquiring the lock
+            // Double-check after becoming the owner of the creation
             Collection<Bean<T>> cachedBeans = (Collection) allInstances.get(type);
             if (cachedBeans != null) {
                 return cachedBeans;
@@ -124,45 +128,119 @@ public class SingeltonScopeStore implements ScopeStore {
     }
 
     /**
-     * Tries to detect circular dependencies and run the supplier in a cycle-free manner.
+     * Runs the supplier at most once per key at a time and detects circular dependencies while doing so.
      * <p>
-     * A cycle can happen if a provider instantiates a bean that requires another bean which is currently being instantiated.
-     * Contrary to cycles in a dependency graph, these cycles are due to condition evaluation and not due to circular references.
-     * We break the cycle by returning an empty Optional instead of throwing an exception because the later process will correctly continue with this.
+     * The first thread to request a key becomes the owner of an in-flight creation and runs the supplier.
+     * Every other thread requesting the same key waits for this creation instead of running the supplier as well.
+     * If the creation fails, waiting threads retry and may become the owner of the next creation themselves.
+     * <p>
+     * Waiting is done on a {@link CompletableFuture} and not on a monitor, so virtual threads are unmounted instead of
+     * being pinned to their carrier thread while another thread creates the bean.
+     * <p>
+     * Two kinds of cycles are detected, both resulting in a {@link CyclicDependencyException}:
+     * <ul>
+     *     <li>A thread requests a key that it is currently creating itself.</li>
+     *     <li>A thread would wait for a creation whose owner is (transitively) waiting for a creation owned by the
+     *     current thread. Without this check, both threads would wait for each other forever.</li>
+     * </ul>
      *
-     * @param lock     The lock object to synchronize on.
+     * @param key      The key identifying the creation.
      * @param supplier The supplier function to execute.
      * @param <T>      The type of the result.
-     * @return The result of the supplier function wrapped in an Optional, or empty if a circular dependency is detected.
+     * @return The result of the supplier function, either computed by this thread or by the owner of the creation.
      */
     @NotNull
-    private <T> T runCycleFree(@NotNull Object lock, @NotNull Supplier<T> supplier) {
-        Set<Object> currentlyLoading = LOADING_TRACKER.get();
+    private <T> T runCycleFree(@NotNull Object key, @NotNull Supplier<T> supplier) {
+        Thread currentThread = Thread.currentThread();
+        while (true) {
+            Creation creation = new Creation(currentThread, new CompletableFuture<>());
+            Creation running = inFlight.putIfAbsent(key, creation);
+            if (running == null) {
+                return create(key, creation, supplier);
+            }
 
-        // Check for circular dependency
-        if (currentlyLoading.contains(lock)) {
-            // Intra-Thread cycle detected. Raise an exception, as a circular dependency is not allowed.
-            throw new CyclicDependencyException(currentlyLoading);
+            if (running.owner() == currentThread) {
+                // Intra-Thread cycle detected. Raise an exception, as a circular dependency is not allowed.
+                throw new CyclicDependencyException(loadingBy(currentThread, key));
+            }
+
+            Optional<T> result = awaitCreation(key, running, currentThread);
+            if (result.isPresent()) {
+                return result.get();
+            }
         }
-        // Avoid the use of computeIfAbsent to avoid recursive update resulting in dead locks
-        // Use manual "synchronization" by using the thread-local currently loading instances
-        currentlyLoading.add(lock);
+    }
 
+    private <T> T create(@NotNull Object key, @NotNull Creation creation, @NotNull Supplier<T> supplier) {
+        T result;
         try {
-            // Synchronize to prevent inter-thread deadlocks
-            synchronized (lock) {
-                return supplier.get();
+            result = supplier.get();
+        } catch (Throwable throwable) {
+            inFlight.remove(key, creation);
+            creation.result().completeExceptionally(throwable);
+            throw throwable;
+        }
+
+        // Remove the creation before completing it, so that waiting threads never observe a finished creation.
+        inFlight.remove(key, creation);
+        creation.result().complete(result);
+        return result;
+    }
+
+    /**
+     * Waits for the creation of another thread.
+     *
+     * @return the result of the creation, or an empty Optional if the creation failed and should be retried.
+     */
+    private <T> Optional<T> awaitCreation(@NotNull Object key, @NotNull Creation running, @NotNull Thread currentThread) {
+        waiting.put(currentThread, running);
+        try {
+            if (waitsOnCurrentThread(running, currentThread)) {
+                // Inter-Thread cycle detected. Waiting would result in a dead lock.
+                throw new CyclicDependencyException(loadingBy(currentThread, key));
             }
+
+            return Optional.of((T) running.result().join());
+        } catch (CompletionException | CancellationException e) {
+            return Optional.empty();
         } finally {
-            currentlyLoading.remove(lock);
+            waiting.remove(currentThread);
         }
     }
 
+    private boolean waitsOnCurrentThread(@NotNull Creation running, @NotNull Thread currentThread) {
+        Creation next = running;
+        // Bound the walk, in case other threads are waiting on each other without involving the current thread.
+        int remainingSteps = waiting.size() + 1;
+        while (next != null && remainingSteps-- > 0) {
+            if (next.owner() == currentThread) {
+                return true;
+            }
+            next = waiting.get(next.owner());
+        }
+        return false;
+    }
+
+    private Collection<Object> loadingBy(@NotNull Thread thread, @NotNull Object key) {
+        List<Object> result = new ArrayList<>();
+        inFlight.forEach((loading, creation) -> {
+            if (creation.owner() == thread) {
+                result.add(loading);
+            }
+        });
+        if (!result.contains(key)) {
+            result.add(key);
+        }
+        return result;
+    }
+
     @Override
     public void tearDown() {
         providerCache.values().forEach(Bean::tearDown);
         providerCache.clear();
         allInstances.clear();
-        LOADING_TRACKER.remove(); // Clean up thread-local
     }
-}
\ No newline at end of file
+
+    private record Creation(@NotNull Thread owner, @NotNull CompletableFuture<Object> result) {
+    }
+}
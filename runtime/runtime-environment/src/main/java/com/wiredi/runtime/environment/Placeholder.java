@@ -247,7 +247,7 @@ public class Placeholder {
          * @return a new Placeholder, if any.
          */
         public Optional<Placeholder> asPlaceholder() {
-            List<Placeholder> placeholders = parent.resolveAllIn(content);
+            List<Placeholder> placeholders = parent.template(content).placeholders();
 
             if (placeholders.size() == 1) {
                 return Optional.ofNullable(placeholders.getFirst());
@@ -2,6 +2,8 @@ package com.wiredi.runtime.environment;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class is responsible for parsing and resolving placeholders in strings.
@@ -15,12 +17,17 @@ import java.util.List;
  * <p>
  * This resolver can find all placeholders in a string and create {@link Placeholder}
  * objects that can be used to resolve and replace the placeholders with actual values.
+ * <p>
+ * Strings which are resolved repeatedly should be compiled into a {@link PlaceholderTemplate} through
+ * {@link #template(String)}, which caches the compiled templates of this resolver.
  *
  * @see Placeholder
  */
 public class PlaceholderResolver {
 
     private static final String DEFAULT_PARAMETER_DELIMITER = ":";
+    private static final int MAX_CACHED_TEMPLATES = 1024;
+    private final Map<String, PlaceholderTemplate> templates = new ConcurrentHashMap<>();
     private final String start;
     private final String stop;
     private final String parameterDelimiter;
@@ -56,6 +63,30 @@ public class PlaceholderResolver {
         this.parameterDelimiter = parameterDelimiter;
     }
 
+    /**
+     * Returns the compiled {@link PlaceholderTemplate} of the input string.
+     * <p>
+     * Templates are cached, so repeated calls with the same input only parse the input once.
+     * The cache is bounded and cleared entirely once it is full, so inputs which are constructed dynamically
+     * will not grow the cache indefinitely.
+     *
+     * @param input the string to compile
+     * @return the template of the input string
+     */
+    public final PlaceholderTemplate template(String input) {
+        PlaceholderTemplate template = templates.get(input);
+        if (template != null) {
+            return template;
+        }
+
+        template = PlaceholderTemplate.compile(input, this);
+        if (templates.size() >= MAX_CACHED_TEMPLATES) {
+            templates.clear();
+        }
+        templates.put(input, template);
+        return template;
+    }
+
     /**
      * Finds and returns all placeholders in the input string.
      * <p>
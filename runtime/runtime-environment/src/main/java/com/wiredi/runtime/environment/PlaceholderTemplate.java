@@ -0,0 +1,137 @@
+package com.wiredi.runtime.environment;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A string, compiled into its literal segments and the {@link Placeholder placeholders} between them.
+ * <p>
+ * Compiling a string parses it once, so that it can be resolved any number of times by only evaluating the
+ * placeholders and concatenating the results with the literal segments.
+ * A template does not hold any resolved values, so it always reflects the current state of the values the
+ * placeholders are resolved from.
+ * <p>
+ * Templates are immutable and can be shared between threads.
+ * Use {@link PlaceholderResolver#template(String)} to obtain a cached template for a string.
+ *
+ * @see PlaceholderResolver
+ * @see Placeholder
+ */
+public final class PlaceholderTemplate {
+
+    @NotNull
+    private final String content;
+    @NotNull
+    private final List<Placeholder> placeholders;
+    @NotNull
+    private final String[] literals;
+    @NotNull
+    private final Segment[] segments;
+
+    private PlaceholderTemplate(
+            @NotNull String content,
+            @NotNull List<Placeholder> placeholders,
+            @NotNull String[] literals,
+            @NotNull Segment[] segments
+    ) {
+        this.content = content;
+        this.placeholders = placeholders;
+        this.literals = literals;
+        this.segments = segments;
+    }
+
+    /**
+     * Compiles the content into a new template, using the resolver to find all placeholders.
+     *
+     * @param content  the content to compile
+     * @param resolver the resolver used to find the placeholders of the content
+     * @return a new template of the content
+     */
+    @NotNull
+    public static PlaceholderTemplate compile(
+            @NotNull String content,
+            @NotNull PlaceholderResolver resolver
+    ) {
+        List<Placeholder> placeholders = resolver.resolveAllIn(content);
+        List<String> literals = new ArrayList<>(placeholders.size() + 1);
+        List<Segment> segments = new ArrayList<>(placeholders.size());
+        int position = 0;
+
+        for (Placeholder placeholder : placeholders) {
+            String raw = placeholder.compile();
+            int start = placeholder.getRelativeStart();
+            // Placeholders which do not appear verbatim at their position can never be replaced and remain literal
+            if (start < position || !content.startsWith(raw, start)) {
+                continue;
+            }
+
+            literals.add(content.substring(position, start));
+            segments.add(new Segment(placeholder, raw));
+            position = start + raw.length();
+        }
+        literals.add(content.substring(position));
+
+        return new PlaceholderTemplate(
+                content,
+                List.copyOf(placeholders),
+                literals.toArray(String[]::new),
+                segments.toArray(Segment[]::new)
+        );
+    }
+
+    /**
+     * Returns all placeholders found in the content, in the order of their appearance.
+     *
+     * @return an immutable list of all placeholders
+     */
+    @NotNull
+    public List<Placeholder> placeholders() {
+        return placeholders;
+    }
+
+    /**
+     * Returns whether the content contains no replaceable placeholder, in which case resolving the template
+     * always returns the content itself.
+     *
+     * @return true, if the content contains no replaceable placeholder
+     */
+    public boolean isConstant() {
+        return segments.length == 0;
+    }
+
+    /**
+     * Resolves the template, by replacing every placeholder with the value provided by the resolver.
+     * <p>
+     * If the resolver returns null for a placeholder, the placeholder is left untouched.
+     *
+     * @param resolver the function providing the value of a placeholder
+     * @return the resolved content
+     */
+    @NotNull
+    public String resolve(@NotNull Function<Placeholder, @Nullable String> resolver) {
+        if (segments.length == 0) {
+            return content;
+        }
+
+        StringBuilder result = new StringBuilder(content.length());
+        for (int i = 0; i < segments.length; i++) {
+            Segment segment = segments[i];
+            result.append(literals[i]);
+            String resolved = resolver.apply(segment.placeholder());
+            result.append(resolved != null ? resolved : segment.raw());
+        }
+        return result.append(literals[segments.length]).toString();
+    }
+
+    @Override
+    public String toString() {
+        return content;
+    }
+
+    private record Segment(@NotNull Placeholder placeholder, @NotNull String raw) {
+    }
+}
@@ -2,6 +2,7 @@ package com.wiredi.runtime;
 
 import com.wiredi.runtime.domain.annotations.AnnotationMetadata;
 import com.wiredi.runtime.domain.conditional.builtin.ConditionalOnBeanEvaluator;
+import com.wiredi.runtime.domain.conditional.builtin.ConditionalOnMissingBeanEvaluator;
 import com.wiredi.runtime.domain.provider.IdentifiableProvider;
 import com.wiredi.runtime.domain.provider.IdentifiableProviderSource;
 import com.wiredi.runtime.domain.provider.TypeIdentifier;
@@ -22,6 +23,7 @@ class WireBootstrapTest {
     private static final AnnotationMetadata CONDITIONAL_ON_STRING = AnnotationMetadata.builder("ConditionalOnBean").withField("type", String.class).build();
     private static final AnnotationMetadata CONDITIONAL_ON_FLOAT = AnnotationMetadata.builder("ConditionalOnBean").withField("type", Float.class).build();
     private static final AnnotationMetadata CONDITIONAL_ON_DOUBLE = AnnotationMetadata.builder("ConditionalOnBean").withField("type", Double.class).build();
+    private static final AnnotationMetadata CONDITIONAL_ON_MISSING_LONG = AnnotationMetadata.builder("ConditionalOnMissingBean").withField("type", Long.class).build();
 
     @Test
     @CaptureOutput
@@ -51,6 +53,55 @@ class WireBootstrapTest {
         assertThat(capturedOutput.getOutput()).contains("Applied 2 conditional providers in 3 rounds. Consider to optimize the condition orders to reduce the rounds required for conditional checks.");
     }
 
+    @Test
+    public void missingBeanConditionsAreEvaluatedAfterAllConditionalProvidersOfTheType() {
+        // Arrange
+        WireContainer wireContainer = new WireContainer(new Environment());
+        wireContainer.initializer().setSources(List.of(IdentifiableProviderSource.just(
+                IdentifiableProvider.builder(TypeIdentifier.LONG)
+                        .withInstance(1L)
+                        .withOrder(-1)
+                        .withCondition(ConditionalOnMissingBeanEvaluator.class, CONDITIONAL_ON_MISSING_LONG)
+                        .build(),
+                IdentifiableProvider.builder(TypeIdentifier.LONG)
+                        .withInstance(2L)
+                        .withOrder(5)
+                        .withCondition(ConditionalOnBeanEvaluator.class, CONDITIONAL_ON_STRING)
+                        .build(),
+                new Base()
+        )));
+
+        // Act
+        wireContainer.load();
+
+        // Assert
+        assertThat(wireContainer.getAll(TypeIdentifier.LONG)).containsExactly(2L);
+    }
+
+    @Test
+    public void providersWithMissingBeanConditionsOnTheSameTypeAreAppliedInOrder() {
+        // Arrange
+        WireContainer wireContainer = new WireContainer(new Environment());
+        wireContainer.initializer().setSources(List.of(IdentifiableProviderSource.just(
+                IdentifiableProvider.builder(TypeIdentifier.LONG)
+                        .withInstance(2L)
+                        .withOrder(2)
+                        .withCondition(ConditionalOnMissingBeanEvaluator.class, CONDITIONAL_ON_MISSING_LONG)
+                        .build(),
+                IdentifiableProvider.builder(TypeIdentifier.LONG)
+                        .withInstance(1L)
+                        .withOrder(1)
+                        .withCondition(ConditionalOnMissingBeanEvaluator.class, CONDITIONAL_ON_MISSING_LONG)
+                        .build()
+        )));
+
+        // Act
+        wireContainer.load();
+
+        // Assert
+        assertThat(wireContainer.getAll(TypeIdentifier.LONG)).containsExactly(1L);
+    }
+
     static class Base implements IdentifiableProvider<String> {
 
         @Override
@@ -1,9 +1,12 @@
 package com.wiredi.runtime;
 
+import com.wiredi.runtime.domain.Scope;
+import com.wiredi.runtime.domain.ScopeRegistry;
 import com.wiredi.runtime.domain.errors.ExceptionHandler;
 import com.wiredi.runtime.domain.errors.results.ExceptionHandlingResult;
 import com.wiredi.runtime.domain.provider.IdentifiableProvider;
 import com.wiredi.runtime.domain.provider.IdentifiableProviderSource;
+import com.wiredi.runtime.domain.provider.SimpleProvider;
 import com.wiredi.runtime.domain.provider.TypeIdentifier;
 import com.wiredi.runtime.infrastructure.GenericBase;
 import com.wiredi.runtime.lang.Counter;
@@ -414,4 +417,75 @@ public class WireRepositoryTest {
             }
         }
     }
+
+    @Nested
+    class ResolvedInstances {
+
+        @Test
+        public void repeatedLookupsReturnTheSingletonInstance() {
+            // Arrange
+            WireContainer wireContainer = WireContainer.create();
+            wireContainer.announce(SimpleProvider.builder(TypeIdentifier.just(Counter.class)).withInstance(() -> new Counter(0)).build());
+            wireContainer.load();
+
+            // Act
+            Counter first = wireContainer.get(Counter.class);
+            Counter second = wireContainer.get(Counter.class);
+            Optional<Counter> third = wireContainer.tryGet(Counter.class);
+
+            // Assert
+            assertThat(second).isSameAs(first);
+            assertThat(third).containsSame(first);
+        }
+
+        @Test
+        public void resettingTheDefaultScopeDiscardsResolvedInstances() {
+            // Arrange
+            WireContainer wireContainer = WireContainer.create();
+            wireContainer.announce(SimpleProvider.builder(TypeIdentifier.just(Counter.class)).withInstance(() -> new Counter(0)).build());
+            wireContainer.load();
+            Counter before = wireContainer.get(Counter.class);
+
+            // Act
+            wireContainer.scopeRegistry().getDefaultScope().reset();
+            Counter after = wireContainer.get(Counter.class);
+
+            // Assert
+            assertThat(after).isNotSameAs(before);
+            assertThat(wireContainer.get(Counter.class)).isSameAs(after);
+        }
+
+        @Test
+        public void instancesOfScopesWithoutSingletonsAreNotKept() {
+            // Arrange
+            ScopeRegistry scopeRegistry = new ScopeRegistry("prototype", Scope.prototype());
+            scopeRegistry.link(WireContainer.create());
+            scopeRegistry.registerProvider(SimpleProvider.builder(TypeIdentifier.just(Counter.class)).withInstance(() -> new Counter(0)).build());
+
+            // Act
+            Counter first = scopeRegistry.getInstance(TypeIdentifier.just(Counter.class));
+            Counter second = scopeRegistry.getInstance(TypeIdentifier.just(Counter.class));
+            Optional<Counter> third = scopeRegistry.tryGetInstance(TypeIdentifier.just(Counter.class));
+
+            // Assert
+            assertThat(second).isNotSameAs(first);
+            assertThat(third).isPresent().get().isNotSameAs(first).isNotSameAs(second);
+        }
+
+        @Test
+        public void announcingAPrimaryProviderDiscardsResolvedInstances() {
+            // Arrange
+            WireContainer wireContainer = WireContainer.create();
+            wireContainer.announce(SimpleProvider.builder(TypeIdentifier.just(Counter.class)).withInstance(() -> new Counter(0)).build());
+            wireContainer.load();
+            Counter before = wireContainer.get(Counter.class);
+            Counter primary = new Counter(1);
+
+            // Act
+            wireContainer.announce(SimpleProvider.builder(TypeIdentifier.just(Counter.class)).withInstance(primary).withPrimary(true).build());
+
+            // Assert
+            assertThat(wireContainer.get(Counter.class)).isNotSameAs(before).isSameAs(primary);
+        }
+    }
 }
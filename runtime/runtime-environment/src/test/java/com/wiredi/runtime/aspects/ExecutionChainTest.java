@@ -1,6 +1,7 @@
 package com.wiredi.runtime.aspects;
 
 import com.wiredi.runtime.domain.annotations.AnnotationMetadata;
+import com.wiredi.runtime.domain.provider.TypeIdentifier;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.DisplayName;
@@ -118,6 +119,96 @@ class ExecutionChainTest {
 		assertThat(result).isEqualTo("Hello World From Aspects");
 	}
 
+	@Test
+	public void declaredParametersCanBeProvidedInAnyOrder() {
+		// Arrange
+		RootMethod concat = RootMethod.builder("concat")
+				.withParameter("first", TypeIdentifier.just(String.class))
+				.withParameter("second", TypeIdentifier.just(String.class))
+				.build(context -> context.<String>requireParameter("first") + context.<String>requireParameter("second") + context.tryGetParameter("third"));
+		ExecutionChain executionChain = ExecutionChain.builder(concat).build();
+
+		// Act
+		String inOrder = executionChain.execute()
+				.withParameter("first", "A")
+				.withParameter("second", "B")
+				.withParameter("third", "C")
+				.andReturn();
+		String outOfOrder = executionChain.execute()
+				.withParameter("third", "C")
+				.withParameter("second", "B")
+				.withParameter(new String("first"), "A")
+				.andReturn();
+
+		// Assert
+		assertThat(inOrder).isEqualTo("ABC");
+		assertThat(outOfOrder).isEqualTo("ABC");
+	}
+
+	@Test
+	public void handlersCanModifyParametersForTheFollowingHandlers() {
+		// Arrange
+		RootMethod echo = RootMethod.builder("echo")
+				.withParameter("param", TypeIdentifier.just(String.class))
+				.build(context -> context.requireParameter("param"));
+		ExecutionChain executionChain = ExecutionChain.builder(echo)
+				.withProcessor(context -> {
+					context.setParameter("param", context.requireParameter("param") + " Modified");
+					return context.proceed();
+				})
+				.build();
+
+		// Act
+		String first = executionChain.execute(Map.of("param", "Hello World"));
+		String second = executionChain.execute(Map.of("param", "Hello World"));
+
+		// Assert
+		assertThat(first).isEqualTo("Hello World Modified");
+		assertThat(second).isEqualTo("Hello World Modified");
+	}
+
+	@Test
+	public void modifiedParametersDoNotLeakIntoFollowingExecutionsOfAStage() {
+		// Arrange
+		RootMethod echo = RootMethod.builder("echo")
+				.withParameter("param", TypeIdentifier.just(String.class))
+				.build(context -> context.requireParameter("param"));
+		ExecutionChain.ExecutionStage stage = ExecutionChain.builder(echo)
+				.withProcessor(context -> {
+					context.setParameter("param", context.requireParameter("param") + " Modified");
+					return context.proceed();
+				})
+				.build()
+				.execute()
+				.withParameter("param", "Hello World");
+
+		// Act
+		String first = stage.andReturn();
+		String second = stage.andReturn();
+
+		// Assert
+		assertThat(first).isEqualTo("Hello World Modified");
+		assertThat(second).isEqualTo("Hello World Modified");
+	}
+
+	@Test
+	public void modificationsOfAChainAreVisibleToFollowingExecutions() {
+		// Arrange
+		ExecutionChain executionChain = ExecutionChain.builder(rootMethod).build();
+		String before = executionChain.execute(Map.of("param", "Hello World"));
+
+		// Act
+		executionChain.append(new AspectsAppender());
+		executionChain.prepend(new FromAppender());
+		String after = executionChain.execute(Map.of("param", "Hello World"));
+
+		// Assert
+		assertThat(before).isEqualTo("Hello World");
+		assertThat(after).isEqualTo("Hello World Aspects From");
+		assertThat(executionChain.head()).isInstanceOf(FromAppender.class);
+		assertThat(executionChain.tail()).isInstanceOf(AspectsAppender.class);
+	}
+
 	@Retention(RetentionPolicy.RUNTIME)
 	@interface ExampleAnnotation {
 	}
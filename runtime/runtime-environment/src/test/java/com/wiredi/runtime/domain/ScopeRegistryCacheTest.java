@@ -0,0 +1,94 @@
+package com.wiredi.runtime.domain;
+
+import com.wiredi.runtime.domain.provider.IdentifiableProvider;
+import com.wiredi.runtime.domain.provider.QualifiedTypeIdentifier;
+import com.wiredi.runtime.domain.provider.SimpleProvider;
+import com.wiredi.runtime.domain.provider.TypeIdentifier;
+import com.wiredi.runtime.domain.scopes.UnionScope;
+import com.wiredi.runtime.qualifier.QualifierType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScopeRegistryCacheTest {
+
+    private static final TypeIdentifier<List> LIST = TypeIdentifier.of(List.class);
+    private static final TypeIdentifier<List<String>> STRING_LIST = TypeIdentifier.of(List.class).withGeneric(String.class);
+
+    private final Scope defaultScope = Scope.singleton();
+    private final Scope prototype = Scope.prototype();
+    private final Scope threadLocal = Scope.threadLocal();
+    private final ScopeRegistryCache cache = new ScopeRegistryCache();
+
+    @Test
+    void genericTypesResolveTheScopeOfTheirErasure() {
+        // Arrange
+        cache.updateCacheForProvider(provider(false, null), prototype);
+
+        // Act
+        Scope scope = cache.determineScopeOf(STRING_LIST, defaultScope);
+
+        // Assert
+        assertThat(scope).isSameAs(prototype);
+        assertThat(cache.determineScopeOf(TypeIdentifier.of(Integer.class), defaultScope)).isSameAs(defaultScope);
+    }
+
+    @Test
+    void typesRegisteredAtMultipleScopesResolveAUnionScope() {
+        // Arrange
+        cache.updateCacheForProvider(provider(false, null), prototype);
+        cache.updateCacheForProvider(provider(false, null), threadLocal);
+
+        // Act
+        Scope scope = cache.determineScopeOf(LIST, defaultScope);
+
+        // Assert
+        assertThat(scope).isInstanceOf(UnionScope.class);
+        assertThat(((UnionScope) scope).containsScope(it -> it == prototype)).isTrue();
+        assertThat(((UnionScope) scope).containsScope(it -> it == threadLocal)).isTrue();
+    }
+
+    @Test
+    void thePrimaryScopeTakesPrecedenceRegardlessOfTheRegistrationOrder() {
+        // Arrange
+        IdentifiableProvider<List> primary = provider(true, null);
+        cache.updateCacheForProvider(provider(false, null), prototype);
+        cache.registerPrimaryScope(primary, threadLocal);
+        cache.updateCacheForProvider(primary, threadLocal);
+        cache.updateCacheForProvider(provider(false, null), prototype);
+
+        // Act
+        Scope scope = cache.determineScopeOf(STRING_LIST, defaultScope);
+
+        // Assert
+        assertThat(scope).isSameAs(threadLocal);
+        assertThat(cache.getPrimaryScopeFor(STRING_LIST)).isSameAs(threadLocal);
+    }
+
+    @Test
+    void qualifiedTypesFallBackToTheUnqualifiedScope() {
+        // Arrange
+        cache.updateCacheForProvider(provider(false, "special"), threadLocal);
+        cache.updateCacheForProvider(provider(false, null), prototype);
+
+        // Act
+        Scope qualified = cache.determineScopeOf(QualifiedTypeIdentifier.qualified(LIST, QualifierType.just("special")), defaultScope);
+        Scope unknownQualifier = cache.determineScopeOf(QualifiedTypeIdentifier.qualified(LIST, QualifierType.just("other")), defaultScope);
+
+        // Assert
+        assertThat(qualified).isSameAs(threadLocal);
+        assertThat(unknownQualifier).isInstanceOf(UnionScope.class);
+    }
+
+    private IdentifiableProvider<List> provider(boolean primary, String qualifier) {
+        SimpleProvider.Builder<List> builder = SimpleProvider.builder(LIST)
+                .withInstance(List.of())
+                .withPrimary(primary);
+        if (qualifier != null) {
+            builder.withQualifier(qualifier);
+        }
+        return builder.build();
+    }
+}
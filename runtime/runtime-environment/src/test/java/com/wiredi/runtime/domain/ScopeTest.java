@@ -6,7 +6,9 @@ import com.wiredi.runtime.domain.provider.TypeIdentifier;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class ScopeTest {
@@ -83,9 +85,61 @@ public class ScopeTest {
         assertSame(b1, b2);
     }
 
+    @Test
+    public void singletonGetAllReturnsTheSameOrderedListUntilANewProviderIsRegistered() {
+        // Arrange
+        Scope scope = Scope.singleton();
+        scope.link(Mockito.mock());
+        scope.register(SimpleProvider.builder(TypeIdentifier.just(C.class)).withInstance(Second::new).withOrder(2).build());
+        scope.register(SimpleProvider.builder(TypeIdentifier.just(C.class)).withInstance(First::new).withOrder(1).build());
+        scope.start();
+
+        // Act
+        List<C> first = scope.getAll(TypeIdentifier.just(C.class));
+        List<C> second = scope.getAll(TypeIdentifier.just(C.class));
+        scope.reset();
+        List<C> afterReset = scope.getAll(TypeIdentifier.just(C.class));
+
+        // Assert
+        assertThat(first).hasExactlyElementsOfTypes(First.class, Second.class);
+        assertSame(first, second);
+        assertThrows(UnsupportedOperationException.class, () -> first.add(new First()));
+        assertNotSame(first, afterReset);
+        assertThat(afterReset).hasExactlyElementsOfTypes(First.class, Second.class);
+    }
+
+    @Test
+    public void prototypeGetAllCreatesNewInstancesInOrder() {
+        // Arrange
+        Scope scope = Scope.prototype();
+        scope.link(Mockito.mock());
+        scope.register(SimpleProvider.builder(TypeIdentifier.just(C.class)).withInstance(Second::new).withOrder(2).build());
+        scope.register(SimpleProvider.builder(TypeIdentifier.just(C.class)).withInstance(First::new).withOrder(1).build());
+        scope.start();
+
+        // Act
+        List<C> first = scope.getAll(TypeIdentifier.just(C.class));
+        List<C> second = scope.getAll(TypeIdentifier.just(C.class));
+
+        // Assert
+        assertThat(first).hasExactlyElementsOfTypes(First.class, Second.class);
+        assertThat(second).hasExactlyElementsOfTypes(First.class, Second.class);
+        assertNotSame(first.getFirst(), second.getFirst());
+        assertNotSame(first.getLast(), second.getLast());
+    }
+
     static class A {
     }
 
+    interface C {
+    }
+
+    static class First implements C {
+    }
+
+    static class Second implements C {
+    }
+
     record B(A a) {
     }
 }
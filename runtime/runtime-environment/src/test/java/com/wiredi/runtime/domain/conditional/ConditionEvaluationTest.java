@@ -0,0 +1,54 @@
+package com.wiredi.runtime.domain.conditional;
+
+import com.wiredi.runtime.OnDemandInjector;
+import com.wiredi.runtime.WireContainer;
+import com.wiredi.runtime.domain.provider.IdentifiableProvider;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ConditionEvaluationTest {
+
+    @Test
+    void beansAreResolvedOncePerEvaluation() {
+        // Arrange
+        OnDemandInjector onDemandInjector = Mockito.mock(OnDemandInjector.class);
+        WireContainer wireContainer = Mockito.mock(WireContainer.class);
+        when(wireContainer.onDemandInjector()).thenReturn(onDemandInjector);
+        when(onDemandInjector.get(StringBuilder.class)).thenAnswer(invocation -> new StringBuilder());
+        ConditionEvaluation conditionEvaluation = new ConditionEvaluation(wireContainer);
+
+        // Act
+        StringBuilder first = conditionEvaluation.access(Mockito.mock(IdentifiableProvider.class)).get(StringBuilder.class);
+        StringBuilder second = conditionEvaluation.access(Mockito.mock(IdentifiableProvider.class)).get(StringBuilder.class);
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        verify(onDemandInjector, times(1)).get(StringBuilder.class);
+    }
+
+    @Test
+    void beansCanBeResolvedConcurrently() {
+        // Arrange
+        OnDemandInjector onDemandInjector = Mockito.mock(OnDemandInjector.class);
+        WireContainer wireContainer = Mockito.mock(WireContainer.class);
+        when(wireContainer.onDemandInjector()).thenReturn(onDemandInjector);
+        when(onDemandInjector.get(StringBuilder.class)).thenAnswer(invocation -> new StringBuilder());
+        ConditionEvaluation conditionEvaluation = new ConditionEvaluation(wireContainer);
+
+        // Act
+        long distinctBeans = IntStream.range(0, 64)
+                .parallel()
+                .mapToObj(i -> conditionEvaluation.access(Mockito.mock(IdentifiableProvider.class)).get(StringBuilder.class))
+                .distinct()
+                .count();
+
+        // Assert
+        assertThat(distinctBeans).isOne();
+        verify(onDemandInjector, times(1)).get(StringBuilder.class);
+    }
+}
@@ -0,0 +1,114 @@
+package com.wiredi.runtime.domain.factories;
+
+import com.wiredi.runtime.WireContainer;
+import com.wiredi.runtime.domain.provider.IdentifiableProvider;
+import com.wiredi.runtime.domain.provider.QualifiedTypeIdentifier;
+import com.wiredi.runtime.domain.provider.SimpleProvider;
+import com.wiredi.runtime.domain.provider.TypeIdentifier;
+import com.wiredi.runtime.qualifier.QualifierType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SimpleBeanFactoryTest {
+
+    private static final TypeIdentifier<Coffee> COFFEE = TypeIdentifier.of(Coffee.class);
+    private final WireContainer wireContainer = mock(WireContainer.class);
+
+    @Test
+    void registrationsAfterTheFirstLookupAreVisible() {
+        // Arrange
+        SimpleBeanFactory<Coffee> factory = new SimpleBeanFactory<>(COFFEE);
+        IdentifiableProvider<Coffee> arabica = provider(new Arabica(), null);
+        factory.register(arabica);
+        assertThat(factory.resolveProvider(null)).isSameAs(arabica);
+
+        // Act
+        IdentifiableProvider<Coffee> robusta = provider(new Robusta(), "robusta");
+        factory.register(robusta);
+
+        // Assert
+        assertThat(factory.resolveProvider(QualifierType.just("robusta"))).isSameAs(robusta);
+        assertThat(factory.get(wireContainer, QualifiedTypeIdentifier.qualified(COFFEE, QualifierType.just("robusta"))).instance()).isInstanceOf(Robusta.class);
+        assertThat(factory.getAll(wireContainer)).extracting(Bean::instance)
+                .hasSize(2)
+                .hasAtLeastOneElementOfType(Arabica.class)
+                .hasAtLeastOneElementOfType(Robusta.class);
+    }
+
+    @Test
+    void primaryProvidersAreResolvedForUnqualifiedLookups() {
+        // Arrange
+        SimpleBeanFactory<Coffee> factory = new SimpleBeanFactory<>(COFFEE);
+        factory.register(provider(new Arabica(), null));
+        factory.get(wireContainer, COFFEE);
+        IdentifiableProvider<Coffee> primary = SimpleProvider.builder(COFFEE)
+                .withInstance(new Robusta())
+                .withPrimary(true)
+                .build();
+
+        // Act
+        factory.register(primary);
+
+        // Assert
+        assertThat(factory.resolveProvider(null)).isSameAs(primary);
+        assertThat(factory.get(wireContainer, COFFEE).instance()).isInstanceOf(Robusta.class);
+    }
+
+    @Test
+    void lookupsCanRunConcurrentlyToLateRegistrations() throws Exception {
+        // Arrange
+        SimpleBeanFactory<Coffee> factory = new SimpleBeanFactory<>(COFFEE);
+        factory.register(provider(new Arabica(), null));
+        AtomicBoolean registering = new AtomicBoolean(true);
+        List<Future<?>> lookups = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int i = 0; i < 4; i++) {
+                lookups.add(executor.submit(() -> {
+                    while (registering.get()) {
+                        assertThat(factory.get(wireContainer, COFFEE)).isNotNull();
+                        assertThat(factory.getAll(wireContainer)).isNotEmpty();
+                    }
+                }));
+            }
+            for (int i = 0; i < 1_000; i++) {
+                factory.register(provider(new Robusta(), "robusta-" + i));
+            }
+            registering.set(false);
+
+            // Assert
+            for (Future<?> lookup : lookups) {
+                lookup.get();
+            }
+        }
+        assertThat(factory.getAll(wireContainer)).hasSize(1_001);
+        assertThat(factory.resolveProvider(QualifierType.just("robusta-999"))).isNotNull();
+    }
+
+    private IdentifiableProvider<Coffee> provider(Coffee coffee, String qualifier) {
+        SimpleProvider.Builder<Coffee> builder = SimpleProvider.builder(COFFEE).withInstance(coffee);
+        if (qualifier != null) {
+            builder.withQualifier(qualifier);
+        }
+        return builder.build();
+    }
+
+    interface Coffee {
+    }
+
+    static class Arabica implements Coffee {
+    }
+
+    static class Robusta implements Coffee {
+    }
+}
@@ -6,6 +6,12 @@ import com.wiredi.runtime.qualifier.QualifierType;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
@@ -143,6 +149,37 @@ class SimpleProviderTest {
         assertSame(provider.get(repository), provider.get(repository));
     }
 
+    @Test
+    void shouldCreateSingletonInstanceOnlyOnceWhenAccessedConcurrently() throws Exception {
+        // Arrange
+        WireContainer repository = WireContainer.create();
+        AtomicInteger creations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        SimpleProvider<TestComponent> provider = SimpleProvider.builder(TestComponent.class)
+                .withInstance(() -> {
+                    creations.incrementAndGet();
+                    return new TestComponent();
+                })
+                .withSingleton(true)
+                .build();
+
+        // Act
+        Set<TestComponent> instances = ConcurrentHashMap.newKeySet();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    return instances.add(provider.get(repository));
+                });
+            }
+            start.countDown();
+        }
+
+        // Assert
+        assertEquals(1, creations.get());
+        assertEquals(1, instances.size());
+    }
+
     @Test
     void shouldSupportDirectLoadCondition() {
         // Arrange
@@ -10,6 +10,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -52,6 +53,57 @@ class TypeIdentifierTest {
         assertThat(generalList.isInstanceOf(generalCollection)).isFalse();
     }
 
+    @Test
+    public void typeIdentifiersAreInterned() {
+        assertThat(TypeIdentifier.of(String.class)).isSameAs(TypeIdentifier.of(String.class));
+        assertThat(TypeIdentifier.of(int.class)).isSameAs(TypeIdentifier.just(Integer.class));
+        assertThat(TypeIdentifier.of(List.class).withGeneric(String.class))
+                .isSameAs(TypeIdentifier.of(List.class).withGeneric(String.class));
+        assertThat(TypeIdentifier.of(List.class).withGeneric(TypeIdentifier.of(Set.class).withGeneric(String.class)))
+                .isSameAs(TypeIdentifier.of(List.class).withGeneric(TypeIdentifier.of(Set.class).withGeneric(String.class)));
+    }
+
+    @Test
+    public void parameterizedTypesStayInternedWhileTheyAreReachable() {
+        // Arrange
+        TypeIdentifier<Map<String, Integer>> map = TypeIdentifier.of(Map.class).withGeneric(String.class).withGeneric(Integer.class);
+
+        // Act
+        System.gc();
+        TypeIdentifier<Map<String, Integer>> other = TypeIdentifier.of(Map.class).withGeneric(String.class).withGeneric(Integer.class);
+
+        // Assert
+        assertThat(other).isSameAs(map);
+    }
+
+    @Test
+    public void lessSpecificGenericsAreNotInternedAsTheMoreSpecificType() {
+        TypeIdentifier<List<Set<?>>> general = TypeIdentifier.of(List.class).withGeneric(Set.class);
+        TypeIdentifier<List<Set<String>>> specific = TypeIdentifier.of(List.class).withGeneric(TypeIdentifier.of(Set.class).withGeneric(String.class));
+
+        assertThat(general).isNotSameAs(specific);
+        assertThat(general).isEqualTo(specific);
+        assertThat(specific).isNotEqualTo(general);
+    }
+
+    @Test
+    public void withGenericDoesNotModifyTheTypeIdentifier() {
+        TypeIdentifier<List> list = TypeIdentifier.of(List.class);
+        TypeIdentifier<List<String>> stringList = list.withGeneric(String.class);
+
+        assertThat(list.getGenericTypes()).isEmpty();
+        assertThat(stringList.getGenericTypes()).containsExactly(TypeIdentifier.of(String.class));
+        assertThat(stringList.erasure()).isSameAs(list);
+        assertThat(list.erasure()).isSameAs(list);
+    }
+
+    @Test
+    public void genericTypesAreImmutable() {
+        TypeIdentifier<List<String>> stringList = TypeIdentifier.of(List.class).withGeneric(String.class);
+
+        assertThat(stringList.getGenericTypes()).isUnmodifiable();
+    }
+
     @ParameterizedTest
     @MethodSource("equalArguments")
     public void testThatEqualTypeIdentifiersAreEqual(TypeIdentifier<?> base, TypeIdentifier<?> specification) {
@@ -0,0 +1,238 @@
+package com.wiredi.runtime.domain.provider.wiring;
+
+import com.wiredi.runtime.WireContainer;
+import com.wiredi.runtime.WireContainerInitializer;
+import com.wiredi.runtime.domain.provider.IdentifiableProvider;
+import com.wiredi.runtime.domain.provider.IdentifiableProviderSource;
+import com.wiredi.runtime.domain.provider.TypeIdentifier;
+import com.wiredi.runtime.exceptions.DiLoadingException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StaticWiringTest {
+
+    @Test
+    public void staticallyWiredTypesAreResolvedThroughTheWiring() {
+        // Arrange
+        TestWiringFactory factory = new TestWiringFactory();
+        WireContainer wireContainer = WireContainer.builder()
+                .withInitializer(new WireContainerInitializer(IdentifiableProviderSource.just(new EngineProvider(), new CarProvider())))
+                .withStaticWiring(factory)
+                .load();
+        TestWiring wiring = factory.last();
+
+        // Act
+        Car car = wireContainer.get(Car.class);
+        Engine engine = wireContainer.get(Engine.class);
+
+        // Assert
+        assertThat(car).isSameAs(wiring.car);
+        assertThat(engine).isSameAs(wiring.engine);
+        assertThat(car.engine).isSameAs(engine);
+        assertThat(wireContainer.tryGet(Car.class)).containsSame(car);
+    }
+
+    @Test
+    public void theGeneratedProvidersAreReplacedByTheStaticallyWiredProviders() {
+        // Arrange
+        TestWiringFactory factory = new TestWiringFactory();
+        WireContainer wireContainer = WireContainer.builder()
+                .withInitializer(new WireContainerInitializer(IdentifiableProviderSource.just(new EngineProvider(), new CarProvider())))
+                .withStaticWiring(factory)
+                .load();
+        TestWiring wiring = factory.last();
+
+        // Act
+        List<Vehicle> vehicles = wireContainer.getAll(Vehicle.class);
+
+        // Assert
+        assertThat(vehicles).containsExactly(wiring.car);
+        assertThat(EngineProvider.CONSTRUCTIONS.get()).isZero();
+        assertThat(CarProvider.CONSTRUCTIONS.get()).isZero();
+    }
+
+    @Test
+    public void providersOfOtherSourcesForTheDependenciesOfTheWiringFailTheLoading() {
+        // Arrange
+        WireContainer wireContainer = WireContainer.builder()
+                .withInitializer(new WireContainerInitializer(
+                        IdentifiableProviderSource.just(new EngineProvider(), new CarProvider()),
+                        IdentifiableProviderSource.just(IdentifiableProvider.singleton(new Engine(), TypeIdentifier.of(Engine.class)))
+                ))
+                .withStaticWiring(TestWiring::new)
+                .build();
+
+        // Act
+        // Assert
+        assertThatThrownBy(wireContainer::load)
+                .isInstanceOf(DiLoadingException.class)
+                .hasMessageContaining(TestWiring.class.getName());
+    }
+
+    @Test
+    public void providersOfOtherSourcesForTheWiredTypesFailTheLoading() {
+        // Arrange
+        WireContainer wireContainer = WireContainer.builder()
+                .withInitializer(new WireContainerInitializer(
+                        IdentifiableProviderSource.just(new EngineProvider(), new CarProvider()),
+                        IdentifiableProviderSource.just(IdentifiableProvider.singleton(new Car(new Engine()), TypeIdentifier.of(Car.class)))
+                ))
+                .withStaticWiring(TestWiring::new)
+                .build();
+
+        // Act
+        // Assert
+        assertThatThrownBy(wireContainer::load)
+                .isInstanceOf(DiLoadingException.class)
+                .hasMessageContaining("statically wired by " + TestWiring.class.getName());
+    }
+
+    @Test
+    public void theWiringIsNotConstructedBeforeTheContainerIsLoaded() {
+        // Arrange
+        TestWiringFactory factory = new TestWiringFactory();
+        WireContainer wireContainer = WireContainer.builder()
+                .withInitializer(new WireContainerInitializer(IdentifiableProviderSource.just(new EngineProvider(), new CarProvider())))
+                .withStaticWiring(factory)
+                .build();
+
+        // Act
+        Optional<Car> car = wireContainer.tryGet(Car.class);
+
+        // Assert
+        assertThat(car).isEmpty();
+        assertThat(factory.constructed).isEmpty();
+    }
+
+    @Test
+    public void theWiringIsDroppedOnceTheContainerIsCleared() {
+        // Arrange
+        TestWiringFactory factory = new TestWiringFactory();
+        WireContainer wireContainer = WireContainer.builder()
+                .withInitializer(new WireContainerInitializer(IdentifiableProviderSource.just(new EngineProvider(), new CarProvider())))
+                .withStaticWiring(factory)
+                .load();
+        Car wiredCar = wireContainer.get(Car.class);
+
+        // Act
+        wireContainer.clear();
+        Optional<Car> car = wireContainer.tryGet(Car.class);
+
+        // Assert
+        assertThat(wiredCar).isSameAs(factory.last().car);
+        assertThat(car).isEmpty();
+    }
+
+    interface Vehicle {
+    }
+
+    static class Engine {
+    }
+
+    static class Car implements Vehicle {
+        private final Engine engine;
+
+        Car(Engine engine) {
+            this.engine = engine;
+        }
+    }
+
+    static class EngineProvider implements IdentifiableProvider<Engine> {
+        private static final AtomicInteger CONSTRUCTIONS = new AtomicInteger();
+
+        @Override
+        public @NotNull TypeIdentifier<? super Engine> type() {
+            return TypeIdentifier.of(Engine.class);
+        }
+
+        @Override
+        public @Nullable Engine get(@NotNull WireContainer wireContainer, @NotNull TypeIdentifier<Engine> concreteType) {
+            CONSTRUCTIONS.incrementAndGet();
+            return new Engine();
+        }
+    }
+
+    static class CarProvider implements IdentifiableProvider<Car> {
+        private static final AtomicInteger CONSTRUCTIONS = new AtomicInteger();
+
+        @Override
+        public @NotNull TypeIdentifier<? super Car> type() {
+            return TypeIdentifier.of(Car.class);
+        }
+
+        @Override
+        public @NotNull List<TypeIdentifier<?>> additionalWireTypes() {
+            return List.of(TypeIdentifier.of(Vehicle.class));
+        }
+
+        @Override
+        public @Nullable Car get(@NotNull WireContainer wireContainer, @NotNull TypeIdentifier<Car> concreteType) {
+            CONSTRUCTIONS.incrementAndGet();
+            return new Car(wireContainer.get(Engine.class));
+        }
+    }
+
+    static class TestWiringFactory implements Supplier<TestWiring> {
+        private final List<TestWiring> constructed = new ArrayList<>();
+
+        @Override
+        public TestWiring get() {
+            TestWiring wiring = new TestWiring();
+            constructed.add(wiring);
+            return wiring;
+        }
+
+        TestWiring last() {
+            return constructed.getLast();
+        }
+    }
+
+    static class TestWiring implements StaticWiring {
+        private final Engine engine;
+        private final Car car;
+        private final List<StaticallyWiredProvider<?>> providers;
+
+        TestWiring() {
+            this.engine = new Engine();
+            this.car = new Car(this.engine);
+            this.providers = List.of(
+                    new StaticallyWiredProvider<>(new EngineProvider(), engine),
+                    new StaticallyWiredProvider<>(new CarProvider(), car)
+            );
+        }
+
+        @Override
+        public <T> @Nullable T get(@NotNull Class<T> type) {
+            return type.cast(switch (type.getName()) {
+                case "com.wiredi.runtime.domain.provider.wiring.StaticWiringTest$Engine" -> engine;
+                case "com.wiredi.runtime.domain.provider.wiring.StaticWiringTest$Car" -> car;
+                default -> null;
+            });
+        }
+
+        @Override
+        public @NotNull List<StaticallyWiredProvider<?>> providers() {
+            return providers;
+        }
+
+        @Override
+        public @NotNull List<Class<?>> wiredTypes() {
+            return List.of(Engine.class, Car.class);
+        }
+
+        @Override
+        public @NotNull List<Class<?>> dependencies() {
+            return List.of(Engine.class);
+        }
+    }
+}
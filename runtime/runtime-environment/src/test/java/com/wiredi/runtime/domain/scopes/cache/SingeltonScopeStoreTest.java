@@ -0,0 +1,170 @@
+package com.wiredi.runtime.domain.scopes.cache;
+
+import com.wiredi.runtime.domain.factories.Bean;
+import com.wiredi.runtime.domain.provider.IdentifiableProvider;
+import com.wiredi.runtime.domain.provider.SimpleProvider;
+import com.wiredi.runtime.domain.provider.TypeIdentifier;
+import com.wiredi.runtime.exceptions.CyclicDependencyException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingeltonScopeStoreTest {
+
+    private final TypeIdentifier<A> typeA = TypeIdentifier.just(A.class);
+    private final TypeIdentifier<B> typeB = TypeIdentifier.just(B.class);
+    private final IdentifiableProvider<A> providerA = SimpleProvider.builder(typeA).withInstance(A::new).build();
+    private final IdentifiableProvider<B> providerB = SimpleProvider.builder(typeB).withInstance(B::new).build();
+
+    @Test
+    void shouldCreateTheBeanOnlyOnceWhenRequestedConcurrentlyByVirtualThreads() throws Exception {
+        // Arrange
+        SingeltonScopeStore store = SingeltonScopeStore.threadSafe();
+        AtomicInteger creations = new AtomicInteger();
+        Set<Object> instances = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    Bean<A> bean = store.getOrSet(providerA, typeA, () -> {
+                        creations.incrementAndGet();
+                        Thread.yield();
+                        return new Bean<>(new A(), providerA);
+                    });
+                    instances.add(bean.instance());
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        // Assert
+        assertEquals(1, creations.get());
+        assertEquals(1, instances.size());
+    }
+
+    @Test
+    void shouldDetectCircularDependenciesWithinTheSameThread() {
+        // Arrange
+        SingeltonScopeStore store = SingeltonScopeStore.threadSafe();
+
+        // Act
+        // Assert
+        assertThrows(CyclicDependencyException.class, () -> store.getOrSet(providerA, typeA, () -> {
+            store.getOrSet(providerB, typeB, () -> {
+                store.getOrSet(providerA, typeA, () -> new Bean<>(new A(), providerA));
+                return new Bean<>(new B(), providerB);
+            });
+            return new Bean<>(new A(), providerA);
+        }));
+    }
+
+    @Test
+    void shouldDetectCircularDependenciesAcrossThreadsInsteadOfDeadlocking() {
+        // Arrange
+        SingeltonScopeStore store = SingeltonScopeStore.threadSafe();
+        CountDownLatch bothCreating = new CountDownLatch(2);
+
+        // Act
+        List<Throwable> failures = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                Future<?> first = executor.submit(() -> store.getOrSet(providerA, typeA, () -> {
+                    bothCreating.countDown();
+                    awaitUninterruptibly(bothCreating);
+                    store.getOrSet(providerB, typeB, () -> new Bean<>(new B(), providerB));
+                    return new Bean<>(new A(), providerA);
+                }));
+                Future<?> second = executor.submit(() -> store.getOrSet(providerB, typeB, () -> {
+                    bothCreating.countDown();
+                    awaitUninterruptibly(bothCreating);
+                    store.getOrSet(providerA, typeA, () -> new Bean<>(new A(), providerA));
+                    return new Bean<>(new B(), providerB);
+                }));
+
+                return Stream.of(first, second)
+                        .map(SingeltonScopeStoreTest::failureOf)
+                        .filter(Objects::nonNull)
+                        .toList();
+            }
+        });
+
+        // Assert
+        assertFalse(failures.isEmpty());
+        failures.forEach(failure -> assertInstanceOf(CyclicDependencyException.class, failure));
+    }
+
+    @Test
+    void shouldLetWaitingThreadsRetryIfTheCreationFailed() throws Exception {
+        // Arrange
+        SingeltonScopeStore store = SingeltonScopeStore.threadSafe();
+        CountDownLatch creationStarted = new CountDownLatch(1);
+        CountDownLatch waiterStarted = new CountDownLatch(1);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Bean<A>> failing = executor.submit(() -> store.getOrSet(providerA, typeA, () -> {
+                attempts.incrementAndGet();
+                creationStarted.countDown();
+                awaitUninterruptibly(waiterStarted);
+                throw new IllegalStateException("Creation failed");
+            }));
+            Future<Bean<A>> waiting = executor.submit(() -> {
+                awaitUninterruptibly(creationStarted);
+                waiterStarted.countDown();
+                return store.getOrSet(providerA, typeA, () -> {
+                    attempts.incrementAndGet();
+                    return new Bean<>(new A(), providerA);
+                });
+            });
+
+            // Assert
+            assertNotNull(waiting.get());
+            assertInstanceOf(IllegalStateException.class, assertThrows(Exception.class, failing::get).getCause());
+            assertEquals(2, attempts.get());
+        }
+    }
+
+    private static Throwable failureOf(Future<?> future) {
+        try {
+            future.get();
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class A {
+    }
+
+    static class B {
+    }
+}
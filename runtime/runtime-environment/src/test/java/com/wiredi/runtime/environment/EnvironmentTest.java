@@ -36,4 +36,33 @@ class EnvironmentTest {
         assertThat(resolved).isEqualTo("This is a " + applicationTitle);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testThatResolvingTheSameStringReflectsChangedProperties() {
+        // Arrange
+        Environment environment = Environment.build();
+        environment.properties().set(Key.just("application.title"), "First");
+        String content = "This is the ${application.title} title";
+        String first = environment.resolve(content);
+
+        // Act
+        environment.properties().set(Key.just("application.title"), "Second");
+        String second = environment.resolve(content);
+
+        // Assert
+        assertThat(first).isEqualTo("This is the First title");
+        assertThat(second).isEqualTo("This is the Second title");
+    }
+
+    @Test
+    public void testThatUnresolvablePlaceholdersAreLeftUntouched() {
+        // Arrange
+        Environment environment = Environment.build();
+        environment.properties().set(Key.just("application.title"), "Test");
+
+        // Act
+        String resolved = environment.resolve("${application.title} and ?{unknown.expression}");
+
+        // Assert
+        assertThat(resolved).isEqualTo("Test and ?{unknown.expression}");
+    }
+}
@@ -109,4 +109,30 @@ class PlaceholderResolverTest {
         assertThat(secondEntry.toString()).isEqualTo(rawPlaceHolder);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testThatTemplatesAreCached() {
+        // Arrange
+        String wholeString = "Hello ${some.value} and ${some.other.value}";
+
+        // Act
+        PlaceholderTemplate first = placeholderResolver.template(wholeString);
+        PlaceholderTemplate second = placeholderResolver.template(wholeString);
+
+        // Assert
+        assertThat(first).isSameAs(second);
+        assertThat(first.placeholders()).hasSize(2);
+        assertThat(first.isConstant()).isFalse();
+    }
+
+    @Test
+    public void testThatTemplatesReplaceOnlyResolvedPlaceholders() {
+        // Arrange
+        PlaceholderTemplate template = placeholderResolver.template("Hello ${some.value} and ${some.other.value}!");
+
+        // Act
+        String resolved = template.resolve(placeholder -> placeholder.getExpression().equals("some.value") ? "World" : null);
+
+        // Assert
+        assertThat(resolved).isEqualTo("Hello World and ${some.other.value}!");
+    }
+}
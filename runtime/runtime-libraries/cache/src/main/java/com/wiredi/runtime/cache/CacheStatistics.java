@@ -0,0 +1,32 @@
+package com.wiredi.runtime.cache;
+
+/**
+ * A snapshot of the statistics of a {@link ConcurrentInMemoryCache}.
+ * <p>
+ * The counters are accumulated since the cache has been created and are not reset when the cache is invalidated.
+ *
+ * @param hitCount      the number of lookups that found a cached value
+ * @param missCount     the number of lookups that did not find a cached value, including expired values
+ * @param evictionCount the number of entries removed because of the size bound or because they expired
+ */
+public record CacheStatistics(
+        long hitCount,
+        long missCount,
+        long evictionCount
+) {
+
+    /**
+     * @return the total number of lookups
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * @return the ratio of lookups that found a cached value, or 1.0 if no lookup has been made yet
+     */
+    public double hitRate() {
+        long requestCount = requestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
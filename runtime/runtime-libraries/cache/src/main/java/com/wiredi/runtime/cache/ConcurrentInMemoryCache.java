@@ -0,0 +1,654 @@
+package com.wiredi.runtime.cache;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * A thread safe, bounded in-memory implementation of the {@link Cache} interface.
+ * <p>
+ * Entries are stored in a {@link ConcurrentHashMap}, so reads and writes of different keys do not block each other.
+ * Which entries are evicted once the cache exceeds its bound is decided by the W-TinyLFU policy:
+ * <ul>
+ *   <li>New entries are added to a small admission window (1% of the maximum), which is ordered by recency.</li>
+ *   <li>Entries leaving the window compete with the least recently used entry of the main space.
+ *   Whichever of both has been accessed more often recently, according to a {@link FrequencySketch}, stays.</li>
+ *   <li>The main space is split into a probation and a protected segment (80% of the main space).
+ *   Entries that are accessed while on probation are promoted to the protected segment.</li>
+ * </ul>
+ * All of these operations are O(1).
+ * <p>
+ * The policy itself is not thread safe and is guarded by an eviction lock. Writes update the policy while holding
+ * this lock. Reads never wait for it: they record the access in a lossy, striped buffer, which is applied to the
+ * policy by whichever thread next acquires the lock. If the buffer is full, accesses are dropped, which only
+ * slightly reduces the accuracy of the policy.
+ * <p>
+ * Additionally, entries may expire after they have been written or last accessed and the cache may be bounded by
+ * the weight of its entries instead of their number. See {@link ConcurrentInMemoryCacheConfiguration} for details.
+ * Expired entries are never returned, but only removed from the cache during the next maintenance, which is why
+ * {@link #size()} is an estimate.
+ *
+ * <pre>{@code
+ * Cache<String, User> userCache = new ConcurrentInMemoryCache<>(
+ *     ConcurrentInMemoryCacheConfiguration.builder()
+ *         .withMaximumSize(100_000)
+ *         .withExpireAfterAccess(Duration.ofMinutes(5))
+ *         .build()
+ * );
+ * }</pre>
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of values maintained by this cache
+ * @see ConcurrentInMemoryCacheConfiguration
+ * @see InMemoryCacheManager#concurrent(ConcurrentInMemoryCacheConfiguration)
+ */
+public class ConcurrentInMemoryCache<K, V> implements Cache<K, V> {
+
+    /**
+     * Placeholder for the null key, which is not supported by the {@link ConcurrentHashMap}.
+     */
+    private static final Object NULL_KEY = new Object();
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    private static final double WINDOW_PERCENTAGE = 0.01;
+    private static final double PROTECTED_PERCENTAGE = 0.8;
+    /**
+     * Candidates that are at least this popular are admitted randomly, to prevent attackers from keeping
+     * an entry of the main space artificially warm.
+     */
+    private static final int WARM_CANDIDATE_FREQUENCY = 6;
+
+    @NotNull
+    private final ConcurrentHashMap<Object, Node<V>> data;
+    @NotNull
+    private final ConcurrentInMemoryCacheConfiguration configuration;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+
+    @NotNull
+    private final ReadBuffer<Node<V>> readBuffer = new ReadBuffer<>();
+    @NotNull
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    @NotNull
+    private final Consumer<Node<V>> onAccess = this::onAccess;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    // The following fields are guarded by the eviction lock
+    @NotNull
+    private final FrequencySketch sketch;
+    private final NodeQueue<V> window = new NodeQueue<>(false);
+    private final NodeQueue<V> probation = new NodeQueue<>(false);
+    private final NodeQueue<V> protectedSegment = new NodeQueue<>(false);
+    private final NodeQueue<V> writeOrder = new NodeQueue<>(true);
+    private final long maximum;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private long weightedSize;
+    private long windowWeightedSize;
+    private long protectedWeightedSize;
+
+    /**
+     * Creates a new cache bounded to the specified number of entries, without expiration.
+     *
+     * @param maximumSize the maximum number of entries the cache can hold
+     */
+    public ConcurrentInMemoryCache(long maximumSize) {
+        this(ConcurrentInMemoryCacheConfiguration.builder().withMaximumSize(maximumSize).build());
+    }
+
+    /**
+     * Creates a new cache with the {@link ConcurrentInMemoryCacheConfiguration#DEFAULT default configuration}.
+     */
+    public ConcurrentInMemoryCache() {
+        this(ConcurrentInMemoryCacheConfiguration.DEFAULT);
+    }
+
+    /**
+     * Creates a new cache with the specified configuration.
+     *
+     * @param configuration the configuration that controls the cache's behavior
+     */
+    public ConcurrentInMemoryCache(@NotNull ConcurrentInMemoryCacheConfiguration configuration) {
+        this.configuration = configuration;
+        this.expireAfterWriteNanos = configuration.expireAfterWrite() == null ? 0 : configuration.expireAfterWrite().toNanos();
+        this.expireAfterAccessNanos = configuration.expireAfterAccess() == null ? 0 : configuration.expireAfterAccess().toNanos();
+        this.maximum = configuration.maximumWeight();
+        this.windowMaximum = maximum == 0 ? 0 : Math.max(1, (long) (maximum * WINDOW_PERCENTAGE));
+        this.protectedMaximum = (long) ((maximum - windowMaximum) * PROTECTED_PERCENTAGE);
+        this.data = new ConcurrentHashMap<>((int) Math.min(maximum, 1 << 16));
+        this.sketch = new FrequencySketch(maximum);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the cache exceeds its bound after adding the value, entries are evicted before this method returns.
+     *
+     * @param key   the key with which the specified value is to be associated
+     * @param value the value to be associated with the specified key (must not be null)
+     * @return this cache instance for method chaining
+     */
+    @Override
+    public Cache<K, V> put(@Nullable K key, @NotNull V value) {
+        Objects.requireNonNull(value, "Cached values must not be null");
+        int weight = configuration.weigher().weigh(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("The weight of an entry must not be negative, but was " + weight);
+        }
+        long now = expires() ? configuration.ticker().getAsLong() : 0;
+
+        Node<V> newNode = new Node<>(maskNull(key), value, weight, now);
+        Node<V> node = data.compute(newNode.key, (k, existing) -> {
+            if (existing == null || !existing.alive) {
+                return newNode;
+            }
+
+            existing.value = value;
+            existing.weight = weight;
+            existing.writeTime = now;
+            existing.accessTime = now;
+            return existing;
+        });
+
+        evictionLock.lock();
+        try {
+            if (node == newNode) {
+                onAdd(node);
+            } else {
+                onUpdate(node);
+            }
+            maintenance();
+        } finally {
+            evictionLock.unlock();
+        }
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Lookups never wait for the eviction lock. Expired entries are treated as missing.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return an Optional containing the value to which the specified key is mapped,
+     * or an empty Optional if the cache contains no (unexpired) mapping for the key
+     */
+    @Override
+    public @NotNull Optional<V> get(@Nullable K key) {
+        Node<V> node = data.get(maskNull(key));
+        if (node == null) {
+            missCount.increment();
+            return Optional.empty();
+        }
+
+        if (expires()) {
+            long now = configuration.ticker().getAsLong();
+            if (hasExpired(node, now)) {
+                missCount.increment();
+                tryMaintenance();
+                return Optional.empty();
+            }
+            node.accessTime = now;
+        }
+
+        V value = node.value;
+        hitCount.increment();
+        if (readBuffer.offer(node)) {
+            tryMaintenance();
+        }
+        return Optional.of(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This is an estimate, as it may include entries that have expired but are not yet removed.
+     *
+     * @return the number of key-value mappings in this cache
+     */
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public Cache<K, V> invalidate() {
+        evictionLock.lock();
+        try {
+            readBuffer.drain(node -> {});
+            for (Node<V> node : data.values()) {
+                if (data.remove(node.key, node)) {
+                    node.alive = false;
+                    removeFromPolicy(node);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+        return this;
+    }
+
+    @Override
+    public Cache<K, V> invalidate(@Nullable K key) {
+        Node<V> node = data.remove(maskNull(key));
+        if (node != null) {
+            node.alive = false;
+            evictionLock.lock();
+            try {
+                removeFromPolicy(node);
+                maintenance();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns a snapshot of the hit, miss and eviction counters of this cache.
+     *
+     * @return the current statistics
+     */
+    @NotNull
+    public CacheStatistics statistics() {
+        return new CacheStatistics(hitCount.sum(), missCount.sum(), evictionCount.sum());
+    }
+
+    private boolean expires() {
+        return expireAfterWriteNanos > 0 || expireAfterAccessNanos > 0;
+    }
+
+    private boolean hasExpired(@NotNull Node<V> node, long now) {
+        return (expireAfterWriteNanos > 0 && now - node.writeTime >= expireAfterWriteNanos)
+                || (expireAfterAccessNanos > 0 && now - node.accessTime >= expireAfterAccessNanos);
+    }
+
+    private void tryMaintenance() {
+        if (evictionLock.tryLock()) {
+            try {
+                maintenance();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Applies the buffered reads to the policy and removes expired and excess entries.
+     * <p>
+     * Must only be called while holding the eviction lock.
+     */
+    private void maintenance() {
+        readBuffer.drain(onAccess);
+        if (expires()) {
+            expireEntries(configuration.ticker().getAsLong());
+        }
+        evictEntries();
+    }
+
+    private void onAdd(@NotNull Node<V> node) {
+        if (!node.alive) {
+            // Removed again, before the policy learned about it
+            return;
+        }
+
+        node.inPolicy = true;
+        node.policyWeight = node.weight;
+        node.queueType = WINDOW;
+        window.addLast(node);
+        if (expireAfterWriteNanos > 0) {
+            writeOrder.addLast(node);
+        }
+        windowWeightedSize += node.policyWeight;
+        weightedSize += node.policyWeight;
+        sketch.increment(node.key);
+    }
+
+    private void onUpdate(@NotNull Node<V> node) {
+        if (!node.inPolicy) {
+            return;
+        }
+
+        int weightDifference = node.weight - node.policyWeight;
+        node.policyWeight = node.weight;
+        weightedSize += weightDifference;
+        if (node.queueType == WINDOW) {
+            windowWeightedSize += weightDifference;
+        } else if (node.queueType == PROTECTED) {
+            protectedWeightedSize += weightDifference;
+        }
+        if (expireAfterWriteNanos > 0) {
+            writeOrder.moveToLast(node);
+        }
+        onAccess(node);
+    }
+
+    private void onAccess(@NotNull Node<V> node) {
+        if (!node.inPolicy) {
+            return;
+        }
+
+        sketch.increment(node.key);
+        switch (node.queueType) {
+            case WINDOW -> window.moveToLast(node);
+            case PROBATION -> {
+                probation.remove(node);
+                node.queueType = PROTECTED;
+                protectedSegment.addLast(node);
+                protectedWeightedSize += node.policyWeight;
+                demoteFromProtected();
+            }
+            case PROTECTED -> protectedSegment.moveToLast(node);
+        }
+    }
+
+    private void demoteFromProtected() {
+        while (protectedWeightedSize > protectedMaximum) {
+            Node<V> demoted = protectedSegment.first;
+            if (demoted == null) {
+                return;
+            }
+            protectedSegment.remove(demoted);
+            protectedWeightedSize -= demoted.policyWeight;
+            demoted.queueType = PROBATION;
+            probation.addLast(demoted);
+        }
+    }
+
+    private void removeFromPolicy(@NotNull Node<V> node) {
+        if (!node.inPolicy) {
+            return;
+        }
+
+        node.inPolicy = false;
+        switch (node.queueType) {
+            case WINDOW -> {
+                window.remove(node);
+                windowWeightedSize -= node.policyWeight;
+            }
+            case PROBATION -> probation.remove(node);
+            case PROTECTED -> {
+                protectedSegment.remove(node);
+                protectedWeightedSize -= node.policyWeight;
+            }
+        }
+        if (expireAfterWriteNanos > 0) {
+            writeOrder.remove(node);
+        }
+        weightedSize -= node.policyWeight;
+    }
+
+    private void expireEntries(long now) {
+        if (expireAfterAccessNanos > 0) {
+            expireEntries(window, now);
+            expireEntries(probation, now);
+            expireEntries(protectedSegment, now);
+        }
+        if (expireAfterWriteNanos > 0) {
+            expireEntries(writeOrder, now);
+        }
+    }
+
+    private void expireEntries(@NotNull NodeQueue<V> queue, long now) {
+        Node<V> node;
+        while ((node = queue.first) != null && hasExpired(node, now)) {
+            evict(node);
+        }
+    }
+
+    /**
+     * Evicts entries until the cache is within its bound again.
+     * <p>
+     * Entries exceeding the admission window move to the probation segment. If the cache is over its bound, such a
+     * candidate competes against the oldest entry on probation and the less frequently used one is evicted.
+     */
+    private void evictEntries() {
+        while (windowWeightedSize > windowMaximum) {
+            Node<V> candidate = window.first;
+            window.remove(candidate);
+            windowWeightedSize -= candidate.policyWeight;
+            candidate.queueType = PROBATION;
+            probation.addLast(candidate);
+
+            if (weightedSize > maximum) {
+                Node<V> victim = probation.first;
+                if (victim == candidate || !admit(candidate, victim)) {
+                    evict(candidate);
+                } else {
+                    evict(victim);
+                }
+            }
+        }
+
+        while (weightedSize > maximum) {
+            Node<V> victim = probation.first;
+            if (victim == null) {
+                victim = protectedSegment.first;
+            }
+            if (victim == null) {
+                victim = window.first;
+            }
+            if (victim == null) {
+                return;
+            }
+            evict(victim);
+        }
+    }
+
+    private boolean admit(@NotNull Node<V> candidate, @NotNull Node<V> victim) {
+        int candidateFrequency = sketch.frequency(candidate.key);
+        int victimFrequency = sketch.frequency(victim.key);
+        if (candidateFrequency > victimFrequency) {
+            return true;
+        }
+        if (candidateFrequency >= WARM_CANDIDATE_FREQUENCY) {
+            return (System.nanoTime() & 127) == 0;
+        }
+        return false;
+    }
+
+    private void evict(@NotNull Node<V> node) {
+        if (data.remove(node.key, node)) {
+            evictionCount.increment();
+        }
+        node.alive = false;
+        removeFromPolicy(node);
+    }
+
+    @NotNull
+    private static Object maskNull(@Nullable Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    /**
+     * A cache entry, which is also an element of the intrusive queues of the eviction policy.
+     */
+    private static final class Node<V> {
+        @NotNull
+        final Object key;
+        @NotNull
+        volatile V value;
+        volatile int weight;
+        volatile long writeTime;
+        volatile long accessTime;
+        volatile boolean alive = true;
+
+        // The following fields are guarded by the eviction lock
+        boolean inPolicy;
+        int policyWeight;
+        int queueType;
+        @Nullable
+        Node<V> previous, next;
+        @Nullable
+        Node<V> previousInWriteOrder, nextInWriteOrder;
+
+        Node(@NotNull Object key, @NotNull V value, int weight, long now) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = now;
+            this.accessTime = now;
+        }
+
+        @Override
+        public String toString() {
+            return "CacheItem(" + (key == NULL_KEY ? null : key) + "," + value + ")";
+        }
+    }
+
+    /**
+     * A doubly linked queue of nodes, linked either in access order or in write order.
+     */
+    private static final class NodeQueue<V> {
+        private final boolean writeOrder;
+        @Nullable
+        Node<V> first;
+        @Nullable
+        Node<V> last;
+
+        NodeQueue(boolean writeOrder) {
+            this.writeOrder = writeOrder;
+        }
+
+        void addLast(@NotNull Node<V> node) {
+            setPrevious(node, last);
+            setNext(node, null);
+            if (last == null) {
+                first = node;
+            } else {
+                setNext(last, node);
+            }
+            last = node;
+        }
+
+        void moveToLast(@NotNull Node<V> node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        void remove(@NotNull Node<V> node) {
+            Node<V> previous = previous(node);
+            Node<V> next = next(node);
+            if (previous == null) {
+                first = next;
+            } else {
+                setNext(previous, next);
+            }
+            if (next == null) {
+                last = previous;
+            } else {
+                setPrevious(next, previous);
+            }
+            setPrevious(node, null);
+            setNext(node, null);
+        }
+
+        private Node<V> previous(Node<V> node) {
+            return writeOrder ? node.previousInWriteOrder : node.previous;
+        }
+
+        private Node<V> next(Node<V> node) {
+            return writeOrder ? node.nextInWriteOrder : node.next;
+        }
+
+        private void setPrevious(Node<V> node, Node<V> previous) {
+            if (writeOrder) {
+                node.previousInWriteOrder = previous;
+            } else {
+                node.previous = previous;
+            }
+        }
+
+        private void setNext(Node<V> node, Node<V> next) {
+            if (writeOrder) {
+                node.nextInWriteOrder = next;
+            } else {
+                node.next = next;
+            }
+        }
+    }
+
+    /**
+     * A lossy buffer of recorded reads, striped by thread to reduce contention.
+     * <p>
+     * Any thread may offer elements, but only the thread holding the eviction lock drains them.
+     */
+    private static final class ReadBuffer<E> {
+        private static final int BUFFER_SIZE = 64;
+        private static final int BUFFER_MASK = BUFFER_SIZE - 1;
+        private static final int DRAIN_THRESHOLD = BUFFER_SIZE / 2;
+
+        private final Stripe<E>[] stripes;
+        private final int stripeMask;
+
+        @SuppressWarnings("unchecked")
+        ReadBuffer() {
+            int count = Integer.highestOneBit(Math.min(Runtime.getRuntime().availableProcessors(), 64) * 2 - 1);
+            this.stripes = new Stripe[count];
+            for (int i = 0; i < count; i++) {
+                stripes[i] = new Stripe<>();
+            }
+            this.stripeMask = count - 1;
+        }
+
+        /**
+         * Records the element, or drops it if the buffer is full or contended.
+         *
+         * @return true, if the buffer should be drained
+         */
+        boolean offer(@NotNull E element) {
+            long threadId = Thread.currentThread().threadId();
+            Stripe<E> stripe = stripes[(int) (threadId ^ (threadId >>> 16)) & stripeMask];
+            long head = stripe.readCounter;
+            long tail = stripe.writeCounter.get();
+            long size = tail - head;
+            if (size >= BUFFER_SIZE) {
+                return true;
+            }
+            if (stripe.writeCounter.compareAndSet(tail, tail + 1)) {
+                stripe.buffer.lazySet((int) (tail & BUFFER_MASK), element);
+                return size + 1 >= DRAIN_THRESHOLD;
+            }
+            return false;
+        }
+
+        void drain(@NotNull Consumer<E> consumer) {
+            for (Stripe<E> stripe : stripes) {
+                long head = stripe.readCounter;
+                long tail = stripe.writeCounter.get();
+                for (; head != tail; head++) {
+                    int index = (int) (head & BUFFER_MASK);
+                    E element = stripe.buffer.get(index);
+                    if (element == null) {
+                        // Claimed, but not yet published by the offering thread
+                        break;
+                    }
+                    stripe.buffer.lazySet(index, null);
+                    consumer.accept(element);
+                }
+                stripe.readCounter = head;
+            }
+        }
+
+        private static final class Stripe<E> {
+            final AtomicLong writeCounter = new AtomicLong();
+            final AtomicReferenceArray<E> buffer = new AtomicReferenceArray<>(BUFFER_SIZE);
+            volatile long readCounter;
+        }
+    }
+}
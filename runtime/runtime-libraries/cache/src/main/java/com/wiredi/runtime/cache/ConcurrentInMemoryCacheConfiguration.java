@@ -0,0 +1,162 @@
+package com.wiredi.runtime.cache;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Configuration options for {@link ConcurrentInMemoryCache} instances.
+ * <p>
+ * A cache is always bounded, either by the number of entries or, if a {@link Weigher} is configured, by the
+ * accumulated weight of all entries. Entries can additionally expire a fixed time after they have been written or
+ * after they have last been accessed.
+ * <p>
+ * Basic usage examples:
+ *
+ * <pre>{@code
+ * ConcurrentInMemoryCacheConfiguration config = ConcurrentInMemoryCacheConfiguration.builder()
+ *     .withMaximumSize(100_000)
+ *     .withExpireAfterWrite(Duration.ofMinutes(10))
+ *     .build();
+ *
+ * // Create a cache manager with this configuration
+ * CacheManager cacheManager = InMemoryCacheManager.concurrent(config);
+ * }</pre>
+ */
+public record ConcurrentInMemoryCacheConfiguration(
+        /**
+         * The maximum accumulated weight of all entries.
+         * With the default weigher, this is the maximum number of entries.
+         */
+        long maximumWeight,
+
+        /**
+         * Calculates the weight of an entry when it is put into the cache.
+         */
+        @NotNull Weigher weigher,
+
+        /**
+         * The duration after which an entry expires once it has been written, or null if entries should not expire
+         * after write.
+         */
+        @Nullable Duration expireAfterWrite,
+
+        /**
+         * The duration after which an entry expires once it has last been read or written, or null if entries should
+         * not expire after access.
+         */
+        @Nullable Duration expireAfterAccess,
+
+        /**
+         * The source of time in nanoseconds, used to determine if entries have expired.
+         */
+        @NotNull LongSupplier ticker
+) {
+
+    /**
+     * A default configuration, bounding the cache to 10,000 entries without any expiration.
+     */
+    public static final ConcurrentInMemoryCacheConfiguration DEFAULT = builder().build();
+
+    public ConcurrentInMemoryCacheConfiguration {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("The maximum weight must not be negative, but was " + maximumWeight);
+        }
+        Objects.requireNonNull(weigher, "The weigher must not be null");
+        Objects.requireNonNull(ticker, "The ticker must not be null");
+        requirePositive(expireAfterWrite, "expireAfterWrite");
+        requirePositive(expireAfterAccess, "expireAfterAccess");
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private static void requirePositive(@Nullable Duration duration, @NotNull String name) {
+        if (duration != null && (duration.isNegative() || duration.isZero())) {
+            throw new IllegalArgumentException("The duration " + name + " must be positive, but was " + duration);
+        }
+    }
+
+    /**
+     * A builder class for creating {@link ConcurrentInMemoryCacheConfiguration} instances.
+     * <p>
+     * The default values are a maximum of 10,000 entries, no expiration and {@link System#nanoTime()} as the ticker.
+     */
+    public static class Builder {
+        private long maximumWeight = 10_000;
+        @NotNull
+        private Weigher weigher = Weigher.SINGLETON;
+        @Nullable
+        private Duration expireAfterWrite;
+        @Nullable
+        private Duration expireAfterAccess;
+        @NotNull
+        private LongSupplier ticker = System::nanoTime;
+
+        /**
+         * Bounds the cache by the number of entries.
+         *
+         * @param maximumSize the maximum number of entries
+         * @return this builder instance for method chaining
+         */
+        public Builder withMaximumSize(long maximumSize) {
+            this.maximumWeight = maximumSize;
+            this.weigher = Weigher.SINGLETON;
+            return this;
+        }
+
+        /**
+         * Bounds the cache by the accumulated weight of all entries.
+         *
+         * @param maximumWeight the maximum accumulated weight
+         * @param weigher       calculates the weight of each entry
+         * @return this builder instance for method chaining
+         */
+        public Builder withMaximumWeight(long maximumWeight, @NotNull Weigher weigher) {
+            this.maximumWeight = maximumWeight;
+            this.weigher = weigher;
+            return this;
+        }
+
+        /**
+         * Lets entries expire once the duration has passed since they have been written.
+         *
+         * @param expireAfterWrite the duration, or null to disable expiration after write
+         * @return this builder instance for method chaining
+         */
+        public Builder withExpireAfterWrite(@Nullable Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+            return this;
+        }
+
+        /**
+         * Lets entries expire once the duration has passed since they have last been read or written.
+         *
+         * @param expireAfterAccess the duration, or null to disable expiration after access
+         * @return this builder instance for method chaining
+         */
+        public Builder withExpireAfterAccess(@Nullable Duration expireAfterAccess) {
+            this.expireAfterAccess = expireAfterAccess;
+            return this;
+        }
+
+        /**
+         * Replaces the source of time used for expiration, mainly useful for tests.
+         *
+         * @param ticker a supplier of the current time in nanoseconds
+         * @return this builder instance for method chaining
+         */
+        public Builder withTicker(@NotNull LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public ConcurrentInMemoryCacheConfiguration build() {
+            return new ConcurrentInMemoryCacheConfiguration(maximumWeight, weigher, expireAfterWrite, expireAfterAccess, ticker);
+        }
+    }
+}
@@ -2,9 +2,8 @@ package com.wiredi.runtime.cache;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ConcurrentModificationException;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
@@ -23,6 +22,7 @@ import java.util.function.Supplier;
  *   <li>Thread-safe access to caches</li>
  *   <li>Lazy creation of cache instances</li>
  *   <li>Configurable cache behavior through {@link InMemoryCacheConfiguration}</li>
+ *   <li>Concurrent, bounded caches through {@link #concurrent(ConcurrentInMemoryCacheConfiguration)}</li>
  *   <li>Support for atomic cache modifications</li>
  * </ul>
  * <p>
@@ -48,6 +48,14 @@ import java.util.function.Supplier;
  *     .withHitOnOverride(true)
  *     .build();
  * CacheManager customCacheManager = new InMemoryCacheManager(config);
+ *
+ * // Create a cache manager whose caches may be used concurrently, e.g. on request paths
+ * CacheManager concurrentCacheManager = InMemoryCacheManager.concurrent(
+ *     ConcurrentInMemoryCacheConfiguration.builder()
+ *         .withMaximumSize(100_000)
+ *         .withExpireAfterWrite(Duration.ofMinutes(10))
+ *         .build()
+ * );
  * }</pre>
  * 
  * <p>
@@ -75,21 +83,21 @@ public class InMemoryCacheManager implements CacheManager {
      * Maps cache identifiers to their corresponding cache instances.
      */
     @NotNull
-    private final Map<CacheIdentifier<?, ?>, Cache<?, ?>> caches = new HashMap<>();
+    private final Map<CacheIdentifier<?, ?>, Cache<?, ?>> caches = new ConcurrentHashMap<>();
     
     /**
      * Registry of locks used for thread-safe access to caches.
      * Each cache identifier has its own lock to allow concurrent access to different caches.
      */
     @NotNull
-    private final Map<Object, Lock> locks = new HashMap<>();
+    private final Map<Object, Lock> locks = new ConcurrentHashMap<>();
     
     /**
-     * Configuration used when creating new cache instances.
-     * All caches created by this manager will use this configuration.
+     * Factory used when creating new cache instances.
+     * All caches created by this manager will be created by this factory.
      */
     @NotNull
-    private final InMemoryCacheConfiguration cacheConfiguration;
+    private final Supplier<Cache<?, ?>> cacheFactory;
 
     /**
      * Creates a new cache manager with the specified configuration.
@@ -109,7 +117,21 @@ public class InMemoryCacheManager implements CacheManager {
      * @param cacheConfiguration the configuration to use for all caches created by this manager
      */
     public InMemoryCacheManager(@NotNull InMemoryCacheConfiguration cacheConfiguration) {
-        this.cacheConfiguration = cacheConfiguration;
+        this(() -> new InMemoryCache<>(cacheConfiguration));
+    }
+
+    /**
+     * Creates a new cache manager that uses the factory to create new caches.
+     *
+     * <pre>{@code
+     * // Create a cache manager that creates a concurrent cache with up to 1,000 entries per identifier
+     * CacheManager cacheManager = new InMemoryCacheManager(() -> new ConcurrentInMemoryCache<>(1_000));
+     * }</pre>
+     *
+     * @param cacheFactory the factory to create all caches of this manager
+     */
+    public InMemoryCacheManager(@NotNull Supplier<Cache<?, ?>> cacheFactory) {
+        this.cacheFactory = cacheFactory;
     }
 
     /**
@@ -128,7 +150,31 @@ public class InMemoryCacheManager implements CacheManager {
      * }</pre>
      */
     public InMemoryCacheManager() {
-        this.cacheConfiguration = InMemoryCacheConfiguration.DEFAULT;
+        this(InMemoryCacheConfiguration.DEFAULT);
+    }
+
+    /**
+     * Creates a new cache manager, whose caches are {@link ConcurrentInMemoryCache} instances with the specified
+     * configuration.
+     * <p>
+     * Contrary to the {@link InMemoryCache}, these caches are thread safe and are designed to hold large numbers of
+     * entries.
+     *
+     * @param cacheConfiguration the configuration to use for all caches created by this manager
+     * @return a new cache manager
+     */
+    public static InMemoryCacheManager concurrent(@NotNull ConcurrentInMemoryCacheConfiguration cacheConfiguration) {
+        return new InMemoryCacheManager(() -> new ConcurrentInMemoryCache<>(cacheConfiguration));
+    }
+
+    /**
+     * Creates a new cache manager, whose caches are {@link ConcurrentInMemoryCache} instances with the
+     * {@link ConcurrentInMemoryCacheConfiguration#DEFAULT default configuration}.
+     *
+     * @return a new cache manager
+     */
+    public static InMemoryCacheManager concurrent() {
+        return concurrent(ConcurrentInMemoryCacheConfiguration.DEFAULT);
     }
 
     /**
@@ -158,6 +204,10 @@ public class InMemoryCacheManager implements CacheManager {
      */
     @Override
     public <K, V> @NotNull Cache<K, V> getCache(@NotNull CacheIdentifier<K, V> cacheIdentifier) {
+        Cache<K, V> existing = (Cache<K, V>) caches.get(cacheIdentifier);
+        if (existing != null) {
+            return existing;
+        }
         return getLocked(cacheIdentifier, () -> getOrCreateCache(cacheIdentifier));
     }
 
@@ -209,7 +259,7 @@ public class InMemoryCacheManager implements CacheManager {
      * @return the existing cache or a new one if it doesn't exist
      */
     private <K, V> @NotNull Cache<K, V> getOrCreateCache(@NotNull CacheIdentifier<K, V> cacheIdentifier) {
-        return (Cache<K, V>) caches.computeIfAbsent(cacheIdentifier, (n) -> new InMemoryCache<>(cacheConfiguration));
+        return (Cache<K, V>) caches.computeIfAbsent(cacheIdentifier, (n) -> cacheFactory.get());
     }
 
     /**
@@ -257,26 +307,11 @@ public class InMemoryCacheManager implements CacheManager {
      * <p>
      * This method ensures that each key has its own lock, allowing concurrent
      * access to different keys while serializing access to the same key.
-     * <p>
-     * The method uses double-checked locking to minimize synchronization overhead.
      *
      * @param key the key to get a lock for
      * @return the lock for the specified key
-     * @throws ConcurrentModificationException if a lock was removed concurrently
      */
     private Lock getLock(Object key) {
-        if (!locks.containsKey(key)) {
-            synchronized (locks) {
-                if (!locks.containsKey(key)) {
-                    locks.put(key, new ReentrantLock());
-                }
-            }
-        }
-
-        Lock lock = locks.get(key);
-        if (lock == null) {
-            throw new ConcurrentModificationException("A lock was removed from the lock contents");
-        }
-        return lock;
+        return locks.computeIfAbsent(key, k -> new ReentrantLock());
     }
 }
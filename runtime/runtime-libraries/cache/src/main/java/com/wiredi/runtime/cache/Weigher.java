@@ -0,0 +1,35 @@
+package com.wiredi.runtime.cache;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Calculates the weight of a cache entry, used to bound a {@link ConcurrentInMemoryCache} by weight instead of by
+ * the number of entries.
+ * <p>
+ * The weight of an entry is calculated when it is put into the cache and is not reevaluated later on.
+ *
+ * <pre>{@code
+ * // Bound the cache by the approximate size of the cached payloads
+ * ConcurrentInMemoryCacheConfiguration configuration = ConcurrentInMemoryCacheConfiguration.builder()
+ *     .withMaximumWeight(64 * 1024 * 1024, (key, value) -> ((byte[]) value).length)
+ *     .build();
+ * }</pre>
+ */
+@FunctionalInterface
+public interface Weigher {
+
+    /**
+     * A weigher that assigns each entry the weight 1, bounding a cache by the number of entries.
+     */
+    Weigher SINGLETON = (key, value) -> 1;
+
+    /**
+     * Returns the weight of the entry.
+     *
+     * @param key   the key of the entry
+     * @param value the value of the entry
+     * @return the weight of the entry, must not be negative
+     */
+    int weigh(@Nullable Object key, @NotNull Object value);
+}
@@ -0,0 +1,201 @@
+package com.wiredi.runtime.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentInMemoryCacheTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    @Test
+    public void valuesCanBeStoredRetrievedAndInvalidated() {
+        // Arrange
+        ConcurrentInMemoryCache<String, String> cache = new ConcurrentInMemoryCache<>(10);
+
+        // Act
+        cache.put("1", "1");
+        cache.put(null, "null");
+        cache.put("2", "2");
+        cache.put("2", "two");
+        cache.invalidate("1");
+
+        // Assert
+        assertThat(cache.get("1")).isEmpty();
+        assertThat(cache.get(null)).contains("null");
+        assertThat(cache.get("2")).contains("two");
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.invalidate();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("2")).isEmpty();
+    }
+
+    @Test
+    public void theCacheIsBoundedByItsMaximumSize() {
+        // Arrange
+        ConcurrentInMemoryCache<Integer, Integer> cache = new ConcurrentInMemoryCache<>(100);
+
+        // Act
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(i, i);
+        }
+
+        // Assert
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.statistics().evictionCount()).isEqualTo(900);
+    }
+
+    @Test
+    public void frequentlyUsedEntriesSurviveAScanOfOneTimeEntries() {
+        // Arrange
+        ConcurrentInMemoryCache<String, String> cache = new ConcurrentInMemoryCache<>(100);
+        cache.put("hot", "hot");
+        for (int i = 0; i < 10; i++) {
+            cache.get("hot");
+        }
+
+        // Act
+        for (int i = 0; i < 1_000; i++) {
+            cache.put("cold-" + i, "cold");
+        }
+
+        // Assert
+        assertThat(cache.get("hot")).contains("hot");
+        assertThat(cache.size()).isEqualTo(100);
+    }
+
+    @Test
+    public void theCacheCanBeBoundedByWeight() {
+        // Arrange
+        ConcurrentInMemoryCache<String, String> cache = new ConcurrentInMemoryCache<>(
+                ConcurrentInMemoryCacheConfiguration.builder()
+                        .withMaximumWeight(10, (key, value) -> ((String) value).length())
+                        .build()
+        );
+
+        // Act
+        cache.put("1", "aaaa");
+        cache.put("2", "bbbb");
+        cache.put("3", "cccc");
+
+        // Assert
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.statistics().evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void entriesExpireAfterWrite() {
+        // Arrange
+        ConcurrentInMemoryCache<String, String> cache = new ConcurrentInMemoryCache<>(
+                ConcurrentInMemoryCacheConfiguration.builder()
+                        .withExpireAfterWrite(Duration.ofMinutes(10))
+                        .withTicker(ticker::get)
+                        .build()
+        );
+        cache.put("1", "1");
+
+        // Act
+        ticker.addAndGet(Duration.ofMinutes(9).toNanos());
+        boolean presentBeforeExpiration = cache.get("1").isPresent();
+        ticker.addAndGet(Duration.ofMinutes(1).toNanos());
+        boolean presentAfterExpiration = cache.get("1").isPresent();
+        cache.put("2", "2");
+
+        // Assert
+        assertThat(presentBeforeExpiration).isTrue();
+        assertThat(presentAfterExpiration).isFalse();
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.statistics().evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void accessingAnEntryDelaysItsExpirationAfterAccess() {
+        // Arrange
+        ConcurrentInMemoryCache<String, String> cache = new ConcurrentInMemoryCache<>(
+                ConcurrentInMemoryCacheConfiguration.builder()
+                        .withExpireAfterAccess(Duration.ofMinutes(10))
+                        .withTicker(ticker::get)
+                        .build()
+        );
+        cache.put("1", "1");
+        cache.put("2", "2");
+
+        // Act
+        ticker.addAndGet(Duration.ofMinutes(9).toNanos());
+        cache.get("1");
+        ticker.addAndGet(Duration.ofMinutes(9).toNanos());
+
+        // Assert
+        assertThat(cache.get("1")).contains("1");
+        assertThat(cache.get("2")).isEmpty();
+    }
+
+    @Test
+    public void hitsAndMissesAreCounted() {
+        // Arrange
+        ConcurrentInMemoryCache<String, String> cache = new ConcurrentInMemoryCache<>(10);
+        cache.put("1", "1");
+
+        // Act
+        cache.get("1");
+        cache.get("1");
+        cache.get("2");
+
+        // Assert
+        CacheStatistics statistics = cache.statistics();
+        assertThat(statistics.hitCount()).isEqualTo(2);
+        assertThat(statistics.missCount()).isEqualTo(1);
+        assertThat(statistics.hitRate()).isEqualTo(2.0 / 3.0);
+    }
+
+    @Test
+    public void theCacheStaysBoundedWhenUsedConcurrently() throws InterruptedException {
+        // Arrange
+        ConcurrentInMemoryCache<Integer, Integer> cache = new ConcurrentInMemoryCache<>(1_000);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int thread = 0; thread < 16; thread++) {
+                executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 10_000; i++) {
+                        int key = random.nextInt(10_000);
+                        if (random.nextBoolean()) {
+                            cache.put(key, key);
+                        } else {
+                            cache.get(key).ifPresent(value -> assertThat(value).isEqualTo(key));
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        // Assert
+        assertThat(cache.size()).isLessThanOrEqualTo(1_000);
+    }
+
+    @Test
+    public void theConcurrentCacheManagerCreatesConcurrentCaches() {
+        // Arrange
+        CacheManager cacheManager = InMemoryCacheManager.concurrent();
+
+        // Act
+        Cache<String, String> cache = cacheManager.getCache(String.class, String.class, "test");
+
+        // Assert
+        assertThat(cache).isInstanceOf(ConcurrentInMemoryCache.class);
+        assertThat(cacheManager.getCache(String.class, String.class, "test")).isSameAs(cache);
+    }
+}
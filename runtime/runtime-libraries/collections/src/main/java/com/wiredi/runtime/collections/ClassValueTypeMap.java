@@ -0,0 +1,182 @@
+package com.wiredi.runtime.collections;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link TypeMap} that resolves class-keyed lookups through a {@link ClassValue}.
+ * <p>
+ * Entries are still stored by their fully qualified class names, so all semantics of the TypeMap apply, including
+ * the String-keyed operations. Additionally, the entry of every class that is looked up is memorized in a slot that
+ * the JVM attaches to the class itself. Repeated lookups of the same class read this slot directly and neither
+ * compute the class name nor hash it.
+ * <p>
+ * Every modification of the map invalidates all memorized slots, which are then refreshed with the next lookup of
+ * their class. This makes the map best suited for long-living registries that are read far more often than they are
+ * modified. Maps that are written on every miss, or that are created per instance of a component, should use the
+ * plain {@link TypeMap} instead.
+ * <p>
+ * Retention: every map owns its own {@link ClassValue}, so every map attaches one slot to each class that it looked
+ * up. The map does not prevent the classes from being garbage collected. The other way around, a slot is held by its
+ * class and strongly references the last value it memorized. A removed or replaced value therefore stays reachable
+ * until its class is looked up again, and the slots of a discarded map are only released once the map itself became
+ * unreachable and the JVM expunged the stale ClassValue entries.
+ * <p>
+ * Modifications through the live views {@link #values()} and {@link #keys()} are not detected and must be avoided.
+ * <p>
+ * Thread-safety: Maps created through {@link #concurrent()} are thread-safe, all other instances are not.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * TypeMap<Handler> handlers = ClassValueTypeMap.concurrent();
+ * handlers.put(String.class, new StringHandler());
+ * Handler handler = handlers.get(String.class);
+ * }</pre>
+ *
+ * @param <T> the value type stored in the map
+ */
+public class ClassValueTypeMap<T> extends TypeMap<T> {
+
+    private final AtomicInteger version = new AtomicInteger();
+    private final ClassValue<Slot<T>> slots = new ClassValue<>() {
+        @Override
+        protected Slot<T> computeValue(Class<?> type) {
+            return new Slot<>(type.getName());
+        }
+    };
+
+    /**
+     * Creates a ClassValueTypeMap with the provided backing map.
+     *
+     * @param contents a mutable map keyed by fully qualified class names
+     */
+    protected ClassValueTypeMap(Map<String, T> contents) {
+        super(contents);
+    }
+
+    /**
+     * Creates an empty ClassValueTypeMap backed by a {@link HashMap}.
+     */
+    public ClassValueTypeMap() {
+        this(new HashMap<>());
+    }
+
+    /**
+     * Copy-constructor that clones the content of another TypeMap into a new {@link HashMap}.
+     *
+     * @param other the map to copy
+     */
+    public ClassValueTypeMap(TypeMap<T> other) {
+        this(new HashMap<>(other.contents));
+    }
+
+    /**
+     * Creates an empty, thread-safe ClassValueTypeMap backed by a {@link ConcurrentHashMap}.
+     */
+    public static <T> ClassValueTypeMap<T> concurrent() {
+        return new ClassValueTypeMap<>(new ConcurrentHashMap<>());
+    }
+
+    @Override
+    public T get(Class<?> type) {
+        return lookup(type).value();
+    }
+
+    @Override
+    public boolean containsKey(Class<?> type) {
+        return lookup(type).present();
+    }
+
+    @Override
+    public T getOrDefault(Class<?> type, T or) {
+        Entry<T> entry = lookup(type);
+        return entry.present() ? entry.value() : or;
+    }
+
+    @Override
+    public void ifPresent(Class<?> type, Consumer<T> consumer) {
+        T value = get(type);
+        if (value != null) {
+            consumer.accept(value);
+        }
+    }
+
+    @Override
+    public T computeIfAbsent(Class<?> type, Supplier<T> supplier) {
+        T value = get(type);
+        if (value != null) {
+            return value;
+        }
+        return modify(super.computeIfAbsent(type, supplier));
+    }
+
+    @Override
+    public T computeIfPresent(Class<?> type, Function<T, T> function) {
+        return modify(super.computeIfPresent(type, function));
+    }
+
+    @Override
+    public T put(Class<?> type, T value) {
+        return modify(super.put(type, value));
+    }
+
+    @Override
+    public T put(String className, T value) {
+        return modify(super.put(className, value));
+    }
+
+    @Override
+    public T remove(Class<?> type) {
+        return modify(super.remove(type));
+    }
+
+    @Override
+    public void putAll(TypeMap<? extends T> typeMap) {
+        super.putAll(typeMap);
+        modify(null);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        modify(null);
+    }
+
+    private <S> S modify(S result) {
+        version.incrementAndGet();
+        return result;
+    }
+
+    private Entry<T> lookup(Class<?> type) {
+        Slot<T> slot = slots.get(type);
+        Entry<T> entry = slot.entry;
+        int currentVersion = version.get();
+        if (entry == null || entry.version() != currentVersion) {
+            // The version is read before the contents, so a concurrent modification always outdates the entry
+            T value = contents.get(slot.name);
+            entry = new Entry<>(currentVersion, value, value != null || contents.containsKey(slot.name));
+            slot.entry = entry;
+        }
+        return entry;
+    }
+
+    /**
+     * The memorized entry of a single class, attached to the class through the {@link ClassValue}.
+     */
+    private static final class Slot<T> {
+        private final String name;
+        private volatile Entry<T> entry;
+
+        private Slot(String name) {
+            this.name = name;
+        }
+    }
+
+    private record Entry<T>(int version, T value, boolean present) {
+    }
+}
@@ -36,7 +36,7 @@ import static com.wiredi.runtime.lang.Preconditions.isNotNull;
 public final class EnumSet<T extends Enum<T>> {
 
     @NotNull
-    private static final TypeMap<EnumSet<?>> sets = new TypeMap<>();
+    private static final TypeMap<EnumSet<?>> sets = ClassValueTypeMap.concurrent();
     @NotNull
     private final Map<String, T> content;
     @NotNull
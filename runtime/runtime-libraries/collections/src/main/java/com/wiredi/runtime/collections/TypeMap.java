@@ -38,6 +38,9 @@ import java.util.function.Supplier;
  * <p>
  * Thread-safety: This class is not thread-safe by default. Use {@link ConcurrentTypeMap} if you need
  * concurrent access.
+ * <p>
+ * Every class-keyed lookup computes and hashes the name of the class. For maps that are read far more often than
+ * they are modified, {@link ClassValueTypeMap} avoids this by memorizing the entries of looked up classes.
  *
  * @param <T> the value type stored in the map
  */
@@ -83,8 +86,13 @@ public class TypeMap<T> {
         this(new HashMap<>(initialCapacity, loadFactor));
     }
 
+    /**
+     * Creates an empty, thread-safe TypeMap.
+     *
+     * @see ConcurrentTypeMap
+     */
     public static <T> TypeMap<T> concurrent() {
-        return new TypeMap<>(new ConcurrentTypeMap<>());
+        return new ConcurrentTypeMap<>();
     }
 
     /**
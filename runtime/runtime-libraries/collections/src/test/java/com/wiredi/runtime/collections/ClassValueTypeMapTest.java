@@ -0,0 +1,100 @@
+package com.wiredi.runtime.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassValueTypeMapTest {
+
+    @Test
+    public void lookupsReflectModifications() {
+        // Arrange
+        TypeMap<String> typeMap = new ClassValueTypeMap<>();
+        typeMap.put(String.class, "first");
+        assertThat(typeMap.get(String.class)).isEqualTo("first");
+
+        // Act
+        typeMap.put(String.class, "second");
+        String afterPut = typeMap.get(String.class);
+        typeMap.remove(String.class);
+        String afterRemove = typeMap.get(String.class);
+
+        // Assert
+        assertThat(afterPut).isEqualTo("second");
+        assertThat(afterRemove).isNull();
+        assertThat(typeMap.containsKey(String.class)).isFalse();
+    }
+
+    @Test
+    public void stringKeyedModificationsAreVisibleToClassKeyedLookups() {
+        // Arrange
+        TypeMap<String> typeMap = new ClassValueTypeMap<>();
+        assertThat(typeMap.get(Integer.class)).isNull();
+
+        // Act
+        typeMap.put(Integer.class.getName(), "integer");
+
+        // Assert
+        assertThat(typeMap.get(Integer.class)).isEqualTo("integer");
+        assertThat(typeMap.get(Integer.class.getName())).isEqualTo("integer");
+    }
+
+    @Test
+    public void nullValuesArePresent() {
+        // Arrange
+        TypeMap<String> typeMap = new ClassValueTypeMap<>();
+
+        // Act
+        typeMap.put(String.class, null);
+
+        // Assert
+        assertThat(typeMap.containsKey(String.class)).isTrue();
+        assertThat(typeMap.getOrDefault(String.class, "default")).isNull();
+        assertThat(typeMap.getOrDefault(Integer.class, "default")).isEqualTo("default");
+    }
+
+    @Test
+    public void mapsAreIndependentOfEachOther() {
+        // Arrange
+        TypeMap<String> first = new ClassValueTypeMap<>();
+        TypeMap<String> second = new ClassValueTypeMap<>();
+
+        // Act
+        first.put(String.class, "first");
+        second.put(String.class, "second");
+
+        // Assert
+        assertThat(first.get(String.class)).isEqualTo("first");
+        assertThat(second.get(String.class)).isEqualTo("second");
+        assertThat(first).isEqualTo(new TypeMap<>(first));
+    }
+
+    @Test
+    public void concurrentMapsCanBeModifiedFromMultipleThreads() {
+        // Arrange
+        TypeMap<Integer> typeMap = ClassValueTypeMap.concurrent();
+        List<Class<?>> types = List.of(String.class, Integer.class, Long.class, Double.class, Float.class, Short.class);
+
+        // Act
+        IntStream.range(0, 10_000)
+                .parallel()
+                .forEach(i -> typeMap.computeIfAbsent(types.get(i % types.size()), () -> i % types.size()));
+
+        // Assert
+        for (int i = 0; i < types.size(); i++) {
+            assertThat(typeMap.get(types.get(i))).isEqualTo(i);
+        }
+    }
+
+    @Test
+    public void theConcurrentFactoryOfTheTypeMapCreatesAConcurrentMap() {
+        // Act
+        TypeMap<String> typeMap = TypeMap.concurrent();
+
+        // Assert
+        assertThat(typeMap).isInstanceOf(ConcurrentTypeMap.class);
+    }
+}
@@ -6,6 +6,9 @@ import com.wiredi.runtime.messaging.errors.MissingMessageConverterException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
+import java.util.concurrent.Executor;
+
 /**
  * This {@link MessagingEngine} instance holds a list of {@link MessageConverter} instances and checks them in order.
  * <p>
@@ -13,9 +16,14 @@ import org.jetbrains.annotations.Nullable;
  * for the first converter that is able to convert the {@link Message}.
  * <p>
  * {@link MessageConverter} are cached whenever a converter successfully serializes or deserializes a message.
- * They are cached for the combination of the target class plus the {@link MessageDetails} type.
- * Next accesses to the same combination of target class plus {@link MessageDetails} type will first try to use the
- * last hit {@link MessageConverter} and only if it is not applicable search again for another {@link MessageConverter}.
+ * They are cached for the combination of the target class, the {@link MessageDetails} type and the media type of the
+ * {@link MessageHeaders#CONTENT_TYPE} header.
+ * Next accesses to the same combination will first try to use the last hit {@link MessageConverter} and only if it is
+ * not applicable search again for another {@link MessageConverter}.
+ * Combinations for which no converter {@link MessageConverter#canSerialize can serialize} or
+ * {@link MessageConverter#canDeserialize deserialize} fail fast on subsequent accesses.
+ *
+ * @see MessagingContext
  */
 public class CompositeMessagingEngine implements MessagingEngine {
 
@@ -57,15 +65,32 @@ public class CompositeMessagingEngine implements MessagingEngine {
         }
     }
 
+    @Override
+    public <E extends Throwable, D extends MessageDetails> List<MessagingResult> processMessages(
+            List<? extends Message<D>> messages,
+            ThrowingFunction<Message<D>, Object, E> handler
+    ) {
+        return requestContext.handleRequests(messages, handler);
+    }
+
+    @Override
+    public <E extends Throwable, D extends MessageDetails> List<MessagingResult> processMessages(
+            List<? extends Message<D>> messages,
+            ThrowingFunction<Message<D>, Object, E> handler,
+            Executor executor
+    ) {
+        return requestContext.handleRequests(messages, handler, executor);
+    }
+
     @Override
     public <T, S extends MessageDetails> @NotNull T deserialize(@NotNull Message<S> rawMessage, @NotNull Class<T> targetType) throws MissingMessageConverterException {
-        return messageEngineContext.convertCacheAware(targetType, rawMessage.details(), converter -> {
-            if (converter.canDeserialize(rawMessage, targetType)) {
-                return ((MessageConverter<T, S>) converter).deserialize(rawMessage, targetType);
-            } else {
-                return null;
-            }
-        });
+        return messageEngineContext.convertCacheAware(
+                targetType,
+                rawMessage.details(),
+                messageEngineContext.mediaTypeOf(rawMessage.headers()),
+                converter -> converter.canDeserialize(rawMessage, targetType),
+                converter -> ((MessageConverter<T, S>) converter).deserialize(rawMessage, targetType)
+        );
     }
 
     @Override
@@ -83,13 +108,13 @@ public class CompositeMessagingEngine implements MessagingEngine {
                     .addHeaders(headers)
                     .build();
         } else {
-            message = messageEngineContext.convertCacheAware(payload.getClass(), details, converter -> {
-                if (converter.canSerialize(payload, headers, details)) {
-                    return ((MessageConverter<?, S>) converter).serialize(payload, headers, details);
-                } else {
-                    return null;
-                }
-            });
+            message = messageEngineContext.convertCacheAware(
+                    payload.getClass(),
+                    details,
+                    messageEngineContext.mediaTypeOf(headers),
+                    converter -> converter.canSerialize(payload, headers, details),
+                    converter -> ((MessageConverter<?, S>) converter).serialize(payload, headers, details)
+            );
         }
 
         return postProcess(message);
@@ -1,5 +1,6 @@
 package com.wiredi.runtime.messaging;
 
+import com.wiredi.runtime.messaging.messages.ByteBufferMessage;
 import com.wiredi.runtime.messaging.messages.InputStreamMessage;
 import com.wiredi.runtime.messaging.messages.SimpleMessage;
 import org.jetbrains.annotations.NotNull;
@@ -9,6 +10,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.List;
 
 /**
@@ -78,6 +82,21 @@ public interface Message<D extends MessageDetails> {
         return new InputStreamMessage.Builder<>(inputStream);
     }
 
+    /**
+     * Starts a new builder, wrapping the provided buffers as the body.
+     * <p>
+     * This method constructs a new {@link ByteBufferMessage}, which does not copy the content of the buffers.
+     * For details see the implementation.
+     *
+     * @param buffers the {@link ByteBuffer ByteBuffers} to wrap
+     * @param <D>     the generic type pf the {@link MessageDetails} contained in the message.
+     * @return a new Builder to build the {@link ByteBufferMessage}
+     * @see ByteBufferMessage
+     */
+    static <D extends MessageDetails> ByteBufferMessage.Builder<D> builder(ByteBuffer... buffers) {
+        return new ByteBufferMessage.Builder<>(buffers);
+    }
+
     /**
      * Creates a new Builder for a message based on the {@code body}
      *
@@ -183,6 +202,21 @@ public interface Message<D extends MessageDetails> {
         return new InputStreamMessage<>(inputStream, new MessageHeaders(), MessageDetails.NONE, true);
     }
 
+    /**
+     * Quickly construct a new message with just a body.
+     * <p>
+     * The resulting message will have no {@link MessageHeaders} and no {@link MessageDetails}.
+     * The content of the buffer is not copied.
+     *
+     * @param buffer the body to wrap in the {@link ByteBufferMessage}
+     * @return a new {@link ByteBufferMessage} containing only the {@code body}
+     * @see #builder(ByteBuffer...)
+     */
+    @NotNull
+    static Message<MessageDetails> just(@NotNull ByteBuffer buffer) {
+        return new ByteBufferMessage<>(buffer, new MessageHeaders(), MessageDetails.NONE);
+    }
+
     /**
      * Any Headers associated with this message.
      *
@@ -284,6 +318,23 @@ public interface Message<D extends MessageDetails> {
      */
     long bodySize();
 
+    /**
+     * A read-only view of the body of this message.
+     * <p>
+     * Implementations that hold their body in memory return a view of it without copying.
+     * Converters can use this method to read the body without materializing it as a byte array.
+     * <p>
+     * The same restrictions as for {@link #body()} apply to messages that build on InputStreams.
+     *
+     * @return a read-only {@link ByteBuffer} containing the body
+     * @throws UncheckedIOException if the underlying implementation can no longer return the body
+     * @see #body()
+     */
+    @NotNull
+    default ByteBuffer bodyBuffer() throws UncheckedIOException {
+        return ByteBuffer.wrap(body()).asReadOnlyBuffer();
+    }
+
     /**
      * The details of this message.
      * <p>
@@ -314,6 +365,22 @@ public interface Message<D extends MessageDetails> {
      */
     void writeBodyTo(OutputStream outputStream) throws IOException;
 
+    /**
+     * Writes the body of this message to the provided {@code channel}.
+     * <p>
+     * The same restrictions as for {@link #writeBodyTo(OutputStream)} apply.
+     * Implementations holding their body in {@link ByteBuffer ByteBuffers} write them to the channel directly,
+     * which allows the channel to transfer direct or memory-mapped buffers without copying them onto the heap.
+     * <p>
+     * The channel is not closed by this method.
+     *
+     * @param channel the channel to write to
+     * @throws IOException if the underlying message cannot write to the channel
+     */
+    default void writeBodyTo(@NotNull WritableByteChannel channel) throws IOException {
+        writeBodyTo(Channels.newOutputStream(channel));
+    }
+
     /**
      * This method returns an input stream to read the content of this Message.
      * <p>
@@ -14,6 +14,16 @@ import org.jetbrains.annotations.Nullable;
  * to define executions.
  * If multiple converters can (de)serialize messages, the first that is found will be asked to convert.
  * Ordering the converters allows for control over which converter will be asked first
+ * <p>
+ * The {@link CompositeMessagingEngine} caches the answers of {@link #canSerialize(Object, MessageHeaders, MessageDetails)}
+ * and {@link #canDeserialize(Message, Class)} per combination of the payload or target type, the type of the
+ * {@link MessageDetails} and the media type of the message:
+ * If no converter can convert a combination, all later conversions of this combination fail without asking the
+ * converters again.
+ * Implementations of these methods must therefore only depend on this combination and not on the concrete payload,
+ * header values or body.
+ * Decisions that depend on the concrete message belong in {@link #serialize(Object, MessageHeaders, MessageDetails)}
+ * and {@link #deserialize(Message, Class)}, which can return null to pass the message on to the next converter.
  *
  * @see Message
  * @see MessagingEngine
@@ -5,7 +5,9 @@ import org.jetbrains.annotations.Nullable;
 
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * A generic representation of Headers.
@@ -20,21 +22,48 @@ import java.util.function.BiConsumer;
  * <p>
  * If required, technology-dependent details can be transported in the {@link MessageDetails}.
  * But please note that even here it is recommended to use abstraction layers wherever applicable.
+ * <p>
+ * Header names are case-insensitive, like in http.
+ * Internally, all headers are stored in a single flat array in the order they were added, so that small header sets
+ * (which are the most common case) can be iterated and searched in a single pass without any allocation.
+ * Names are interned when they are added, so that comparing them with constant names is mostly a reference check.
+ * <p>
+ * MessageHeaders are immutable.
+ * Builders derived from existing headers (see {@link #copy()}) share the array of the headers until they are modified
+ * for the first time.
  */
 public class MessageHeaders implements Iterable<MessageHeader> {
 
+    /**
+     * The name of the header describing the content type of a message body.
+     */
     @NotNull
-    public static final MessageHeaders EMPTY = new MessageHeaders(Collections.emptyMap());
+    public static final String CONTENT_TYPE = "Content-Type";
+
+    private static final MessageHeader[] NO_HEADERS = new MessageHeader[0];
+    private static final int MAX_INTERNED_NAMES = 1024;
+    private static final Map<String, String> INTERNED_NAMES = new ConcurrentHashMap<>();
 
     @NotNull
-    private final Map<@NotNull String, @NotNull List<@NotNull MessageHeader>> values;
+    public static final MessageHeaders EMPTY = new MessageHeaders(NO_HEADERS, 0);
+
+    private final MessageHeader @NotNull [] headers;
+    private final int size;
 
     public MessageHeaders() {
-        this.values = new HashMap<>();
+        this(NO_HEADERS, 0);
     }
 
     public MessageHeaders(@NotNull Map<@NotNull String, @NotNull List<@NotNull MessageHeader>> values) {
-        this.values = new HashMap<>(values);
+        Builder builder = new Builder();
+        values.forEach(builder::addAll);
+        this.headers = builder.entries;
+        this.size = builder.size;
+    }
+
+    private MessageHeaders(MessageHeader @NotNull [] headers, int size) {
+        this.headers = headers;
+        this.size = size;
     }
 
     public static MessageHeaders of(Map<String, ? extends Collection<String>> headers) {
@@ -42,9 +71,7 @@ public class MessageHeaders implements Iterable<MessageHeader> {
     }
 
     public static MessageHeaders of(Iterable<MessageHeader> headers) {
-        Builder builder = builder();
-        headers.forEach(builder::add);
-        return builder.build();
+        return builder().addAll(headers).build();
     }
 
     @NotNull
@@ -62,82 +89,244 @@ public class MessageHeaders implements Iterable<MessageHeader> {
     }
 
     public boolean isEmpty() {
-        return values.isEmpty();
+        return size == 0;
+    }
+
+    /**
+     * The number of header values, counting every value of a name.
+     *
+     * @return the number of header values
+     */
+    public int size() {
+        return size;
     }
 
     @Nullable
     public MessageHeader firstValue(@NotNull String name) {
-        List<MessageHeader> headers = allValues(name);
-        if (headers.isEmpty()) {
-            return null;
-        }
-        return headers.getFirst();
+        return firstValue(headers, size, name);
     }
 
     @Nullable
     public MessageHeader lastValue(@NotNull String name) {
-        List<MessageHeader> headers = allValues(name);
-        if (headers.isEmpty()) {
-            return null;
-        }
-
-        return headers.getLast();
+        return lastValue(headers, size, name);
     }
 
     @NotNull
     public List<MessageHeader> allValues(@NotNull String name) {
-        List<MessageHeader> values = this.values.get(name);
-        return values != null ? values : Collections.emptyList();
+        return allValues(headers, size, name);
     }
 
+    /**
+     * Returns the headers grouped by their names.
+     * <p>
+     * The map is constructed on each call and should not be used on hot paths.
+     *
+     * @return an unmodifiable map of all header names, pointing to their values
+     */
     @NotNull
     public Map<String, List<MessageHeader>> map() {
-        return Collections.unmodifiableMap(this.values);
+        return Collections.unmodifiableMap(group(headers, size));
     }
 
     public void forEach(BiConsumer<String, List<MessageHeader>> consumer) {
-        this.values.forEach(consumer);
+        group(headers, size).forEach(consumer);
+    }
+
+    /**
+     * Iterates all header values in the order they were added, without allocating an iterator.
+     *
+     * @param action the action to perform for each header value
+     */
+    @Override
+    public void forEach(Consumer<? super MessageHeader> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(headers[i]);
+        }
     }
 
+    /**
+     * Two headers are equal, if they contain the same values for the same names in the same order per name.
+     * The order of values with different names is not considered.
+     */
     @Override
     public boolean equals(Object object) {
         if (this == object) return true;
         if (!(object instanceof MessageHeaders that)) return false;
-        return Objects.equals(values, that.values);
+        if (size != that.size) return false;
+        if (headers == that.headers) return true;
+
+        for (int i = 0; i < size; i++) {
+            MessageHeader header = headers[i];
+            MessageHeader counterpart = that.nthValue(header.name(), occurrence(i));
+            if (counterpart == null || !Arrays.equals(header.content(), counterpart.content())) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(values);
+        // Order-independent, as the order of values with different names is not considered by equals
+        int hash = 0;
+        for (int i = 0; i < size; i++) {
+            MessageHeader header = headers[i];
+            hash += 31 * caseInsensitiveHash(header.name()) + Arrays.hashCode(header.content());
+        }
+        return hash;
     }
 
     @Override
     @NotNull
     public String toString() {
-        return "MessageHeaders{ " + this.values + " }";
+        return "MessageHeaders{ " + group(headers, size) + " }";
     }
 
     @NotNull
     @Override
     public Iterator<MessageHeader> iterator() {
-        return values.values()
-                .stream()
-                .flatMap(Collection::stream)
-                .toList()
-                .iterator();
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public MessageHeader next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return headers[index++];
+            }
+        };
+    }
+
+    private int occurrence(int index) {
+        String name = headers[index].name();
+        int occurrence = 0;
+        for (int i = 0; i < index; i++) {
+            if (matches(headers[i].name(), name)) {
+                occurrence++;
+            }
+        }
+        return occurrence;
+    }
+
+    @Nullable
+    private MessageHeader nthValue(String name, int occurrence) {
+        int remaining = occurrence;
+        for (int i = 0; i < size; i++) {
+            if (matches(headers[i].name(), name) && remaining-- == 0) {
+                return headers[i];
+            }
+        }
+        return null;
+    }
+
+    private static boolean matches(String name, String other) {
+        return name == other || name.equalsIgnoreCase(other);
+    }
+
+    private static int caseInsensitiveHash(String name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        return hash;
+    }
+
+    @NotNull
+    private static String intern(@NotNull String name) {
+        String interned = INTERNED_NAMES.get(name);
+        if (interned != null) {
+            return interned;
+        }
+
+        if (INTERNED_NAMES.size() >= MAX_INTERNED_NAMES) {
+            // Names are only interned to speed up comparisons, so forgetting them is safe
+            INTERNED_NAMES.clear();
+        }
+        return INTERNED_NAMES.computeIfAbsent(name, String::intern);
+    }
+
+    @Nullable
+    private static MessageHeader firstValue(MessageHeader[] headers, int size, String name) {
+        for (int i = 0; i < size; i++) {
+            if (matches(headers[i].name(), name)) {
+                return headers[i];
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static MessageHeader lastValue(MessageHeader[] headers, int size, String name) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (matches(headers[i].name(), name)) {
+                return headers[i];
+            }
+        }
+        return null;
+    }
+
+    @NotNull
+    private static List<MessageHeader> allValues(MessageHeader[] headers, int size, String name) {
+        List<MessageHeader> result = null;
+        for (int i = 0; i < size; i++) {
+            if (matches(headers[i].name(), name)) {
+                if (result == null) {
+                    result = new ArrayList<>(2);
+                }
+                result.add(headers[i]);
+            }
+        }
+        return result != null ? Collections.unmodifiableList(result) : Collections.emptyList();
+    }
+
+    @NotNull
+    private static Map<String, List<MessageHeader>> group(MessageHeader[] headers, int size) {
+        Map<String, List<MessageHeader>> result = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            MessageHeader header = headers[i];
+            String key = groupName(result, header.name());
+            result.computeIfAbsent(key, it -> new ArrayList<>()).add(header);
+        }
+        return result;
+    }
+
+    private static String groupName(Map<String, List<MessageHeader>> groups, String name) {
+        if (groups.containsKey(name)) {
+            return name;
+        }
+        for (String existing : groups.keySet()) {
+            if (existing.equalsIgnoreCase(name)) {
+                return existing;
+            }
+        }
+        return name;
     }
 
     public static class Builder {
 
-        @NotNull
-        private final Map<@NotNull String, @NotNull List<@NotNull MessageHeader>> entries;
+        private MessageHeader @NotNull [] entries;
+        private int size;
+        /**
+         * Whether the entries are shared with MessageHeaders and must be copied before they are modified.
+         */
+        private boolean shared;
 
         public Builder() {
-            entries = new HashMap<>();
+            this.entries = NO_HEADERS;
+            this.size = 0;
+            this.shared = false;
         }
 
         public Builder(MessageHeaders headers) {
-            entries = new HashMap<>(headers.values);
+            this.entries = headers.headers;
+            this.size = headers.size;
+            this.shared = true;
         }
 
         public Builder set(
@@ -155,8 +344,8 @@ public class MessageHeaders implements Iterable<MessageHeader> {
         }
 
         public Builder set(MessageHeader messageHeader) {
-            this.entries.put(messageHeader.name(), List.of(messageHeader));
-            return this;
+            remove(messageHeader.name());
+            return add(messageHeader);
         }
 
         @NotNull
@@ -179,7 +368,10 @@ public class MessageHeaders implements Iterable<MessageHeader> {
         public Builder add(
                 @NotNull MessageHeader header
         ) {
-            entries.computeIfAbsent(header.name(), n -> new ArrayList<>()).add(header);
+            String name = intern(header.name());
+            MessageHeader entry = name == header.name() ? header : new MessageHeader(name, header.content());
+            ensureWritable(size + 1);
+            entries[size++] = entry;
             return this;
         }
 
@@ -191,7 +383,9 @@ public class MessageHeaders implements Iterable<MessageHeader> {
 
         @NotNull
         public Builder clear() {
-            entries.clear();
+            entries = NO_HEADERS;
+            size = 0;
+            shared = false;
             return this;
         }
 
@@ -200,7 +394,10 @@ public class MessageHeaders implements Iterable<MessageHeader> {
                 @NotNull String name,
                 @NotNull C values
         ) {
-            entries.computeIfAbsent(name, n -> new ArrayList<>()).addAll(values);
+            ensureWritable(size + values.size());
+            for (MessageHeader value : values) {
+                add(matches(value.name(), name) ? value : new MessageHeader(name, value.content()));
+            }
             return this;
         }
 
@@ -208,46 +405,79 @@ public class MessageHeaders implements Iterable<MessageHeader> {
         public Builder addAll(
                 @NotNull Iterable<MessageHeader> headers
         ) {
-            headers.forEach(this::add);
+            if (headers instanceof MessageHeaders messageHeaders) {
+                if (size == 0) {
+                    // Nothing to merge, so the array of the headers can be shared
+                    entries = messageHeaders.headers;
+                    size = messageHeaders.size;
+                    shared = true;
+                } else {
+                    ensureWritable(size + messageHeaders.size);
+                    System.arraycopy(messageHeaders.headers, 0, entries, size, messageHeaders.size);
+                    size += messageHeaders.size;
+                }
+            } else {
+                headers.forEach(this::add);
+            }
             return this;
         }
 
         public boolean isEmpty() {
-            return entries.isEmpty();
+            return size == 0;
         }
 
         @Nullable
         public MessageHeader firstValue(@NotNull String name) {
-            List<MessageHeader> headers = allValues(name);
-            if (headers.isEmpty()) {
-                return null;
-            }
-            return headers.getFirst();
+            return MessageHeaders.firstValue(entries, size, name);
         }
 
         @Nullable
         public MessageHeader lastValue(@NotNull String name) {
-            List<MessageHeader> headers = allValues(name);
-            if (headers.isEmpty()) {
-                return null;
-            }
-
-            return headers.getLast();
+            return MessageHeaders.lastValue(entries, size, name);
         }
 
         @NotNull
         public List<MessageHeader> allValues(@NotNull String name) {
-            List<MessageHeader> values = this.entries.get(name);
-            return values != null ? values : Collections.emptyList();
+            return MessageHeaders.allValues(entries, size, name);
         }
 
         @NotNull
         public MessageHeaders build() {
-            return new MessageHeaders(entries);
+            if (size == 0) {
+                return new MessageHeaders();
+            }
+            shared = true;
+            return new MessageHeaders(entries, size);
         }
 
         public Map<@NotNull String, @NotNull List<@NotNull MessageHeader>> snapshot() {
-            return Collections.unmodifiableMap(entries);
+            return Collections.unmodifiableMap(group(entries, size));
+        }
+
+        private void remove(String name) {
+            if (MessageHeaders.firstValue(entries, size, name) == null) {
+                return;
+            }
+
+            ensureWritable(size);
+            int target = 0;
+            for (int i = 0; i < size; i++) {
+                if (!matches(entries[i].name(), name)) {
+                    entries[target++] = entries[i];
+                }
+            }
+            Arrays.fill(entries, target, size, null);
+            size = target;
+        }
+
+        private void ensureWritable(int capacity) {
+            if (capacity > entries.length) {
+                entries = Arrays.copyOf(entries, Math.max(capacity, Math.max(4, entries.length + (entries.length >> 1))));
+                shared = false;
+            } else if (shared) {
+                entries = entries.clone();
+                shared = false;
+            }
         }
     }
 }
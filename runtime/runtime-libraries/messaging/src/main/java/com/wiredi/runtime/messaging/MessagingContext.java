@@ -1,20 +1,44 @@
 package com.wiredi.runtime.messaging;
 
-import com.wiredi.runtime.lang.MapId;
 import com.wiredi.runtime.lang.ThrowingFunction;
 import com.wiredi.runtime.messaging.errors.MessagingException;
 import com.wiredi.runtime.messaging.converters.ByteArrayMessageConverter;
 import com.wiredi.runtime.messaging.converters.StringMessageConverter;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
+/**
+ * The context of a {@link MessagingEngine}, holding the {@link MessageConverter converters} and
+ * {@link MessageInterceptor interceptors} used to process messages.
+ * <p>
+ * Converters are resolved through a resolution table, keyed by the target type, the type of the {@link MessageDetails}
+ * and the media type of the message.
+ * The media type is the content type without its parameters, in lower case, so that for example
+ * {@code application/json; charset=UTF-8} and {@code application/json} share one resolution.
+ * Each combination is resolved once by scanning all converters, after which the converter that produced the last
+ * result is consulted directly, without any allocation.
+ * Combinations that no converter supports are remembered as well, so that subsequent conversions fail fast.
+ * At most {@value #MAX_CACHED_CONTENT_TYPES} media types are remembered per target and details type.
+ * Conversions of other media types are resolved by scanning all converters every time.
+ * <p>
+ * The resolution table assumes that the converters do not change after the first conversion.
+ * If they are modified afterward, {@link #clearResolutions()} has to be called.
+ */
 public class MessagingContext {
 
-    private final Map<MapId, MessageConverter<?, ?>> lastHitConverts = new ConcurrentHashMap<>();
+    private static final String NO_CONTENT_TYPE = "";
+    private static final int MAX_CACHED_CONTENT_TYPES = 64;
+    private static final KnownMediaType[] NO_MEDIA_TYPES = new KnownMediaType[0];
+    private volatile KnownMediaType[] mediaTypes = NO_MEDIA_TYPES;
+    private final Map<Class<?>, Map<Class<?>, Map<String, Resolution>>> resolutions = new ConcurrentHashMap<>();
     private final List<MessageConverter<?, ?>> converters;
     private final List<MessageInterceptor> messageInterceptors;
     private static final MessagingContext GLOBAL_INSTANCE = new MessagingContext(
@@ -50,45 +74,154 @@ public class MessagingContext {
         );
     }
 
+    /**
+     * Applies the first converter that produces a non-null result for the provided function.
+     * <p>
+     * The converter that produced the last result for the combination of {@code targetType} and the type of the
+     * {@code details} is tried first.
+     * As the function may reject any converter, combinations are never considered unsupported.
+     *
+     * @param targetType the type to convert to or from
+     * @param details    the details of the converted message
+     * @param function   the function applying the conversion, returning null if the converter cannot convert
+     * @return the result of the first converter producing a non-null value
+     * @throws MessagingException if no converter produced a result
+     * @see #convertCacheAware(Class, MessageDetails, String, Predicate, ThrowingFunction)
+     */
     @NotNull
     public <T, D extends MessageDetails> T convertCacheAware(
             Class<?> targetType,
             D details,
             ThrowingFunction<MessageConverter<?, ?>, T, ?> function
     ) {
-        MapId id = MapId.of(targetType).add(details.getClass());
-        MessageConverter<?, ?> lastHit = lastHitConverts.get(id);
-        List<Throwable> errors = new ArrayList<>();
+        return convertCacheAware(targetType, details, null, converter -> true, function);
+    }
+
+    /**
+     * Applies the first supported converter that produces a non-null result for the provided function.
+     * <p>
+     * The converter that produced the last result for the combination of {@code targetType}, the type of the
+     * {@code details} and the {@code contentType} is tried first.
+     * If no converter satisfies the {@code supports} predicate for a combination, the combination is remembered as
+     * unsupported and all subsequent conversions of it fail immediately.
+     * The predicate should therefore only depend on the combination, not on the concrete message or payload.
+     *
+     * @param targetType  the type to convert to or from
+     * @param details     the details of the converted message
+     * @param contentType the content type of the converted message, if known
+     * @param supports    whether a converter supports the conversion at all
+     * @param function    the function applying the conversion, returning null if the converter cannot convert
+     * @return the result of the first converter producing a non-null value
+     * @throws MessagingException if no converter produced a result
+     */
+    @NotNull
+    public <T, D extends MessageDetails> T convertCacheAware(
+            Class<?> targetType,
+            D details,
+            @Nullable String contentType,
+            Predicate<MessageConverter<?, ?>> supports,
+            ThrowingFunction<MessageConverter<?, ?>, T, ?> function
+    ) {
+        Class<?> detailsType = details.getClass();
+        String contentTypeKey = contentType == null ? NO_CONTENT_TYPE : mediaTypeOf(contentType);
+        Resolution resolution = resolutionsOf(targetType, detailsType).get(contentTypeKey);
+        List<Throwable> errors = null;
+
+        if (resolution == Resolution.UNSUPPORTED) {
+            throw new MessagingException("Unable to find converter to convert type " + targetType + " with details " + details + ". No converter supports this combination.");
+        }
 
-        if (lastHit != null) {
+        if (resolution != null) {
+            MessageConverter<?, ?> lastHit = resolution.converter();
             try {
-                T result = function.apply(lastHit);
-                if (result != null) {
-                    return result;
+                if (supports.test(lastHit)) {
+                    T result = function.apply(lastHit);
+                    if (result != null) {
+                        return result;
+                    }
                 }
             } catch (Throwable t) {
+                errors = new ArrayList<>();
                 errors.add(t);
             }
-            lastHitConverts.remove(id);
         }
 
+        boolean supported = false;
         for (MessageConverter<?, ?> converter : converters) {
             try {
+                if (!supports.test(converter)) {
+                    continue;
+                }
+                supported = true;
                 T result = function.apply(converter);
                 if (result != null) {
-                    lastHitConverts.put(id, converter);
+                    if (resolution == null || resolution.converter() != converter) {
+                        remember(resolutionsOf(targetType, detailsType), contentTypeKey, new Resolution(converter));
+                    }
                     return result;
                 }
             } catch (Throwable t) {
+                supported = true;
+                if (errors == null) {
+                    errors = new ArrayList<>();
+                }
                 errors.add(t);
             }
         }
 
+        if (!supported) {
+            remember(resolutionsOf(targetType, detailsType), contentTypeKey, Resolution.UNSUPPORTED);
+        }
+
         MessagingException exception = new MessagingException("Unable to find converter to convert type " + targetType + " with details " + details);
-        errors.forEach(exception::addSuppressed);
+        if (errors != null) {
+            errors.forEach(exception::addSuppressed);
+        }
         throw exception;
     }
 
+    /**
+     * Resolves the media type of the {@link MessageHeaders#CONTENT_TYPE} header of the provided {@code headers}.
+     * <p>
+     * The media type is the content type without its parameters, in lower case.
+     * The raw values of the header are only decoded once and remembered, up to a bounded number of distinct values.
+     * Remembered values are looked up by comparing the raw bytes against a small copy-on-write table, without any
+     * allocation.
+     *
+     * @param headers the headers of a message
+     * @return the media type of the last content type header, or null if there is none
+     */
+    @Nullable
+    public String mediaTypeOf(@Nullable MessageHeaders headers) {
+        if (headers == null) {
+            return null;
+        }
+        MessageHeader header = headers.lastValue(MessageHeaders.CONTENT_TYPE);
+        if (header == null) {
+            return null;
+        }
+
+        byte[] content = header.content();
+        for (KnownMediaType knownMediaType : mediaTypes) {
+            if (Arrays.equals(knownMediaType.content(), content)) {
+                return knownMediaType.mediaType();
+            }
+        }
+
+        String mediaType = mediaTypeOf(header.decodeToString());
+        rememberMediaType(content, mediaType);
+        return mediaType;
+    }
+
+    /**
+     * Clears all resolved converters, including unsupported combinations.
+     * <p>
+     * This method has to be called if the converters are modified after they have been used.
+     */
+    public void clearResolutions() {
+        resolutions.clear();
+    }
+
     public List<MessageConverter<?,?>> converters() {
         return converters;
     }
@@ -96,4 +229,60 @@ public class MessagingContext {
     public List<MessageInterceptor> messageInterceptors() {
         return messageInterceptors;
     }
+
+    private Map<String, Resolution> resolutionsOf(Class<?> targetType, Class<?> detailsType) {
+        Map<Class<?>, Map<String, Resolution>> byDetails = resolutions.get(targetType);
+        if (byDetails == null) {
+            byDetails = resolutions.computeIfAbsent(targetType, it -> new ConcurrentHashMap<>());
+        }
+        Map<String, Resolution> byContentType = byDetails.get(detailsType);
+        if (byContentType == null) {
+            byContentType = byDetails.computeIfAbsent(detailsType, it -> new ConcurrentHashMap<>());
+        }
+        return byContentType;
+    }
+
+    private static String mediaTypeOf(String contentType) {
+        int parameters = contentType.indexOf(';');
+        String mediaType = parameters < 0 ? contentType : contentType.substring(0, parameters);
+        return mediaType.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private synchronized void rememberMediaType(byte[] content, String mediaType) {
+        KnownMediaType[] current = mediaTypes;
+        if (current.length >= MAX_CACHED_CONTENT_TYPES) {
+            return;
+        }
+        for (KnownMediaType knownMediaType : current) {
+            if (Arrays.equals(knownMediaType.content(), content)) {
+                return;
+            }
+        }
+
+        KnownMediaType[] updated = Arrays.copyOf(current, current.length + 1);
+        // The header content is mutable, so the table must not share it
+        updated[current.length] = new KnownMediaType(content.clone(), mediaType);
+        mediaTypes = updated;
+    }
+
+    private static void remember(Map<String, Resolution> resolutions, String contentType, Resolution resolution) {
+        if (resolutions.size() < MAX_CACHED_CONTENT_TYPES || resolutions.containsKey(contentType)) {
+            resolutions.put(contentType, resolution);
+        }
+    }
+
+    /**
+     * The raw content of a content type header and its decoded media type.
+     */
+    private record KnownMediaType(byte[] content, String mediaType) {
+    }
+
+    /**
+     * The resolved converter of a single combination.
+     *
+     * @param converter the converter that produced the last result, or null if the combination is unsupported
+     */
+    private record Resolution(@Nullable MessageConverter<?, ?> converter) {
+        private static final Resolution UNSUPPORTED = new Resolution(null);
+    }
 }
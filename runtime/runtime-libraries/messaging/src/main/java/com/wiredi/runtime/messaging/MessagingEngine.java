@@ -7,6 +7,12 @@ import com.wiredi.runtime.messaging.messages.SimpleMessage;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * An interface that aggregates {@link MessageConverter} instance and handle (de)serializations.
  * <p>
@@ -67,6 +73,82 @@ public interface MessagingEngine {
      */
     <E extends Throwable, D extends MessageDetails> MessagingResult processMessage(Message<D> message, ThrowingFunction<Message<D>, Object, E> handler);
 
+    /**
+     * Processes all provided {@link Message messages} in order.
+     * <p>
+     * Every message is processed like in {@link #processMessage(Message, ThrowingFunction)}, including all
+     * {@link RequestAware} instances and {@link MessageFilter MessageFilters}.
+     * Implementations may amortize setup that does not depend on the individual message over the whole batch.
+     * A message that fails does not abort the batch, instead a {@link MessagingResult.Failed} is returned for it.
+     *
+     * @param messages the received messages that should be processed
+     * @param handler  the handler that handles each {@link Message}
+     * @param <E>      potential errors that could be thrown while applying the handler
+     * @param <D>      the generic of the {@link MessageDetails} that the provided messages have.
+     * @return the {@link MessagingResult MessagingResults} of all messages, in the order of the messages
+     * @see #processMessage(Message, ThrowingFunction)
+     */
+    default <E extends Throwable, D extends MessageDetails> List<MessagingResult> processMessages(
+            List<? extends Message<D>> messages,
+            ThrowingFunction<Message<D>, Object, E> handler
+    ) {
+        List<MessagingResult> results = new ArrayList<>(messages.size());
+        for (Message<D> message : messages) {
+            results.add(processMessage(message, handler));
+        }
+        return results;
+    }
+
+    /**
+     * Processes all provided {@link Message messages} in parallel, using the {@code executor}.
+     * <p>
+     * Like {@link #processMessages(List, ThrowingFunction)}, but the messages may be processed concurrently and in any
+     * order. The {@code handler} and all {@link RequestAware} instances must hence be thread safe.
+     * The returned results are still in the order of the messages.
+     *
+     * @param messages the received messages that should be processed
+     * @param handler  the handler that handles each {@link Message}
+     * @param executor the executor to process the messages on
+     * @param <E>      potential errors that could be thrown while applying the handler
+     * @param <D>      the generic of the {@link MessageDetails} that the provided messages have.
+     * @return the {@link MessagingResult MessagingResults} of all messages, in the order of the messages
+     */
+    default <E extends Throwable, D extends MessageDetails> List<MessagingResult> processMessages(
+            List<? extends Message<D>> messages,
+            ThrowingFunction<Message<D>, Object, E> handler,
+            Executor executor
+    ) {
+        List<CompletableFuture<MessagingResult>> futures = new ArrayList<>(messages.size());
+        for (Message<D> message : messages) {
+            futures.add(CompletableFuture.supplyAsync(() -> processMessage(message, handler), executor));
+        }
+        List<MessagingResult> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<MessagingResult> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    /**
+     * Processes all {@link Message messages} of the {@code iterator} in order.
+     * <p>
+     * The iterator is drained before the messages are processed like in {@link #processMessages(List, ThrowingFunction)}.
+     *
+     * @param messages the received messages that should be processed
+     * @param handler  the handler that handles each {@link Message}
+     * @param <E>      potential errors that could be thrown while applying the handler
+     * @param <D>      the generic of the {@link MessageDetails} that the provided messages have.
+     * @return the {@link MessagingResult MessagingResults} of all messages, in the order of the messages
+     */
+    default <E extends Throwable, D extends MessageDetails> List<MessagingResult> processMessages(
+            Iterator<? extends Message<D>> messages,
+            ThrowingFunction<Message<D>, Object, E> handler
+    ) {
+        List<Message<D>> batch = new ArrayList<>();
+        messages.forEachRemaining(batch::add);
+        return processMessages(batch, handler);
+    }
+
     default <E extends Throwable, S extends MessageDetails> MessagingResult handleMessage(Message<S> message, ThrowingConsumer<Message<S>, E> handler) {
         return processMessage(message, b -> {
             handler.accept(b);
@@ -1,12 +1,17 @@
 package com.wiredi.runtime.messaging;
 
 import com.sun.source.util.TaskListener;
+import com.wiredi.logging.Logging;
+import com.wiredi.runtime.lang.ThrowingFunction;
 import com.wiredi.runtime.lang.ThrowingSupplier;
 import com.wiredi.runtime.messaging.compression.MessageCompression;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * This class defines how a request is to be handled.
@@ -37,6 +42,7 @@ import java.util.concurrent.atomic.AtomicReference;
  */
 public class RequestContext {
 
+    private static final Logging logger = Logging.getInstance(RequestContext.class);
     private static final RequestContext GLOBAL_INSTANCE = empty();
     private final List<RequestAware> requestAwareList;
     private final List<MessageFilter> messageFilters;
@@ -111,37 +117,159 @@ public class RequestContext {
      * @param <E>              Any exception that can occur
      */
     public <T, E extends Throwable> MessagingResult handleRequest(Message<?> message, ThrowingSupplier<T, E> throwingSupplier) {
-        AtomicReference<Message<?>> messagePointer = new AtomicReference<>(messageCompression.decompress(message));
+        return handle(message, targetMessage -> headersAccessor.getWith(targetMessage.headers(), throwingSupplier));
+    }
+
+    /**
+     * Handles all {@code messages} in order and returns their results.
+     * <p>
+     * Each message is handled exactly like in {@link #handleRequest(Message, ThrowingSupplier)}, including all
+     * {@link RequestAware} hooks and {@link MessageFilter MessageFilters}.
+     * The headers of each message are only set in the {@link MessageHeadersAccessor} while the {@code handler} is
+     * invoked with it, so the hooks and filters of a message never see the headers of another message.
+     * <p>
+     * The {@link RequestAware} instances and {@link MessageFilter MessageFilters} are captured once when the batch
+     * starts, so instances registered while the batch is handled only apply to later requests.
+     * The headers surrounding the batch are also only resolved once and restored after each {@code handler} invocation.
+     * <p>
+     * Errors that are propagated for a single message (for example from {@link RequestAware#completed(Message)}) are
+     * logged and returned as {@link MessagingResult.Failed} for this message, so that one message cannot abort the
+     * whole batch.
+     *
+     * @param messages the messages to handle
+     * @param handler  the handler, invoked with each message
+     * @param <D>      the generic type of the {@link MessageDetails} of the messages
+     * @param <T>      the generic type of the handler results
+     * @param <E>      any exception that can occur
+     * @return the results of all messages, in the order of the messages
+     */
+    public <D extends MessageDetails, T, E extends Throwable> List<MessagingResult> handleRequests(
+            List<? extends Message<D>> messages,
+            ThrowingFunction<Message<D>, T, E> handler
+    ) {
+        MessagingResult[] results = new MessagingResult[messages.size()];
+        handleRange(messages, 0, messages.size(), handler, results);
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Handles all {@code messages} in parallel on the {@code executor} and returns their results.
+     * <p>
+     * The messages are split into consecutive chunks, one per available processor, and each chunk is handled like in
+     * {@link #handleRequests(List, ThrowingFunction)} by a single task of the executor.
+     * Each chunk captures the {@link RequestAware} instances and {@link MessageFilter MessageFilters} once.
+     * Messages of different chunks may be handled in any order, and {@link RequestAware} instances are invoked
+     * concurrently.
+     *
+     * @param messages the messages to handle
+     * @param handler  the handler, invoked with each message
+     * @param executor the executor to handle the chunks on
+     * @param <D>      the generic type of the {@link MessageDetails} of the messages
+     * @param <T>      the generic type of the handler results
+     * @param <E>      any exception that can occur
+     * @return the results of all messages, in the order of the messages
+     */
+    public <D extends MessageDetails, T, E extends Throwable> List<MessagingResult> handleRequests(
+            List<? extends Message<D>> messages,
+            ThrowingFunction<Message<D>, T, E> handler,
+            Executor executor
+    ) {
+        int size = messages.size();
+        MessagingResult[] results = new MessagingResult[size];
+        int chunkSize = Math.max(1, Math.ceilDiv(size, Runtime.getRuntime().availableProcessors()));
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int start = 0; start < size; start += chunkSize) {
+            int from = start;
+            int to = Math.min(size, start + chunkSize);
+            chunks.add(CompletableFuture.runAsync(() -> handleRange(messages, from, to, handler, results), executor));
+        }
+
+        try {
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+        return Arrays.asList(results);
+    }
+
+    private <D extends MessageDetails, T, E extends Throwable> void handleRange(
+            List<? extends Message<D>> messages,
+            int from,
+            int to,
+            ThrowingFunction<Message<D>, T, E> handler,
+            MessagingResult[] results
+    ) {
+        // The hooks, filters and the surrounding headers are resolved once per chunk instead of once per message
+        List<RequestAware> requestAwares = List.copyOf(requestAwareList);
+        List<MessageFilter> filters = List.copyOf(messageFilters);
+        MessageHeaders surroundingHeaders = headersAccessor.getCurrentHeaders();
+        for (int i = from; i < to; i++) {
+            Message<D> message = messages.get(i);
+            try {
+                results[i] = handle(message, requestAwares, filters, targetMessage -> {
+                    headersAccessor.set(targetMessage.headers());
+                    try {
+                        return handler.apply(message);
+                    } finally {
+                        headersAccessor.set(surroundingHeaders);
+                    }
+                });
+            } catch (Throwable throwable) {
+                logger.error(() -> "Unexpected error thrown during processing of message " + message, throwable);
+                results[i] = new MessagingResult.Failed(throwable);
+            }
+        }
+    }
+
+    private <T> MessagingResult handle(Message<?> message, ThrowingFunction<Message<?>, T, ?> function) {
+        return handle(message, requestAwareList, messageFilters, function);
+    }
+
+    private <T> MessagingResult handle(
+            Message<?> message,
+            List<RequestAware> requestAwares,
+            List<MessageFilter> filters,
+            ThrowingFunction<Message<?>, T, ?> function
+    ) {
+        Message<?> targetMessage = messageCompression.decompress(message);
         try {
             // First step: prepare the message
-            for (RequestAware requestAware : requestAwareList) {
-                messagePointer.set(requestAware.started(messagePointer.get()));
+            for (RequestAware requestAware : requestAwares) {
+                targetMessage = requestAware.started(targetMessage);
             }
 
-            Message<?> targetMessage = messagePointer.get();
             // Seconds step: Try to filter the message
-            if (messageFilters.stream().anyMatch(it -> it.shouldSkip(targetMessage))) {
-                return new MessagingResult.SkipMessage();
+            for (MessageFilter messageFilter : filters) {
+                if (messageFilter.shouldSkip(targetMessage)) {
+                    return new MessagingResult.SkipMessage();
+                }
             }
 
             // Third step: Now invoke the actual runnable
-            T result = headersAccessor.getWith(targetMessage.headers(), throwingSupplier);
+            T result = function.apply(targetMessage);
 
             // Fourth step: Notify successful invocation
-            requestAwareList.forEach(requestAware -> requestAware.successful(targetMessage));
+            for (RequestAware requestAware : requestAwares) {
+                requestAware.successful(targetMessage);
+            }
             return new MessagingResult.Success(result);
         } catch (Throwable throwable) {
-            requestAwareList.forEach(requestAware -> {
+            for (RequestAware requestAware : requestAwares) {
                 try {
-                    requestAware.failed(messagePointer.get(), throwable);
+                    requestAware.failed(targetMessage, throwable);
                 } catch (Throwable t2) {
                     throwable.addSuppressed(t2);
                 }
-            });
-            return messagingErrorHandler.handleError(messagePointer.get(), throwable);
+            }
+            return messagingErrorHandler.handleError(targetMessage, throwable);
         } finally {
             // Fifth step: Notify about completion
-            requestAwareList.forEach(requestAware -> requestAware.completed(messagePointer.get()));
+            for (RequestAware requestAware : requestAwares) {
+                requestAware.completed(targetMessage);
+            }
         }
     }
 }
@@ -0,0 +1,81 @@
+package com.wiredi.runtime.messaging.compression;
+
+import com.wiredi.runtime.messaging.Message;
+import com.wiredi.runtime.messaging.MessageDetails;
+import com.wiredi.runtime.messaging.messages.AbstractMessage;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+
+/**
+ * A message whose body is compressed lazily, while it is written.
+ * <p>
+ * {@link #writeBodyTo(OutputStream)} compresses the body of the source message directly into the target stream,
+ * without buffering the compressed or uncompressed body in memory.
+ * Only {@link #body()} and {@link #inputStream()} materialize the compressed body.
+ *
+ * @param <D> the subtype of the {@link MessageDetails}
+ */
+final class CompressedMessage<D extends MessageDetails> extends AbstractMessage<D> {
+
+    @NotNull
+    private final Message<D> source;
+    @NotNull
+    private final MessageCompressionAlgorithm algorithm;
+
+    CompressedMessage(@NotNull Message<D> source, @NotNull MessageCompressionAlgorithm algorithm) {
+        super(source.headers(), source.details(), true);
+        this.source = source;
+        this.algorithm = algorithm;
+    }
+
+    @Override
+    public byte[] body() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            writeBodyTo(outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Override
+    public long bodySize() {
+        // Unknown, until the body is compressed
+        return -1;
+    }
+
+    @Override
+    public void writeBodyTo(OutputStream outputStream) throws IOException {
+        try (OutputStream compressingStream = algorithm.compressingStream(new NonClosingOutputStream(outputStream))) {
+            source.writeBodyTo(compressingStream);
+        }
+    }
+
+    @Override
+    public @NotNull InputStream inputStream() {
+        return new ByteArrayInputStream(body());
+    }
+
+    /**
+     * Compression streams close the stream they write to once they are closed.
+     * The target stream is owned by the caller of {@link #writeBodyTo(OutputStream)} though, so it must stay open.
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+
+        private NonClosingOutputStream(@NotNull OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte @NotNull [] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.wiredi.runtime.messaging.compression;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A small, bounded pool for native compression resources like {@link java.util.zip.Deflater} and
+ * {@link java.util.zip.Inflater}.
+ * <p>
+ * Creating these resources allocates native memory, which is only freed once they are ended or garbage collected.
+ * Reusing them avoids this churn when compressing or decompressing many messages.
+ * Resources released into a full pool are disposed of immediately.
+ *
+ * @param <T> the type of the pooled resource
+ */
+final class CompressorPool<T> {
+
+    private final Queue<T> pool;
+    private final Supplier<T> factory;
+    private final Consumer<T> reset;
+    private final Consumer<T> dispose;
+
+    CompressorPool(
+            int capacity,
+            @NotNull Supplier<T> factory,
+            @NotNull Consumer<T> reset,
+            @NotNull Consumer<T> dispose
+    ) {
+        this.pool = new ArrayBlockingQueue<>(capacity);
+        this.factory = factory;
+        this.reset = reset;
+        this.dispose = dispose;
+    }
+
+    @NotNull
+    T borrow() {
+        T resource = pool.poll();
+        if (resource == null) {
+            return factory.get();
+        }
+        return resource;
+    }
+
+    void release(@NotNull T resource) {
+        reset.accept(resource);
+        if (!pool.offer(resource)) {
+            dispose.accept(resource);
+        }
+    }
+}
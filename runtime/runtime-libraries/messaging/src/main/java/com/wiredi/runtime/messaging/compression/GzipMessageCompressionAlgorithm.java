@@ -1,38 +1,336 @@
 package com.wiredi.runtime.messaging.compression;
 
-import com.wiredi.runtime.messaging.Message;
-import com.wiredi.runtime.messaging.MessageDetails;
+import org.jetbrains.annotations.NotNull;
 
 import java.io.*;
 import java.util.List;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.*;
 
+/**
+ * A {@link MessageCompressionAlgorithm} for the gzip format (RFC 1952).
+ * <p>
+ * Compression and decompression are streaming and use pooled {@link Deflater} and {@link Inflater} instances.
+ * A resource is returned to the pool once the stream using it is closed or, for decompression, once the end of the
+ * compressed data has been read.
+ * Decompressing streams only borrow an {@link Inflater} with their first read, so streams that are never read do
+ * not hold on to pooled resources.
+ * <p>
+ * Contrary to the {@link GZIPInputStream}, the gzip header of a compressed stream is not read when the stream is
+ * constructed, but with the first read.
+ */
 public class GzipMessageCompressionAlgorithm implements MessageCompressionAlgorithm {
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final byte[] HEADER = {
+            (byte) GZIP_MAGIC, (byte) (GZIP_MAGIC >> 8), Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+    };
+    private static final int TRAILER_SIZE = 8;
+    private static final int BUFFER_SIZE = 8192;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+    @NotNull
+    private final CompressorPool<Deflater> deflaterPool;
+    @NotNull
+    private final CompressorPool<Inflater> inflaterPool;
+
+    public GzipMessageCompressionAlgorithm() {
+        this(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    public GzipMessageCompressionAlgorithm(int compressionLevel) {
+        this(
+                new CompressorPool<>(POOL_SIZE, () -> new Deflater(compressionLevel, true), Deflater::reset, Deflater::end),
+                new CompressorPool<>(POOL_SIZE, () -> new Inflater(true), Inflater::reset, Inflater::end)
+        );
+    }
+
+    GzipMessageCompressionAlgorithm(
+            @NotNull CompressorPool<Deflater> deflaterPool,
+            @NotNull CompressorPool<Inflater> inflaterPool
+    ) {
+        this.deflaterPool = deflaterPool;
+        this.inflaterPool = inflaterPool;
+    }
+
     @Override
-    public <T extends MessageDetails> Message<T> compress(Message<T> message) {
-        try (
-                final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                final GZIPOutputStream gzos = new GZIPOutputStream(baos)
-        ) {
-            gzos.write(message.body());
-            return message.copyWithPayload(baos.toByteArray());
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
+    public OutputStream compressingStream(OutputStream target) throws IOException {
+        return new PooledGzipOutputStream(target, deflaterPool);
     }
 
     @Override
-    public <T extends MessageDetails> Message<T> decompress(Message<T> bytes) {
-        try (final InputStream inputStream = new GZIPInputStream(bytes.inputStream())) {
-            return bytes.copyWithPayload(inputStream);
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
+    public InputStream decompressingStream(InputStream source) {
+        return new PooledGzipInputStream(source, inflaterPool);
     }
 
     @Override
     public List<String> identifiers() {
         return List.of("gzip");
     }
+
+    private static final class PooledGzipOutputStream extends DeflaterOutputStream {
+
+        @NotNull
+        private final CRC32 crc = new CRC32();
+        @NotNull
+        private final CompressorPool<Deflater> pool;
+        private boolean finished = false;
+        private boolean released = false;
+
+        private PooledGzipOutputStream(@NotNull OutputStream out, @NotNull CompressorPool<Deflater> pool) throws IOException {
+            super(out, pool.borrow(), BUFFER_SIZE);
+            this.pool = pool;
+            try {
+                out.write(HEADER);
+            } catch (IOException e) {
+                release();
+                throw e;
+            }
+        }
+
+        @Override
+        public void write(byte @NotNull [] b, int off, int len) throws IOException {
+            super.write(b, off, len);
+            crc.update(b, off, len);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            super.finish();
+            writeInt((int) crc.getValue());
+            writeInt((int) def.getBytesRead());
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                release();
+            }
+        }
+
+        private void writeInt(int value) throws IOException {
+            out.write(value & 0xff);
+            out.write((value >> 8) & 0xff);
+            out.write((value >> 16) & 0xff);
+            out.write((value >> 24) & 0xff);
+        }
+
+        private void release() {
+            if (!released) {
+                released = true;
+                pool.release(def);
+            }
+        }
+    }
+
+    private static final class PooledGzipInputStream extends InflaterInputStream {
+
+        /**
+         * The placeholder for the {@link Inflater} until the first read borrows one from the pool.
+         * <p>
+         * It is never used to inflate anything.
+         */
+        private static final Inflater NOT_BORROWED = new Inflater(true);
+
+        @NotNull
+        private final CRC32 crc = new CRC32();
+        @NotNull
+        private final CompressorPool<Inflater> pool;
+        private boolean headerRead = false;
+        private boolean endOfStream = false;
+        private boolean closed = false;
+
+        private PooledGzipInputStream(@NotNull InputStream in, @NotNull CompressorPool<Inflater> pool) {
+            super(in, NOT_BORROWED, BUFFER_SIZE);
+            this.pool = pool;
+        }
+
+        @Override
+        public int read(byte @NotNull [] b, int off, int len) throws IOException {
+            ensureOpen();
+            if (endOfStream) {
+                return -1;
+            }
+            if (!headerRead) {
+                readHeader(in);
+                inf = pool.borrow();
+                headerRead = true;
+            }
+
+            int read = super.read(b, off, len);
+            while (read == -1) {
+                if (readTrailer()) {
+                    endOfStream = true;
+                    // Consumers do not necessarily close the stream, so the inflater is released as early as possible
+                    release();
+                    return -1;
+                }
+                read = super.read(b, off, len);
+            }
+
+            crc.update(b, off, read);
+            return read;
+        }
+
+        /**
+         * Returns 1 until the end of the last gzip member has been read.
+         * <p>
+         * The {@link InflaterInputStream#available()} reports the end of the stream with the end of the first member,
+         * even if more members follow.
+         */
+        @Override
+        public int available() throws IOException {
+            ensureOpen();
+            return endOfStream ? 0 : 1;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                closed = true;
+                super.close();
+            } finally {
+                release();
+            }
+        }
+
+        private void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+        }
+
+        /**
+         * Verifies the trailer of the current gzip member and starts the next member, if the stream contains one.
+         *
+         * @return true, if the end of the stream has been reached
+         */
+        private boolean readTrailer() throws IOException {
+            InputStream trailerInput = in;
+            int remaining = inf.getRemaining();
+            if (remaining > 0) {
+                trailerInput = new SequenceInputStream(
+                        new ByteArrayInputStream(buf, len - remaining, remaining),
+                        new NonClosingInputStream(in)
+                );
+            }
+
+            if (readUInt(trailerInput) != crc.getValue() || readUInt(trailerInput) != (inf.getBytesWritten() & 0xffffffffL)) {
+                throw new ZipException("Corrupt GZIP trailer");
+            }
+
+            // Concatenated gzip members are decompressed as one stream
+            if (in.available() > 0 || remaining > TRAILER_SIZE + HEADER.length) {
+                int consumed = TRAILER_SIZE;
+                try {
+                    consumed += readHeader(trailerInput);
+                } catch (IOException e) {
+                    // Trailing garbage is ignored, like the GZIPInputStream does
+                    return true;
+                }
+                inf.reset();
+                crc.reset();
+                if (remaining > consumed) {
+                    inf.setInput(buf, len - remaining + consumed, remaining - consumed);
+                }
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Reads the gzip member header.
+         *
+         * @return the number of bytes read
+         */
+        private static int readHeader(@NotNull InputStream input) throws IOException {
+            if (readUShort(input) != GZIP_MAGIC) {
+                throw new ZipException("Not in GZIP format");
+            }
+            if (readUByte(input) != Deflater.DEFLATED) {
+                throw new ZipException("Unsupported compression method");
+            }
+            int flags = readUByte(input);
+            // Modification time, extra flags and operating system
+            skipBytes(input, 6);
+            int size = 10;
+
+            if ((flags & FEXTRA) == FEXTRA) {
+                int extraLength = readUShort(input);
+                skipBytes(input, extraLength);
+                size += extraLength + 2;
+            }
+            if ((flags & FNAME) == FNAME) {
+                size += skipZeroTerminated(input);
+            }
+            if ((flags & FCOMMENT) == FCOMMENT) {
+                size += skipZeroTerminated(input);
+            }
+            if ((flags & FHCRC) == FHCRC) {
+                skipBytes(input, 2);
+                size += 2;
+            }
+            return size;
+        }
+
+        private static int skipZeroTerminated(@NotNull InputStream input) throws IOException {
+            int size = 1;
+            while (readUByte(input) != 0) {
+                size++;
+            }
+            return size;
+        }
+
+        private static long readUInt(@NotNull InputStream input) throws IOException {
+            long low = readUShort(input);
+            return ((long) readUShort(input) << 16) | low;
+        }
+
+        private static int readUShort(@NotNull InputStream input) throws IOException {
+            int low = readUByte(input);
+            return (readUByte(input) << 8) | low;
+        }
+
+        private static int readUByte(@NotNull InputStream input) throws IOException {
+            int b = input.read();
+            if (b == -1) {
+                throw new EOFException();
+            }
+            return b;
+        }
+
+        private static void skipBytes(@NotNull InputStream input, int count) throws IOException {
+            for (int i = 0; i < count; i++) {
+                readUByte(input);
+            }
+        }
+
+        private void release() {
+            if (inf != NOT_BORROWED) {
+                pool.release(inf);
+                inf = NOT_BORROWED;
+            }
+        }
+    }
+
+    private static final class NonClosingInputStream extends FilterInputStream {
+
+        private NonClosingInputStream(@NotNull InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() {
+            // The underlying stream is closed by the PooledGzipInputStream
+        }
+    }
 }
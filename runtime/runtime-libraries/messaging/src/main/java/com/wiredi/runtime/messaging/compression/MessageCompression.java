@@ -144,7 +144,7 @@ public class MessageCompression {
         for (String identifier : algorithm.identifiers) {
             MessageCompressionAlgorithm compressionAlgorithm = this.algorithms.get(identifier);
             if (compressionAlgorithm != null) {
-                result = compressionAlgorithm.compress(bytes);
+                result = compressionAlgorithm.compress(result);
             } else {
                 return Optional.empty();
             }
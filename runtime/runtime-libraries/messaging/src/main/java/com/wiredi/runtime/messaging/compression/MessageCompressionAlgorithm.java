@@ -3,13 +3,99 @@ package com.wiredi.runtime.messaging.compression;
 import com.wiredi.runtime.messaging.Message;
 import com.wiredi.runtime.messaging.MessageDetails;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
+/**
+ * A compression algorithm, like gzip, that can be applied to the body of {@link Message messages}.
+ * <p>
+ * Algorithms are streaming: they compress into an {@link OutputStream} and decompress from an {@link InputStream}.
+ * Based on this, messages are compressed while their body is written and decompressed while their body is read,
+ * without holding the whole body in memory.
+ * <p>
+ * Implementations have to override either the stream methods or the message methods
+ * {@link #compress(Message)} and {@link #decompress(Message)}.
+ * Each pair has a default implementation based on the other one.
+ * The defaults of the stream methods buffer the whole body, so streaming implementations should override the
+ * stream methods.
+ */
 public interface MessageCompressionAlgorithm {
 
-    <T extends MessageDetails> Message<T> compress(Message<T> input);
+    /**
+     * Wraps the target stream, so that all bytes written to the returned stream are compressed into the target.
+     * <p>
+     * Closing the returned stream finishes the compression and closes the target stream.
+     * <p>
+     * By default, the bytes are buffered and compressed through {@link #compress(Message)} once the returned stream is
+     * closed.
+     *
+     * @param target the stream to write the compressed bytes to
+     * @return a stream compressing into the target
+     * @throws IOException if the target cannot be written
+     */
+    default OutputStream compressingStream(OutputStream target) throws IOException {
+        return new ByteArrayOutputStream() {
+            private boolean closed = false;
 
-    <T extends MessageDetails> Message<T> decompress(Message<T> input);
+            @Override
+            public void close() throws IOException {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                try (target) {
+                    compress(Message.just(toByteArray())).writeBodyTo(target);
+                }
+            }
+        };
+    }
+
+    /**
+     * Wraps the source stream, so that reading from the returned stream decompresses the source incrementally.
+     * <p>
+     * By default, the whole source is read and decompressed through {@link #decompress(Message)}.
+     *
+     * @param source the stream of compressed bytes
+     * @return a stream of the decompressed bytes
+     * @throws IOException if the source cannot be read
+     */
+    default InputStream decompressingStream(InputStream source) throws IOException {
+        return decompress(Message.just(source.readAllBytes())).inputStream();
+    }
+
+    /**
+     * Returns a message whose body is the compressed body of the input.
+     * <p>
+     * The body is compressed lazily, directly into the target of {@link Message#writeBodyTo(OutputStream)}.
+     *
+     * @param input the message to compress
+     * @param <T>   the type of the {@link MessageDetails}
+     * @return the compressed message
+     */
+    default <T extends MessageDetails> Message<T> compress(Message<T> input) {
+        return new CompressedMessage<>(input, this);
+    }
+
+    /**
+     * Returns a message whose body is the decompressed body of the input.
+     * <p>
+     * The body is decompressed incrementally, while the returned message is read.
+     *
+     * @param input the message to decompress
+     * @param <T>   the type of the {@link MessageDetails}
+     * @return the decompressed message
+     */
+    default <T extends MessageDetails> Message<T> decompress(Message<T> input) {
+        try {
+            return input.copyWithPayload(decompressingStream(input.inputStream())).setChunked(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
     List<String> identifiers();
 
@@ -4,10 +4,22 @@ import com.wiredi.runtime.messaging.Message;
 import com.wiredi.runtime.messaging.MessageConverter;
 import com.wiredi.runtime.messaging.MessageDetails;
 import com.wiredi.runtime.messaging.MessageHeaders;
+import com.wiredi.runtime.messaging.messages.ByteBufferMessage;
 import com.wiredi.runtime.resources.Resource;
+import com.wiredi.runtime.resources.builtin.FileSystemResource;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * A converter to serialize {@link Resource Resources}.
+ * <p>
+ * Resources on the file system are memory-mapped into a {@link ByteBufferMessage}, so their content is neither read
+ * nor copied onto the heap until it is written.
+ * All other resources are streamed through an {@link com.wiredi.runtime.messaging.messages.InputStreamMessage}.
+ */
 public class ResourceMessageConverter implements MessageConverter<Resource, MessageDetails> {
 
     @Override
@@ -18,6 +30,16 @@ public class ResourceMessageConverter implements MessageConverter<Resource, Mess
     @Override
     public @Nullable Message<MessageDetails> serialize(@NotNull Object payload, @NotNull MessageHeaders headers, @NotNull MessageDetails messageDetails) {
         if (payload instanceof Resource resource) {
+            if (resource instanceof FileSystemResource && resource.isFile()) {
+                try {
+                    return ByteBufferMessage.map(resource.getPath())
+                            .withDetails(messageDetails)
+                            .addHeaders(headers)
+                            .build();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
             if (resource.exists()) {
                 return Message.builder(resource.getInputStream())
                         .withDetails(messageDetails)
@@ -0,0 +1,354 @@
+package com.wiredi.runtime.messaging.messages;
+
+import com.wiredi.runtime.messaging.Message;
+import com.wiredi.runtime.messaging.MessageDetails;
+import com.wiredi.runtime.messaging.MessageHeader;
+import com.wiredi.runtime.messaging.MessageHeaders;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This implementation of the {@link Message} holds its body in one or more {@link ByteBuffer ByteBuffers}.
+ * <p>
+ * The buffers may be heap buffers, direct buffers or memory-mapped files (see {@link #map(Path)}).
+ * The content of a buffer is the content between its position and its limit at the time the message is constructed.
+ * The message only holds read-only views of the buffers, so the body is never copied when the message is constructed.
+ * <p>
+ * Like the {@link SimpleMessage}, this message is buffered, meaning repeated calls to {@link #body()},
+ * {@link #inputStream()} or {@link #writeBodyTo(OutputStream)} yield the same results.
+ * Writing the body to a {@link WritableByteChannel} or reading it through {@link #inputStream()} or
+ * {@link #bodyBuffer()} does not copy the body onto the heap.
+ * Only {@link #body()} materializes the body as a byte array and should be avoided for large payloads.
+ *
+ * @param <D> the subtype of the {@link MessageDetails}
+ * @see MessageHeaders
+ * @see MessageDetails
+ * @see Message
+ * @see SimpleMessage
+ */
+public class ByteBufferMessage<D extends MessageDetails> extends AbstractMessage<D> {
+
+    private static final ByteBuffer[] NO_BUFFERS = new ByteBuffer[0];
+    private final ByteBuffer @NotNull [] buffers;
+    private final long bodySize;
+
+    public ByteBufferMessage(
+            @NotNull ByteBuffer buffer,
+            @NotNull MessageHeaders headers,
+            @NotNull D messageDetails
+    ) {
+        this(new ByteBuffer[]{buffer}, headers, messageDetails);
+    }
+
+    public ByteBufferMessage(
+            ByteBuffer @NotNull [] buffers,
+            @NotNull MessageHeaders headers,
+            @NotNull D messageDetails
+    ) {
+        super(headers, messageDetails, false);
+        List<ByteBuffer> views = new ArrayList<>(buffers.length);
+        long size = 0;
+        for (ByteBuffer buffer : buffers) {
+            if (buffer.hasRemaining()) {
+                ByteBuffer view = buffer.slice().asReadOnlyBuffer();
+                views.add(view);
+                size += view.remaining();
+            }
+        }
+        this.buffers = views.toArray(NO_BUFFERS);
+        this.bodySize = size;
+    }
+
+    /**
+     * Maps the file at the {@code path} into memory and constructs a new message with its content as body.
+     * <p>
+     * The file is mapped read-only and the content is read by the operating system on demand.
+     * Files larger than {@link Integer#MAX_VALUE} bytes are mapped into multiple buffers.
+     * Changes to the file while the message is used may or may not be reflected in the message.
+     *
+     * @param path the path of the file to map
+     * @return a new Builder to build the {@link ByteBufferMessage}
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    @NotNull
+    public static Builder<MessageDetails> map(@NotNull Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<ByteBuffer> buffers = new ArrayList<>();
+            for (long position = 0; position < size; position += Integer.MAX_VALUE) {
+                buffers.add(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(Integer.MAX_VALUE, size - position)));
+            }
+            return new Builder<>(buffers.toArray(NO_BUFFERS));
+        }
+    }
+
+    /**
+     * This class is buffered, no need to construct a new instance.
+     *
+     * @return this reference
+     */
+    @Override
+    public @NotNull Message<D> buffer() {
+        return this;
+    }
+
+    /**
+     * Copies the content of all buffers into a new byte array.
+     *
+     * @return the body of this message.
+     * @throws ArithmeticException if the body is too large to fit into a byte array
+     */
+    @Override
+    public byte[] body() {
+        byte[] body = new byte[Math.toIntExact(bodySize)];
+        int offset = 0;
+        for (ByteBuffer buffer : buffers) {
+            int length = buffer.remaining();
+            buffer.get(buffer.position(), body, offset, length);
+            offset += length;
+        }
+        return body;
+    }
+
+    @Override
+    public long bodySize() {
+        return bodySize;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Bodies consisting of a single buffer are returned without copying.
+     * Bodies consisting of multiple buffers are copied into a single buffer first.
+     */
+    @Override
+    public @NotNull ByteBuffer bodyBuffer() {
+        if (buffers.length == 1) {
+            return buffers[0].duplicate();
+        }
+        return ByteBuffer.wrap(body()).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns read-only views of all buffers this message consists of.
+     * <p>
+     * The content of the views is the content of the body, in order.
+     * Consuming the views does not affect this message.
+     *
+     * @return new read-only views of all buffers
+     */
+    public ByteBuffer @NotNull [] bodyBuffers() {
+        ByteBuffer[] result = new ByteBuffer[buffers.length];
+        for (int i = 0; i < buffers.length; i++) {
+            result[i] = buffers[i].duplicate();
+        }
+        return result;
+    }
+
+    @Override
+    public void writeBodyTo(OutputStream outputStream) throws IOException {
+        for (ByteBuffer buffer : buffers) {
+            write(outputStream, buffer.duplicate());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the channel is a {@link GatheringByteChannel}, all buffers are written with a single gathering write.
+     */
+    @Override
+    public void writeBodyTo(@NotNull WritableByteChannel channel) throws IOException {
+        ByteBuffer[] sources = bodyBuffers();
+        if (channel instanceof GatheringByteChannel gatheringChannel) {
+            long remaining = bodySize;
+            while (remaining > 0) {
+                remaining -= gatheringChannel.write(sources);
+            }
+        } else {
+            for (ByteBuffer source : sources) {
+                writeFully(channel, source);
+            }
+        }
+    }
+
+    @Override
+    public @NotNull InputStream inputStream() {
+        return new ByteBuffersInputStream(bodyBuffers());
+    }
+
+    @Override
+    public String toString() {
+        List<String> fieldValues = new ArrayList<>();
+        fieldValues.add("bodySize=" + bodySize);
+        if (!headers().isEmpty()) {
+            fieldValues.add("headers=" + headers());
+        }
+        if (details().isNotNone()) {
+            fieldValues.add("messageDetails=" + details());
+        }
+        return "Message{" +
+                String.join(", ", fieldValues) +
+                '}';
+    }
+
+    private static void write(OutputStream outputStream, ByteBuffer source) throws IOException {
+        if (source.isDirect()) {
+            writeFully(Channels.newChannel(outputStream), source);
+            return;
+        }
+
+        // The read-only view does not expose its array, so it is transferred in chunks
+        byte[] chunk = new byte[Math.min(source.remaining(), 8192)];
+        while (source.hasRemaining()) {
+            int length = Math.min(chunk.length, source.remaining());
+            source.get(chunk, 0, length);
+            outputStream.write(chunk, 0, length);
+        }
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+
+    /**
+     * An InputStream reading the content of multiple buffers in order, without copying them.
+     */
+    private static final class ByteBuffersInputStream extends InputStream {
+
+        private final ByteBuffer[] buffers;
+        private int index = 0;
+
+        private ByteBuffersInputStream(ByteBuffer[] buffers) {
+            this.buffers = buffers;
+        }
+
+        @Nullable
+        private ByteBuffer current() {
+            while (index < buffers.length && !buffers[index].hasRemaining()) {
+                index++;
+            }
+            return index < buffers.length ? buffers[index] : null;
+        }
+
+        @Override
+        public int read() {
+            ByteBuffer buffer = current();
+            if (buffer == null) {
+                return -1;
+            }
+            return buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte @NotNull [] target, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            ByteBuffer buffer = current();
+            if (buffer == null) {
+                return -1;
+            }
+            int read = Math.min(length, buffer.remaining());
+            buffer.get(target, offset, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            ByteBuffer buffer = current();
+            return buffer == null ? 0 : buffer.remaining();
+        }
+
+        @Override
+        public long transferTo(OutputStream out) throws IOException {
+            long transferred = 0;
+            for (ByteBuffer buffer = current(); buffer != null; buffer = current()) {
+                transferred += buffer.remaining();
+                write(out, buffer);
+            }
+            return transferred;
+        }
+    }
+
+    public static class Builder<S extends MessageDetails> {
+
+        private final MessageHeaders.Builder headers = MessageHeaders.builder();
+        private final ByteBuffer[] buffers;
+        @NotNull
+        private MessageDetails messageDetails = MessageDetails.NONE;
+
+        public Builder(ByteBuffer... buffers) {
+            this.buffers = buffers;
+        }
+
+        @NotNull
+        public MessageHeaders.Builder headers() {
+            return headers;
+        }
+
+        @NotNull
+        public Builder<S> addHeader(@NotNull String key, @NotNull String value) {
+            headers.add(key, value);
+            return this;
+        }
+
+        @NotNull
+        public Builder<S> addHeader(@NotNull String key, byte[] value) {
+            headers.add(key, value);
+            return this;
+        }
+
+        @NotNull
+        public Builder<S> addHeader(@NotNull MessageHeader entry) {
+            headers.add(entry);
+            return this;
+        }
+
+        @NotNull
+        public Builder<S> addHeaders(@Nullable MessageHeaders headers) {
+            if (headers != null) {
+                this.headers.addAll(headers);
+            }
+            return this;
+        }
+
+        @NotNull
+        public Builder<S> addHeaders(@Nullable Iterable<MessageHeader> headers) {
+            if (headers != null) {
+                this.headers.addAll(headers);
+            }
+            return this;
+        }
+
+        @NotNull
+        public <D extends MessageDetails> Builder<D> withDetails(@NotNull D details) {
+            this.messageDetails = details;
+            return (Builder<D>) this;
+        }
+
+        @NotNull
+        public ByteBufferMessage<S> build() {
+            return new ByteBufferMessage<>(
+                    buffers,
+                    headers.build(),
+                    (S) messageDetails
+            );
+        }
+    }
+}
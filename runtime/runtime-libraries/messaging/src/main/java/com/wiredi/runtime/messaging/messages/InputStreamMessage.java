@@ -55,14 +55,15 @@ public class InputStreamMessage<D extends MessageDetails> extends AbstractMessag
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The size of the body is unknown until the {@link InputStream} is read completely.
+     * {@link InputStream#available()} only estimates the bytes that can be read without blocking, so it is not used.
+     *
+     * @return -1, as the size is unknown
      */
     @Override
     public long bodySize() {
-        try {
-            return inputStream().available();
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
+        return -1;
     }
 
     /**
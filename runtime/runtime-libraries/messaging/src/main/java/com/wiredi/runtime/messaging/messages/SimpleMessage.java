@@ -7,6 +7,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -97,11 +99,24 @@ public class SimpleMessage<S extends MessageDetails> extends AbstractMessage<S>
         return body.length;
     }
 
+    @Override
+    public @NotNull ByteBuffer bodyBuffer() {
+        return ByteBuffer.wrap(body).asReadOnlyBuffer();
+    }
+
     @Override
     public void writeBodyTo(OutputStream outputStream) throws IOException {
         outputStream.write(body);
     }
 
+    @Override
+    public void writeBodyTo(@NotNull WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
     @Override
     public @NotNull InputStream inputStream() {
         return new ByteArrayInputStream(body);
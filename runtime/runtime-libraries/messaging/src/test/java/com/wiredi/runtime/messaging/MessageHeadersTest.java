@@ -308,4 +308,97 @@ class MessageHeadersTest {
         assertThat(result).contains("MessageHeaders");
         assertThat(result).contains("header1");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testNamesAreCaseInsensitive() {
+        // Arrange
+        MessageHeaders headers = MessageHeaders.builder()
+                .add("Content-Type", "application/json")
+                .add("content-type", "text/plain")
+                .build();
+
+        // Act & Assert
+        assertThat(headers.firstValue("CONTENT-TYPE").decodeToString()).isEqualTo("application/json");
+        assertThat(headers.lastValue(MessageHeaders.CONTENT_TYPE).decodeToString()).isEqualTo("text/plain");
+        assertThat(headers.allValues("content-TYPE")).hasSize(2);
+        assertThat(headers.map()).containsOnlyKeys("Content-Type");
+    }
+
+    @Test
+    void testDerivedBuildersDoNotModifyTheOriginalHeaders() {
+        // Arrange
+        MessageHeaders original = MessageHeaders.builder()
+                .add("header1", "value1")
+                .add("header2", "value2")
+                .build();
+
+        // Act
+        MessageHeaders unmodified = original.copy().build();
+        MessageHeaders replaced = original.copy().set("header1", "replaced").build();
+        MessageHeaders cleared = original.copy().clear().add("header3", "value3").build();
+
+        // Assert
+        assertThat(unmodified).isEqualTo(original);
+        assertThat(original.allValues("header1")).hasSize(1);
+        assertThat(original.firstValue("header1").decodeToString()).isEqualTo("value1");
+        assertThat(replaced.firstValue("header1").decodeToString()).isEqualTo("replaced");
+        assertThat(replaced.allValues("header2")).hasSize(1);
+        assertThat(cleared.size()).isEqualTo(1);
+        assertThat(original.size()).isEqualTo(2);
+    }
+
+    @Test
+    void testBuildersCanBeModifiedAfterBuilding() {
+        // Arrange
+        MessageHeaders.Builder builder = MessageHeaders.builder().add("header1", "value1");
+        MessageHeaders first = builder.build();
+
+        // Act
+        MessageHeaders second = builder.add("header1", "value2").build();
+
+        // Assert
+        assertThat(first.allValues("header1")).hasSize(1);
+        assertThat(second.allValues("header1")).hasSize(2);
+    }
+
+    @Test
+    void testIterationPreservesTheInsertionOrder() {
+        // Arrange
+        MessageHeader header1 = MessageHeader.of("header1", "value1");
+        MessageHeader header2 = MessageHeader.of("header2", "value2");
+        MessageHeader header3 = MessageHeader.of("header1", "value3");
+        MessageHeaders headers = MessageHeaders.of(List.of(header1, header2, header3));
+        List<MessageHeader> collected = new ArrayList<>();
+
+        // Act
+        headers.forEach((MessageHeader header) -> collected.add(header));
+
+        // Assert
+        assertThat(collected).containsExactly(header1, header2, header3);
+    }
+
+    @Test
+    void testEqualityIgnoresTheOrderOfDifferentNames() {
+        // Arrange
+        MessageHeaders headers1 = MessageHeaders.builder()
+                .add("header1", "value1")
+                .add("header2", "value2")
+                .add("header1", "value3")
+                .build();
+        MessageHeaders headers2 = MessageHeaders.builder()
+                .add("header2", "value2")
+                .add("HEADER1", "value1")
+                .add("header1", "value3")
+                .build();
+        MessageHeaders headers3 = MessageHeaders.builder()
+                .add("header2", "value2")
+                .add("header1", "value3")
+                .add("header1", "value1")
+                .build();
+
+        // Assert
+        assertThat(headers1).isEqualTo(headers2);
+        assertThat(headers1.hashCode()).isEqualTo(headers2.hashCode());
+        assertThat(headers1).isNotEqualTo(headers3);
+    }
+}
@@ -178,8 +178,171 @@ class MessagingContextTest {
           .hasMessageContaining("Unable to find converter");
     }
 
+    @Test
+    void testUnsupportedCombinationsFailFast() {
+        // Arrange
+        CountingSupportConverter converter = new CountingSupportConverter(String.class);
+        MessagingContext context = new MessagingContext(List.of(converter), List.of());
+        Message<MessageDetails> message = Message.just("test".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> context.convertCacheAware(
+                    Integer.class,
+                    message.details(),
+                    null,
+                    c -> c.canDeserialize(message, Integer.class),
+                    c -> ((MessageConverter<Object, MessageDetails>) c).deserialize(message, Object.class)
+            )).isInstanceOf(MessagingException.class)
+                    .hasMessageContaining("Unable to find converter");
+        }
+
+        // Assert
+        assertThat(converter.getSupportChecks()).isEqualTo(1);
+    }
+
+    @Test
+    void testResolutionsAreSeparatedByContentType() {
+        // Arrange
+        CountingSupportConverter textConverter = new CountingSupportConverter(String.class, "text/plain");
+        CountingSupportConverter jsonConverter = new CountingSupportConverter(String.class, "application/json");
+        MessagingContext context = new MessagingContext(List.of(textConverter, jsonConverter), List.of());
+        Message<MessageDetails> message = Message.just("test".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        String text = convertWithContentType(context, message, "text/plain");
+        String json = convertWithContentType(context, message, "application/json");
+        String secondJson = convertWithContentType(context, message, "application/json");
+
+        // Assert
+        assertThat(text).isEqualTo("text/plain");
+        assertThat(json).isEqualTo("application/json");
+        assertThat(secondJson).isEqualTo("application/json");
+        // text: 1 check, json: 2 checks while resolving, 1 check on the resolved converter
+        assertThat(textConverter.getSupportChecks()).isEqualTo(2);
+        assertThat(jsonConverter.getSupportChecks()).isEqualTo(2);
+    }
+
+    @Test
+    void testClearedResolutionsAreResolvedAgain() {
+        // Arrange
+        List<MessageConverter<?, ?>> converters = new ArrayList<>();
+        MessagingContext context = new MessagingContext(converters, List.of());
+        Message<MessageDetails> message = Message.just("test".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> convertWithContentType(context, message, "text/plain")).isInstanceOf(MessagingException.class);
+
+        // Act
+        converters.add(new CountingSupportConverter(String.class, "text/plain"));
+        context.clearResolutions();
+        String result = convertWithContentType(context, message, "text/plain");
+
+        // Assert
+        assertThat(result).isEqualTo("text/plain");
+    }
+
+    @Test
+    void testContentTypeParametersShareOneResolution() {
+        // Arrange
+        CountingSupportConverter textConverter = new CountingSupportConverter(String.class, "text/plain");
+        CountingSupportConverter jsonConverter = new CountingSupportConverter(String.class, "application/json");
+        MessagingContext context = new MessagingContext(List.of(textConverter, jsonConverter), List.of());
+        Message<MessageDetails> message = Message.just("test".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        String first = context.convertCacheAware(
+                String.class,
+                message.details(),
+                "application/json; charset=UTF-8",
+                c -> ((CountingSupportConverter) c).supports(String.class, "application/json"),
+                c -> ((CountingSupportConverter) c).contentType
+        );
+        String second = context.convertCacheAware(
+                String.class,
+                message.details(),
+                "Application/JSON",
+                c -> ((CountingSupportConverter) c).supports(String.class, "application/json"),
+                c -> ((CountingSupportConverter) c).contentType
+        );
+
+        // Assert
+        assertThat(first).isEqualTo("application/json");
+        assertThat(second).isEqualTo("application/json");
+        // first: 2 checks while resolving, second: 1 check on the resolved converter
+        assertThat(textConverter.getSupportChecks()).isEqualTo(1);
+        assertThat(jsonConverter.getSupportChecks()).isEqualTo(2);
+    }
+
+    @Test
+    void testMediaTypeOfHeaders() {
+        // Arrange
+        MessagingContext context = MessagingContext.empty();
+        MessageHeaders headers = MessageHeaders.of(List.of(MessageHeader.of(MessageHeaders.CONTENT_TYPE, "Text/Plain; charset=UTF-8")));
+
+        // Act
+        String mediaType = context.mediaTypeOf(headers);
+        String secondMediaType = context.mediaTypeOf(headers);
+        String mediaTypeOfEqualHeaders = context.mediaTypeOf(MessageHeaders.of(List.of(MessageHeader.of(MessageHeaders.CONTENT_TYPE, "Text/Plain; charset=UTF-8"))));
+
+        // Assert
+        assertThat(mediaType).isEqualTo("text/plain");
+        assertThat(secondMediaType).isSameAs(mediaType);
+        assertThat(mediaTypeOfEqualHeaders).isSameAs(mediaType);
+        assertThat(context.mediaTypeOf(MessageHeaders.EMPTY)).isNull();
+        assertThat(context.mediaTypeOf(null)).isNull();
+    }
+
+    private String convertWithContentType(MessagingContext context, Message<MessageDetails> message, String contentType) {
+        return context.convertCacheAware(
+                String.class,
+                message.details(),
+                contentType,
+                c -> ((CountingSupportConverter) c).supports(String.class, contentType),
+                c -> ((CountingSupportConverter) c).contentType
+        );
+    }
+
     // Test implementations
 
+    private static class CountingSupportConverter implements MessageConverter<Object, MessageDetails> {
+        private final AtomicInteger supportChecks = new AtomicInteger(0);
+        private final Class<?> supportedType;
+        private final String contentType;
+
+        public CountingSupportConverter(Class<?> supportedType) {
+            this(supportedType, null);
+        }
+
+        public CountingSupportConverter(Class<?> supportedType, String contentType) {
+            this.supportedType = supportedType;
+            this.contentType = contentType;
+        }
+
+        public boolean supports(Class<?> targetType, String contentType) {
+            supportChecks.incrementAndGet();
+            return targetType == supportedType && (this.contentType == null || this.contentType.equals(contentType));
+        }
+
+        @Override
+        public boolean canDeserialize(Message<?> message, Class<?> targetType) {
+            return supports(targetType, null);
+        }
+
+        @Override
+        public Object deserialize(Message<MessageDetails> message, Class<Object> targetType) {
+            return contentType;
+        }
+
+        @Override
+        public Message<MessageDetails> serialize(Object payload, MessageHeaders headers, MessageDetails messageDetails) {
+            return null;
+        }
+
+        public int getSupportChecks() {
+            return supportChecks.get();
+        }
+    }
+
+
     private static class TestInterceptor implements MessageInterceptor {
         @Override
         public <D extends MessageDetails> @NotNull Message<D> postConstruction(@NotNull Message<D> message) {
@@ -54,4 +54,31 @@ class MessagingEngineTest {
         assertThat(result)
                 .isEqualTo(new MessagingResult.Failed(error));
     }
+
+    @Test
+    public void batchesOfMessagesCanBeProcessedFromAnIterator() {
+        // Arrange
+        RuntimeException error = new RuntimeException("test");
+        MessagingEngine engine = MessagingEngine.defaultEngine();
+        List<Message<MessageDetails>> messages = List.of(
+                Message.just("first".getBytes()),
+                Message.just("error".getBytes()),
+                Message.just("third".getBytes())
+        );
+
+        // Act
+        List<MessagingResult> results = engine.processMessages(messages.iterator(), m -> {
+            String body = new String(m.body());
+            if (body.equals("error")) {
+                throw error;
+            }
+            return body;
+        });
+
+        // Assert
+        assertThat(results.size()).isEqualTo(3);
+        assertThat(results.get(0)).isEqualTo(new MessagingResult.Success("first"));
+        assertThat(results.get(1)).isEqualTo(new MessagingResult.Failed(error));
+        assertThat(results.get(2)).isEqualTo(new MessagingResult.Success("third"));
+    }
 }
@@ -6,9 +6,14 @@ import org.junit.jupiter.api.Test;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -290,6 +295,218 @@ class RequestContextTest {
         assertThat(lowPriority.getCompletedCallOrder()).isEqualTo(3);
     }
 
+    @Test
+    void testHandleRequestsReturnsResultsInOrder() {
+        // Arrange
+        RequestContext context = new RequestContext(
+                List.of(),
+                List.of(message -> message.headers().firstValue("skip") != null),
+                MessagingErrorHandler.DEFAULT,
+                new MessageHeadersAccessor(),
+                MessageCompression.newDefault()
+        );
+        RuntimeException exception = new RuntimeException("Test exception");
+        List<Message<MessageDetails>> messages = List.of(
+                Message.just("first".getBytes(StandardCharsets.UTF_8)),
+                Message.builder("second".getBytes(StandardCharsets.UTF_8)).addHeader("skip", "true").build(),
+                Message.just("fail".getBytes(StandardCharsets.UTF_8))
+        );
+
+        // Act
+        List<MessagingResult> results = context.handleRequests(messages, message -> {
+            String body = new String(message.body(), StandardCharsets.UTF_8);
+            if (body.equals("fail")) {
+                throw exception;
+            }
+            return body;
+        });
+
+        // Assert
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0)).isInstanceOf(MessagingResult.Success.class);
+        assertThat(results.get(0).<String>getResultAs()).isEqualTo("first");
+        assertThat(results.get(1)).isInstanceOf(MessagingResult.SkipMessage.class);
+        assertThat(results.get(2)).isInstanceOf(MessagingResult.Failed.class);
+        assertThat(((MessagingResult.Failed) results.get(2)).error()).isSameAs(exception);
+    }
+
+    @Test
+    void testHandleRequestsExposesTheHeadersOfEachMessage() {
+        // Arrange
+        MessageHeadersAccessor headersAccessor = new MessageHeadersAccessor();
+        RequestContext context = new RequestContext(
+                List.of(),
+                List.of(),
+                MessagingErrorHandler.DEFAULT,
+                headersAccessor,
+                MessageCompression.newDefault()
+        );
+        MessageHeaders previousHeaders = MessageHeaders.of(List.of(MessageHeader.of("id", "previous")));
+        headersAccessor.set(previousHeaders);
+        List<Message<MessageDetails>> messages = List.of(
+                Message.builder(new byte[0]).addHeader("id", "1").build(),
+                Message.builder(new byte[0]).addHeader("id", "2").build()
+        );
+
+        // Act
+        List<MessagingResult> results = context.handleRequests(
+                messages,
+                message -> headersAccessor.getCurrentHeaders().firstValue("id").decodeToString()
+        );
+
+        // Assert
+        assertThat(results).extracting(MessagingResult::getResultAs).containsExactly("1", "2");
+        assertThat(headersAccessor.getCurrentHeaders()).isSameAs(previousHeaders);
+    }
+
+    @Test
+    void testHandleRequestsExposesTheSameHeadersToHooksAndFiltersAsHandleRequest() {
+        // Arrange
+        MessageHeadersAccessor headersAccessor = new MessageHeadersAccessor();
+        List<String> observedHeaders = new ArrayList<>();
+        RequestAware requestAware = new RequestAware() {
+            @Override
+            public Message<?> started(Message<?> message) {
+                observedHeaders.add("started:" + currentId(headersAccessor));
+                return message;
+            }
+
+            @Override
+            public void successful(Message<?> message) {
+                observedHeaders.add("successful:" + currentId(headersAccessor));
+            }
+
+            @Override
+            public void completed(Message<?> message) {
+                observedHeaders.add("completed:" + currentId(headersAccessor));
+            }
+        };
+        MessageFilter filter = message -> {
+            observedHeaders.add("filter:" + currentId(headersAccessor));
+            return false;
+        };
+        RequestContext context = new RequestContext(
+                List.of(requestAware),
+                List.of(filter),
+                MessagingErrorHandler.DEFAULT,
+                headersAccessor,
+                MessageCompression.newDefault()
+        );
+        headersAccessor.set(MessageHeaders.of(List.of(MessageHeader.of("id", "previous"))));
+        Message<MessageDetails> first = Message.builder(new byte[0]).addHeader("id", "1").build();
+        Message<MessageDetails> second = Message.builder(new byte[0]).addHeader("id", "2").build();
+        context.handleRequest(first, () -> observedHeaders.add("handler:" + currentId(headersAccessor)));
+        context.handleRequest(second, () -> observedHeaders.add("handler:" + currentId(headersAccessor)));
+        List<String> expectedHeaders = List.copyOf(observedHeaders);
+        observedHeaders.clear();
+
+        // Act
+        context.handleRequests(List.of(first, second), message -> observedHeaders.add("handler:" + currentId(headersAccessor)));
+
+        // Assert
+        assertThat(observedHeaders).containsExactlyElementsOf(expectedHeaders);
+        assertThat(observedHeaders).containsExactly(
+                "started:previous", "filter:previous", "handler:1", "successful:previous", "completed:previous",
+                "started:previous", "filter:previous", "handler:2", "successful:previous", "completed:previous"
+        );
+        assertThat(currentId(headersAccessor)).isEqualTo("previous");
+    }
+
+    @Test
+    void testHandleRequestsCapturesTheRequestAwaresOncePerBatch() {
+        // Arrange
+        List<RequestAware> requestAwares = new ArrayList<>();
+        RequestContext context = new RequestContext(
+                requestAwares,
+                new ArrayList<>(),
+                MessagingErrorHandler.DEFAULT,
+                new MessageHeadersAccessor(),
+                MessageCompression.newDefault()
+        );
+        AtomicInteger lateInvocations = new AtomicInteger();
+        RequestAware lateRequestAware = new RequestAware() {
+            @Override
+            public Message<?> started(Message<?> message) {
+                lateInvocations.incrementAndGet();
+                return message;
+            }
+        };
+        List<Message<MessageDetails>> messages = List.of(
+                Message.just("first".getBytes(StandardCharsets.UTF_8)),
+                Message.just("second".getBytes(StandardCharsets.UTF_8))
+        );
+
+        // Act
+        context.handleRequests(messages, message -> requestAwares.isEmpty() && requestAwares.add(lateRequestAware));
+        context.handleRequest(messages.getFirst(), () -> "late");
+
+        // Assert
+        assertThat(lateInvocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testHandleRequestsContinuesAfterPropagatedErrors() {
+        // Arrange
+        TestRequestAware requestAware = new TestRequestAware();
+        RequestContext context = new RequestContext(
+                List.of(requestAware),
+                List.of(),
+                MessagingErrorHandler.RETHROW,
+                new MessageHeadersAccessor(),
+                MessageCompression.newDefault()
+        );
+        RuntimeException exception = new RuntimeException("Test exception");
+        List<Message<MessageDetails>> messages = List.of(
+                Message.just("fail".getBytes(StandardCharsets.UTF_8)),
+                Message.just("second".getBytes(StandardCharsets.UTF_8))
+        );
+
+        // Act
+        List<MessagingResult> results = context.handleRequests(messages, message -> {
+            String body = new String(message.body(), StandardCharsets.UTF_8);
+            if (body.equals("fail")) {
+                throw exception;
+            }
+            return body;
+        });
+
+        // Assert
+        assertThat(results.get(0)).isInstanceOf(MessagingResult.Failed.class);
+        assertThat(((MessagingResult.Failed) results.get(0)).error()).isSameAs(exception);
+        assertThat(results.get(1).<String>getResultAs()).isEqualTo("second");
+        assertThat(requestAware.getFailedCalled()).isTrue();
+        assertThat(requestAware.getSuccessfulCalled()).isTrue();
+    }
+
+    @Test
+    void testHandleRequestsInParallel() {
+        // Arrange
+        RequestContext context = RequestContext.defaultInstance();
+        List<Message<MessageDetails>> messages = IntStream.range(0, 100)
+                .mapToObj(i -> Message.just(Integer.toString(i).getBytes(StandardCharsets.UTF_8)))
+                .toList();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        // Act
+        List<MessagingResult> results;
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            results = context.handleRequests(messages, message -> {
+                threads.add(Thread.currentThread());
+                return Integer.parseInt(new String(message.body(), StandardCharsets.UTF_8));
+            }, executor);
+        }
+
+        // Assert
+        assertThat(results).extracting(MessagingResult::getResultAs)
+                .containsExactlyElementsOf(IntStream.range(0, 100).boxed().toList());
+        assertThat(threads).doesNotContain(Thread.currentThread());
+    }
+
+    private static String currentId(MessageHeadersAccessor headersAccessor) {
+        MessageHeaders headers = headersAccessor.getCurrentHeaders();
+        return headers == null ? null : headers.firstValue("id").decodeToString();
+    }
+
     // Test implementations
 
     private static class TestRequestAware implements RequestAware {
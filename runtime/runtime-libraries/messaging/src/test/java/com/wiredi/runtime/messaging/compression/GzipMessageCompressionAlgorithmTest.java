@@ -0,0 +1,276 @@
+package com.wiredi.runtime.messaging.compression;
+
+import com.wiredi.runtime.messaging.Message;
+import com.wiredi.runtime.messaging.MessageDetails;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GzipMessageCompressionAlgorithmTest {
+
+    private final GzipMessageCompressionAlgorithm algorithm = new GzipMessageCompressionAlgorithm();
+
+    @Test
+    void compressedMessagesCanBeReadByTheJdkGzipImplementation() throws IOException {
+        // Arrange
+        byte[] body = payload(1024 * 1024);
+        Message<MessageDetails> message = Message.just(new ByteArrayInputStream(body));
+
+        // Act
+        Message<MessageDetails> compressed = algorithm.compress(message);
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        compressed.writeBodyTo(target);
+
+        // Assert
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(target.toByteArray()))) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(body);
+        }
+    }
+
+    @Test
+    void writingACompressedMessageDoesNotCloseTheTargetStream() throws IOException {
+        // Arrange
+        Message<MessageDetails> compressed = algorithm.compress(Message.just("Hello World".getBytes(StandardCharsets.UTF_8)));
+        TrackingOutputStream target = new TrackingOutputStream();
+
+        // Act
+        compressed.writeBodyTo(target);
+
+        // Assert
+        assertThat(target.closed).isFalse();
+        assertThat(algorithm.decompress(Message.just(target.toByteArray())).body())
+                .isEqualTo("Hello World".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void messagesCompressedByTheJdkGzipImplementationCanBeDecompressed() throws IOException {
+        // Arrange
+        byte[] body = payload(1024 * 1024);
+
+        // Act
+        Message<MessageDetails> decompressed = algorithm.decompress(Message.just(jdkGzip(body)));
+
+        // Assert
+        assertThat(decompressed.isChunked()).isTrue();
+        assertThat(decompressed.body()).isEqualTo(body);
+    }
+
+    @Test
+    void decompressionIsIncremental() throws IOException {
+        // Arrange
+        byte[] body = payload(1024 * 1024);
+        CountingInputStream source = new CountingInputStream(new ByteArrayInputStream(jdkGzip(body)));
+
+        // Act
+        Message<MessageDetails> decompressed = algorithm.decompress(Message.just(source));
+        long readAfterDecompress = source.count;
+        byte[] start = decompressed.inputStream().readNBytes(16);
+
+        // Assert
+        assertThat(readAfterDecompress).isZero();
+        assertThat(start).isEqualTo(Arrays.copyOf(body, 16));
+        assertThat(source.count).isLessThan(64 * 1024);
+    }
+
+    @Test
+    void concatenatedGzipMembersAreDecompressedAsOneStream() throws IOException {
+        // Arrange
+        ByteArrayOutputStream concatenated = new ByteArrayOutputStream();
+        concatenated.write(jdkGzip("Hello ".getBytes(StandardCharsets.UTF_8)));
+        concatenated.write(jdkGzip("World".getBytes(StandardCharsets.UTF_8)));
+
+        // Act
+        byte[] result = algorithm.decompress(Message.just(concatenated.toByteArray())).body();
+
+        // Assert
+        assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo("Hello World");
+    }
+
+    @Test
+    void moreBytesAreAvailableAfterTheFirstOfConcatenatedGzipMembers() throws IOException {
+        // Arrange
+        ByteArrayOutputStream concatenated = new ByteArrayOutputStream();
+        concatenated.write(jdkGzip("Hello ".getBytes(StandardCharsets.UTF_8)));
+        concatenated.write(jdkGzip("World".getBytes(StandardCharsets.UTF_8)));
+        InputStream inputStream = algorithm.decompressingStream(new ByteArrayInputStream(concatenated.toByteArray()));
+
+        // Act
+        byte[] firstMember = inputStream.readNBytes(6);
+        int available = inputStream.available();
+        byte[] rest = inputStream.readAllBytes();
+
+        // Assert
+        assertThat(new String(firstMember, StandardCharsets.UTF_8)).isEqualTo("Hello ");
+        assertThat(available).isPositive();
+        assertThat(new String(rest, StandardCharsets.UTF_8)).isEqualTo("World");
+        assertThat(inputStream.available()).isZero();
+    }
+
+    @Test
+    void inflatersAreBorrowedWithTheFirstReadAndReturnedOnClose() throws IOException {
+        // Arrange
+        AtomicInteger createdInflaters = new AtomicInteger();
+        GzipMessageCompressionAlgorithm pooledAlgorithm = new GzipMessageCompressionAlgorithm(
+                new CompressorPool<>(1, () -> new Deflater(Deflater.DEFAULT_COMPRESSION, true), Deflater::reset, Deflater::end),
+                new CompressorPool<>(1, () -> {
+                    createdInflaters.incrementAndGet();
+                    return new Inflater(true);
+                }, Inflater::reset, Inflater::end)
+        );
+        byte[] compressed = jdkGzip(payload(1024));
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            pooledAlgorithm.decompressingStream(new ByteArrayInputStream(compressed));
+        }
+        int createdWithoutRead = createdInflaters.get();
+        for (int i = 0; i < 10; i++) {
+            try (InputStream inputStream = pooledAlgorithm.decompressingStream(new ByteArrayInputStream(compressed))) {
+                inputStream.readNBytes(16);
+            }
+        }
+
+        // Assert
+        assertThat(createdWithoutRead).isZero();
+        assertThat(createdInflaters.get()).isOne();
+    }
+
+    @Test
+    void theStreamMethodsDefaultToTheMessageMethods() throws IOException {
+        // Arrange
+        MessageCompressionAlgorithm reversing = new ReversingAlgorithm();
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        // Act
+        try (OutputStream outputStream = reversing.compressingStream(target)) {
+            outputStream.write("Hello World".getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] decompressed = reversing.decompressingStream(new ByteArrayInputStream(target.toByteArray())).readAllBytes();
+
+        // Assert
+        assertThat(new String(target.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("dlroW olleH");
+        assertThat(new String(decompressed, StandardCharsets.UTF_8)).isEqualTo("Hello World");
+    }
+
+    @Test
+    void corruptedTrailersAreDetected() throws IOException {
+        // Arrange
+        byte[] compressed = jdkGzip("Hello World".getBytes(StandardCharsets.UTF_8));
+        compressed[compressed.length - 5]++;
+
+        // Act
+        Message<MessageDetails> decompressed = algorithm.decompress(Message.just(compressed));
+
+        // Assert
+        assertThatThrownBy(decompressed::body).isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void messageCompressionAppliesTheAlgorithmsInOrder() {
+        // Arrange
+        MessageCompression compression = MessageCompression.newDefault();
+        byte[] body = payload(4096);
+        Message<MessageDetails> message = Message.just(body);
+
+        // Act
+        Message<MessageDetails> compressed = compression.compress(message, List.of(Algorithm.inOrder("gzip", "gzip")));
+        Message<MessageDetails> decompressed = compression.decompress(Message.just(compressed.body()), List.of(Algorithm.inOrder("gzip", "gzip")));
+
+        // Assert
+        assertThat(decompressed.body()).isEqualTo(body);
+    }
+
+    /**
+     * An algorithm that only implements the message methods, like implementations predating the stream methods.
+     */
+    private static final class ReversingAlgorithm implements MessageCompressionAlgorithm {
+
+        @Override
+        public <T extends MessageDetails> Message<T> compress(Message<T> input) {
+            return input.copyWithPayload(reverse(input.body()));
+        }
+
+        @Override
+        public <T extends MessageDetails> Message<T> decompress(Message<T> input) {
+            return input.copyWithPayload(reverse(input.body()));
+        }
+
+        @Override
+        public List<String> identifiers() {
+            return List.of("reverse");
+        }
+
+        private static byte[] reverse(byte[] bytes) {
+            byte[] result = new byte[bytes.length];
+            for (int i = 0; i < bytes.length; i++) {
+                result[i] = bytes[bytes.length - 1 - i];
+            }
+            return result;
+        }
+    }
+
+    private static byte[] payload(int size) {
+        byte[] result = new byte[size];
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            // Compressible, but not trivially
+            result[i] = (byte) ('a' + random.nextInt(8));
+        }
+        return result;
+    }
+
+    private static byte[] jdkGzip(byte[] body) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(body);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static final class TrackingOutputStream extends ByteArrayOutputStream {
+        private boolean closed = false;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count = 0;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int result = super.read();
+            if (result != -1) {
+                count++;
+            }
+            return result;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int result = super.read(b, off, len);
+            if (result > 0) {
+                count += result;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.wiredi.runtime.messaging.converters;
+
+import com.wiredi.runtime.messaging.Message;
+import com.wiredi.runtime.messaging.MessageDetails;
+import com.wiredi.runtime.messaging.MessageHeaders;
+import com.wiredi.runtime.messaging.messages.ByteBufferMessage;
+import com.wiredi.runtime.resources.builtin.FileSystemResource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceMessageConverterTest {
+
+    private final ResourceMessageConverter converter = new ResourceMessageConverter();
+
+    @Test
+    void filesAreSerializedWithoutReadingThemIntoMemory(@TempDir Path directory) throws IOException {
+        // Arrange
+        Path file = Files.writeString(directory.resolve("test.txt"), "test");
+        MessageHeaders headers = MessageHeaders.builder().add("Content-Type", "text/plain").build();
+
+        // Act
+        Message<MessageDetails> message = converter.serialize(new FileSystemResource(file), headers, MessageDetails.NONE);
+
+        // Assert
+        assertThat(message).isInstanceOf(ByteBufferMessage.class);
+        assertThat(message.bodySize()).isEqualTo(4);
+        assertThat(message.body()).isEqualTo("test".getBytes());
+        assertThat(message.headers().firstValue("Content-Type")).isNotNull();
+    }
+
+    @Test
+    void missingFilesAreNotSerialized(@TempDir Path directory) {
+        // Act
+        Message<MessageDetails> message = converter.serialize(new FileSystemResource(directory.resolve("missing.txt")), new MessageHeaders(), MessageDetails.NONE);
+
+        // Assert
+        assertThat(message).isNull();
+    }
+}
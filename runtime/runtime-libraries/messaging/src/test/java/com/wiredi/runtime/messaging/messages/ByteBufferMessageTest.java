@@ -0,0 +1,114 @@
+package com.wiredi.runtime.messaging.messages;
+
+import com.wiredi.runtime.messaging.Message;
+import com.wiredi.runtime.messaging.MessageDetails;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ByteBufferMessageTest {
+
+    @Test
+    void theBodyConsistsOfTheRemainingContentOfAllBuffers() {
+        // Arrange
+        ByteBuffer first = ByteBuffer.wrap("ignored-Hello ".getBytes(StandardCharsets.UTF_8)).position(8);
+        ByteBuffer second = ByteBuffer.allocateDirect(5).put("World".getBytes(StandardCharsets.UTF_8)).flip();
+
+        // Act
+        Message<MessageDetails> message = Message.builder(first, second).build();
+
+        // Assert
+        assertThat(message.bodySize()).isEqualTo(11);
+        assertThat(new String(message.body(), StandardCharsets.UTF_8)).isEqualTo("Hello World");
+        assertThat(new String(message.body(), StandardCharsets.UTF_8)).isEqualTo("Hello World");
+        assertThat(first.position()).isEqualTo(8);
+        assertThat(second.position()).isEqualTo(0);
+    }
+
+    @Test
+    void modificationsOfTheBufferPositionsDoNotAffectTheMessage() {
+        // Arrange
+        ByteBuffer buffer = ByteBuffer.wrap("test".getBytes(StandardCharsets.UTF_8));
+        Message<MessageDetails> message = Message.just(buffer);
+
+        // Act
+        buffer.position(4);
+
+        // Assert
+        assertThat(message.body()).isEqualTo("test".getBytes(StandardCharsets.UTF_8));
+        assertThat(message.bodyBuffer().isReadOnly()).isTrue();
+        assertThat(message.bodyBuffer().remaining()).isEqualTo(4);
+    }
+
+    @Test
+    void theBodyCanBeReadRepeatedlyFromTheInputStream() throws IOException {
+        // Arrange
+        ByteBuffer first = ByteBuffer.wrap("Hello ".getBytes(StandardCharsets.UTF_8));
+        ByteBuffer second = ByteBuffer.allocateDirect(5).put("World".getBytes(StandardCharsets.UTF_8)).flip();
+        Message<MessageDetails> message = Message.builder(first, second).build();
+
+        // Act
+        byte[] firstRead;
+        byte[] secondRead;
+        try (InputStream inputStream = message.inputStream()) {
+            firstRead = inputStream.readAllBytes();
+        }
+        try (InputStream inputStream = message.inputStream()) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            inputStream.transferTo(outputStream);
+            secondRead = outputStream.toByteArray();
+        }
+
+        // Assert
+        assertThat(new String(firstRead, StandardCharsets.UTF_8)).isEqualTo("Hello World");
+        assertThat(new String(secondRead, StandardCharsets.UTF_8)).isEqualTo("Hello World");
+    }
+
+    @Test
+    void theBodyCanBeWrittenToStreamsAndChannels() throws IOException {
+        // Arrange
+        ByteBuffer first = ByteBuffer.wrap("Hello ".getBytes(StandardCharsets.UTF_8));
+        ByteBuffer second = ByteBuffer.allocateDirect(5).put("World".getBytes(StandardCharsets.UTF_8)).flip();
+        Message<MessageDetails> message = Message.builder(first, second).build();
+        ByteArrayOutputStream streamTarget = new ByteArrayOutputStream();
+        ByteArrayOutputStream channelTarget = new ByteArrayOutputStream();
+
+        // Act
+        message.writeBodyTo(streamTarget);
+        message.writeBodyTo(Channels.newChannel(channelTarget));
+
+        // Assert
+        assertThat(streamTarget.toString(StandardCharsets.UTF_8)).isEqualTo("Hello World");
+        assertThat(channelTarget.toString(StandardCharsets.UTF_8)).isEqualTo("Hello World");
+    }
+
+    @Test
+    void mappedFilesCanBeTransferredToFileChannels(@TempDir Path directory) throws IOException {
+        // Arrange
+        Path source = Files.writeString(directory.resolve("source.txt"), "This is the content of the file");
+        Path target = directory.resolve("target.txt");
+        Message<MessageDetails> message = ByteBufferMessage.map(source).build();
+
+        // Act
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            message.writeBodyTo(channel);
+        }
+
+        // Assert
+        assertThat(message.bodySize()).isEqualTo(Files.size(source));
+        assertThat(Files.readString(target)).isEqualTo("This is the content of the file");
+        assertThat(message.buffer()).isSameAs(message);
+    }
+}
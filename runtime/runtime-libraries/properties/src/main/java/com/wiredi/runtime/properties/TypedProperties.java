@@ -6,6 +6,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -16,6 +17,16 @@ import java.util.function.Supplier;
  * <p>
  * First this class checks if the environment contains the property. If not, the System properties are checked.
  * If neither the environment, nor the System contain the property, it will be taken from the local cache.
+ * <p>
+ * Values are stored as raw Strings.
+ * Whenever a value is read as a type other than String, the result of the conversion is memorized per key and target
+ * type, so that repeated reads of the same property as the same type return the same object without converting the
+ * raw value again.
+ * The memorized conversions of a key are dropped as soon as the key is modified, and all memorized conversions are
+ * outdated as soon as the converters of the {@link TypeMapper} change.
+ * <p>
+ * As memorized values are shared between all readers, types that properties are converted to should be immutable.
+ * Arrays are never memorized, and {@link #getAll(Key)} returns a new list on every call.
  */
 public final class TypedProperties implements AutoCloseable, Iterable<Map.Entry<Key, String>> {
 
@@ -23,6 +34,10 @@ public final class TypedProperties implements AutoCloseable, Iterable<Map.Entry<
 
     @NotNull
     private final Map<Key, String> properties = new HashMap<>();
+    @NotNull
+    private final Map<Key, Map<Class<?>, Conversion>> conversions = new ConcurrentHashMap<>();
+    @NotNull
+    private final Map<Key, Map<Class<?>, Conversion>> listConversions = new ConcurrentHashMap<>();
     private final TypeMapper typeMapper;
 
     public TypedProperties() {
@@ -67,18 +82,18 @@ public final class TypedProperties implements AutoCloseable, Iterable<Map.Entry<
     @NotNull
     public TypedProperties setAll(@NotNull final Map<Key, String> rawProperties) {
         properties.putAll(rawProperties);
+        rawProperties.keySet().forEach(this::invalidate);
         return this;
     }
 
     @NotNull
     public TypedProperties setAll(@NotNull final TypedProperties typedProperties) {
-        properties.putAll(typedProperties.properties);
-        return this;
+        return setAll(typedProperties.properties);
     }
 
     @NotNull
     public TypedProperties setAll(@NotNull final Properties properties) {
-        properties.stringPropertyNames().forEach(name -> properties.put(name, properties.getProperty(name)));
+        properties.stringPropertyNames().forEach(name -> set(Key.just(name), properties.getProperty(name)));
         return this;
     }
 
@@ -96,6 +111,7 @@ public final class TypedProperties implements AutoCloseable, Iterable<Map.Entry<
             @NotNull final String value
     ) {
         properties.merge(key, value, (a, b) -> a + LIST_ENTRY_SEPARATOR + b);
+        invalidate(key);
         return this;
     }
 
@@ -113,15 +129,30 @@ public final class TypedProperties implements AutoCloseable, Iterable<Map.Entry<
             final String value
     ) {
         properties.put(key, typeMapper.convert(value, String.class));
+        invalidate(key);
+        return this;
+    }
+
+    @NotNull
+    public TypedProperties remove(@NotNull final Key key) {
+        properties.remove(key);
+        invalidate(key);
         return this;
     }
 
     @NotNull
     public TypedProperties clear() {
         properties.clear();
+        conversions.clear();
+        listConversions.clear();
         return this;
     }
 
+    private void invalidate(@NotNull final Key key) {
+        conversions.remove(key);
+        listConversions.remove(key);
+    }
+
     /* Reading options */
     public boolean contains(
             @NotNull final Key key
@@ -155,6 +186,109 @@ public final class TypedProperties implements AutoCloseable, Iterable<Map.Entry<
         return this.properties.get(key);
     }
 
+    /**
+     * Converts the raw value of the key to the type, reusing a previous conversion of the same raw value.
+     * <p>
+     * A memorized conversion is only reused if it was made from the identical raw value that is currently stored.
+     * This way, a conversion that races with a modification of the key can never be served after the modification.
+     *
+     * @param key  the key the raw value is stored for
+     * @param raw  the raw value currently stored for the key
+     * @param type the type to convert to
+     * @return the converted value
+     */
+    private <T> T convert(
+            @NotNull final Key key,
+            @NotNull final String raw,
+            @NotNull final Class<T> type
+    ) {
+        int modificationCount = typeMapper.modificationCount();
+        Object memorized = lookup(conversions, key, raw, type, modificationCount);
+        if (memorized != null) {
+            return (T) memorized;
+        }
+        T result = typeMapper.convert(raw, type);
+        if (result != null && result.getClass().isArray()) {
+            // Arrays are mutable, so they are never shared between readers
+            return result;
+        }
+        return memorize(conversions, key, raw, type, modificationCount, result);
+    }
+
+    /**
+     * Splits the raw value of the key into its entries.
+     * <p>
+     * The entries are memorized as an array, so that every caller receives its own list.
+     */
+    @NotNull
+    private List<String> split(
+            @NotNull final Key key,
+            @NotNull final String raw
+    ) {
+        Object memorized = lookup(listConversions, key, raw, String.class, 0);
+        String[] entries = memorized != null
+                ? (String[]) memorized
+                : memorize(listConversions, key, raw, String.class, 0, raw.split(LIST_ENTRY_SEPARATOR));
+        return Arrays.asList(entries.clone());
+    }
+
+    @NotNull
+    private <T> List<T> convertAll(
+            @NotNull final Key key,
+            @NotNull final String raw,
+            @NotNull final Class<T> type
+    ) {
+        int modificationCount = typeMapper.modificationCount();
+        Object memorized = lookup(listConversions, key, raw, type, modificationCount);
+        if (memorized != null) {
+            return (List<T>) memorized;
+        }
+        List<T> result = split(key, raw).stream()
+                .map(value -> typeMapper.convert(value, type))
+                .toList();
+        return memorize(listConversions, key, raw, type, modificationCount, result);
+    }
+
+    @Nullable
+    private static Object lookup(
+            @NotNull final Map<Key, Map<Class<?>, Conversion>> memory,
+            @NotNull final Key key,
+            @NotNull final String raw,
+            @NotNull final Class<?> type,
+            final int modificationCount
+    ) {
+        Map<Class<?>, Conversion> typedConversions = memory.get(key);
+        if (typedConversions == null) {
+            return null;
+        }
+        Conversion conversion = typedConversions.get(type);
+        if (conversion == null || conversion.raw != raw || conversion.modificationCount != modificationCount) {
+            return null;
+        }
+        return conversion.value;
+    }
+
+    /**
+     * Memorizes the converted value.
+     * <p>
+     * The modification count of the {@link TypeMapper} has to be taken before the conversion, so that a conversion
+     * racing with the registration of converters is outdated immediately.
+     */
+    private static <T> T memorize(
+            @NotNull final Map<Key, Map<Class<?>, Conversion>> memory,
+            @NotNull final Key key,
+            @NotNull final String raw,
+            @NotNull final Class<?> type,
+            final int modificationCount,
+            @Nullable final T value
+    ) {
+        if (value != null) {
+            memory.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+                    .put(type, new Conversion(raw, value, modificationCount));
+        }
+        return value;
+    }
+
     @NotNull
     public <T> T require(
             @NotNull final Key key,
@@ -164,7 +298,7 @@ public final class TypedProperties implements AutoCloseable, Iterable<Map.Entry<
         if (raw == null) {
             throw notFound(key).get();
         }
-        return typeMapper.convert(raw, type);
+        return convert(key, raw, type);
     }
 
     @NotNull
@@ -172,7 +306,7 @@ public final class TypedProperties implements AutoCloseable, Iterable<Map.Entry<
             @NotNull final Key key,
             @NotNull final Class<T> type
     ) {
-        return doGetOptional(key).map(it -> typeMapper.convert(it, type));
+        return doGetOptional(key).map(it -> convert(key, it, type));
     }
 
     @NotNull
@@ -185,7 +319,7 @@ public final class TypedProperties implements AutoCloseable, Iterable<Map.Entry<
         if (raw == null) {
             return defaultValue.get();
         } else {
-            return typeMapper.convert(raw, type);
+            return convert(key, raw, type);
         }
     }
 
@@ -196,11 +330,14 @@ public final class TypedProperties implements AutoCloseable, Iterable<Map.Entry<
             @NotNull final String rawDefault
     ) {
         String raw = doGetNullable(key);
-        return typeMapper.convert(Objects.requireNonNullElse(raw, rawDefault), type);
+        if (raw == null) {
+            return typeMapper.convert(rawDefault, type);
+        }
+        return convert(key, raw, type);
     }
 
     public <T> Optional<T> get(Key key, @NotNull final Class<T> type) {
-        return doGetOptional(key).map(it -> typeMapper.convert(it, type));
+        return doGetOptional(key).map(it -> convert(key, it, type));
     }
 
     @NotNull
@@ -213,7 +350,7 @@ public final class TypedProperties implements AutoCloseable, Iterable<Map.Entry<
         if (raw == null) {
             return defaultValue;
         } else {
-            return typeMapper.convert(raw, type);
+            return convert(key, raw, type);
         }
     }
 
@@ -236,7 +373,7 @@ public final class TypedProperties implements AutoCloseable, Iterable<Map.Entry<
         if (raw == null) {
             return defaultValue;
         }
-        return typeMapper.convert(raw, int.class);
+        return convert(key, raw, int.class);
     }
 
     @Nullable
@@ -257,7 +394,7 @@ public final class TypedProperties implements AutoCloseable, Iterable<Map.Entry<
         if (raw == null) {
             return defaultValue;
         }
-        return typeMapper.convert(raw, float.class);
+        return convert(key, raw, float.class);
     }
 
     @Nullable
@@ -279,7 +416,7 @@ public final class TypedProperties implements AutoCloseable, Iterable<Map.Entry<
         if (raw == null) {
             return defaultValue;
         }
-        return typeMapper.convert(raw, double.class);
+        return convert(key, raw, double.class);
     }
 
     @Nullable
@@ -301,7 +438,7 @@ public final class TypedProperties implements AutoCloseable, Iterable<Map.Entry<
         if (raw == null) {
             return defaultValue;
         }
-        return typeMapper.convert(raw, boolean.class);
+        return convert(key, raw, boolean.class);
     }
 
     @NotNull
@@ -338,7 +475,7 @@ public final class TypedProperties implements AutoCloseable, Iterable<Map.Entry<
         if (property == null) {
             return defaultValue;
         }
-        return Arrays.asList(property.split(LIST_ENTRY_SEPARATOR));
+        return split(key, property);
     }
 
     @NotNull
@@ -347,7 +484,7 @@ public final class TypedProperties implements AutoCloseable, Iterable<Map.Entry<
         if (property == null) {
             return defaultValue.get();
         }
-        return Arrays.asList(property.split(LIST_ENTRY_SEPARATOR));
+        return split(key, property);
     }
 
     @NotNull
@@ -359,7 +496,7 @@ public final class TypedProperties implements AutoCloseable, Iterable<Map.Entry<
 
     @NotNull
     public <T> List<T> getAll(@NotNull final Key key, @NotNull final Class<T> type) {
-        return getAll(key, value -> typeMapper.convert(value, type));
+        return getAll(key, type, Collections.emptyList());
     }
 
     @NotNull
@@ -369,7 +506,7 @@ public final class TypedProperties implements AutoCloseable, Iterable<Map.Entry<
             return defaultValue;
         }
 
-        return getAll(key, value -> typeMapper.convert(value, type));
+        return convertAll(key, property, type);
     }
 
     public Map<String, String> subsetOf(String prefix) {
@@ -440,4 +577,7 @@ public final class TypedProperties implements AutoCloseable, Iterable<Map.Entry<
     public @NotNull Iterator<Map.Entry<Key, String>> iterator() {
         return this.properties.entrySet().iterator();
     }
+
+    private record Conversion(@NotNull String raw, @NotNull Object value, int modificationCount) {
+    }
 }
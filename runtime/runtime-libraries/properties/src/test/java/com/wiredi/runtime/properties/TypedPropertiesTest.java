@@ -2,12 +2,16 @@ package com.wiredi.runtime.properties;
 
 import com.wiredi.runtime.properties.keys.PreFormattedKey;
 import com.wiredi.runtime.time.Timed;
+import com.wiredi.runtime.types.TypeConverter;
+import com.wiredi.runtime.types.TypeMapper;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -44,6 +48,128 @@ class TypedPropertiesTest {
         assertThat(subset.get("foo.bar")).isEqualTo("baz");
     }
 
+    @Test
+    public void repeatedReadsOfTheSameTypeReturnTheSameConversion() {
+        // Arrange
+        Key key = Key.just("retry.timeout");
+        TypedProperties properties = new TypedProperties().set(key, "PT5S");
+
+        // Act
+        Duration first = properties.require(key, Duration.class);
+        Duration second = properties.get(key, Duration.class, Duration.ZERO);
+
+        // Assert
+        assertThat(first).isEqualTo(Duration.ofSeconds(5));
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void repeatedListReadsReturnTheSameConversion() {
+        // Arrange
+        Key key = Key.just("feature.ids");
+        TypedProperties properties = new TypedProperties().set(key, "1,2,3");
+
+        // Act
+        List<Integer> first = properties.getAllAsInt(key);
+        List<Integer> second = properties.getAll(key, int.class);
+
+        // Assert
+        assertThat(first).containsExactly(1, 2, 3);
+        assertThat(second).isSameAs(first);
+        assertThat(properties.getAll(key)).containsExactly("1", "2", "3");
+    }
+
+    @Test
+    public void stringListsAreNotSharedBetweenReads() {
+        // Arrange
+        Key key = Key.just("feature.names");
+        TypedProperties properties = new TypedProperties().set(key, "a,b");
+        List<String> first = properties.getAll(key);
+
+        // Act
+        first.set(0, "c");
+        List<String> second = properties.getAll(key);
+
+        // Assert
+        assertThat(second).isNotSameAs(first);
+        assertThat(second).containsExactly("a", "b");
+    }
+
+    @Test
+    public void registeringConvertersInvalidatesMemorizedConversions() {
+        // Arrange
+        Key key = Key.just("feature.id");
+        TypeMapper typeMapper = TypeMapper.newEmpty();
+        typeMapper.setTypeConverter(new ConstantIntConverter()).forSourceType(String.class);
+        TypedProperties properties = new TypedProperties(typeMapper).set(key, "5");
+        assertThat(properties.requireInt(key)).isEqualTo(1);
+        assertThat(properties.getAllAsInt(key)).containsExactly(1);
+
+        // Act
+        typeMapper.takeTypeConvertersFrom(TypeMapper.newPreconfigured());
+
+        // Assert
+        assertThat(properties.requireInt(key)).isEqualTo(5);
+        assertThat(properties.getAllAsInt(key)).containsExactly(5);
+    }
+
+    @Test
+    public void arraysAreNotSharedBetweenReads() {
+        // Arrange
+        Key key = Key.just("feature.bytes");
+        TypedProperties properties = new TypedProperties().set(key, "abc");
+
+        // Act
+        byte[] first = properties.require(key, byte[].class);
+        byte[] second = properties.require(key, byte[].class);
+
+        // Assert
+        assertThat(second).isNotSameAs(first);
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    public void modificationsInvalidateMemorizedConversions() {
+        // Arrange
+        Key key = Key.just("feature.ids");
+        TypedProperties properties = new TypedProperties().set(key, "1");
+        assertThat(properties.getAllAsInt(key)).containsExactly(1);
+        assertThat(properties.requireInt(key)).isEqualTo(1);
+
+        // Act & Assert
+        properties.add(key, "2");
+        assertThat(properties.getAllAsInt(key)).containsExactly(1, 2);
+
+        properties.set(key, "3");
+        assertThat(properties.requireInt(key)).isEqualTo(3);
+        assertThat(properties.getAllAsInt(key)).containsExactly(3);
+
+        properties.setAll(Map.of(key, "4"));
+        assertThat(properties.requireInt(key)).isEqualTo(4);
+
+        properties.remove(key);
+        assertThat(properties.getInt(key)).isNull();
+        assertThat(properties.getAllAsInt(key)).isEmpty();
+
+        properties.set(key, "5");
+        properties.clear();
+        assertThat(properties.getInt(key, 6)).isEqualTo(6);
+    }
+
+    @Test
+    public void setAllFromPropertiesAddsAllEntries() {
+        // Arrange
+        java.util.Properties source = new java.util.Properties();
+        source.setProperty("com.example.value", "12");
+        TypedProperties properties = new TypedProperties();
+
+        // Act
+        properties.setAll(source);
+
+        // Assert
+        assertThat(properties.requireInt(Key.just("com.example.value"))).isEqualTo(12);
+    }
+
     @RepeatedTest(50)
     public void performanceTest() {
         Key test = Key.just("test");
@@ -86,4 +212,17 @@ class TypedPropertiesTest {
                 Arguments.of("ONE", EnumValues.ONE)
         );
     }
-}
\ No newline at end of file
+
+    private static final class ConstantIntConverter implements TypeConverter<Integer> {
+
+        @Override
+        public <S> Integer convert(S s) {
+            return 1;
+        }
+
+        @Override
+        public List<Class<Integer>> getTargetTypes() {
+            return List.of(Integer.class);
+        }
+    }
+}
@@ -1,11 +1,7 @@
 package com.wiredi.runtime.scheduler;
 
 import com.cronutils.model.Cron;
-import com.cronutils.model.CronType;
-import com.cronutils.model.definition.CronDefinition;
-import com.cronutils.model.definition.CronDefinitionBuilder;
 import com.cronutils.model.time.ExecutionTime;
-import com.cronutils.parser.CronParser;
 import jakarta.annotation.Nullable;
 
 import java.time.Instant;
@@ -17,21 +13,29 @@ import java.util.Optional;
 /**
  * A Trigger implementation that computes next execution times from a Cron expression.
  * Uses Quartz-like cron definitions by default (supports seconds).
+ * <p>
+ * Execution times are computed by a {@link CronSchedule}, which is shared between all triggers of the same expression.
  */
 public final class CronExpressionTrigger implements Trigger {
 
-    private final Cron cron;
+    private final CronSchedule schedule;
     private final ZoneId zoneId;
-    private final ExecutionTime executionTime;
 
     public CronExpressionTrigger(Cron cron, ZoneId zoneId) {
-        this.executionTime = ExecutionTime.forCron(cron);
-        this.cron = cron;
+        this(CronSchedule.of(cron), zoneId);
+    }
+
+    public CronExpressionTrigger(CronSchedule schedule, ZoneId zoneId) {
+        this.schedule = schedule;
         this.zoneId = zoneId;
     }
 
     public Cron getCron() {
-        return cron;
+        return schedule.getCron();
+    }
+
+    public CronSchedule getSchedule() {
+        return schedule;
     }
 
     public ZoneId getZoneId() {
@@ -39,7 +43,7 @@ public final class CronExpressionTrigger implements Trigger {
     }
 
     public ExecutionTime getExecutionTime() {
-        return executionTime;
+        return schedule;
     }
 
     @Override
@@ -64,7 +68,7 @@ public final class CronExpressionTrigger implements Trigger {
             reference = ZonedDateTime.now(zoneId);
         }
 
-        Optional<ZonedDateTime> next = executionTime.nextExecution(reference);
+        Optional<ZonedDateTime> next = schedule.nextExecution(reference);
         return next.map(ZonedDateTime::toInstant).orElse(null);
     }
 }
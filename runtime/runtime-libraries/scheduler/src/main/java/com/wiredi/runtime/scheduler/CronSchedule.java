@@ -0,0 +1,487 @@
+package com.wiredi.runtime.scheduler;
+
+import com.cronutils.mapper.WeekDay;
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.model.field.CronField;
+import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.field.constraint.FieldConstraints;
+import com.cronutils.model.field.definition.DayOfWeekFieldDefinition;
+import com.cronutils.model.field.definition.FieldDefinition;
+import com.cronutils.model.field.expression.Always;
+import com.cronutils.model.field.expression.And;
+import com.cronutils.model.field.expression.Between;
+import com.cronutils.model.field.expression.Every;
+import com.cronutils.model.field.expression.FieldExpression;
+import com.cronutils.model.field.expression.On;
+import com.cronutils.model.field.expression.QuestionMark;
+import com.cronutils.model.field.value.FieldValue;
+import com.cronutils.model.field.value.IntegerFieldValue;
+import com.cronutils.model.field.value.SpecialChar;
+import com.cronutils.model.time.ExecutionTime;
+import com.cronutils.parser.CronParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A compiled cron expression, that computes execution times from bit sets instead of evaluating the expression.
+ * <p>
+ * Compiling a cron expression evaluates every field once into a bit set of all matching values.
+ * The next execution is then computed arithmetically by skipping to the next set bit of the first field that does not
+ * match, instead of evaluating the expression again.
+ * In addition, the schedule remembers a small window of upcoming executions, so triggers that share the schedule and
+ * ask for the next execution around the same time are answered without any computation.
+ * <p>
+ * Schedules are immutable (apart from the window of upcoming executions) and shared between all triggers using the
+ * same expression. Use {@link #parse(String, CronType)} or {@link #of(Cron)} to obtain a cached schedule.
+ * <p>
+ * Expressions that cannot be represented as bit sets, like expressions using {@code L}, {@code W} or {@code #}, or
+ * restricting the day of month and the day of week at the same time, are evaluated by cron-utils instead.
+ *
+ * @see CronExpressionTrigger
+ */
+public final class CronSchedule implements ExecutionTime {
+
+    private static final int MAX_CACHED_SCHEDULES = 1024;
+    private static final int WINDOW_SIZE = 8;
+    private static final int MAX_YEARS_AHEAD = 400;
+    private static final WeekDay ISO_WEEK_DAY = new WeekDay(1, false);
+    private static final Map<Key, CronSchedule> CACHE = new ConcurrentHashMap<>();
+
+    @NotNull
+    private final Cron cron;
+    @NotNull
+    private final ExecutionTime delegate;
+    @Nullable
+    private final Fields fields;
+    @Nullable
+    private volatile Window window;
+
+    private CronSchedule(@NotNull Cron cron) {
+        this.cron = cron;
+        this.delegate = ExecutionTime.forCron(cron);
+        this.fields = Fields.compile(cron);
+    }
+
+    /**
+     * Parses the expression and returns the schedule for it.
+     * <p>
+     * Schedules are cached, so parsing the same expression again will neither parse nor validate it again.
+     *
+     * @param expression the cron expression
+     * @param cronType   the type of the cron expression
+     * @return the shared schedule of the expression
+     */
+    @NotNull
+    public static CronSchedule parse(@NotNull String expression, @NotNull CronType cronType) {
+        return cached(new Key(cronType, expression), () -> {
+            CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(cronType));
+            return new CronSchedule(parser.parse(expression));
+        });
+    }
+
+    /**
+     * Returns the schedule for an already parsed cron.
+     *
+     * @param cron the parsed cron
+     * @return the shared schedule of the cron
+     */
+    @NotNull
+    public static CronSchedule of(@NotNull Cron cron) {
+        return cached(new Key(cron.getCronDefinition(), cron.asString()), () -> new CronSchedule(cron));
+    }
+
+    private static CronSchedule cached(Key key, Supplier<CronSchedule> factory) {
+        CronSchedule cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (CACHE.size() >= MAX_CACHED_SCHEDULES) {
+            CACHE.clear();
+        }
+        return CACHE.computeIfAbsent(key, k -> factory.get());
+    }
+
+    @NotNull
+    public Cron getCron() {
+        return cron;
+    }
+
+    /**
+     * Returns whether this schedule is computed from bit sets, or delegates to cron-utils.
+     *
+     * @return true, if the expression was compiled into bit sets
+     */
+    public boolean isCompiled() {
+        return fields != null;
+    }
+
+    @Override
+    public Optional<ZonedDateTime> nextExecution(ZonedDateTime date) {
+        Fields fields = this.fields;
+        if (fields == null) {
+            return delegate.nextExecution(date);
+        }
+
+        Window current = window;
+        if (current != null) {
+            ZonedDateTime cached = current.next(date);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+
+        ZonedDateTime[] executions = new ZonedDateTime[WINDOW_SIZE];
+        ZonedDateTime reference = date;
+        int size = 0;
+        while (size < WINDOW_SIZE) {
+            ZonedDateTime next = fields.next(reference);
+            if (next == null) {
+                break;
+            }
+            executions[size++] = next;
+            reference = next;
+        }
+        if (size == 0) {
+            return Optional.empty();
+        }
+
+        window = new Window(date, executions, size);
+        return Optional.of(executions[0]);
+    }
+
+    @Override
+    public Optional<Duration> timeToNextExecution(ZonedDateTime date) {
+        return nextExecution(date).map(next -> Duration.between(date, next));
+    }
+
+    @Override
+    public Optional<ZonedDateTime> lastExecution(ZonedDateTime date) {
+        return delegate.lastExecution(date);
+    }
+
+    @Override
+    public Optional<Duration> timeFromLastExecution(ZonedDateTime date) {
+        return delegate.timeFromLastExecution(date);
+    }
+
+    @Override
+    public boolean isMatch(ZonedDateTime date) {
+        return delegate.isMatch(date);
+    }
+
+    @Override
+    public String toString() {
+        return "CronSchedule{" + cron.asString() + '}';
+    }
+
+    private record Key(Object definition, String expression) {
+    }
+
+    /**
+     * Consecutive executions following the {@code start}, all in the zone of the start.
+     * <p>
+     * For every reference in between the start (inclusive) and the last execution (exclusive), the next execution is
+     * the first execution after the reference.
+     */
+    private record Window(ZonedDateTime start, ZonedDateTime[] executions, int size) {
+
+        @Nullable
+        ZonedDateTime next(ZonedDateTime reference) {
+            if (!reference.getZone().equals(start.getZone())
+                    || reference.isBefore(start)
+                    || !reference.isBefore(executions[size - 1])) {
+                return null;
+            }
+
+            for (int i = 0; i < size; i++) {
+                if (executions[i].isAfter(reference)) {
+                    return executions[i];
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The bit sets of all fields of a cron.
+     * <p>
+     * Days of week are stored in ISO numbering, where Monday is 1 and Sunday is 7.
+     * A null year set matches every year, which is only the case for definitions without a year field.
+     */
+    private record Fields(
+            long seconds,
+            long minutes,
+            long hours,
+            long daysOfMonth,
+            long months,
+            long daysOfWeek,
+            @Nullable BitSet years
+    ) {
+
+        private static final long ALL_SECONDS = bits(0, 59);
+        private static final long ALL_MINUTES = bits(0, 59);
+        private static final long ALL_HOURS = bits(0, 23);
+        private static final long ALL_DAYS_OF_MONTH = bits(1, 31);
+        private static final long ALL_MONTHS = bits(1, 12);
+        private static final long ALL_DAYS_OF_WEEK = bits(1, 7);
+
+        @Nullable
+        static Fields compile(Cron cron) {
+            Map<CronFieldName, CronField> cronFields = cron.retrieveFieldsAsMap();
+            CronField dayOfYear = cronFields.get(CronFieldName.DAY_OF_YEAR);
+            if (dayOfYear != null && isRestricted(dayOfYear.getExpression())) {
+                return null;
+            }
+            CronField dayOfMonth = cronFields.get(CronFieldName.DAY_OF_MONTH);
+            CronField dayOfWeek = cronFields.get(CronFieldName.DAY_OF_WEEK);
+            if (dayOfMonth != null && dayOfWeek != null
+                    && isRestricted(dayOfMonth.getExpression())
+                    && isRestricted(dayOfWeek.getExpression())) {
+                // The combination of both fields differs between cron definitions
+                return null;
+            }
+
+            try {
+                CronField second = cronFields.get(CronFieldName.SECOND);
+                return new Fields(
+                        second != null ? values(second) & ALL_SECONDS : 1L,
+                        values(cronFields.get(CronFieldName.MINUTE)) & ALL_MINUTES,
+                        values(cronFields.get(CronFieldName.HOUR)) & ALL_HOURS,
+                        dayOfMonth != null ? values(dayOfMonth) & ALL_DAYS_OF_MONTH : ALL_DAYS_OF_MONTH,
+                        values(cronFields.get(CronFieldName.MONTH)) & ALL_MONTHS,
+                        dayOfWeek != null ? daysOfWeek(cron, dayOfWeek) & ALL_DAYS_OF_WEEK : ALL_DAYS_OF_WEEK,
+                        years(cron, cronFields.get(CronFieldName.YEAR))
+                );
+            } catch (UnsupportedExpression e) {
+                return null;
+            }
+        }
+
+        @Nullable
+        ZonedDateTime next(ZonedDateTime reference) {
+            ZoneId zone = reference.getZone();
+            LocalDateTime time = reference.toLocalDateTime().withNano(0).plusSeconds(1);
+            int maxYear = reference.getYear() + MAX_YEARS_AHEAD;
+
+            while (time.getYear() <= maxYear) {
+                int year = time.getYear();
+                if (years != null && !years.get(year)) {
+                    int nextYear = years.nextSetBit(year);
+                    if (nextYear < 0) {
+                        return null;
+                    }
+                    time = LocalDateTime.of(nextYear, 1, 1, 0, 0);
+                    continue;
+                }
+
+                int month = time.getMonthValue();
+                if (!isSet(months, month)) {
+                    int nextMonth = nextSetBit(months, month);
+                    time = nextMonth < 0
+                            ? LocalDateTime.of(year + 1, 1, 1, 0, 0)
+                            : LocalDateTime.of(year, nextMonth, 1, 0, 0);
+                    continue;
+                }
+
+                int day = time.getDayOfMonth();
+                if (!isSet(daysOfMonth, day)) {
+                    int nextDay = nextSetBit(daysOfMonth, day);
+                    time = nextDay < 0 || nextDay > time.toLocalDate().lengthOfMonth()
+                            ? time.toLocalDate().withDayOfMonth(1).plusMonths(1).atStartOfDay()
+                            : time.toLocalDate().withDayOfMonth(nextDay).atStartOfDay();
+                    continue;
+                }
+                if (!isSet(daysOfWeek, time.getDayOfWeek().getValue())) {
+                    time = time.toLocalDate().plusDays(1).atStartOfDay();
+                    continue;
+                }
+
+                int hour = time.getHour();
+                if (!isSet(hours, hour)) {
+                    int nextHour = nextSetBit(hours, hour);
+                    time = nextHour < 0
+                            ? time.toLocalDate().plusDays(1).atStartOfDay()
+                            : time.toLocalDate().atTime(nextHour, 0);
+                    continue;
+                }
+
+                int minute = time.getMinute();
+                if (!isSet(minutes, minute)) {
+                    int nextMinute = nextSetBit(minutes, minute);
+                    time = nextMinute < 0
+                            ? time.withMinute(0).withSecond(0).plusHours(1)
+                            : time.withMinute(nextMinute).withSecond(0);
+                    continue;
+                }
+
+                int second = time.getSecond();
+                if (!isSet(seconds, second)) {
+                    int nextSecond = nextSetBit(seconds, second);
+                    time = nextSecond < 0
+                            ? time.withSecond(0).plusMinutes(1)
+                            : time.withSecond(nextSecond);
+                    continue;
+                }
+
+                ZonedDateTime candidate = ZonedDateTime.ofLocal(time, zone, reference.getOffset());
+                // Local times skipped by a daylight saving transition never match
+                if (candidate.toLocalDateTime().equals(time) && candidate.isAfter(reference)) {
+                    return candidate;
+                }
+                time = time.plusSeconds(1);
+            }
+
+            return null;
+        }
+
+        private static boolean isSet(long bits, int value) {
+            return (bits & (1L << value)) != 0;
+        }
+
+        private static int nextSetBit(long bits, int value) {
+            long remaining = value >= 63 ? 0 : bits & (-1L << (value + 1));
+            return remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining);
+        }
+
+        private static long bits(int from, int to) {
+            long result = 0;
+            for (int i = from; i <= to; i++) {
+                result |= 1L << i;
+            }
+            return result;
+        }
+
+        private static boolean isRestricted(FieldExpression expression) {
+            return !(expression instanceof Always) && !(expression instanceof QuestionMark);
+        }
+
+        private static long values(@Nullable CronField field) {
+            if (field == null) {
+                throw new UnsupportedExpression();
+            }
+            BitSet values = new BitSet();
+            collect(field.getExpression(), field.getConstraints(), values);
+            if (values.length() > Long.SIZE) {
+                throw new UnsupportedExpression();
+            }
+            return values.isEmpty() ? 0L : values.toLongArray()[0];
+        }
+
+        private static long daysOfWeek(Cron cron, CronField field) {
+            FieldDefinition definition = cron.getCronDefinition().getFieldDefinition(CronFieldName.DAY_OF_WEEK);
+            WeekDay weekDay = definition instanceof DayOfWeekFieldDefinition dayOfWeekDefinition
+                    ? dayOfWeekDefinition.getMondayDoWValue()
+                    : ISO_WEEK_DAY;
+            FieldConstraints constraints = field.getConstraints();
+            BitSet values = new BitSet();
+            collect(field.getExpression(), constraints, values);
+
+            long result = 0;
+            for (int value = values.nextSetBit(0); value >= 0; value = values.nextSetBit(value + 1)) {
+                Integer mapped = constraints.getIntMappingValue(value);
+                int isoValue = weekDay.mapTo(mapped != null ? mapped : value, ISO_WEEK_DAY);
+                result |= 1L << isoValue;
+            }
+            return result;
+        }
+
+        @Nullable
+        private static BitSet years(Cron cron, @Nullable CronField field) {
+            BitSet values = new BitSet();
+            if (field != null) {
+                collect(field.getExpression(), field.getConstraints(), values);
+                return values;
+            }
+
+            // An omitted optional year is still limited to the range of the definition
+            FieldDefinition definition = cron.getCronDefinition().getFieldDefinition(CronFieldName.YEAR);
+            if (definition == null) {
+                return null;
+            }
+            values.set(definition.getConstraints().getStartRange(), definition.getConstraints().getEndRange() + 1);
+            return values;
+        }
+
+        private static void collect(FieldExpression expression, FieldConstraints constraints, BitSet target) {
+            int start = constraints.getStartRange();
+            int end = constraints.getEndRange();
+            if (expression instanceof Always || expression instanceof QuestionMark) {
+                target.set(start, end + 1);
+            } else if (expression instanceof On on) {
+                if (on.getSpecialChar().getValue() != SpecialChar.NONE) {
+                    throw new UnsupportedExpression();
+                }
+                target.set(on.getTime().getValue());
+            } else if (expression instanceof Between between) {
+                range(between, constraints, target, 1);
+            } else if (expression instanceof Every every) {
+                int period = every.getPeriod().getValue();
+                FieldExpression base = every.getExpression();
+                if (base instanceof Between between) {
+                    range(between, constraints, target, period);
+                } else if (base instanceof On on && on.getSpecialChar().getValue() == SpecialChar.NONE) {
+                    for (int value = on.getTime().getValue(); value <= end; value += period) {
+                        target.set(value);
+                    }
+                } else if (base == null || base instanceof Always || base instanceof QuestionMark) {
+                    for (int value = start; value <= end; value += period) {
+                        target.set(value);
+                    }
+                } else {
+                    throw new UnsupportedExpression();
+                }
+            } else if (expression instanceof And and) {
+                for (FieldExpression child : and.getExpressions()) {
+                    collect(child, constraints, target);
+                }
+            } else {
+                throw new UnsupportedExpression();
+            }
+        }
+
+        private static void range(Between between, FieldConstraints constraints, BitSet target, int period) {
+            int from = intValue(between.getFrom());
+            int to = intValue(between.getTo());
+            if (from <= to) {
+                for (int value = from; value <= to; value += period) {
+                    target.set(value);
+                }
+            } else {
+                // Ranges wrapping around the end of the field, like FRI-MON
+                int end = constraints.getEndRange();
+                int value = from;
+                for (; value <= end; value += period) {
+                    target.set(value);
+                }
+                for (value = value - end - 1 + constraints.getStartRange(); value <= to; value += period) {
+                    target.set(value);
+                }
+            }
+        }
+
+        private static int intValue(FieldValue<?> value) {
+            if (value instanceof IntegerFieldValue integerValue) {
+                return integerValue.getValue();
+            }
+            throw new UnsupportedExpression();
+        }
+    }
+
+    private static final class UnsupportedExpression extends RuntimeException {
+        private UnsupportedExpression() {
+            super(null, null, false, false);
+        }
+    }
+}
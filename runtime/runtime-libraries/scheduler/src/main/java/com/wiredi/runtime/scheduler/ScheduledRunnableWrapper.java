@@ -1,24 +1,22 @@
 package com.wiredi.runtime.scheduler;
 
 import java.time.Duration;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 class ScheduledRunnableWrapper implements Runnable {
 
     private final SchedulerExecutionEnvironment environment;
     private final Task<?> task;
-    private final ScheduledExecutorService executor;
+    private final TaskTimer timer;
 
     public ScheduledRunnableWrapper(
             SchedulerExecutionEnvironment environment,
             Task<?> task,
-            ScheduledExecutorService executor
+            TaskTimer timer
     ) {
         this.environment = environment;
         this.task = task;
-        this.executor = executor;
+        this.timer = timer;
     }
 
     @Override
@@ -46,7 +44,7 @@ class ScheduledRunnableWrapper implements Runnable {
             return;
         }
 
-        ScheduledFuture<?> nextFuture = executor.schedule(this, nextDelay.toMillis(), TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> nextFuture = timer.schedule(this, nextDelay);
         environment.updateFuture(nextFuture);
     }
 }
@@ -0,0 +1,21 @@
+package com.wiredi.runtime.scheduler;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * The timer that a {@link ScheduledRunnableWrapper} uses to schedule its next run.
+ */
+@FunctionalInterface
+interface TaskTimer {
+
+    /**
+     * Runs the {@code runnable} once, after the {@code delay} elapsed.
+     *
+     * @param runnable the runnable to run
+     * @param delay    the delay after which the runnable is run
+     * @return a future that can be used to cancel the run
+     */
+    ScheduledFuture<?> schedule(Runnable runnable, Duration delay);
+
+}
@@ -81,7 +81,11 @@ public class ThreadPoolScheduler implements Scheduler, AutoCloseable {
             return CompletedScheduledFuture.INSTANCE;
         }
 
-        ScheduledRunnableWrapper runnable = new ScheduledRunnableWrapper(environment, task, executor);
+        ScheduledRunnableWrapper runnable = new ScheduledRunnableWrapper(
+                environment,
+                task,
+                (next, delay) -> executor.schedule(next, delay.toMillis(), TimeUnit.MILLISECONDS)
+        );
 
         ScheduledFuture<?> firstFuture = executor.schedule(runnable, initialDelay.toMillis(), TimeUnit.MILLISECONDS);
         environment.updateFuture(firstFuture);
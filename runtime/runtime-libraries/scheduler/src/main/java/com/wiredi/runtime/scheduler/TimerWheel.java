@@ -0,0 +1,291 @@
+package com.wiredi.runtime.scheduler;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hashed timer wheel, that hands expired runnables to an {@link Executor}.
+ * <p>
+ * The wheel consists of a fixed number of buckets, each covering one tick.
+ * Scheduling a runnable only enqueues it, which is O(1) and never blocks.
+ * A single tick thread moves enqueued runnables into the bucket of their deadline and, on each tick, expires the
+ * runnables of the current bucket whose deadline passed.
+ * Runnables with a deadline further away than one revolution of the wheel stay in their bucket for the remaining
+ * number of rounds.
+ * <p>
+ * Runnables are expired with a precision of one tick and never run on the tick thread itself, so a long-running
+ * runnable can never delay the expiration of other runnables.
+ */
+final class TimerWheel implements TaskTimer, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimerWheel.class);
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+    private static final int STATE_CREATED = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_CLOSED = 2;
+
+    private final long tickNanos;
+    private final int mask;
+    private final List<WheelTimeout>[] buckets;
+    private final Queue<WheelTimeout> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger(STATE_CREATED);
+    private final CountDownLatch startTimeInitialized = new CountDownLatch(1);
+    private final Executor executor;
+    private final Thread tickThread;
+    private volatile long startTime;
+
+    /**
+     * Creates a new wheel.
+     *
+     * @param tickDuration      the duration of a single tick, which is the precision of the wheel
+     * @param ticksPerWheel     the number of buckets, rounded up to the next power of two
+     * @param tickThreadFactory the factory to create the tick thread with
+     * @param executor          the executor that expired runnables are handed to
+     */
+    @SuppressWarnings("unchecked")
+    TimerWheel(
+            @NotNull Duration tickDuration,
+            int ticksPerWheel,
+            @NotNull ThreadFactory tickThreadFactory,
+            @NotNull Executor executor
+    ) {
+        if (tickDuration.isZero() || tickDuration.isNegative()) {
+            throw new IllegalArgumentException("tickDuration must be > 0");
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException("ticksPerWheel must be > 0 and <= 2^30");
+        }
+        int wheelSize = ticksPerWheel == 1 ? 1 : Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        this.tickNanos = tickDuration.toNanos();
+        this.mask = wheelSize - 1;
+        this.buckets = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            this.buckets[i] = new ArrayList<>();
+        }
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.tickThread = Objects.requireNonNull(tickThreadFactory, "tickThreadFactory").newThread(this::runTicks);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(@NotNull Runnable runnable, @NotNull Duration delay) {
+        start();
+        long deadline = System.nanoTime() - startTime + Math.max(0, delay.toNanos());
+        WheelTimeout timeout = new WheelTimeout(runnable, deadline);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stops the tick thread. Pending runnables will not be run anymore.
+     */
+    @Override
+    public void close() {
+        if (state.getAndSet(STATE_CLOSED) == STATE_STARTED) {
+            tickThread.interrupt();
+        }
+    }
+
+    private void start() {
+        int current = state.get();
+        if (current == STATE_CREATED && state.compareAndSet(STATE_CREATED, STATE_STARTED)) {
+            tickThread.start();
+        } else if (current == STATE_CLOSED) {
+            throw new RejectedExecutionException("The timer wheel is closed");
+        }
+
+        try {
+            startTimeInitialized.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for the timer wheel to start", e);
+        }
+    }
+
+    private void runTicks() {
+        startTime = System.nanoTime();
+        startTimeInitialized.countDown();
+
+        long tick = 0;
+        while (state.get() == STATE_STARTED) {
+            long deadline = awaitTick(tick);
+            if (deadline < 0) {
+                break;
+            }
+
+            transferPending(tick);
+            expire(buckets[(int) (tick & mask)], deadline);
+            tick++;
+        }
+    }
+
+    /**
+     * Parks until the end of the {@code tick} is reached.
+     *
+     * @return the time of the end of the tick, relative to the start time, or -1 if the wheel was closed
+     */
+    private long awaitTick(long tick) {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            if (state.get() != STATE_STARTED) {
+                return -1;
+            }
+            long now = System.nanoTime() - startTime;
+            long remaining = deadline - now;
+            if (remaining <= 0) {
+                return now;
+            }
+            LockSupport.parkNanos(this, remaining);
+        }
+    }
+
+    private void transferPending(long tick) {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            WheelTimeout timeout = pending.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+
+            long expirationTick = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (expirationTick - tick) / buckets.length;
+            // Deadlines that already passed are expired with the current tick
+            buckets[(int) (Math.max(expirationTick, tick) & mask)].add(timeout);
+        }
+    }
+
+    private void expire(List<WheelTimeout> bucket, long deadline) {
+        int retained = 0;
+        for (int i = 0, size = bucket.size(); i < size; i++) {
+            WheelTimeout timeout = bucket.get(i);
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                run(timeout);
+                continue;
+            }
+
+            timeout.remainingRounds--;
+            bucket.set(retained++, timeout);
+        }
+        bucket.subList(retained, bucket.size()).clear();
+    }
+
+    private void run(WheelTimeout timeout) {
+        try {
+            executor.execute(timeout);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Timeout was rejected by the executor and will not run", e);
+            timeout.cancel(false);
+        }
+    }
+
+    /**
+     * A single runnable, scheduled on the wheel.
+     */
+    private final class WheelTimeout implements ScheduledFuture<Object>, Runnable {
+
+        private static final int PENDING = 0;
+        private static final int RUNNING = 1;
+        private static final int DONE = 2;
+        private static final int CANCELLED = 3;
+
+        private final Runnable runnable;
+        private final long deadline;
+        private final AtomicInteger status = new AtomicInteger(PENDING);
+        private final CountDownLatch completionLatch = new CountDownLatch(1);
+        // Only accessed by the tick thread
+        private long remainingRounds;
+        private volatile Thread runner;
+
+        private WheelTimeout(Runnable runnable, long deadline) {
+            this.runnable = runnable;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void run() {
+            if (!status.compareAndSet(PENDING, RUNNING)) {
+                return;
+            }
+            runner = Thread.currentThread();
+            try {
+                runnable.run();
+            } finally {
+                runner = null;
+                status.compareAndSet(RUNNING, DONE);
+                completionLatch.countDown();
+            }
+        }
+
+        @Override
+        public long getDelay(@NotNull TimeUnit unit) {
+            return unit.convert(deadline - (System.nanoTime() - startTime), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(@NotNull Delayed o) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (status.compareAndSet(PENDING, CANCELLED)) {
+                completionLatch.countDown();
+                return true;
+            }
+            if (mayInterruptIfRunning && status.compareAndSet(RUNNING, CANCELLED)) {
+                Thread thread = runner;
+                if (thread != null) {
+                    thread.interrupt();
+                }
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return status.get() == CANCELLED;
+        }
+
+        @Override
+        public boolean isDone() {
+            return status.get() >= DONE;
+        }
+
+        @Override
+        public Object get() throws InterruptedException {
+            completionLatch.await();
+            return null;
+        }
+
+        @Override
+        public Object get(long timeout, @NotNull TimeUnit unit) throws InterruptedException, TimeoutException {
+            if (completionLatch.await(timeout, unit)) {
+                return null;
+            }
+            throw new TimeoutException("Timeout while waiting for the scheduled run to complete");
+        }
+    }
+}
@@ -1,9 +1,6 @@
 package com.wiredi.runtime.scheduler;
 
 import com.cronutils.model.CronType;
-import com.cronutils.model.definition.CronDefinition;
-import com.cronutils.model.definition.CronDefinitionBuilder;
-import com.cronutils.parser.CronParser;
 import com.wiredi.runtime.scheduler.trigger.JustOnceTrigger;
 import jakarta.annotation.Nullable;
 
@@ -30,9 +27,7 @@ public interface Trigger {
     }
 
     static Trigger cron(String expression, ZoneId zoneId, CronType cronType) {
-        CronDefinition definition = CronDefinitionBuilder.instanceDefinitionFor(cronType);
-        CronParser parser = new CronParser(definition);
-        return new CronExpressionTrigger(parser.parse(expression), zoneId);
+        return new CronExpressionTrigger(CronSchedule.parse(expression, cronType), zoneId);
     }
 
     static Trigger once() {
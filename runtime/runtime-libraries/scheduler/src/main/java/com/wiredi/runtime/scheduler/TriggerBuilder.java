@@ -1,11 +1,6 @@
 package com.wiredi.runtime.scheduler;
 
-import com.cronutils.model.Cron;
 import com.cronutils.model.CronType;
-import com.cronutils.model.definition.CronDefinition;
-import com.cronutils.model.definition.CronDefinitionBuilder;
-import com.cronutils.model.time.ExecutionTime;
-import com.cronutils.parser.CronParser;
 import com.wiredi.runtime.scheduler.trigger.CronTrigger;
 import com.wiredi.runtime.scheduler.trigger.FixedDelayTrigger;
 import com.wiredi.runtime.scheduler.trigger.FixedRateTrigger;
@@ -108,12 +103,7 @@ public final class TriggerBuilder {
             }
 
             // Build a cron-based trigger honoring the start strategy for the first execution
-            final CronDefinition definition = CronDefinitionBuilder.instanceDefinitionFor(cronType);
-            final CronParser parser = new CronParser(definition);
-            final Cron cron = parser.parse(cronExpression);
-            final ExecutionTime executionTime = ExecutionTime.forCron(cron);
-
-            return new CronTrigger(startStrategy, zoneId, executionTime);
+            return new CronTrigger(startStrategy, zoneId, CronSchedule.parse(cronExpression, cronType));
         }
     }
 }
@@ -0,0 +1,92 @@
+package com.wiredi.runtime.scheduler;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * A Scheduler implementation that triggers tasks through a single hashed timer wheel and runs each task on its own
+ * virtual thread.
+ * <p>
+ * In contrast to the {@link ThreadPoolScheduler}, tasks never share a worker thread, so a long-running task can not
+ * delay any other task.
+ * Scheduling a task only adds an entry to the timer wheel, so tens of thousands of fixed rate, fixed delay or cron
+ * triggers can be scheduled without any additional platform thread.
+ * The only platform thread of this scheduler is the tick thread of the timer wheel, which is started lazily.
+ * <p>
+ * Tasks are triggered with the precision of one tick, which defaults to {@link #DEFAULT_TICK_DURATION}.
+ * Like with the {@link ThreadPoolScheduler}, the next run of a task is scheduled once its current run completed.
+ */
+public class VirtualThreadScheduler implements Scheduler, AutoCloseable {
+
+    public static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(10);
+    public static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    private final ExecutorService executor;
+    private final TimerWheel timerWheel;
+    private final Clock clock;
+
+    /**
+     * Create a scheduler with a tick duration of {@link #DEFAULT_TICK_DURATION}.
+     */
+    public VirtualThreadScheduler() {
+        this(DEFAULT_TICK_DURATION, DEFAULT_TICKS_PER_WHEEL, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Create a scheduler with a custom tick duration, wheel size and Clock.
+     *
+     * @param tickDuration  the duration of a single tick of the timer wheel
+     * @param ticksPerWheel the number of ticks of one revolution of the timer wheel
+     * @param clock         clock for time calculations
+     */
+    public VirtualThreadScheduler(@NotNull Duration tickDuration, int ticksPerWheel, @NotNull Clock clock) {
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("virtual-scheduler-", 1).factory());
+        this.timerWheel = new TimerWheel(
+                tickDuration,
+                ticksPerWheel,
+                Thread.ofPlatform().name("virtual-scheduler-timer").daemon(true).factory(),
+                executor
+        );
+    }
+
+    @Override
+    public @NotNull Clock getClock() {
+        return this.clock;
+    }
+
+    @Override
+    @NotNull
+    public <E extends Throwable> ScheduledFuture<?> schedule(
+            @NotNull Task<E> task,
+            @NotNull Trigger trigger
+    ) {
+        SchedulerExecutionEnvironment environment = new SchedulerExecutionEnvironment(clock, trigger);
+
+        Duration initialDelay = environment.prepareNextRun();
+        if (initialDelay == null) {
+            // Nothing to schedule
+            return CompletedScheduledFuture.INSTANCE;
+        }
+
+        ScheduledRunnableWrapper runnable = new ScheduledRunnableWrapper(environment, task, timerWheel);
+        environment.updateFuture(timerWheel.schedule(runnable, initialDelay));
+
+        return environment.getFuture();
+    }
+
+    /**
+     * Shuts down the scheduler. Pending tasks will not be started and running tasks are interrupted.
+     */
+    @Override
+    public void close() {
+        timerWheel.close();
+        executor.shutdownNow();
+    }
+}
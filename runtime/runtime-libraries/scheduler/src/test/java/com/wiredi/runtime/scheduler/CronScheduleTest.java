@@ -0,0 +1,85 @@
+package com.wiredi.runtime.scheduler;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.model.time.ExecutionTime;
+import com.cronutils.parser.CronParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CronScheduleTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "0 0/15 9-17 ? JAN-MAR MON-FRI|QUARTZ|UTC",
+            "*/7 * * * * ?|QUARTZ|UTC",
+            "0 0 12 1,15 * ?|QUARTZ|Europe/Berlin",
+            "30 30 2 * * ?|QUARTZ|Europe/Berlin",
+            "0 0 0 29 2 ?|QUARTZ|UTC",
+            "0 10-50/20 * ? * SAT,SUN|QUARTZ|America/New_York",
+            "0 0 8 ? * FRI-MON|QUARTZ|UTC",
+            "0 0 0 1 1 ? 2030-2035|QUARTZ|UTC",
+            "*/5 * * * 7|UNIX|UTC",
+            "0 22 * * 1-5|UNIX|Europe/Berlin",
+            "0 0 9 * * MON|SPRING|UTC"
+    })
+    void nextExecutionsMatchCronUtils(String expression, CronType cronType, String zone) {
+        // Arrange
+        CronSchedule schedule = CronSchedule.parse(expression, cronType);
+        ExecutionTime expected = ExecutionTime.forCron(new CronParser(CronDefinitionBuilder.instanceDefinitionFor(cronType)).parse(expression));
+        Random random = new Random(expression.hashCode());
+        ZonedDateTime start = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneId.of(zone));
+
+        // Act & Assert
+        assertThat(schedule.isCompiled()).isTrue();
+        for (int i = 0; i < 500; i++) {
+            ZonedDateTime reference = start.plusSeconds(random.nextLong(2 * 365 * 24 * 3600L)).plusNanos(random.nextInt(1_000_000_000));
+            assertThat(schedule.nextExecution(reference))
+                    .describedAs("Next execution after %s", reference)
+                    .isEqualTo(expected.nextExecution(reference));
+        }
+
+        ZonedDateTime reference = start;
+        for (int i = 0; i < 20; i++) {
+            Optional<ZonedDateTime> next = schedule.nextExecution(reference);
+            assertThat(next).isEqualTo(expected.nextExecution(reference));
+            if (next.isEmpty()) {
+                break;
+            }
+            reference = next.get();
+        }
+    }
+
+    @Test
+    void schedulesAreSharedBetweenTriggersOfTheSameExpression() {
+        // Act
+        CronExpressionTrigger first = (CronExpressionTrigger) Trigger.cron("0 0 12 * * ?", ZoneId.of("UTC"));
+        CronExpressionTrigger second = (CronExpressionTrigger) Trigger.cron("0 0 12 * * ?", ZoneId.of("Europe/Berlin"));
+
+        // Assert
+        assertThat(first.getSchedule()).isSameAs(second.getSchedule());
+        assertThat(CronSchedule.of(first.getCron())).isSameAs(CronSchedule.of(second.getCron()));
+    }
+
+    @Test
+    void expressionsThatCannotBeCompiledAreEvaluatedByCronUtils() {
+        // Arrange
+        CronSchedule schedule = CronSchedule.parse("0 0 12 L * ?", CronType.QUARTZ);
+        ZonedDateTime reference = ZonedDateTime.of(2024, 2, 10, 0, 0, 0, 0, ZoneId.of("UTC"));
+
+        // Act
+        ZonedDateTime next = schedule.nextExecution(reference).orElseThrow();
+
+        // Assert
+        assertThat(schedule.isCompiled()).isFalse();
+        assertThat(next).isEqualTo(ZonedDateTime.of(2024, 2, 29, 12, 0, 0, 0, ZoneId.of("UTC")));
+    }
+}
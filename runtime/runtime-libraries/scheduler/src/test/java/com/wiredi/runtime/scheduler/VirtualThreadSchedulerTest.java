@@ -0,0 +1,119 @@
+package com.wiredi.runtime.scheduler;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadSchedulerTest {
+
+    @Test
+    @Timeout(10)
+    void oneShotTasksRunExactlyOnceOnAVirtualThread() throws Exception {
+        try (VirtualThreadScheduler scheduler = new VirtualThreadScheduler()) {
+            AtomicInteger runs = new AtomicInteger();
+            AtomicBoolean virtual = new AtomicBoolean();
+            CountDownLatch latch = new CountDownLatch(1);
+
+            ScheduledFuture<?> future = scheduler.schedule(() -> {
+                virtual.set(Thread.currentThread().isVirtual());
+                runs.incrementAndGet();
+                latch.countDown();
+            }, Trigger.onceIn(50, TimeUnit.MILLISECONDS));
+
+            assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(200);
+            assertThat(runs.get()).isEqualTo(1);
+            assertThat(virtual.get()).isTrue();
+            assertThat(future.isDone()).isTrue();
+            assertThat(future.isCancelled()).isFalse();
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void fixedRateTasksRunRepeatedlyUntilCancelled() throws Exception {
+        try (VirtualThreadScheduler scheduler = new VirtualThreadScheduler()) {
+            AtomicInteger runs = new AtomicInteger();
+            CountDownLatch latch = new CountDownLatch(3);
+
+            ScheduledFuture<?> future = scheduler.schedule(() -> {
+                runs.incrementAndGet();
+                latch.countDown();
+            }, Trigger.every(Duration.ofMillis(20)));
+
+            assertThat(latch.await(3, TimeUnit.SECONDS)).isTrue();
+            future.cancel(false);
+            Thread.sleep(100);
+            int runsAfterCancel = runs.get();
+            Thread.sleep(200);
+
+            assertThat(runs.get()).isEqualTo(runsAfterCancel);
+            assertThat(future.isCancelled()).isTrue();
+            assertThat(future.isDone()).isTrue();
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void longRunningTasksDoNotDelayOtherTasks() throws Exception {
+        try (VirtualThreadScheduler scheduler = new VirtualThreadScheduler()) {
+            CountDownLatch blocker = new CountDownLatch(1);
+            CountDownLatch fixedDelayRuns = new CountDownLatch(5);
+
+            scheduler.schedule(blocker::await, Trigger.once());
+            scheduler.schedule(fixedDelayRuns::countDown, Trigger.withFixedDelay(Duration.ofMillis(10)));
+
+            assertThat(fixedDelayRuns.await(3, TimeUnit.SECONDS)).isTrue();
+            blocker.countDown();
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    void manyTriggersCanBeScheduledWithoutAdditionalPlatformThreads() throws Exception {
+        try (VirtualThreadScheduler scheduler = new VirtualThreadScheduler()) {
+            int taskCount = 10_000;
+            CountDownLatch latch = new CountDownLatch(taskCount * 2);
+            List<ScheduledFuture<?>> futures = new ArrayList<>();
+            int platformThreadsBefore = Thread.activeCount();
+
+            for (int i = 0; i < taskCount; i++) {
+                futures.add(scheduler.schedule(latch::countDown, Trigger.every(Duration.ofMillis(50 + i % 100))));
+            }
+
+            assertThat(latch.await(20, TimeUnit.SECONDS)).isTrue();
+            // The tick thread is the only platform thread of the scheduler
+            assertThat(Thread.activeCount()).isLessThanOrEqualTo(platformThreadsBefore + 1);
+            futures.forEach(future -> future.cancel(false));
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void cancellingAfterSchedulingFarInTheFuturePreventsTheRun() throws Exception {
+        try (VirtualThreadScheduler scheduler = new VirtualThreadScheduler(Duration.ofMillis(1), 8, Clock.systemDefaultZone())) {
+            AtomicInteger runs = new AtomicInteger();
+            CountDownLatch latch = new CountDownLatch(1);
+
+            // Spans multiple revolutions of the wheel
+            ScheduledFuture<?> cancelled = scheduler.schedule(runs::incrementAndGet, Trigger.onceIn(100, TimeUnit.MILLISECONDS));
+            scheduler.schedule(latch::countDown, Trigger.onceIn(50, TimeUnit.MILLISECONDS));
+            cancelled.cancel(false);
+
+            assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(200);
+            assertThat(runs.get()).isZero();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.wiredi.telemetry.trace;
 
+import com.wiredi.runtime.collections.ClassValueTypeMap;
 import com.wiredi.runtime.collections.TypeMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,7 +11,7 @@ import java.util.List;
 public class SpanPropagatorRegistry {
 
     private final List<SpanPropagator> propagators;
-    private final TypeMap<SpanPropagator> propagatorCache = new TypeMap<>();
+    private final TypeMap<SpanPropagator> propagatorCache = ClassValueTypeMap.concurrent();
     private static final Logger logger = LoggerFactory.getLogger(SpanPropagatorRegistry.class);
 
     public SpanPropagatorRegistry() {
@@ -9,7 +9,9 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * Central entry point for simple, lossless type conversion at runtime.
@@ -35,11 +37,13 @@ import java.util.concurrent.atomic.AtomicReference;
  * requested that is unknown to the system. Primitive target classes are treated as their boxed counterparts so callers
  * may freely request either {@code int.class} or {@code Integer.class} and expect identical results.
  * <p>
- * The mapper internally caches converter lookups on a per source-type and target-type basis to avoid repeated
- * resolution overhead. This cache stores the chosen {@link TypeConverter} as well as successful conversions carried
- * out during resolver selection. Converters are expected to be stateless and thread-safe. The supplied
- * concrete converters follow this rule, and custom implementations should do the same to fit this cache and reuse
- * strategy.
+ * Every source-type and target-type pair is resolved once into a dispatch entry, which holds all candidate
+ * converters for the pair in the order in which they are consulted. Resolved entries are stored in a concurrent,
+ * class-keyed table, so that repeated conversions between the same types only perform two lookups and do not
+ * allocate anything besides the converted value. Registering converters invalidates the table.
+ * A TypeMapper can safely be used from multiple threads, while converters are registered.
+ * Converters are expected to be stateless and thread-safe. The supplied concrete converters follow this rule, and
+ * custom implementations should do the same to fit this reuse strategy.
  * <p>
  * Typical usage reads naturally. Convert a configuration value into a number with
  * <pre>{@code
@@ -98,6 +102,8 @@ public final class TypeMapper {
 
     private final TypeMap<List<TypeConverter<?>>> generalConverters = new TypeMap<>();
     private final TypeMap<TypeMap<@Nullable TypeConverter<?>>> typedTypeConverters = new TypeMap<>();
+    private final Map<Class<?>, Map<Class<?>, Dispatch>> dispatchTable = new ConcurrentHashMap<>();
+    private volatile int modificationCount = 0;
 
     /**
      * Creates a new empty TypeMapper with no converters.
@@ -115,8 +121,7 @@ public final class TypeMapper {
             TypeMap<List<TypeConverter<?>>> generalConverters,
             TypeMap<TypeMap<@Nullable TypeConverter<?>>> typedTypeConverters
     ) {
-        this.generalConverters.putAll(generalConverters);
-        this.typedTypeConverters.putAll(typedTypeConverters);
+        copyConverters(generalConverters, typedTypeConverters);
     }
 
     /**
@@ -154,15 +159,23 @@ public final class TypeMapper {
      * <p>
      * This method clears all existing converters in this TypeMapper before
      * copying the converters from the provided TypeMapper.
+     * Converters registered afterward in either TypeMapper are not visible to the other one.
      *
      * @param typeMapper The TypeMapper to copy converters from
      */
     public void takeTypeConvertersFrom(TypeMapper typeMapper) {
-        this.generalConverters.clear();
-        this.typedTypeConverters.clear();
+        TypeMap<List<TypeConverter<?>>> otherGeneralConverters = new TypeMap<>();
+        TypeMap<TypeMap<@Nullable TypeConverter<?>>> otherTypedTypeConverters = new TypeMap<>();
+        synchronized (typeMapper) {
+            otherGeneralConverters.putAll(typeMapper.generalConverters);
+            otherTypedTypeConverters.putAll(typeMapper.typedTypeConverters);
+        }
 
-        this.generalConverters.putAll(typeMapper.generalConverters);
-        this.typedTypeConverters.putAll(typeMapper.typedTypeConverters);
+        modify(() -> {
+            this.generalConverters.clear();
+            this.typedTypeConverters.clear();
+            copyConverters(otherGeneralConverters, otherTypedTypeConverters);
+        });
     }
 
     /**
@@ -176,7 +189,7 @@ public final class TypeMapper {
      * @param <T>       The target type that the converter produces
      */
     public <T> void setTypeConverterTo(TypeConverter<T> converter, Class<?> type) {
-        converter.getTargetTypes().forEach(sourceType -> typedTypeConverters.computeIfAbsent(type, TypeMap::new).put(sourceType, converter));
+        modify(() -> converter.getTargetTypes().forEach(sourceType -> typedTypeConverters.computeIfAbsent(type, TypeMap::new).put(sourceType, converter)));
     }
 
     /**
@@ -191,7 +204,7 @@ public final class TypeMapper {
      */
     @NotNull
     public <T> SetTypeConverterStage<T> setTypeConverter(TypeConverter<T> converter) {
-        return new SetTypeConverterStage<>(converter, typedTypeConverters);
+        return new SetTypeConverterStage<>(converter, typedTypeConverters, this::modify);
     }
 
     /**
@@ -204,7 +217,19 @@ public final class TypeMapper {
      * @param <T>       The target type that the converter produces
      */
     public <T> void addTypeConverter(TypeConverter<T> converter) {
-        converter.getTargetTypes().forEach(sourceType -> generalConverters.computeIfAbsent((sourceType), ArrayList::new).add(converter));
+        modify(() -> converter.getTargetTypes().forEach(sourceType -> generalConverters.computeIfAbsent((sourceType), ArrayList::new).add(converter)));
+    }
+
+    /**
+     * Returns the number of modifications of the converters of this TypeMapper.
+     * <p>
+     * The count changes whenever converters are registered or replaced.
+     * Callers that keep the results of conversions can compare it, to detect that the results might be outdated.
+     *
+     * @return the current modification count
+     */
+    public int modificationCount() {
+        return modificationCount;
     }
 
     /**
@@ -242,6 +267,8 @@ public final class TypeMapper {
      * 2. Look for a specific converter registered for the object's type and target type
      * 3. If no specific converter is found, try general converters
      * 4. If no converter can convert the object, throw an exception
+     * <p>
+     * Steps 2 and 3 are resolved once per source and target type and reused for all further conversions.
      *
      * @param object The object to convert, must not be null
      * @param type   The target type to convert to
@@ -255,72 +282,122 @@ public final class TypeMapper {
             @NotNull Class<T> type
     ) throws InvalidPropertyTypeException {
         Class<T> targetType = Primitives.tryBox(type);
-        if (targetType.isAssignableFrom(object.getClass())) {
+        Class<?> sourceType = object.getClass();
+        if (targetType.isAssignableFrom(sourceType)) {
             return (T) object;
         }
 
-        TypeMap<TypeConverter<?>> innerTypeMap = typedTypeConverters.computeIfAbsent(object.getClass(), TypeMap::new);
-        AtomicReference<T> result = new AtomicReference<>();
-        TypeConverter<?> typeConverter = innerTypeMap.computeIfAbsent(targetType, () -> determineTypeConverter(object, targetType, result));
-
-        if (result.get() == null && typeConverter != null) {
-            result.set((T) typeConverter.convert(object));
+        Dispatch dispatch = null;
+        Map<Class<?>, Dispatch> targetDispatches = dispatchTable.get(sourceType);
+        if (targetDispatches != null) {
+            dispatch = targetDispatches.get(targetType);
+        }
+        if (dispatch == null) {
+            dispatch = resolveDispatch(sourceType, targetType);
         }
 
-        T t = result.get();
-        if (t == null) {
+        T result = (T) dispatch.convert(object);
+        if (result == null) {
             throw new InvalidPropertyTypeException(object, targetType);
         }
 
-        return t;
+        return result;
     }
 
     /**
-     * Determines the appropriate type converter for converting an object to a target type.
+     * Resolves and stores the dispatch entry for converting the source type to the target type.
      * <p>
-     * This method tries to find a converter that can convert the given object to the target type.
-     * It first checks if the target type is an enum, in which case it uses an EnumTypeConverter.
-     * If not, it tries all general converters registered for the target type.
+     * Resolution is synchronized with the registration of converters, so that a dispatch entry is never resolved from
+     * converters that are modified at the same time and never survives the invalidation of the dispatch table.
+     */
+    @NotNull
+    private synchronized Dispatch resolveDispatch(
+            @NotNull Class<?> sourceType,
+            @NotNull Class<?> targetType
+    ) {
+        return dispatchTable.computeIfAbsent(sourceType, type -> new ConcurrentHashMap<>())
+                .computeIfAbsent(targetType, type -> determineTypeConverters(sourceType, type));
+    }
+
+    /**
+     * Determines the converters for converting a source type to a target type.
      * <p>
-     * If a converter is found and successfully converts the object, the result is stored in the
-     * provided AtomicReference and the converter is returned.
+     * If a specific converter is registered for the source and target type, only this converter is used.
+     * Otherwise, if the target type is an enum, an EnumTypeConverter is used.
+     * If not, all general converters registered for the target type which {@link TypeConverter#supports(Class) support}
+     * the source type are used, in the order they were added.
      *
-     * @param object     The object to convert
+     * @param sourceType The type of the objects to convert
      * @param targetType The target type to convert to
-     * @param result     An AtomicReference to store the conversion result
-     * @param <T>        The generic target type
-     * @return The converter that successfully converted the object, or null if no converter was found
+     * @return The dispatch entry holding all candidate converters, which might be empty
      */
-    @Nullable
-    private <T> TypeConverter<T> determineTypeConverter(
-            @NotNull Object object,
-            @NotNull Class<T> targetType,
-            @NotNull AtomicReference<T> result
+    @NotNull
+    private Dispatch determineTypeConverters(
+            @NotNull Class<?> sourceType,
+            @NotNull Class<?> targetType
     ) {
-        if (targetType.isEnum()) {
-            EnumTypeConverter<?> typeConverter = EnumTypeConverter.createFor(targetType);
-            T converted = (T) typeConverter.convert(object);
-            if (converted != null) {
-                result.set(converted);
-                return (TypeConverter<T>) typeConverter;
-            } else {
-                return null;
+        TypeMap<@Nullable TypeConverter<?>> specificConverters = typedTypeConverters.get(sourceType);
+        if (specificConverters != null) {
+            TypeConverter<?> specificConverter = specificConverters.get(targetType);
+            if (specificConverter != null) {
+                return new Dispatch(new TypeConverter<?>[]{specificConverter});
             }
         }
+
+        if (targetType.isEnum()) {
+            return new Dispatch(new TypeConverter<?>[]{EnumTypeConverter.createFor(targetType)});
+        }
+
         List<TypeConverter<?>> converters = generalConverters.get(targetType);
-        if (converters != null) {
+        if (converters == null) {
+            return Dispatch.EMPTY;
+        }
+
+        return new Dispatch(converters.stream()
+                .filter(converter -> converter.supports(sourceType))
+                .toArray(TypeConverter<?>[]::new));
+    }
+
+    /**
+     * Applies a modification of the registered converters and invalidates all resolved dispatch entries.
+     */
+    private synchronized void modify(@NotNull Runnable modification) {
+        try {
+            modification.run();
+        } finally {
+            dispatchTable.clear();
+            modificationCount++;
+        }
+    }
+
+    private void copyConverters(
+            TypeMap<List<TypeConverter<?>>> generalConverters,
+            TypeMap<TypeMap<@Nullable TypeConverter<?>>> typedTypeConverters
+    ) {
+        // The nested structures are copied, to not share them with the other TypeMapper
+        generalConverters.keys().forEach(key -> this.generalConverters.put(key, new ArrayList<>(generalConverters.get(key))));
+        typedTypeConverters.keys().forEach(key -> this.typedTypeConverters.put(key, new TypeMap<>(typedTypeConverters.get(key))));
+    }
+
+    /**
+     * The resolved converters for a single source and target type.
+     * <p>
+     * The converters are consulted in order, until one of them returns a value.
+     */
+    private record Dispatch(@NotNull TypeConverter<?>[] converters) {
+
+        private static final Dispatch EMPTY = new Dispatch(new TypeConverter<?>[0]);
+
+        @Nullable
+        private Object convert(@NotNull Object object) {
             for (TypeConverter<?> converter : converters) {
-                if (converter.supports(targetType)) {
-                    Object converted = converter.convert(object);
-                    if (converted != null) {
-                        result.set((T) converted);
-                        return (TypeConverter<T>) converter;
-                    }
+                Object converted = converter.convert(object);
+                if (converted != null) {
+                    return converted;
                 }
             }
+            return null;
         }
-
-        return null;
     }
 
     /**
@@ -337,6 +414,7 @@ public final class TypeMapper {
 
         private final TypeConverter<T> converter;
         private final TypeMap<TypeMap<@Nullable TypeConverter<?>>> targetTypeMap;
+        private final Consumer<Runnable> modification;
 
         /**
          * Creates a new stage for configuring a type converter.
@@ -345,8 +423,17 @@ public final class TypeMapper {
          * @param targetTypeMap The map where the converter will be registered
          */
         public SetTypeConverterStage(TypeConverter<T> converter, TypeMap<TypeMap<@Nullable TypeConverter<?>>> targetTypeMap) {
+            this(converter, targetTypeMap, Runnable::run);
+        }
+
+        private SetTypeConverterStage(
+                TypeConverter<T> converter,
+                TypeMap<TypeMap<@Nullable TypeConverter<?>>> targetTypeMap,
+                Consumer<Runnable> modification
+        ) {
             this.converter = converter;
             this.targetTypeMap = targetTypeMap;
+            this.modification = modification;
         }
 
         /**
@@ -362,17 +449,19 @@ public final class TypeMapper {
         public SetTypeConverterStage<T> forSourceType(Class<?> sourceType) {
             Class<?> source = Primitives.tryBox(sourceType);
 
-            TypeMap<@Nullable TypeConverter<?>> targetTypeConverters = targetTypeMap.computeIfAbsent(source, TypeMap::new);
-            converter.getTargetTypes().forEach(targetType -> {
-                TypeConverter<?> typeConverter = targetTypeConverters.get(targetType);
-                if (typeConverter != null) {
-                    if (typeConverter == converter) {
-                        return;
+            modification.accept(() -> {
+                TypeMap<@Nullable TypeConverter<?>> targetTypeConverters = targetTypeMap.computeIfAbsent(source, TypeMap::new);
+                converter.getTargetTypes().forEach(targetType -> {
+                    TypeConverter<?> typeConverter = targetTypeConverters.get(targetType);
+                    if (typeConverter != null) {
+                        if (typeConverter == converter) {
+                            return;
+                        }
+                        throw new IllegalStateException("Target type " + source + " is already mapped to " + typeConverter);
                     }
-                    throw new IllegalStateException("Target type " + source + " is already mapped to " + typeConverter);
-                }
 
-                targetTypeConverters.put(targetType, converter);
+                    targetTypeConverters.put(targetType, converter);
+                });
             });
             return this;
         }
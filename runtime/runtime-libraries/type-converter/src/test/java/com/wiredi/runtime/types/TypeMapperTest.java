@@ -1,12 +1,16 @@
 package com.wiredi.runtime.types;
 
+import com.wiredi.runtime.types.exceptions.InvalidPropertyTypeException;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class TypeMapperTest {
 
@@ -81,6 +85,93 @@ class TypeMapperTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    public void generalConvertersAreConsultedInOrderForEveryValue() {
+        // Arrange
+        TypeMapper typeMapper = TypeMapper.newEmpty();
+        typeMapper.addTypeConverter(new WrapperConverter("first", "a"));
+        typeMapper.addTypeConverter(new WrapperConverter("second", "b"));
+
+        // Act
+        Wrapper first = typeMapper.convert("a", Wrapper.class);
+        Wrapper second = typeMapper.convert("b", Wrapper.class);
+        Wrapper firstAgain = typeMapper.convert("a", Wrapper.class);
+
+        // Assert
+        assertThat(first.converter()).isEqualTo("first");
+        assertThat(second.converter()).isEqualTo("second");
+        assertThat(firstAgain.converter()).isEqualTo("first");
+        assertThatThrownBy(() -> typeMapper.convert("c", Wrapper.class)).isInstanceOf(InvalidPropertyTypeException.class);
+    }
+
+    @Test
+    public void registeringConvertersInvalidatesResolvedConversions() {
+        // Arrange
+        TypeMapper typeMapper = TypeMapper.newEmpty();
+        assertThatThrownBy(() -> typeMapper.convert("a", Wrapper.class)).isInstanceOf(InvalidPropertyTypeException.class);
+
+        // Act
+        typeMapper.addTypeConverter(new WrapperConverter("general", "a"));
+        Wrapper general = typeMapper.convert("a", Wrapper.class);
+        typeMapper.setTypeConverter(new WrapperConverter("specific", "a")).forSourceType(String.class);
+        Wrapper specific = typeMapper.convert("a", Wrapper.class);
+
+        // Assert
+        assertThat(general.converter()).isEqualTo("general");
+        assertThat(specific.converter()).isEqualTo("specific");
+    }
+
+    @Test
+    public void copiedConvertersAreNotSharedBetweenTypeMappers() {
+        // Arrange
+        TypeMapper source = TypeMapper.newPreconfigured();
+        TypeMapper copy = TypeMapper.newEmpty();
+        copy.takeTypeConvertersFrom(source);
+
+        // Act
+        copy.setTypeConverter(new WrapperConverter("copy", "a")).forSourceType(String.class);
+
+        // Assert
+        assertThat(copy.convert("1", int.class)).isEqualTo(1);
+        assertThat(copy.convert("a", Wrapper.class).converter()).isEqualTo("copy");
+        assertThatThrownBy(() -> source.convert("a", Wrapper.class)).isInstanceOf(InvalidPropertyTypeException.class);
+    }
+
+    @Test
+    public void conversionsCanBeResolvedConcurrently() {
+        // Arrange
+        TypeMapper typeMapper = TypeMapper.newPreconfigured();
+
+        // Act
+        List<Integer> result = IntStream.range(0, 10_000)
+                .parallel()
+                .mapToObj(i -> typeMapper.convert(Integer.toString(i), int.class))
+                .toList();
+
+        // Assert
+        assertThat(result).containsExactlyElementsOf(IntStream.range(0, 10_000).boxed().toList());
+    }
+
+    record Wrapper(String converter, String value) {
+    }
+
+    static class WrapperConverter extends TypeConverterBase<Wrapper> {
+
+        private final String name;
+        private final String supportedValue;
+
+        WrapperConverter(String name, String supportedValue) {
+            super(Wrapper.class);
+            this.name = name;
+            this.supportedValue = supportedValue;
+        }
+
+        @Override
+        protected void setup() {
+            register(String.class, value -> value.equals(supportedValue) ? new Wrapper(name, value) : null);
+        }
+    }
+
     enum TestEnum {
         A, B, C
     }